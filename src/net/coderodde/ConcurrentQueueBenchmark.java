@@ -0,0 +1,198 @@
+package net.coderodde;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import net.coderodde.graph.sp.HeuristicPathFinder;
+import net.coderodde.graph.sp.support.AStarPathFinder;
+import net.coderodde.graph.sp.support.ParallelAStarPathFinder;
+import net.coderodde.util.ConcurrentMinimumPriorityQueue;
+import net.coderodde.util.support.MultiQueue;
+
+/**
+ * This class benchmarks the concurrent priority queues under contention: each
+ * thread alternates additions and extractions on a shared, prefilled queue,
+ * and the throughput is reported per thread count. The {@link MultiQueue} is
+ * compared against a single binary heap behind a lock. Finally,
+ * {@link ParallelAStarPathFinder} is compared against {@link AStarPathFinder}
+ * on random graphs.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class ConcurrentQueueBenchmark {
+
+    private static final int PREFILL = 100_000;
+    private static final int OPERATIONS_PER_THREAD = 1_000_000;
+    private static final int ROUNDS = 3;
+
+    private static final int GRAPH_SIZE = 100_000;
+    private static final int GRAPH_ARCS = 1_000_000;
+    private static final double SPACE_WIDTH = 1000.0;
+    private static final double SPACE_HEIGHT = 1000.0;
+    private static final double LENGTH_FACTOR = 1.2;
+    private static final int QUERIES = 20;
+
+    /**
+     * A binary heap in which all operations take one lock.
+     */
+    private static final class LockedHeap<E>
+    implements ConcurrentMinimumPriorityQueue<E> {
+
+        private final MultiQueue<E> heap = new MultiQueue<>(1);
+
+        @Override
+        public synchronized void add(final E element, final double priority) {
+            heap.add(element, priority);
+        }
+
+        @Override
+        public synchronized E extractMinimum() {
+            return heap.extractMinimum();
+        }
+
+        @Override
+        public synchronized int size() {
+            return heap.size();
+        }
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return heap.isEmpty();
+        }
+
+        @Override
+        public synchronized void clear() {
+            heap.clear();
+        }
+    }
+
+    public static void main(final String[] args) throws InterruptedException {
+        final int processors = Runtime.getRuntime().availableProcessors();
+        System.out.println("[STATUS] Benchmarking the queues under " +
+                           "contention, " + processors + " processors...");
+
+        for (int threads = 1; threads <= 2 * processors; threads *= 2) {
+            for (int round = 0; round <= ROUNDS; ++round) {
+                // Round 0 is the warmup.
+                final double locked =
+                        benchmarkQueue(new LockedHeap<>(), threads);
+                final double multi =
+                        benchmarkQueue(new MultiQueue<>(2 * threads), threads);
+
+                if (round > 0) {
+                    System.out.printf("%2d threads round %d: LockedHeap " +
+                                      "%6.2f, MultiQueue %6.2f million " +
+                                      "operations per second.\n",
+                                      threads,
+                                      round,
+                                      locked,
+                                      multi);
+                }
+            }
+        }
+
+        final long seed = System.nanoTime();
+        final Random random = new Random(seed);
+        System.out.println("Seed = " + seed);
+        System.out.println("[STATUS] Benchmarking the path finders...");
+
+        final Demo.GraphData data = Demo.createRandomGraph(GRAPH_SIZE,
+                                                           GRAPH_ARCS,
+                                                           SPACE_WIDTH,
+                                                           SPACE_HEIGHT,
+                                                           LENGTH_FACTOR,
+                                                           random);
+        final List<Integer> sources = new ArrayList<>(QUERIES);
+        final List<Integer> targets = new ArrayList<>(QUERIES);
+
+        for (int i = 0; i < QUERIES; ++i) {
+            sources.add(random.nextInt(GRAPH_SIZE));
+            targets.add(random.nextInt(GRAPH_SIZE));
+        }
+
+        benchmarkFinder(new AStarPathFinder(), data, sources, targets);
+        benchmarkFinder(new ParallelAStarPathFinder(
+                                new ForkJoinPool(processors)),
+                        data,
+                        sources,
+                        targets);
+    }
+
+    /**
+     * Returns the throughput in millions of operations per second.
+     */
+    private static double benchmarkQueue(
+            final ConcurrentMinimumPriorityQueue<Integer> queue,
+            final int threads) throws InterruptedException {
+        final Random random = new Random(threads);
+
+        for (int i = 0; i < PREFILL; ++i) {
+            queue.add(i, random.nextDouble());
+        }
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; ++t) {
+            new Thread(() -> {
+                final ThreadLocalRandom threadRandom =
+                        ThreadLocalRandom.current();
+
+                try {
+                    start.await();
+                } catch (final InterruptedException ex) {
+                    return;
+                }
+
+                for (int i = 0; i < OPERATIONS_PER_THREAD / 2; ++i) {
+                    final Integer element = queue.extractMinimum();
+
+                    if (element != null) {
+                        // Like a search, add a child with a larger priority.
+                        queue.add(element, 1.0 + threadRandom.nextDouble());
+                    }
+                }
+
+                done.countDown();
+            }).start();
+        }
+
+        final long startTime = System.nanoTime();
+        start.countDown();
+        done.await();
+        final long duration = System.nanoTime() - startTime;
+
+        return (double) threads * OPERATIONS_PER_THREAD / duration * 1e3;
+    }
+
+    private static void benchmarkFinder(final HeuristicPathFinder finder,
+                                        final Demo.GraphData data,
+                                        final List<Integer> sources,
+                                        final List<Integer> targets) {
+        final long startTime = System.nanoTime();
+        double totalLength = 0.0;
+
+        for (int i = 0; i < sources.size(); ++i) {
+            final List<Integer> path = finder.search(data.digraph,
+                                                     data.heuristicFunction,
+                                                     sources.get(i),
+                                                     targets.get(i));
+
+            for (int j = 0; j < path.size() - 1; ++j) {
+                totalLength += data.digraph.getEdgeWeight(path.get(j),
+                                                          path.get(j + 1));
+            }
+        }
+
+        final long endTime = System.nanoTime();
+
+        System.out.printf("%s in %.0f milliseconds, total length %.3f.\n",
+                          finder.getClass().getSimpleName(),
+                          (endTime - startTime) / 1e6,
+                          totalLength);
+    }
+}
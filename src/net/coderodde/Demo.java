@@ -1,17 +1,18 @@
 package net.coderodde;
 
-import java.awt.geom.Point2D;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import net.coderodde.graph.Digraph;
+import net.coderodde.graph.generator.GeneratedGraph;
+import net.coderodde.graph.generator.support.RandomGeometricGraphGenerator;
 import net.coderodde.graph.sp.HeuristicPathFinder;
 import net.coderodde.graph.sp.support.AStarPathFinder;
 import net.coderodde.graph.sp.support.BHPAPathFinder;
 import net.coderodde.graph.sp.support.NewBidirectionalAStarPathFinder;
 import net.coderodde.graph.sp.support.ParallelNewBidirectionalAStarPathFinder;
 import net.coderodde.graph.util.HeuristicFunction;
-import net.coderodde.graph.util.support.PointHeuristicFunction;
 
 public class Demo {
 
@@ -125,53 +126,32 @@ public class Demo {
         return path;
     }
 
-    private static final class GraphData {
+    static final class GraphData {
         Digraph digraph;
         HeuristicFunction heuristicFunction;
     }
 
-    private static GraphData createRandomGraph(final int nodes,
-                                               final int arcs,
-                                               final double width,
-                                               final double height,
-                                               final double lengthFactor,
-                                               final Random random) {
-        GraphData ret = new GraphData();
-        final Digraph digraph = new Digraph();
-        final PointHeuristicFunction heuristicFunction = 
-                new PointHeuristicFunction();
-
-        for (int i = 0; i < nodes; ++i) {
-            final Point2D.Double point = getRandomPoint(width,
-                                                        height, 
-                                                        random);
-            final Integer node = i;
-            digraph.addNode(node);
-            heuristicFunction.map(node, point);
-        }
-
-        final List<Integer> nodeList = new ArrayList<>(digraph.getAllNodes());
-
-        for (int i = 0; i < arcs; ++i) {
-            final Integer tail = choose(nodeList, random);
-            final Integer head = choose(nodeList, random);
-            final double distance = heuristicFunction.estimate(tail, head);
-            digraph.addEdge(tail, head, distance * lengthFactor);
-        }
+    static GraphData createRandomGraph(final int nodes,
+                                       final int arcs,
+                                       final double width,
+                                       final double height,
+                                       final double lengthFactor,
+                                       final Random random) {
+        final GeneratedGraph graph = 
+                new RandomGeometricGraphGenerator(nodes, 
+                                                  arcs, 
+                                                  width, 
+                                                  height, 
+                                                  lengthFactor)
+                        .generate(random.nextLong(), ForkJoinPool.commonPool());
 
-        ret.digraph = digraph;
-        ret.heuristicFunction = heuristicFunction;
+        GraphData ret = new GraphData();
+        ret.digraph = graph.toDigraph();
+        ret.heuristicFunction = graph.toHeuristicFunction();
         return ret;
     }
 
-    private static <E> E choose(final List<E> list, final Random random) {
+    static <E> E choose(final List<E> list, final Random random) {
         return list.get(random.nextInt(list.size()));
     }
-
-    private static Point2D.Double getRandomPoint(final double width,
-                                                 final double height,
-                                                 final Random random) {
-        return new Point2D.Double(random.nextFloat() * width, 
-                                  random.nextFloat() * height);
-    }
 }
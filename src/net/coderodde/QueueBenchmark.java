@@ -0,0 +1,196 @@
+package net.coderodde;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.coderodde.graph.sp.HeuristicPathFinder;
+import net.coderodde.graph.sp.support.AStarPathFinder;
+import net.coderodde.graph.sp.support.NewBidirectionalAStarPathFinder;
+import net.coderodde.util.MinimumPriorityQueue;
+import net.coderodde.util.MinimumPriorityQueueFactory;
+import net.coderodde.util.support.DaryHeap;
+import net.coderodde.util.support.LazyBinaryHeap;
+import net.coderodde.util.support.PairingHeap;
+import net.coderodde.util.support.QuaternaryHeap;
+
+/**
+ * This class benchmarks the minimum-priority queue implementations, both in
+ * isolation on a synthetic Dijkstra-like operation mix and as the open lists
+ * of the path finders on random graphs.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class QueueBenchmark {
+
+    private static final int QUEUE_ELEMENTS = 200_000;
+    private static final int QUEUE_DECREASES = 400_000;
+    private static final int QUEUE_ROUNDS = 5;
+
+    private static final int GRAPH_SIZE = 100_000;
+    private static final int GRAPH_ARCS = 1_000_000;
+    private static final double SPACE_WIDTH = 1000.0;
+    private static final double SPACE_HEIGHT = 1000.0;
+    private static final double[] LENGTH_FACTORS = { 1.0, 1.2, 2.0 };
+    private static final int QUERIES = 20;
+
+    private static final class NamedFactory {
+
+        final String name;
+        final MinimumPriorityQueueFactory<Integer> factory;
+
+        NamedFactory(final String name,
+                     final MinimumPriorityQueueFactory<Integer> factory) {
+            this.name = name;
+            this.factory = factory;
+        }
+    }
+
+    private static final NamedFactory[] FACTORIES = {
+        new NamedFactory("DaryHeap(2)",    DaryHeap::new),
+        new NamedFactory("DaryHeap(4)",    () -> new DaryHeap<>(4)),
+        new NamedFactory("QuaternaryHeap", QuaternaryHeap::new),
+        new NamedFactory("PairingHeap",    PairingHeap::new),
+        new NamedFactory("LazyBinaryHeap", LazyBinaryHeap::new),
+    };
+
+    public static void main(final String[] args) {
+        final long seed = System.nanoTime();
+        final Random random = new Random(seed);
+        System.out.println("Seed = " + seed);
+
+        System.out.println("[STATUS] Benchmarking the raw queue operations...");
+
+        for (int round = 0; round <= QUEUE_ROUNDS; ++round) {
+            // Round 0 is the warmup.
+            for (final NamedFactory namedFactory : FACTORIES) {
+                final long duration =
+                        benchmarkQueue(namedFactory.factory.newQueue(),
+                                       new Random(seed + round));
+
+                if (round > 0) {
+                    System.out.printf("%-15s round %d: %.0f milliseconds.\n",
+                                      namedFactory.name,
+                                      round,
+                                      duration / 1e6);
+                }
+            }
+        }
+
+        for (final double lengthFactor : LENGTH_FACTORS) {
+            System.out.println("[STATUS] Benchmarking the path finders, " +
+                               "length factor " + lengthFactor + "...");
+
+            final Demo.GraphData data =
+                    Demo.createRandomGraph(GRAPH_SIZE,
+                                           GRAPH_ARCS,
+                                           SPACE_WIDTH,
+                                           SPACE_HEIGHT,
+                                           lengthFactor,
+                                           random);
+
+            final List<Integer> sources = new ArrayList<>(QUERIES);
+            final List<Integer> targets = new ArrayList<>(QUERIES);
+
+            for (int i = 0; i < QUERIES; ++i) {
+                sources.add(random.nextInt(GRAPH_SIZE));
+                targets.add(random.nextInt(GRAPH_SIZE));
+            }
+
+            benchmarkFinder(new AStarPathFinder(), data, sources, targets);
+            benchmarkFinder(new NewBidirectionalAStarPathFinder(),
+                            data,
+                            sources,
+                            targets);
+        }
+    }
+
+    private static long benchmarkQueue(final MinimumPriorityQueue<Integer> queue,
+                                       final Random random) {
+        final double[] priorities = new double[QUEUE_ELEMENTS];
+        final long startTime = System.nanoTime();
+
+        for (int i = 0; i < QUEUE_ELEMENTS; ++i) {
+            priorities[i] = random.nextDouble();
+            queue.add(i, priorities[i]);
+        }
+
+        for (int i = 0; i < QUEUE_DECREASES; ++i) {
+            final int element = random.nextInt(QUEUE_ELEMENTS);
+            priorities[element] *= random.nextDouble();
+            queue.decreasePriority(element, priorities[element]);
+        }
+
+        double previous = Double.NEGATIVE_INFINITY;
+
+        while (!queue.isEmpty()) {
+            final int element = queue.extractMinimum();
+
+            if (priorities[element] < previous) {
+                throw new IllegalStateException(
+                        queue + " extracted the elements out of order.");
+            }
+
+            previous = priorities[element];
+        }
+
+        return System.nanoTime() - startTime;
+    }
+
+    private static void benchmarkFinder(final HeuristicPathFinder finder,
+                                        final Demo.GraphData data,
+                                        final List<Integer> sources,
+                                        final List<Integer> targets) {
+        List<List<Integer>> expectedPaths = null;
+
+        for (final NamedFactory namedFactory : FACTORIES) {
+            finder.setQueueFactory(namedFactory.factory);
+            final List<List<Integer>> paths = new ArrayList<>(sources.size());
+            final long startTime = System.nanoTime();
+
+            for (int i = 0; i < sources.size(); ++i) {
+                paths.add(finder.search(data.digraph,
+                                        data.heuristicFunction,
+                                        sources.get(i),
+                                        targets.get(i)));
+            }
+
+            final long endTime = System.nanoTime();
+
+            if (expectedPaths == null) {
+                expectedPaths = paths;
+            }
+
+            System.out.printf("%s with %-15s in %.0f milliseconds, " +
+                              "agree: %b.\n",
+                              finder.getClass().getSimpleName(),
+                              namedFactory.name,
+                              (endTime - startTime) / 1e6,
+                              pathLengthsAgree(data, expectedPaths, paths));
+        }
+    }
+
+    private static boolean pathLengthsAgree(final Demo.GraphData data,
+                                            final List<List<Integer>> paths1,
+                                            final List<List<Integer>> paths2) {
+        for (int i = 0; i < paths1.size(); ++i) {
+            if (Math.abs(length(data, paths1.get(i)) -
+                         length(data, paths2.get(i))) > 1e-9) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static double length(final Demo.GraphData data,
+                                 final List<Integer> path) {
+        double length = 0.0;
+
+        for (int i = 0; i < path.size() - 1; ++i) {
+            length += data.digraph.getEdgeWeight(path.get(i), path.get(i + 1));
+        }
+
+        return length;
+    }
+}
@@ -0,0 +1,20 @@
+package net.coderodde.graph;
+
+/**
+ * This interface defines the API for actions performed on the arcs incident 
+ * to a node.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+@FunctionalInterface
+public interface ArcConsumer {
+
+    /**
+     * Performs this action on an arc.
+     * 
+     * @param node   the neighbour across the arc.
+     * @param weight the weight of the arc.
+     */
+    public void accept(final Integer node, final double weight);
+}
@@ -0,0 +1,42 @@
+package net.coderodde.graph;
+
+/**
+ * This interface defines the API for cursors over the arcs incident to a 
+ * node. A cursor yields the neighbour and the weight of each arc in a single
+ * pass, so that a search relaxing an arc needs no lookups of its weight. A 
+ * fresh cursor points before the first arc:
+ * <pre>
+ * for (ArcCursor cursor = digraph.getChildArcsOf(node); cursor.next();) {
+ *     relax(cursor.getNode(), cursor.getWeight());
+ * }
+ * </pre>
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public interface ArcCursor {
+
+    /**
+     * Advances this cursor to the next arc.
+     * 
+     * @return {@code true} if there is a next arc, and {@code false} if the 
+     *         cursor went past the last one.
+     */
+    public boolean next();
+
+    /**
+     * Returns the neighbour across the current arc: the head node of an 
+     * outgoing arc or the tail node of an incoming one. The returned object 
+     * is the one held by the graph.
+     * 
+     * @return the neighbour node.
+     */
+    public Integer getNode();
+
+    /**
+     * Returns the weight of the current arc.
+     * 
+     * @return the arc weight.
+     */
+    public double getWeight();
+}
@@ -0,0 +1,691 @@
+package net.coderodde.graph;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * This class implements a read-only directed graph in compressed adjacency
+ * form. The arcs leaving each node are sorted by head and stored in a byte
+ * stream: the number of arcs and the gaps between consecutive heads as
+ * variable-length integers, the first head relative to the tail, each gap
+ * followed by the quantized weight of the arc. The arcs entering each node are
+ * stored likewise. A stream is split into chunks of at most 1 GiB, none of
+ * which splits the list of a node, so the graph is not limited to 2 GiB of
+ * arcs.
+ * <p>
+ * The weights are quantized either to {@code float} or to 16-bit fixed point
+ * with a scale shared by the whole graph, in both cases rounding up, so that
+ * the quantized weights are never smaller than the original ones and the
+ * heuristic functions admissible for the original graph stay admissible. The
+ * nodes must be identified by {@code 0, 1, ..., n - 1}; renumbering them with
+ * a {@link net.coderodde.graph.util.NodeReordering} beforehand keeps the gaps
+ * small.
+ * <p>
+ * The arc cursors decode the stream on the fly and are what the path finders
+ * use. The node objects they yield are boxed on demand rather than held by
+ * the graph. The mutators throw {@link UnsupportedOperationException}.
+ * <p>
+ * A graph served only to forward searches, such as A*, need not store the
+ * arcs entering the nodes: building it with the directions
+ * {@link Digraph#FORWARD} halves its size and build time. Asking such a graph
+ * for the arcs of a missing direction throws
+ * {@link UnsupportedOperationException}, and the path finders needing them
+ * reject it before searching.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class CompressedDigraph extends Digraph {
+
+    private static final int CHUNK_BITS = 30;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int FIXED_POINT_MAXIMUM = 0xffff;
+
+    private final int size;
+    private final int edges;
+
+    /**
+     * The weight of one unit of the fixed-point weights, or zero if the
+     * weights are stored as {@code float}s.
+     */
+    private final double scale;
+
+    private final int weightBytes;
+
+    private final int directions;
+
+    /**
+     * The arcs leaving the nodes, or {@code null} if not stored.
+     */
+    private final Adjacency children;
+
+    /**
+     * The arcs entering the nodes, or {@code null} if not stored.
+     */
+    private final Adjacency parents;
+
+    private CompressedDigraph(final Digraph digraph,
+                              final boolean fixedPoint,
+                              final int directions) {
+        Objects.requireNonNull(digraph, "The input digraph is null.");
+
+        if (directions < FORWARD || directions > BOTH) {
+            throw new IllegalArgumentException(
+                    "Invalid directions: " + directions + ".");
+        }
+
+        this.size = digraph.size();
+        this.edges = digraph.getNumberOfEdges();
+
+        double maximumWeight = 0.0;
+
+        for (final Integer node : digraph.getAllNodes()) {
+            if (node < 0 || node >= size) {
+                throw new IllegalArgumentException(
+                        "The nodes must be identified by 0, 1, ..., " +
+                        (size - 1) + ", found " + node + ".");
+            }
+
+            for (final ArcCursor arc = digraph.getChildArcsOf(node);
+                    arc.next();) {
+                final double weight = arc.getWeight();
+
+                if (!(weight >= 0.0) || Double.isInfinite(weight)) {
+                    throw new IllegalArgumentException(
+                            "Invalid weight " + weight + " of the arc (" +
+                            node + ", " + arc.getNode() + ").");
+                }
+
+                maximumWeight = Math.max(maximumWeight, weight);
+            }
+        }
+
+        this.scale = !fixedPoint ? 0.0 : computeScale(maximumWeight);
+        this.weightBytes = fixedPoint ? 2 : 4;
+        this.directions = directions;
+        this.children = (directions & FORWARD) != 0 ?
+                        new Adjacency(digraph, true) : null;
+        this.parents = (directions & BACKWARD) != 0 ?
+                       new Adjacency(digraph, false) : null;
+    }
+
+    /**
+     * Compresses {@code digraph} storing the weights as {@code float}s.
+     *
+     * @param digraph the graph to compress.
+     * @return the compressed graph.
+     */
+    public static CompressedDigraph withFloatWeights(final Digraph digraph) {
+        return new CompressedDigraph(digraph, false, BOTH);
+    }
+
+    /**
+     * Compresses the arcs of {@code digraph} in the given directions storing
+     * the weights as {@code float}s.
+     *
+     * @param digraph    the graph to compress.
+     * @param directions the directions to store.
+     * @return the compressed graph.
+     */
+    public static CompressedDigraph withFloatWeights(final Digraph digraph,
+                                                     final int directions) {
+        return new CompressedDigraph(digraph, false, directions);
+    }
+
+    /**
+     * Compresses {@code digraph} storing the weights as 16-bit fixed-point
+     * numbers. The largest weight is represented exactly, and every other
+     * weight is rounded up to a multiple of 1/65535 of it.
+     *
+     * @param digraph the graph to compress.
+     * @return the compressed graph.
+     */
+    public static CompressedDigraph
+        withFixedPointWeights(final Digraph digraph) {
+        return new CompressedDigraph(digraph, true, BOTH);
+    }
+
+    /**
+     * Compresses the arcs of {@code digraph} in the given directions storing
+     * the weights as 16-bit fixed-point numbers.
+     *
+     * @param digraph    the graph to compress.
+     * @param directions the directions to store.
+     * @return the compressed graph.
+     */
+    public static CompressedDigraph
+        withFixedPointWeights(final Digraph digraph, final int directions) {
+        return new CompressedDigraph(digraph, true, directions);
+    }
+
+    /**
+     * Returns the number of bytes in the adjacency streams of the stored
+     * directions.
+     *
+     * @return the size of the streams.
+     */
+    public long getEncodedSize() {
+        return (children == null ? 0L : children.getEncodedSize()) +
+               (parents == null ? 0L : parents.getEncodedSize());
+    }
+
+    @Override
+    public int getDirections() {
+        return directions;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getNumberOfEdges() {
+        return edges;
+    }
+
+    @Override
+    public boolean addNode(final int nodeId) {
+        throw new UnsupportedOperationException("The graph is read-only.");
+    }
+
+    @Override
+    public boolean hasNode(final int nodeId) {
+        return nodeId >= 0 && nodeId < size;
+    }
+
+    @Override
+    public boolean clearNode(final int nodeId) {
+        throw new UnsupportedOperationException("The graph is read-only.");
+    }
+
+    @Override
+    public boolean removeNode(final int nodeId) {
+        throw new UnsupportedOperationException("The graph is read-only.");
+    }
+
+    @Override
+    public boolean addEdge(final int tailNodeId,
+                           final int headNodeId,
+                           final double weight) {
+        throw new UnsupportedOperationException("The graph is read-only.");
+    }
+
+    @Override
+    public boolean hasEdge(final int tailNodeId, final int headNodeId) {
+        return !Double.isNaN(getEdgeWeight(tailNodeId, headNodeId));
+    }
+
+    @Override
+    public double getEdgeWeight(final int tailNodeId, final int headNodeId) {
+        if (!hasNode(tailNodeId) || !hasNode(headNodeId)) {
+            return Double.NaN;
+        }
+
+        // Look the arc up from whichever end is stored. The neighbours are
+        // sorted, so the search may stop at a larger one.
+        final int node = children != null ? tailNodeId : headNodeId;
+        final int neighbour = children != null ? headNodeId : tailNodeId;
+
+        for (final ArcCursor arc = (children != null ? children : parents)
+                                   .cursor(node);
+                arc.next();) {
+            final int current = arc.getNode();
+
+            if (current == neighbour) {
+                return arc.getWeight();
+            }
+
+            if (current > neighbour) {
+                break;
+            }
+        }
+
+        return Double.NaN;
+    }
+
+    @Override
+    public boolean removeEdge(final int tailNodeId, final int headNodeId) {
+        throw new UnsupportedOperationException("The graph is read-only.");
+    }
+
+    @Override
+    public Set<Integer> getChildrenOf(final int nodeId) {
+        return new NeighbourSet(getAdjacency(FORWARD), nodeId);
+    }
+
+    @Override
+    public Set<Integer> getParentsOf(final int nodeId) {
+        return new NeighbourSet(getAdjacency(BACKWARD), nodeId);
+    }
+
+    @Override
+    public ArcCursor getChildArcsOf(final int nodeId) {
+        return getAdjacency(FORWARD).cursor(nodeId);
+    }
+
+    @Override
+    public ArcCursor getParentArcsOf(final int nodeId) {
+        return getAdjacency(BACKWARD).cursor(nodeId);
+    }
+
+    @Override
+    public Set<Integer> getAllNodes() {
+        return new AbstractSet<Integer>() {
+
+            @Override
+            public boolean contains(final Object o) {
+                return o instanceof Integer && hasNode((Integer) o);
+            }
+
+            @Override
+            public Iterator<Integer> iterator() {
+                return new Iterator<Integer>() {
+
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size;
+                    }
+
+                    @Override
+                    public Integer next() {
+                        if (next == size) {
+                            throw new NoSuchElementException();
+                        }
+
+                        return next++;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("The graph is read-only.");
+    }
+
+    private Adjacency getAdjacency(final int direction) {
+        final Adjacency adjacency = direction == FORWARD ? children : parents;
+
+        if (adjacency == null) {
+            throw new UnsupportedOperationException(
+                    "The graph does not store the " +
+                    (direction == FORWARD ? "forward" : "backward") +
+                    " arcs.");
+        }
+
+        return adjacency;
+    }
+
+    /**
+     * Returns the bits of {@code weight} quantized to the precision of this
+     * graph, rounding up.
+     */
+    private int quantize(final double weight) {
+        if (scale == 0.0) {
+            float value = (float) weight;
+
+            if (value < weight) {
+                value = Math.nextUp(value);
+            }
+
+            return Float.floatToRawIntBits(value);
+        }
+
+        int units = (int) Math.ceil(weight / scale);
+
+        if (units * scale < weight) {
+            ++units;
+        }
+
+        return Math.min(units, FIXED_POINT_MAXIMUM);
+    }
+
+    /**
+     * Returns the smallest scale at which the largest fixed-point number is
+     * not below {@code maximumWeight}, so that clamping to it never rounds a
+     * weight down.
+     */
+    private static double computeScale(final double maximumWeight) {
+        if (maximumWeight == 0.0) {
+            return 1.0;
+        }
+
+        double scale = maximumWeight / FIXED_POINT_MAXIMUM;
+
+        while (FIXED_POINT_MAXIMUM * scale < maximumWeight) {
+            scale = Math.nextUp(scale);
+        }
+
+        return scale;
+    }
+
+    private double dequantize(final int bits) {
+        return scale == 0.0 ? Float.intBitsToFloat(bits) : bits * scale;
+    }
+
+    private static int writeVarint(final byte[] chunk,
+                                   int position,
+                                   int value) {
+        while ((value & ~0x7f) != 0) {
+            chunk[position++] = (byte) ((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+
+        chunk[position++] = (byte) value;
+        return position;
+    }
+
+    private static int varintSize(final int value) {
+        int bytes = 1;
+
+        for (int rest = value >>> 7; rest != 0; rest >>>= 7) {
+            ++bytes;
+        }
+
+        return bytes;
+    }
+
+    private static int zigzag(final int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /**
+     * The adjacency stream of one direction.
+     */
+    private final class Adjacency {
+
+        private final byte[][] chunks;
+
+        /**
+         * The offset of the list of each node: the chunk in the upper bits and
+         * the position in the chunk in the lower {@code CHUNK_BITS} bits.
+         */
+        private final long[] starts = new long[size];
+
+        private int[] heads = new int[16];
+        private double[] weights = new double[16];
+        private double[] unsortedWeights = new double[16];
+        private long[] keys = new long[16];
+
+        Adjacency(final Digraph digraph, final boolean forward) {
+            // Pass 1: lay out the lists without splitting any of them.
+            int[] chunkSizes = new int[1];
+            int chunk = 0;
+            int fill = 0;
+
+            for (int node = 0; node < size; ++node) {
+                final int degree = collect(digraph, node, forward);
+                final long bytes = encodedSize(node, degree);
+
+                if (bytes > CHUNK_SIZE) {
+                    throw new IllegalArgumentException(
+                            "The arcs of the node " + node + " do not fit " +
+                            "in a chunk.");
+                }
+
+                if (fill + bytes > CHUNK_SIZE) {
+                    chunkSizes[chunk++] = fill;
+                    chunkSizes = Arrays.copyOf(chunkSizes, chunk + 1);
+                    fill = 0;
+                }
+
+                starts[node] = ((long) chunk << CHUNK_BITS) | fill;
+                fill += (int) bytes;
+            }
+
+            chunkSizes[chunk] = fill;
+            chunks = new byte[chunk + 1][];
+
+            for (int i = 0; i <= chunk; ++i) {
+                chunks[i] = new byte[chunkSizes[i]];
+            }
+
+            // Pass 2: encode.
+            for (int node = 0; node < size; ++node) {
+                final int degree = collect(digraph, node, forward);
+                final byte[] bytes = chunks[(int) (starts[node] >>>
+                                                   CHUNK_BITS)];
+                int position = (int) (starts[node] & (CHUNK_SIZE - 1));
+                int previous = node;
+
+                position = writeVarint(bytes, position, degree);
+
+                for (int i = 0; i < degree; ++i) {
+                    position = writeVarint(bytes,
+                                           position,
+                                           i == 0 ?
+                                           zigzag(heads[i] - node) :
+                                           heads[i] - previous);
+                    previous = heads[i];
+
+                    final int weight = quantize(weights[i]);
+
+                    for (int b = 0; b < weightBytes; ++b) {
+                        bytes[position++] = (byte) (weight >>> (8 * b));
+                    }
+                }
+            }
+
+            heads = null;
+            weights = null;
+            unsortedWeights = null;
+            keys = null;
+        }
+
+        long getEncodedSize() {
+            long total = 0L;
+
+            for (final byte[] chunk : chunks) {
+                total += chunk.length;
+            }
+
+            return total;
+        }
+
+        ArcCursor cursor(final int node) {
+            return new StreamCursor(node);
+        }
+
+        /**
+         * Loads the arcs of {@code node} into {@code heads} and
+         * {@code weights}, sorted by head.
+         *
+         * @return the number of arcs.
+         */
+        private int collect(final Digraph digraph,
+                            final int node,
+                            final boolean forward) {
+            int degree = 0;
+
+            for (final ArcCursor arc = forward ?
+                                       digraph.getChildArcsOf(node) :
+                                       digraph.getParentArcsOf(node);
+                    arc.next();) {
+                if (degree == keys.length) {
+                    keys = Arrays.copyOf(keys, 2 * degree);
+                    heads = Arrays.copyOf(heads, 2 * degree);
+                    weights = Arrays.copyOf(weights, 2 * degree);
+                    unsortedWeights = Arrays.copyOf(unsortedWeights,
+                                                    2 * degree);
+                }
+
+                unsortedWeights[degree] = arc.getWeight();
+                keys[degree] = ((long) arc.getNode() << 32) | degree;
+                ++degree;
+            }
+
+            Arrays.sort(keys, 0, degree);
+
+            for (int i = 0; i < degree; ++i) {
+                heads[i] = (int) (keys[i] >>> 32);
+                weights[i] = unsortedWeights[(int) keys[i]];
+            }
+
+            return degree;
+        }
+
+        private long encodedSize(final int node, final int degree) {
+            long bytes = varintSize(degree) + (long) degree * weightBytes;
+
+            for (int i = 0; i < degree; ++i) {
+                bytes += varintSize(i == 0 ?
+                                    zigzag(heads[i] - node) :
+                                    heads[i] - heads[i - 1]);
+            }
+
+            return bytes;
+        }
+
+        /**
+         * A cursor decoding the list of one node.
+         */
+        private final class StreamCursor implements ArcCursor {
+
+            private final byte[] bytes;
+            private int position;
+            private int remaining;
+            private int head;
+            private double weight;
+            private boolean first = true;
+
+            StreamCursor(final int node) {
+                if (node < 0 || node >= size) {
+                    bytes = null;
+                    return;
+                }
+
+                bytes = chunks[(int) (starts[node] >>> CHUNK_BITS)];
+                position = (int) (starts[node] & (CHUNK_SIZE - 1));
+                remaining = readVarint();
+                head = node;
+            }
+
+            @Override
+            public boolean next() {
+                if (remaining == 0) {
+                    return false;
+                }
+
+                final int gap = readVarint();
+
+                if (first) {
+                    head += (gap >>> 1) ^ -(gap & 1);
+                    first = false;
+                } else {
+                    head += gap;
+                }
+
+                int bits = 0;
+
+                for (int b = 0; b < weightBytes; ++b) {
+                    bits |= (bytes[position++] & 0xff) << (8 * b);
+                }
+
+                weight = dequantize(bits);
+                --remaining;
+                return true;
+            }
+
+            @Override
+            public Integer getNode() {
+                return head;
+            }
+
+            @Override
+            public double getWeight() {
+                return weight;
+            }
+
+            int getRemaining() {
+                return remaining;
+            }
+
+            private int readVarint() {
+                int value = 0;
+
+                for (int shift = 0; ; shift += 7) {
+                    final byte b = bytes[position++];
+                    value |= (b & 0x7f) << shift;
+
+                    if (b >= 0) {
+                        return value;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A view of the neighbours of a node.
+     */
+    private final class NeighbourSet extends AbstractSet<Integer> {
+
+        private final Adjacency adjacency;
+        private final int node;
+
+        NeighbourSet(final Adjacency adjacency, final int node) {
+            this.adjacency = adjacency;
+            this.node = node;
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            if (!(o instanceof Integer)) {
+                return false;
+            }
+
+            for (final ArcCursor arc = adjacency.cursor(node); arc.next();) {
+                if (arc.getNode().equals(o)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            final ArcCursor arc = adjacency.cursor(node);
+
+            return new Iterator<Integer>() {
+
+                private boolean hasNext = arc.next();
+
+                @Override
+                public boolean hasNext() {
+                    return hasNext;
+                }
+
+                @Override
+                public Integer next() {
+                    if (!hasNext) {
+                        throw new NoSuchElementException();
+                    }
+
+                    final Integer result = arc.getNode();
+                    hasNext = arc.next();
+                    return result;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return ((Adjacency.StreamCursor) adjacency.cursor(node))
+                    .getRemaining();
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package net.coderodde.graph;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -13,6 +17,23 @@ import java.util.Set;
  */
 public class Digraph {
 
+    /**
+     * The direction of the arcs leaving the nodes, as used by the forward
+     * searches.
+     */
+    public static final int FORWARD = 1;
+
+    /**
+     * The direction of the arcs entering the nodes, as used by the backward
+     * searches.
+     */
+    public static final int BACKWARD = 2;
+
+    public static final int BOTH = FORWARD | BACKWARD;
+
+    private static final ArcCursor EMPTY_CURSOR = new EntryCursor(
+            Collections.<Map.Entry<Integer, Double>>emptyIterator());
+
     private final Map<Integer, 
                       Map<Integer, 
                           Double>> parentMap = new LinkedHashMap<>();
@@ -21,8 +42,15 @@ public class Digraph {
                       Map<Integer, 
                           Double>> childMap = new LinkedHashMap<>();
 
+    private final List<DigraphListener> listeners = new ArrayList<>();
+
     private int edges;
 
+    /**
+     * The number of changes in the arcs and their weights so far.
+     */
+    private long modificationCount;
+
     public int size() {
         return parentMap.size();
     }
@@ -31,6 +59,28 @@ public class Digraph {
         return edges;
     }
 
+    /**
+     * Returns the directions in which the arcs of this graph may be 
+     * traversed, as a combination of {@link #FORWARD} and {@link #BACKWARD}.
+     * This graph stores both.
+     * 
+     * @return the stored directions.
+     */
+    public int getDirections() {
+        return BOTH;
+    }
+
+    /**
+     * Returns a counter increasing whenever an arc is added or removed or its
+     * weight changes, so that the data derived from this graph may check
+     * whether it is still current.
+     *
+     * @return the modification count.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     public boolean addNode(int nodeId) {
         if (parentMap.containsKey(nodeId)) {
             return false;
@@ -66,6 +116,20 @@ public class Digraph {
         }
 
         edges -= parents.size() + children.size();
+        modificationCount++;
+
+        if (!listeners.isEmpty()) {
+            for (Integer childId : children.keySet()) {
+                fireEdgeRemoved(nodeId, childId);
+            }
+
+            for (Integer parentId : parents.keySet()) {
+                if (parentId != nodeId) {
+                    fireEdgeRemoved(parentId, nodeId);
+                }
+            }
+        }
+
         parents.clear();
         children.clear();
         return true;
@@ -92,6 +156,7 @@ public class Digraph {
             parentMap.get(headNodeId).put(tailNodeId, weight);
 
             if (oldWeight != weight) {
+                modificationCount++;
                 return true;
             }
 
@@ -100,6 +165,12 @@ public class Digraph {
             childMap.get(tailNodeId).put(headNodeId, weight);
             parentMap.get(headNodeId).put(tailNodeId, weight);
             edges++;
+            modificationCount++;
+
+            for (DigraphListener listener : listeners) {
+                listener.edgeAdded(tailNodeId, headNodeId);
+            }
+
             return true;
         }
     }
@@ -132,6 +203,8 @@ public class Digraph {
         childMap .get(tailNodeId).remove(headNodeId);
         parentMap.get(headNodeId).remove(tailNodeId);
         edges--;
+        modificationCount++;
+        fireEdgeRemoved(tailNodeId, headNodeId);
         return true;
     }
 
@@ -153,6 +226,50 @@ public class Digraph {
                 <Integer>unmodifiableSet(parentMap.get(nodeId).keySet());
     }
 
+    /**
+     * Returns a cursor over the arcs leaving {@code nodeId}.
+     * 
+     * @param nodeId the tail node.
+     * @return a cursor yielding the head nodes and the weights.
+     */
+    public ArcCursor getChildArcsOf(int nodeId) {
+        return newCursor(childMap.get(nodeId));
+    }
+
+    /**
+     * Returns a cursor over the arcs entering {@code nodeId}.
+     * 
+     * @param nodeId the head node.
+     * @return a cursor yielding the tail nodes and the weights.
+     */
+    public ArcCursor getParentArcsOf(int nodeId) {
+        return newCursor(parentMap.get(nodeId));
+    }
+
+    /**
+     * Performs {@code action} on each arc leaving {@code nodeId}.
+     * 
+     * @param nodeId the tail node.
+     * @param action the action receiving the head nodes and the weights.
+     */
+    public void forEachChild(int nodeId, ArcConsumer action) {
+        for (ArcCursor cursor = getChildArcsOf(nodeId); cursor.next();) {
+            action.accept(cursor.getNode(), cursor.getWeight());
+        }
+    }
+
+    /**
+     * Performs {@code action} on each arc entering {@code nodeId}.
+     * 
+     * @param nodeId the head node.
+     * @param action the action receiving the tail nodes and the weights.
+     */
+    public void forEachParent(int nodeId, ArcConsumer action) {
+        for (ArcCursor cursor = getParentArcsOf(nodeId); cursor.next();) {
+            action.accept(cursor.getNode(), cursor.getWeight());
+        }
+    }
+
     public Set<Integer> getAllNodes() {
         return Collections.<Integer>unmodifiableSet(childMap.keySet());
     }
@@ -161,5 +278,78 @@ public class Digraph {
         childMap.clear();
         parentMap.clear();
         edges = 0;
+        modificationCount++;
+
+        for (DigraphListener listener : listeners) {
+            listener.cleared();
+        }
+    }
+
+    /**
+     * Registers {@code listener} to be notified of the changes in the arcs of 
+     * this graph.
+     * 
+     * @param listener the listener to add.
+     */
+    public void addListener(DigraphListener listener) {
+        listeners.add(Objects.requireNonNull(listener, 
+                                             "The input listener is null."));
+    }
+
+    /**
+     * Unregisters {@code listener}.
+     * 
+     * @param listener the listener to remove.
+     * @return {@code true} if the listener was registered.
+     */
+    public boolean removeListener(DigraphListener listener) {
+        return listeners.remove(listener);
+    }
+
+    private void fireEdgeRemoved(int tailNodeId, int headNodeId) {
+        for (DigraphListener listener : listeners) {
+            listener.edgeRemoved(tailNodeId, headNodeId);
+        }
+    }
+
+    private static ArcCursor newCursor(Map<Integer, Double> arcs) {
+        if (arcs == null || arcs.isEmpty()) {
+            return EMPTY_CURSOR;
+        }
+
+        return new EntryCursor(arcs.entrySet().iterator());
+    }
+
+    /**
+     * A cursor over the entries of an adjacency map.
+     */
+    private static final class EntryCursor implements ArcCursor {
+
+        private final Iterator<Map.Entry<Integer, Double>> iterator;
+        private Map.Entry<Integer, Double> entry;
+
+        EntryCursor(Iterator<Map.Entry<Integer, Double>> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean next() {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+
+            entry = iterator.next();
+            return true;
+        }
+
+        @Override
+        public Integer getNode() {
+            return entry.getKey();
+        }
+
+        @Override
+        public double getWeight() {
+            return entry.getValue();
+        }
     }
 }
@@ -0,0 +1,40 @@
+package net.coderodde.graph;
+
+/**
+ * This interface defines the API for listeners notified of the changes in the
+ * arcs of a {@link Digraph}. The listeners are called by the modifying thread
+ * after the change has taken place. Changing the weight of an existing arc 
+ * notifies no listeners.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public interface DigraphListener {
+
+    /**
+     * Called after the arc from {@code tailNodeId} to {@code headNodeId} is 
+     * added.
+     * 
+     * @param tailNodeId the tail node of the arc.
+     * @param headNodeId the head node of the arc.
+     */
+    public default void edgeAdded(final int tailNodeId, 
+                                  final int headNodeId) {}
+
+    /**
+     * Called after the arc from {@code tailNodeId} to {@code headNodeId} is 
+     * removed, including the removals by {@link Digraph#clearNode(int)} and
+     * {@link Digraph#removeNode(int)}.
+     * 
+     * @param tailNodeId the tail node of the arc.
+     * @param headNodeId the head node of the arc.
+     */
+    public default void edgeRemoved(final int tailNodeId, 
+                                    final int headNodeId) {}
+
+    /**
+     * Called after all the nodes and arcs are removed by 
+     * {@link Digraph#clear()}.
+     */
+    public default void cleared() {}
+}
@@ -0,0 +1,355 @@
+package net.coderodde.graph;
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * This class implements a read-only view of a {@link Digraph} in which some
+ * nodes and edges are hidden. Masking and unmasking are constant-time
+ * operations that leave the underlying graph untouched, so that a single view
+ * may serve many searches with different masks, and several views may share
+ * the same graph concurrently.
+ * <p>
+ * The view hides the masked nodes and edges from {@link #hasNode(int)},
+ * {@link #hasEdge(int, int)}, {@link #getEdgeWeight(int, int)},
+ * {@link #getChildrenOf(int)}, {@link #getParentsOf(int)} and the arc
+ * cursors, which is all the path finders use. The node and edge counts and
+ * the set of all nodes are those of the underlying graph. The mutators throw
+ * {@link UnsupportedOperationException}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class MaskedDigraph extends Digraph {
+
+    private final Digraph digraph;
+
+    private final Set<Integer> maskedNodes = new HashSet<>();
+
+    /**
+     * Maps each tail node to the heads of its masked outgoing edges.
+     */
+    private final Map<Integer, Set<Integer>> maskedChildren = new HashMap<>();
+
+    /**
+     * Maps each head node to the tails of its masked incoming edges.
+     */
+    private final Map<Integer, Set<Integer>> maskedParents = new HashMap<>();
+
+    /**
+     * The number of changes of the masks so far.
+     */
+    private long maskModificationCount;
+
+    /**
+     * Constructs a view of {@code digraph} with nothing masked.
+     *
+     * @param digraph the underlying graph.
+     */
+    public MaskedDigraph(final Digraph digraph) {
+        this.digraph = Objects.requireNonNull(digraph,
+                                              "The input digraph is null.");
+    }
+
+    /**
+     * Returns the underlying graph.
+     *
+     * @return the underlying graph.
+     */
+    public Digraph getDigraph() {
+        return digraph;
+    }
+
+    /**
+     * Hides {@code nodeId} and all the edges incident to it.
+     *
+     * @param nodeId the node to hide.
+     */
+    public void maskNode(final int nodeId) {
+        maskedNodes.add(nodeId);
+        ++maskModificationCount;
+    }
+
+    /**
+     * Hides the edge from {@code tailNodeId} to {@code headNodeId}.
+     *
+     * @param tailNodeId the tail node of the edge.
+     * @param headNodeId the head node of the edge.
+     */
+    public void maskEdge(final int tailNodeId, final int headNodeId) {
+        maskedChildren.computeIfAbsent(tailNodeId, (k) -> new HashSet<>())
+                      .add(headNodeId);
+        maskedParents.computeIfAbsent(headNodeId, (k) -> new HashSet<>())
+                     .add(tailNodeId);
+        ++maskModificationCount;
+    }
+
+    /**
+     * Unhides all the nodes and edges.
+     */
+    public void unmaskAll() {
+        maskedNodes.clear();
+        maskedChildren.clear();
+        maskedParents.clear();
+        ++maskModificationCount;
+    }
+
+    @Override
+    public int size() {
+        return digraph.size();
+    }
+
+    @Override
+    public int getNumberOfEdges() {
+        return digraph.getNumberOfEdges();
+    }
+
+    /**
+     * Counts the changes of the underlying graph and of the masks.
+     */
+    @Override
+    public long getModificationCount() {
+        return digraph.getModificationCount() + maskModificationCount;
+    }
+
+    @Override
+    public int getDirections() {
+        return digraph.getDirections();
+    }
+
+    @Override
+    public boolean addNode(final int nodeId) {
+        throw new UnsupportedOperationException("The view is read-only.");
+    }
+
+    @Override
+    public boolean hasNode(final int nodeId) {
+        return !maskedNodes.contains(nodeId) && digraph.hasNode(nodeId);
+    }
+
+    @Override
+    public boolean clearNode(final int nodeId) {
+        throw new UnsupportedOperationException("The view is read-only.");
+    }
+
+    @Override
+    public boolean removeNode(final int nodeId) {
+        throw new UnsupportedOperationException("The view is read-only.");
+    }
+
+    @Override
+    public boolean addEdge(final int tailNodeId,
+                           final int headNodeId,
+                           final double weight) {
+        throw new UnsupportedOperationException("The view is read-only.");
+    }
+
+    @Override
+    public boolean hasEdge(final int tailNodeId, final int headNodeId) {
+        return !isMasked(tailNodeId, headNodeId)
+                && digraph.hasEdge(tailNodeId, headNodeId);
+    }
+
+    @Override
+    public double getEdgeWeight(final int tailNodeId, final int headNodeId) {
+        if (isMasked(tailNodeId, headNodeId)) {
+            return Double.NaN;
+        }
+
+        return digraph.getEdgeWeight(tailNodeId, headNodeId);
+    }
+
+    @Override
+    public boolean removeEdge(final int tailNodeId, final int headNodeId) {
+        throw new UnsupportedOperationException("The view is read-only.");
+    }
+
+    @Override
+    public Set<Integer> getChildrenOf(final int nodeId) {
+        return filter(nodeId,
+                      digraph.getChildrenOf(nodeId),
+                      maskedChildren.get(nodeId));
+    }
+
+    @Override
+    public Set<Integer> getParentsOf(final int nodeId) {
+        return filter(nodeId,
+                      digraph.getParentsOf(nodeId),
+                      maskedParents.get(nodeId));
+    }
+
+    @Override
+    public ArcCursor getChildArcsOf(final int nodeId) {
+        return filter(nodeId,
+                      digraph.getChildArcsOf(nodeId),
+                      maskedChildren.get(nodeId));
+    }
+
+    @Override
+    public ArcCursor getParentArcsOf(final int nodeId) {
+        return filter(nodeId,
+                      digraph.getParentArcsOf(nodeId),
+                      maskedParents.get(nodeId));
+    }
+
+    @Override
+    public Set<Integer> getAllNodes() {
+        return digraph.getAllNodes();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("The view is read-only.");
+    }
+
+    private boolean isMasked(final int tailNodeId, final int headNodeId) {
+        if (maskedNodes.contains(tailNodeId)
+                || maskedNodes.contains(headNodeId)) {
+            return true;
+        }
+
+        final Set<Integer> heads = maskedChildren.get(tailNodeId);
+        return heads != null && heads.contains(headNodeId);
+    }
+
+    private Set<Integer> filter(final int nodeId,
+                                final Set<Integer> neighbours,
+                                final Set<Integer> maskedNeighbours) {
+        if (maskedNodes.contains(nodeId)) {
+            return Collections.<Integer>emptySet();
+        }
+
+        if (maskedNodes.isEmpty() && maskedNeighbours == null) {
+            return neighbours;
+        }
+
+        return new FilteredSet(neighbours, maskedNeighbours);
+    }
+
+    private ArcCursor filter(final int nodeId,
+                             final ArcCursor cursor,
+                             final Set<Integer> maskedNeighbours) {
+        if (maskedNodes.isEmpty() && maskedNeighbours == null) {
+            return cursor;
+        }
+
+        final boolean masked = maskedNodes.contains(nodeId);
+
+        return new ArcCursor() {
+
+            @Override
+            public boolean next() {
+                if (masked) {
+                    return false;
+                }
+
+                while (cursor.next()) {
+                    final Integer neighbour = cursor.getNode();
+
+                    if (!maskedNodes.contains(neighbour)
+                            && (maskedNeighbours == null
+                                || !maskedNeighbours.contains(neighbour))) {
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+
+            @Override
+            public Integer getNode() {
+                return cursor.getNode();
+            }
+
+            @Override
+            public double getWeight() {
+                return cursor.getWeight();
+            }
+        };
+    }
+
+    /**
+     * A view of a neighbour set skipping the masked nodes and the neighbours
+     * across masked edges.
+     */
+    private final class FilteredSet extends AbstractSet<Integer> {
+
+        private final Set<Integer> neighbours;
+        private final Set<Integer> maskedNeighbours;
+
+        FilteredSet(final Set<Integer> neighbours,
+                    final Set<Integer> maskedNeighbours) {
+            this.neighbours = neighbours;
+            this.maskedNeighbours = maskedNeighbours;
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return neighbours.contains(o) && !isHidden((Integer) o);
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            final Iterator<Integer> iterator = neighbours.iterator();
+
+            return new Iterator<Integer>() {
+
+                private Integer next = advance();
+
+                @Override
+                public boolean hasNext() {
+                    return next != null;
+                }
+
+                @Override
+                public Integer next() {
+                    if (next == null) {
+                        throw new NoSuchElementException();
+                    }
+
+                    final Integer current = next;
+                    next = advance();
+                    return current;
+                }
+
+                private Integer advance() {
+                    while (iterator.hasNext()) {
+                        final Integer candidate = iterator.next();
+
+                        if (!isHidden(candidate)) {
+                            return candidate;
+                        }
+                    }
+
+                    return null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+
+            for (final Integer neighbour : neighbours) {
+                if (!isHidden(neighbour)) {
+                    ++size;
+                }
+            }
+
+            return size;
+        }
+
+        private boolean isHidden(final Integer neighbour) {
+            return maskedNodes.contains(neighbour)
+                    || (maskedNeighbours != null
+                        && maskedNeighbours.contains(neighbour));
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package net.coderodde.graph;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * This class implements a directed graph whose arcs have travel time functions
+ * instead of static weights. The functions live in a
+ * {@link TravelTimeFunctions} shared by all the arcs. The static weight of
+ * each arc, as seen through the methods of {@link Digraph}, is the minimum of
+ * its function, so that the static weights give lower bounds on the travel
+ * times and any heuristic admissible for them stays admissible.
+ * <p>
+ * The constant functions created by {@link #addEdge(int, int, double)} are
+ * owned by their arcs: updating the weight overwrites the function in place,
+ * and the functions of the removed arcs are reused by the next arcs added,
+ * so that the number of functions does not grow with the weight updates.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class TimeDependentDigraph extends Digraph {
+
+    private static final TravelTimeCursor EMPTY_CURSOR =
+            new FunctionCursor(null,
+                               Collections.<Map.Entry<Integer, Integer>>
+                                       emptyIterator());
+
+    private final TravelTimeFunctions functions;
+
+    private final Map<Integer,
+                      Map<Integer,
+                          Integer>> childFunctionMap = new LinkedHashMap<>();
+
+    /**
+     * The constant functions created by {@link #addEdge(int, int, double)},
+     * each used by a single arc or by none.
+     */
+    private final Set<Integer> ownedFunctions = new HashSet<>();
+
+    /**
+     * The owned functions used by no arc.
+     */
+    private final Deque<Integer> freeFunctions = new ArrayDeque<>();
+
+    public TimeDependentDigraph() {
+        this(new TravelTimeFunctions());
+    }
+
+    /**
+     * Constructs an empty graph whose arcs refer to {@code functions}.
+     *
+     * @param functions the travel time functions.
+     */
+    public TimeDependentDigraph(TravelTimeFunctions functions) {
+        this.functions = Objects.requireNonNull(functions,
+                                                "The input functions are null.");
+    }
+
+    public TravelTimeFunctions getFunctions() {
+        return functions;
+    }
+
+    /**
+     * Adds or updates the arc from {@code tailNodeId} to {@code headNodeId}
+     * with the travel time function {@code function}.
+     *
+     * @param tailNodeId the tail node.
+     * @param headNodeId the head node.
+     * @param function   the identifier of the travel time function.
+     * @return {@code true} if the graph changed.
+     */
+    public boolean addTimeDependentEdge(int tailNodeId,
+                                        int headNodeId,
+                                        int function) {
+        if (function < 0 || function >= functions.size()) {
+            throw new IllegalArgumentException(
+                    "Unknown travel time function: " + function + ".");
+        }
+
+        // The function may now be shared, so it must not be overwritten.
+        if (ownedFunctions.remove(function)) {
+            freeFunctions.remove(function);
+        }
+
+        return putEdgeFunction(tailNodeId, headNodeId, function);
+    }
+
+    /**
+     * Adds or updates the arc from {@code tailNodeId} to {@code headNodeId}
+     * with a constant travel time of {@code weight}. If the arc already has
+     * a constant function created by this method, the function is
+     * overwritten.
+     */
+    @Override
+    public boolean addEdge(int tailNodeId, int headNodeId, double weight) {
+        int function = getEdgeFunction(tailNodeId, headNodeId);
+
+        if (function >= 0 && ownedFunctions.contains(function)) {
+            functions.setConstant(function, weight);
+            return super.addEdge(tailNodeId, headNodeId, weight);
+        }
+
+        Integer freeFunction = freeFunctions.peekFirst();
+
+        if (freeFunction == null) {
+            function = functions.addConstant(weight);
+            ownedFunctions.add(function);
+        } else {
+            functions.setConstant(freeFunction, weight);
+            freeFunctions.pollFirst();
+            function = freeFunction;
+        }
+
+        return putEdgeFunction(tailNodeId, headNodeId, function);
+    }
+
+    private boolean putEdgeFunction(int tailNodeId,
+                                    int headNodeId,
+                                    int function) {
+        Map<Integer, Integer> children = childFunctionMap.get(tailNodeId);
+
+        if (children == null) {
+            children = new LinkedHashMap<>();
+            childFunctionMap.put(tailNodeId, children);
+        }
+
+        Integer oldFunction = children.put(headNodeId, function);
+
+        if (oldFunction != null && oldFunction != function) {
+            releaseFunction(oldFunction);
+        }
+
+        boolean changed = super.addEdge(tailNodeId,
+                                        headNodeId,
+                                        functions.getMinimum(function));
+        return changed || oldFunction == null || oldFunction != function;
+    }
+
+    /**
+     * Returns the identifier of the travel time function of the arc from
+     * {@code tailNodeId} to {@code headNodeId}.
+     *
+     * @param tailNodeId the tail node.
+     * @param headNodeId the head node.
+     * @return the function identifier, or {@code -1} if there is no such arc.
+     */
+    public int getEdgeFunction(int tailNodeId, int headNodeId) {
+        Map<Integer, Integer> children = childFunctionMap.get(tailNodeId);
+
+        if (children == null) {
+            return -1;
+        }
+
+        Integer function = children.get(headNodeId);
+        return function == null ? -1 : function;
+    }
+
+    /**
+     * Returns the travel time along the arc from {@code tailNodeId} to
+     * {@code headNodeId} departing at {@code departureTime}.
+     *
+     * @param tailNodeId    the tail node.
+     * @param headNodeId    the head node.
+     * @param departureTime the departure time.
+     * @return the travel time, or {@code NaN} if there is no such arc.
+     */
+    public double getTravelTime(int tailNodeId,
+                                int headNodeId,
+                                double departureTime) {
+        int function = getEdgeFunction(tailNodeId, headNodeId);
+
+        if (function < 0) {
+            return Double.NaN;
+        }
+
+        return functions.evaluate(function, departureTime);
+    }
+
+    /**
+     * Returns a cursor over the arcs leaving {@code nodeId}.
+     *
+     * @param nodeId the tail node.
+     * @return a cursor yielding the head nodes and the travel times.
+     */
+    public TravelTimeCursor getTravelTimesOf(int nodeId) {
+        Map<Integer, Integer> children = childFunctionMap.get(nodeId);
+
+        if (children == null || children.isEmpty()) {
+            return EMPTY_CURSOR;
+        }
+
+        return new FunctionCursor(functions, children.entrySet().iterator());
+    }
+
+    @Override
+    public boolean removeEdge(int tailNodeId, int headNodeId) {
+        if (!super.removeEdge(tailNodeId, headNodeId)) {
+            return false;
+        }
+
+        releaseFunction(childFunctionMap.get(tailNodeId).remove(headNodeId));
+        return true;
+    }
+
+    @Override
+    public boolean clearNode(int nodeId) {
+        if (!hasNode(nodeId)) {
+            return false;
+        }
+
+        for (Integer parentId : getParentsOf(nodeId)) {
+            releaseFunction(childFunctionMap.get(parentId).remove(nodeId));
+        }
+
+        Map<Integer, Integer> children = childFunctionMap.remove(nodeId);
+
+        if (children != null) {
+            for (Integer function : children.values()) {
+                releaseFunction(function);
+            }
+        }
+
+        return super.clearNode(nodeId);
+    }
+
+    @Override
+    public void clear() {
+        childFunctionMap.clear();
+        freeFunctions.clear();
+        freeFunctions.addAll(ownedFunctions);
+        super.clear();
+    }
+
+    /**
+     * Makes {@code function} available for reuse if this graph owns it.
+     */
+    private void releaseFunction(Integer function) {
+        if (function != null && ownedFunctions.contains(function)) {
+            freeFunctions.addFirst(function);
+        }
+    }
+
+    /**
+     * A cursor over the entries of a function adjacency map.
+     */
+    private static final class FunctionCursor implements TravelTimeCursor {
+
+        private final TravelTimeFunctions functions;
+        private final Iterator<Map.Entry<Integer, Integer>> iterator;
+        private Map.Entry<Integer, Integer> entry;
+
+        FunctionCursor(TravelTimeFunctions functions,
+                       Iterator<Map.Entry<Integer, Integer>> iterator) {
+            this.functions = functions;
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean next() {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+
+            entry = iterator.next();
+            return true;
+        }
+
+        @Override
+        public Integer getNode() {
+            return entry.getKey();
+        }
+
+        @Override
+        public double getTravelTime(double departureTime) {
+            return functions.evaluate(entry.getValue(), departureTime);
+        }
+    }
+}
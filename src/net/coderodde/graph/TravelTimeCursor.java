@@ -0,0 +1,36 @@
+package net.coderodde.graph;
+
+/**
+ * This interface defines the API for cursors over the arcs leaving a node of
+ * a {@link TimeDependentDigraph}. A fresh cursor points before the first arc.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public interface TravelTimeCursor {
+
+    /**
+     * Advances this cursor to the next arc.
+     *
+     * @return {@code true} if there is a next arc, and {@code false} if the
+     *         cursor went past the last one.
+     */
+    public boolean next();
+
+    /**
+     * Returns the head node of the current arc. The returned object is the
+     * one held by the graph.
+     *
+     * @return the head node.
+     */
+    public Integer getNode();
+
+    /**
+     * Returns the travel time along the current arc departing at
+     * {@code departureTime}.
+     *
+     * @param departureTime the departure time.
+     * @return the travel time.
+     */
+    public double getTravelTime(final double departureTime);
+}
@@ -0,0 +1,209 @@
+package net.coderodde.graph;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * This class stores piecewise-linear travel time functions in shared
+ * primitive arrays. A function is given by its breakpoints: the travel time
+ * departing at {@code times[i]} is {@code travelTimes[i]}, the travel times
+ * between two breakpoints are interpolated linearly, and the travel times
+ * before the first and after the last breakpoint are those of the breakpoint.
+ * The functions are identified by {@code 0, 1, ..., size() - 1}, so that any
+ * number of arcs may share a function.
+ * <p>
+ * Every function must have the FIFO property: departing later never means
+ * arriving earlier, that is, no segment of a function descends faster than
+ * time passes. Evaluating a function finds its segment by binary search and
+ * allocates nothing.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public final class TravelTimeFunctions {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The departure times of all the breakpoints, function by function.
+     */
+    private double[] times = new double[INITIAL_CAPACITY];
+
+    private double[] travelTimes = new double[INITIAL_CAPACITY];
+
+    /**
+     * The index of the first breakpoint of each function, followed by the
+     * number of breakpoints.
+     */
+    private int[] starts = new int[INITIAL_CAPACITY + 1];
+
+    private double[] minimums = new double[INITIAL_CAPACITY];
+
+    private int size;
+
+    /**
+     * Returns the number of functions.
+     *
+     * @return the number of functions.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a function with the breakpoints {@code (times[i], travelTimes[i])}.
+     *
+     * @param times       the strictly increasing departure times.
+     * @param travelTimes the non-negative travel times.
+     * @return the identifier of the new function.
+     */
+    public int add(final double[] times, final double[] travelTimes) {
+        Objects.requireNonNull(times, "The input times are null.");
+        Objects.requireNonNull(travelTimes, "The input travel times are null.");
+
+        if (times.length != travelTimes.length || times.length == 0) {
+            throw new IllegalArgumentException(
+                    "Expected equally many times and travel times, at least " +
+                    "one, received " + times.length + " and " +
+                    travelTimes.length + ".");
+        }
+
+        double minimum = Double.POSITIVE_INFINITY;
+
+        for (int i = 0; i < times.length; ++i) {
+            if (!(travelTimes[i] >= 0.0)
+                    || Double.isInfinite(travelTimes[i])
+                    || Double.isNaN(times[i])
+                    || Double.isInfinite(times[i])) {
+                throw new IllegalArgumentException(
+                        "Invalid breakpoint " + i + ": (" + times[i] + ", " +
+                        travelTimes[i] + ").");
+            }
+
+            if (i > 0) {
+                if (!(times[i] > times[i - 1])) {
+                    throw new IllegalArgumentException(
+                            "The times are not strictly increasing at " +
+                            "breakpoint " + i + ".");
+                }
+
+                // The arrival times must not decrease.
+                if (times[i] + travelTimes[i] <
+                        times[i - 1] + travelTimes[i - 1]) {
+                    throw new IllegalArgumentException(
+                            "The function violates the FIFO property at " +
+                            "breakpoint " + i + ".");
+                }
+            }
+
+            minimum = Math.min(minimum, travelTimes[i]);
+        }
+
+        final int start = starts[size];
+        ensureCapacity(start + times.length);
+        System.arraycopy(times, 0, this.times, start, times.length);
+        System.arraycopy(travelTimes, 0, this.travelTimes, start, times.length);
+        minimums[size] = minimum;
+        starts[size + 1] = start + times.length;
+        return size++;
+    }
+
+    /**
+     * Adds a function with the same travel time at all times.
+     *
+     * @param travelTime the travel time.
+     * @return the identifier of the new function.
+     */
+    public int addConstant(final double travelTime) {
+        return add(new double[]{ 0.0 }, new double[]{ travelTime });
+    }
+
+    /**
+     * Replaces the travel time of the constant function {@code function},
+     * which must have a single breakpoint. All the arcs sharing the function
+     * see the new travel time.
+     *
+     * @param function   the constant function.
+     * @param travelTime the new travel time.
+     */
+    public void setConstant(final int function, final double travelTime) {
+        if (function < 0
+                || function >= size
+                || starts[function + 1] - starts[function] != 1) {
+            throw new IllegalArgumentException(
+                    "Not a constant function: " + function + ".");
+        }
+
+        if (!(travelTime >= 0.0) || Double.isInfinite(travelTime)) {
+            throw new IllegalArgumentException(
+                    "Invalid travel time: " + travelTime + ".");
+        }
+
+        travelTimes[starts[function]] = travelTime;
+        minimums[function] = travelTime;
+    }
+
+    /**
+     * Returns the travel time of {@code function} departing at
+     * {@code departureTime}.
+     *
+     * @param function      the function to evaluate.
+     * @param departureTime the departure time.
+     * @return the travel time.
+     */
+    public double evaluate(final int function, final double departureTime) {
+        final int first = starts[function];
+        final int last = starts[function + 1] - 1;
+
+        if (departureTime <= times[first]) {
+            return travelTimes[first];
+        }
+
+        if (departureTime >= times[last]) {
+            return travelTimes[last];
+        }
+
+        // Find the last breakpoint at or before the departure time.
+        int low = first;
+        int high = last;
+
+        while (high - low > 1) {
+            final int middle = (low + high) >>> 1;
+
+            if (times[middle] <= departureTime) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+
+        final double fraction = (departureTime - times[low]) /
+                                (times[high] - times[low]);
+
+        return travelTimes[low] +
+               fraction * (travelTimes[high] - travelTimes[low]);
+    }
+
+    /**
+     * Returns the smallest travel time of {@code function}.
+     *
+     * @param function the function.
+     * @return the minimum travel time.
+     */
+    public double getMinimum(final int function) {
+        return minimums[function];
+    }
+
+    private void ensureCapacity(final int points) {
+        if (points > times.length) {
+            final int capacity = Math.max(points, 2 * times.length);
+            times = Arrays.copyOf(times, capacity);
+            travelTimes = Arrays.copyOf(travelTimes, capacity);
+        }
+
+        if (size + 1 == minimums.length) {
+            starts = Arrays.copyOf(starts, 2 * starts.length);
+            minimums = Arrays.copyOf(minimums, 2 * minimums.length);
+        }
+    }
+}
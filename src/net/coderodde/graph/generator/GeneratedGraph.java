@@ -0,0 +1,143 @@
+package net.coderodde.graph.generator;
+
+import java.awt.geom.Point2D;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.util.support.PointHeuristicFunction;
+
+/**
+ * This class holds a generated graph in a compact form: the nodes are the
+ * integers {@code 0, 1, ..., size() - 1}, each having a point in a plane, and
+ * the arcs leaving a node occupy a contiguous range of arc indices. The arc
+ * weights are never less than the Euclidean distances between their end
+ * points, so that the Euclidean distance is an admissible heuristic.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public final class GeneratedGraph {
+
+    private final double[] xs;
+    private final double[] ys;
+    private final int[] firstArcs;
+    private final int[] heads;
+    private final double[] weights;
+
+    /**
+     * Constructs a graph. The arcs of the node {@code u} are
+     * {@code firstArcs[u], ..., firstArcs[u + 1] - 1}.
+     *
+     * @param xs        the x-coordinates of the nodes.
+     * @param ys        the y-coordinates of the nodes.
+     * @param firstArcs the index of the first arc of each node, followed by
+     *                  the number of arcs.
+     * @param heads     the head nodes of the arcs.
+     * @param weights   the weights of the arcs.
+     */
+    public GeneratedGraph(final double[] xs,
+                          final double[] ys,
+                          final int[] firstArcs,
+                          final int[] heads,
+                          final double[] weights) {
+        if (ys.length != xs.length || firstArcs.length != xs.length + 1) {
+            throw new IllegalArgumentException(
+                    "The node arrays are of different lengths.");
+        }
+
+        if (weights.length != heads.length
+                || firstArcs[xs.length] != heads.length) {
+            throw new IllegalArgumentException(
+                    "The arc arrays are of different lengths.");
+        }
+
+        this.xs = xs;
+        this.ys = ys;
+        this.firstArcs = firstArcs;
+        this.heads = heads;
+        this.weights = weights;
+    }
+
+    /**
+     * Returns the number of nodes.
+     *
+     * @return the number of nodes.
+     */
+    public int size() {
+        return xs.length;
+    }
+
+    /**
+     * Returns the number of arcs.
+     *
+     * @return the number of arcs.
+     */
+    public int getNumberOfArcs() {
+        return heads.length;
+    }
+
+    public double getX(final int node) {
+        return xs[node];
+    }
+
+    public double getY(final int node) {
+        return ys[node];
+    }
+
+    /**
+     * Returns the index of the first arc leaving {@code node}. The arcs
+     * leaving the node end before the first arc of {@code node + 1}; for the
+     * last node, {@code node + 1} is also a valid argument.
+     *
+     * @param node the node whose first arc to return.
+     * @return the index of the first arc.
+     */
+    public int getFirstArc(final int node) {
+        return firstArcs[node];
+    }
+
+    public int getHead(final int arc) {
+        return heads[arc];
+    }
+
+    public double getWeight(final int arc) {
+        return weights[arc];
+    }
+
+    /**
+     * Builds a {@link Digraph} with the nodes and the arcs of this graph. Of
+     * the parallel arcs, the digraph keeps the weight of the last one.
+     *
+     * @return a digraph.
+     */
+    public Digraph toDigraph() {
+        final Digraph digraph = new Digraph();
+
+        for (int node = 0; node < xs.length; ++node) {
+            digraph.addNode(node);
+        }
+
+        for (int node = 0; node < xs.length; ++node) {
+            for (int arc = firstArcs[node]; arc < firstArcs[node + 1]; ++arc) {
+                digraph.addEdge(node, heads[arc], weights[arc]);
+            }
+        }
+
+        return digraph;
+    }
+
+    /**
+     * Builds a heuristic function returning the Euclidean distances between
+     * the points of the nodes.
+     *
+     * @return a heuristic function.
+     */
+    public PointHeuristicFunction toHeuristicFunction() {
+        final PointHeuristicFunction heuristicFunction =
+                new PointHeuristicFunction();
+
+        for (int node = 0; node < xs.length; ++node) {
+            heuristicFunction.map(node, new Point2D.Double(xs[node], ys[node]));
+        }
+
+        return heuristicFunction;
+    }
+}
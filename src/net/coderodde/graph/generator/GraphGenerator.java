@@ -0,0 +1,32 @@
+package net.coderodde.graph.generator;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This interface defines the API shared by all workload graph generators. A
+ * generator is a deterministic function of its parameters and a seed: the
+ * same seed yields the same graph regardless of the parallelism of the pool
+ * running the generation, so that a workload may be replayed from the seed.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public interface GraphGenerator {
+
+    /**
+     * Returns the name of this generator. The name captures all the
+     * parameters affecting the generated graphs, but not the seed.
+     *
+     * @return the name of this generator.
+     */
+    public String getName();
+
+    /**
+     * Generates a graph from {@code seed}.
+     *
+     * @param seed the random seed.
+     * @param pool the pool running the parallel parts of the generation.
+     * @return the generated graph.
+     */
+    public GeneratedGraph generate(final long seed, final ForkJoinPool pool);
+}
@@ -0,0 +1,270 @@
+package net.coderodde.graph.generator.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import net.coderodde.graph.generator.GeneratedGraph;
+import net.coderodde.graph.generator.GraphGenerator;
+
+/**
+ * This abstract class implements the parallel skeleton of the graph
+ * generators. The nodes are split into chunks of {@link #CHUNK_SIZE} nodes,
+ * and each chunk is processed by a task of its own, drawing from a
+ * {@link SplittableRandom} seeded by the seed of the graph, the phase of the
+ * generation and the index of the chunk. Since the chunks do not depend on the
+ * number of threads, neither does the generated graph. The generation runs in
+ * three phases:
+ * <ol>
+ *   <li>placing the nodes in a plane, chunk by chunk,</li>
+ *   <li>preparing the arc generation, for example, by indexing the points,
+ *       </li>
+ *   <li>generating the arcs leaving each node, chunk by chunk.</li>
+ * </ol>
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public abstract class AbstractGraphGenerator implements GraphGenerator {
+
+    /**
+     * The number of nodes processed by a single task.
+     */
+    protected static final int CHUNK_SIZE = 1 << 14;
+
+    private static final long PLACEMENT_PHASE = 1L;
+    private static final long ARC_PHASE = 2L;
+
+    /**
+     * The number of nodes to generate.
+     */
+    protected final int nodes;
+
+    /**
+     * Constructs a generator of graphs with {@code nodes} nodes.
+     *
+     * @param nodes the number of nodes.
+     */
+    protected AbstractGraphGenerator(final int nodes) {
+        if (nodes < 0) {
+            throw new IllegalArgumentException(
+                    "The number of nodes is negative: " + nodes + ".");
+        }
+
+        this.nodes = nodes;
+    }
+
+    /**
+     * This interface defines the API for generating the arcs leaving a node.
+     * Implementations must be safe to call from several threads at once.
+     */
+    protected interface ArcGenerator {
+
+        /**
+         * Adds the arcs leaving {@code node} to {@code arcs}.
+         *
+         * @param node   the tail node.
+         * @param random the random number generator of the chunk.
+         * @param arcs   the list to add the arcs to.
+         */
+        public void addArcs(final int node,
+                            final SplittableRandom random,
+                            final ArcList arcs);
+    }
+
+    /**
+     * This class implements a growable list of arcs of a single chunk.
+     */
+    protected static final class ArcList {
+
+        private int[] heads = new int[64];
+        private double[] weights = new double[64];
+        private int size;
+
+        public void add(final int head, final double weight) {
+            if (size == heads.length) {
+                heads = Arrays.copyOf(heads, 2 * size);
+                weights = Arrays.copyOf(weights, 2 * size);
+            }
+
+            heads[size] = head;
+            weights[size] = weight;
+            ++size;
+        }
+
+        public int size() {
+            return size;
+        }
+    }
+
+    @Override
+    public GeneratedGraph generate(final long seed, final ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "The input pool is null.");
+
+        final double[] xs = new double[nodes];
+        final double[] ys = new double[nodes];
+        final int chunks = (nodes + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+        runChunks(pool, chunks, (final int chunk) -> {
+            final SplittableRandom random =
+                    newRandom(seed, PLACEMENT_PHASE, chunk);
+            final int end = Math.min(nodes, (chunk + 1) * CHUNK_SIZE);
+
+            for (int node = chunk * CHUNK_SIZE; node < end; ++node) {
+                placeNode(node, random, xs, ys);
+            }
+        });
+
+        final ArcGenerator arcGenerator = prepareArcs(seed, xs, ys);
+        final ArcList[] chunkArcs = new ArcList[chunks];
+        final int[] firstArcs = new int[nodes + 1];
+
+        runChunks(pool, chunks, (final int chunk) -> {
+            final SplittableRandom random = newRandom(seed, ARC_PHASE, chunk);
+            final ArcList arcs = new ArcList();
+            final int end = Math.min(nodes, (chunk + 1) * CHUNK_SIZE);
+
+            for (int node = chunk * CHUNK_SIZE; node < end; ++node) {
+                final int sizeBefore = arcs.size;
+                arcGenerator.addArcs(node, random, arcs);
+                firstArcs[node + 1] = arcs.size - sizeBefore;
+            }
+
+            chunkArcs[chunk] = arcs;
+        });
+
+        long numberOfArcs = 0L;
+
+        for (int node = 0; node < nodes; ++node) {
+            numberOfArcs += firstArcs[node + 1];
+
+            if (numberOfArcs > Integer.MAX_VALUE) {
+                throw new IllegalStateException(
+                        "Too many arcs generated.");
+            }
+
+            firstArcs[node + 1] = (int) numberOfArcs;
+        }
+
+        final int[] heads = new int[(int) numberOfArcs];
+        final double[] weights = new double[(int) numberOfArcs];
+
+        runChunks(pool, chunks, (final int chunk) -> {
+            final ArcList arcs = chunkArcs[chunk];
+            final int offset = firstArcs[chunk * CHUNK_SIZE];
+            System.arraycopy(arcs.heads, 0, heads, offset, arcs.size);
+            System.arraycopy(arcs.weights, 0, weights, offset, arcs.size);
+        });
+
+        return new GeneratedGraph(xs, ys, firstArcs, heads, weights);
+    }
+
+    /**
+     * Places {@code node} in the plane by setting {@code xs[node]} and
+     * {@code ys[node]}.
+     *
+     * @param node   the node to place.
+     * @param random the random number generator of the chunk.
+     * @param xs     the x-coordinates of the nodes.
+     * @param ys     the y-coordinates of the nodes.
+     */
+    protected abstract void placeNode(final int node,
+                                      final SplittableRandom random,
+                                      final double[] xs,
+                                      final double[] ys);
+
+    /**
+     * Prepares the generation of the arcs once all the nodes are placed.
+     *
+     * @param seed the seed of the graph.
+     * @param xs   the x-coordinates of the nodes.
+     * @param ys   the y-coordinates of the nodes.
+     * @return the arc generator of the graph.
+     */
+    protected abstract ArcGenerator prepareArcs(final long seed,
+                                                final double[] xs,
+                                                final double[] ys);
+
+    /**
+     * Returns the Euclidean distance between the points of {@code node1} and
+     * {@code node2}, computed exactly as by {@link java.awt.geom.Point2D}, so
+     * that no arc weighted by the distance undercuts the Euclidean heuristic.
+     *
+     * @param xs    the x-coordinates of the nodes.
+     * @param ys    the y-coordinates of the nodes.
+     * @param node1 the first node.
+     * @param node2 the second node.
+     * @return the distance between the nodes.
+     */
+    protected static double distance(final double[] xs,
+                                     final double[] ys,
+                                     final int node1,
+                                     final int node2) {
+        final double dx = xs[node1] - xs[node2];
+        final double dy = ys[node1] - ys[node2];
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * Returns a well-mixed hash of {@code seed} and {@code value}. The
+     * generators use it for the random decisions that several chunks must
+     * agree on.
+     *
+     * @param seed  the seed of the graph.
+     * @param value the value to hash.
+     * @return the hash.
+     */
+    protected static long hash(final long seed, final long value) {
+        return mix(seed ^ mix(value + 0x9e3779b97f4a7c15L));
+    }
+
+    /**
+     * Returns a uniformly distributed double in {@code [0, 1)} derived from
+     * {@link #hash(long, long)}.
+     *
+     * @param seed  the seed of the graph.
+     * @param value the value to hash.
+     * @return the hashed double.
+     */
+    protected static double hashToDouble(final long seed, final long value) {
+        return (hash(seed, value) >>> 11) * 0x1.0p-53;
+    }
+
+    private static SplittableRandom newRandom(final long seed,
+                                              final long phase,
+                                              final int chunk) {
+        return new SplittableRandom(hash(seed, (phase << 32) | chunk));
+    }
+
+    /**
+     * The finalizer of the SplitMix64 generator.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static void runChunks(final ForkJoinPool pool,
+                                  final int chunks,
+                                  final IntConsumer task) {
+        final List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+
+        for (int chunk = 0; chunk < chunks; ++chunk) {
+            final int chunkIndex = chunk;
+            tasks.add(ForkJoinTask.adapt(() -> task.accept(chunkIndex)));
+        }
+
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+    }
+}
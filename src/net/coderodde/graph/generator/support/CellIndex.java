@@ -0,0 +1,111 @@
+package net.coderodde.graph.generator.support;
+
+/**
+ * This class implements a uniform grid of square cells over a set of points,
+ * holding the nodes of each cell in a contiguous range of an array.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+final class CellIndex {
+
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+
+    /**
+     * The index of the first node of each cell in {@code cellNodes}, followed
+     * by the number of nodes.
+     */
+    private final int[] cellStarts;
+
+    private final int[] cellNodes;
+
+    /**
+     * Indexes the nodes {@code nodes[0], ..., nodes[count - 1]}, or the nodes
+     * {@code 0, 1, ..., count - 1} if {@code nodes} is {@code null}.
+     *
+     * @param xs       the x-coordinates of all the nodes.
+     * @param ys       the y-coordinates of all the nodes.
+     * @param nodes    the nodes to index, or {@code null}.
+     * @param count    the number of nodes to index.
+     * @param width    the width of the area of the points.
+     * @param height   the height of the area of the points.
+     * @param cellSize the side length of a cell.
+     */
+    CellIndex(final double[] xs,
+              final double[] ys,
+              final int[] nodes,
+              final int count,
+              final double width,
+              final double height,
+              final double cellSize) {
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+
+        if ((long) columns * rows >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "Too many cells: " + columns + " x " + rows + ".");
+        }
+
+        this.cellStarts = new int[columns * rows + 1];
+        this.cellNodes = new int[count];
+
+        for (int i = 0; i < count; ++i) {
+            final int node = nodes == null ? i : nodes[i];
+            ++cellStarts[getCell(xs[node], ys[node]) + 1];
+        }
+
+        for (int cell = 0; cell < columns * rows; ++cell) {
+            cellStarts[cell + 1] += cellStarts[cell];
+        }
+
+        final int[] fill = new int[columns * rows];
+
+        for (int i = 0; i < count; ++i) {
+            final int node = nodes == null ? i : nodes[i];
+            final int cell = getCell(xs[node], ys[node]);
+            cellNodes[cellStarts[cell] + fill[cell]++] = node;
+        }
+    }
+
+    int getColumns() {
+        return columns;
+    }
+
+    int getRows() {
+        return rows;
+    }
+
+    int getColumn(final double x) {
+        return Math.min(columns - 1, Math.max(0, (int)(x / cellSize)));
+    }
+
+    int getRow(final double y) {
+        return Math.min(rows - 1, Math.max(0, (int)(y / cellSize)));
+    }
+
+    int getCell(final int column, final int row) {
+        return row * columns + column;
+    }
+
+    int getCell(final double x, final double y) {
+        return getCell(getColumn(x), getRow(y));
+    }
+
+    /**
+     * Returns the index of the first node of {@code cell}. The nodes of the
+     * cell end before the first node of {@code cell + 1}.
+     *
+     * @param cell the cell whose first node to return.
+     * @return the index of the first node.
+     */
+    int getStart(final int cell) {
+        return cellStarts[cell];
+    }
+
+    int getNode(final int index) {
+        return cellNodes[index];
+    }
+}
@@ -0,0 +1,121 @@
+package net.coderodde.graph.generator.support;
+
+import java.util.SplittableRandom;
+
+/**
+ * This class generates grid graphs. The node {@code row * columns + column}
+ * lies at {@code (column * spacing, row * spacing)} and is connected in both
+ * directions to its horizontal and vertical neighbours. Each arc weighs the
+ * distance between its end points times a random factor in
+ * {@code [1, 1 + jitter)}; a positive jitter makes the shortest paths unique
+ * with probability one.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class GridGraphGenerator extends AbstractGraphGenerator {
+
+    private final int columns;
+    private final int rows;
+    private final double spacing;
+    private final double jitter;
+
+    /**
+     * Constructs a generator of {@code columns x rows} grids.
+     *
+     * @param columns the number of columns.
+     * @param rows    the number of rows.
+     * @param spacing the distance between two adjacent nodes.
+     * @param jitter  the maximum relative excess of an arc weight.
+     */
+    public GridGraphGenerator(final int columns,
+                              final int rows,
+                              final double spacing,
+                              final double jitter) {
+        super(checkSize(columns, rows));
+
+        if (!(spacing > 0.0)) {
+            throw new IllegalArgumentException(
+                    "The spacing must be positive, received " + spacing + ".");
+        }
+
+        if (!(jitter >= 0.0)) {
+            throw new IllegalArgumentException(
+                    "The jitter must not be negative, received " +
+                    jitter + ".");
+        }
+
+        this.columns = columns;
+        this.rows = rows;
+        this.spacing = spacing;
+        this.jitter = jitter;
+    }
+
+    @Override
+    public String getName() {
+        return "grid-" + columns + "x" + rows + "-" + spacing + "-" + jitter;
+    }
+
+    @Override
+    protected void placeNode(final int node,
+                             final SplittableRandom random,
+                             final double[] xs,
+                             final double[] ys) {
+        xs[node] = (node % columns) * spacing;
+        ys[node] = (node / columns) * spacing;
+    }
+
+    @Override
+    protected ArcGenerator prepareArcs(final long seed,
+                                       final double[] xs,
+                                       final double[] ys) {
+        return (final int node,
+                final SplittableRandom random,
+                final ArcList arcs) -> {
+            final int column = node % columns;
+            final int row = node / columns;
+
+            if (column > 0) {
+                addArc(node, node - 1, xs, ys, random, arcs);
+            }
+
+            if (column < columns - 1) {
+                addArc(node, node + 1, xs, ys, random, arcs);
+            }
+
+            if (row > 0) {
+                addArc(node, node - columns, xs, ys, random, arcs);
+            }
+
+            if (row < rows - 1) {
+                addArc(node, node + columns, xs, ys, random, arcs);
+            }
+        };
+    }
+
+    private void addArc(final int tail,
+                        final int head,
+                        final double[] xs,
+                        final double[] ys,
+                        final SplittableRandom random,
+                        final ArcList arcs) {
+        arcs.add(head,
+                 distance(xs, ys, tail, head) *
+                 (1.0 + jitter * random.nextDouble()));
+    }
+
+    private static int checkSize(final int columns, final int rows) {
+        if (columns < 0 || rows < 0) {
+            throw new IllegalArgumentException(
+                    "The grid dimensions are negative: " + columns + " x " +
+                    rows + ".");
+        }
+
+        if ((long) columns * rows > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "The grid is too large: " + columns + " x " + rows + ".");
+        }
+
+        return columns * rows;
+    }
+}
@@ -0,0 +1,200 @@
+package net.coderodde.graph.generator.support;
+
+import java.util.SplittableRandom;
+
+/**
+ * This class generates random geometric graphs. The nodes are scattered
+ * uniformly over a rectangle, and each node receives an equal share of the
+ * arcs, weighted by the Euclidean distance between their end points times a
+ * length factor. The heads of the arcs are chosen uniformly among all the
+ * nodes, or, given a radius, approximately uniformly among the nodes within
+ * the radius from the tail; a node finding no such nodes gets fewer arcs.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class RandomGeometricGraphGenerator extends AbstractGraphGenerator {
+
+    /**
+     * The number of attempts to find a head within the radius.
+     */
+    private static final int MAX_ATTEMPTS = 32;
+
+    private final int arcs;
+    private final double width;
+    private final double height;
+    private final double lengthFactor;
+    private final double radius;
+
+    /**
+     * Constructs a generator choosing the heads of the arcs among all the
+     * nodes.
+     *
+     * @param nodes        the number of nodes.
+     * @param arcs         the number of arcs.
+     * @param width        the width of the rectangle.
+     * @param height       the height of the rectangle.
+     * @param lengthFactor the factor of the arc weights, at least one.
+     */
+    public RandomGeometricGraphGenerator(final int nodes,
+                                         final int arcs,
+                                         final double width,
+                                         final double height,
+                                         final double lengthFactor) {
+        this(nodes, arcs, width, height, lengthFactor,
+             Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Constructs a generator choosing the heads of the arcs among the nodes
+     * within {@code radius} from the tail.
+     *
+     * @param nodes        the number of nodes.
+     * @param arcs         the number of arcs.
+     * @param width        the width of the rectangle.
+     * @param height       the height of the rectangle.
+     * @param lengthFactor the factor of the arc weights, at least one.
+     * @param radius       the maximum length of an arc.
+     */
+    public RandomGeometricGraphGenerator(final int nodes,
+                                         final int arcs,
+                                         final double width,
+                                         final double height,
+                                         final double lengthFactor,
+                                         final double radius) {
+        super(nodes);
+
+        if (arcs < 0) {
+            throw new IllegalArgumentException(
+                    "The number of arcs is negative: " + arcs + ".");
+        }
+
+        if (arcs > 0 && nodes < 2) {
+            throw new IllegalArgumentException(
+                    "Arcs require at least two nodes, received " +
+                    nodes + ".");
+        }
+
+        if (!(width > 0.0) || !(height > 0.0)) {
+            throw new IllegalArgumentException(
+                    "The rectangle must have positive dimensions, received " +
+                    width + " x " + height + ".");
+        }
+
+        if (!(lengthFactor >= 1.0)) {
+            throw new IllegalArgumentException(
+                    "The length factor must be at least 1, received " +
+                    lengthFactor + ".");
+        }
+
+        if (!(radius > 0.0)) {
+            throw new IllegalArgumentException(
+                    "The radius must be positive, received " + radius + ".");
+        }
+
+        this.arcs = arcs;
+        this.width = width;
+        this.height = height;
+        this.lengthFactor = lengthFactor;
+        this.radius = radius;
+    }
+
+    @Override
+    public String getName() {
+        return "geometric-" + nodes + "-" + arcs + "-" + width + "x" + height +
+               "-" + lengthFactor +
+               (radius == Double.POSITIVE_INFINITY ? "" : "-r" + radius);
+    }
+
+    @Override
+    protected void placeNode(final int node,
+                             final SplittableRandom random,
+                             final double[] xs,
+                             final double[] ys) {
+        xs[node] = random.nextDouble() * width;
+        ys[node] = random.nextDouble() * height;
+    }
+
+    @Override
+    protected ArcGenerator prepareArcs(final long seed,
+                                       final double[] xs,
+                                       final double[] ys) {
+        if (radius == Double.POSITIVE_INFINITY) {
+            return (final int node,
+                    final SplittableRandom random,
+                    final ArcList list) -> {
+                for (int i = getDegree(node); i > 0; --i) {
+                    // Skip the tail itself.
+                    int head = random.nextInt(nodes - 1);
+
+                    if (head >= node) {
+                        ++head;
+                    }
+
+                    addArc(node, head, xs, ys, list);
+                }
+            };
+        }
+
+        // Cells no smaller than the radius keep the candidates of a node
+        // within the 3 x 3 cells around it, and cells no smaller than the
+        // average spacing of the nodes keep their number linear.
+        final CellIndex index =
+                new CellIndex(xs,
+                              ys,
+                              null,
+                              nodes,
+                              width,
+                              height,
+                              Math.max(radius,
+                                       Math.sqrt(width * height / nodes)));
+
+        return (final int node,
+                final SplittableRandom random,
+                final ArcList list) -> {
+            final int column = index.getColumn(xs[node]);
+            final int row = index.getRow(ys[node]);
+            final int minColumn = Math.max(0, column - 1);
+            final int minRow = Math.max(0, row - 1);
+            final int maxColumn = Math.min(index.getColumns() - 1, column + 1);
+            final int maxRow = Math.min(index.getRows() - 1, row + 1);
+            final int columns = maxColumn - minColumn + 1;
+            final int rows = maxRow - minRow + 1;
+
+            for (int i = getDegree(node); i > 0; --i) {
+                for (int attempt = 0; attempt < MAX_ATTEMPTS; ++attempt) {
+                    final int cell =
+                            index.getCell(minColumn + random.nextInt(columns),
+                                          minRow + random.nextInt(rows));
+                    final int start = index.getStart(cell);
+                    final int count = index.getStart(cell + 1) - start;
+
+                    if (count == 0) {
+                        continue;
+                    }
+
+                    final int head =
+                            index.getNode(start + random.nextInt(count));
+
+                    if (head != node
+                            && distance(xs, ys, node, head) <= radius) {
+                        addArc(node, head, xs, ys, list);
+                        break;
+                    }
+                }
+            }
+        };
+    }
+
+    private int getDegree(final int node) {
+        return arcs / nodes + (node < arcs % nodes ? 1 : 0);
+    }
+
+    private void addArc(final int tail,
+                        final int head,
+                        final double[] xs,
+                        final double[] ys,
+                        final ArcList list) {
+        list.add(head, lengthFactor * distance(xs, ys, tail, head));
+    }
+}
@@ -0,0 +1,212 @@
+package net.coderodde.graph.generator.support;
+
+import java.util.SplittableRandom;
+
+/**
+ * This class generates road-like graphs. The nodes are scattered uniformly
+ * over a rectangle, and two levels of roads connect them:
+ * <ol>
+ *   <li>streets connect every two nodes closer than a radius chosen for
+ *       {@link #STREET_DEGREE} neighbours per node on average; a street is
+ *       one-way with probability {@link #ONE_WAY_PROBABILITY}, and its arcs
+ *       are longer than the straight line by 10 to 60 percent,</li>
+ *   <li>highways connect every two hub nodes closer than a radius chosen for
+ *       {@link #HIGHWAY_DEGREE} neighbouring hubs per hub on average, where
+ *       each node is a hub with probability {@link #HUB_PROBABILITY}; the
+ *       highways run in both directions, almost straight.</li>
+ * </ol>
+ * The long and fast highways give the graphs the hierarchy of road networks,
+ * on which the bidirectional and the goal-directed searches behave as on the
+ * real ones.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class RoadLikeGraphGenerator extends AbstractGraphGenerator {
+
+    /**
+     * The average number of street neighbours of a node.
+     */
+    public static final double STREET_DEGREE = 6.0;
+
+    /**
+     * The probability of a street being one-way.
+     */
+    public static final double ONE_WAY_PROBABILITY = 0.1;
+
+    /**
+     * The probability of a node being a hub.
+     */
+    public static final double HUB_PROBABILITY = 1.0 / 32.0;
+
+    /**
+     * The average number of highway neighbours of a hub.
+     */
+    public static final double HIGHWAY_DEGREE = 4.0;
+
+    private final double width;
+    private final double height;
+
+    /**
+     * Constructs a generator of road-like graphs.
+     *
+     * @param nodes  the number of nodes.
+     * @param width  the width of the rectangle.
+     * @param height the height of the rectangle.
+     */
+    public RoadLikeGraphGenerator(final int nodes,
+                                  final double width,
+                                  final double height) {
+        super(nodes);
+
+        if (!(width > 0.0) || !(height > 0.0)) {
+            throw new IllegalArgumentException(
+                    "The rectangle must have positive dimensions, received " +
+                    width + " x " + height + ".");
+        }
+
+        this.width = width;
+        this.height = height;
+    }
+
+    @Override
+    public String getName() {
+        return "road-" + nodes + "-" + width + "x" + height;
+    }
+
+    @Override
+    protected void placeNode(final int node,
+                             final SplittableRandom random,
+                             final double[] xs,
+                             final double[] ys) {
+        xs[node] = random.nextDouble() * width;
+        ys[node] = random.nextDouble() * height;
+    }
+
+    @Override
+    protected ArcGenerator prepareArcs(final long seed,
+                                       final double[] xs,
+                                       final double[] ys) {
+        final double area = width * height;
+        final double streetRadius =
+                Math.sqrt(STREET_DEGREE * area / (Math.PI * nodes));
+        final CellIndex streets =
+                new CellIndex(xs,
+                              ys,
+                              null,
+                              nodes,
+                              width,
+                              height,
+                              Math.max(streetRadius,
+                                       Math.sqrt(area / nodes)));
+
+        final int[] hubs = new int[nodes];
+        int numberOfHubs = 0;
+
+        for (int node = 0; node < nodes; ++node) {
+            if (isHub(seed, node)) {
+                hubs[numberOfHubs++] = node;
+            }
+        }
+
+        final double highwayRadius =
+                Math.sqrt(HIGHWAY_DEGREE * area /
+                          (Math.PI * Math.max(1, numberOfHubs)));
+        final CellIndex highways =
+                new CellIndex(xs,
+                              ys,
+                              hubs,
+                              numberOfHubs,
+                              width,
+                              height,
+                              Math.max(highwayRadius,
+                                       Math.sqrt(area /
+                                                 Math.max(1, numberOfHubs))));
+
+        return (final int node,
+                final SplittableRandom random,
+                final ArcList arcs) -> {
+            addArcs(node, streets, streetRadius, false, seed, xs, ys, random,
+                    arcs);
+
+            if (isHub(seed, node)) {
+                addArcs(node, highways, highwayRadius, true, seed, xs, ys,
+                        random, arcs);
+            }
+        };
+    }
+
+    /**
+     * Adds the arcs from {@code node} to the nodes of {@code index} closer
+     * than {@code radius}: the highways if {@code highway} is set, and the
+     * streets otherwise.
+     */
+    private static void addArcs(final int node,
+                                final CellIndex index,
+                                final double radius,
+                                final boolean highway,
+                                final long seed,
+                                final double[] xs,
+                                final double[] ys,
+                                final SplittableRandom random,
+                                final ArcList arcs) {
+        final int column = index.getColumn(xs[node]);
+        final int row = index.getRow(ys[node]);
+        final int maxColumn = Math.min(index.getColumns() - 1, column + 1);
+        final int maxRow = Math.min(index.getRows() - 1, row + 1);
+
+        for (int r = Math.max(0, row - 1); r <= maxRow; ++r) {
+            for (int c = Math.max(0, column - 1); c <= maxColumn; ++c) {
+                final int cell = index.getCell(c, r);
+
+                for (int i = index.getStart(cell);
+                        i < index.getStart(cell + 1);
+                        ++i) {
+                    final int head = index.getNode(i);
+
+                    if (head == node) {
+                        continue;
+                    }
+
+                    final double distance = distance(xs, ys, node, head);
+
+                    if (distance > radius) {
+                        continue;
+                    }
+
+                    if (highway) {
+                        arcs.add(head,
+                                 distance * (1.0 + 0.05 * random.nextDouble()));
+                    } else if (isOpen(seed, node, head)) {
+                        arcs.add(head,
+                                 distance * (1.1 + 0.5 * random.nextDouble()));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if the street between {@code tail} and
+     * {@code head} may be driven from the tail to the head. Both end points
+     * decide the same for a street.
+     */
+    private static boolean isOpen(final long seed,
+                                  final int tail,
+                                  final int head) {
+        final long street = ((long) Math.min(tail, head) << 32)
+                            | Math.max(tail, head);
+        final long hash = hash(~seed, street);
+
+        if ((hash >>> 11) * 0x1.0p-53 >= ONE_WAY_PROBABILITY) {
+            return true;
+        }
+
+        // The lowest bit tells the direction of a one-way street.
+        return ((hash & 1L) == 0L) == (tail < head);
+    }
+
+    private static boolean isHub(final long seed, final int node) {
+        return hashToDouble(seed, node) < HUB_PROBABILITY;
+    }
+}
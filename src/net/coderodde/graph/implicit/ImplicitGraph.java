@@ -0,0 +1,89 @@
+package net.coderodde.graph.implicit;
+
+import java.util.Objects;
+
+/**
+ * This class bundles what the searches need to know about an implicit graph:
+ * the encoding of its states, the function generating the successors of a
+ * state and, for the bidirectional searches, the function generating its
+ * predecessors. For a graph whose arcs are all reversible at the same cost,
+ * such as most puzzles, the successor function serves as the predecessor
+ * function as well.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @param <S> the state type.
+ */
+public final class ImplicitGraph<S> {
+
+    private final StateEncoding<S> encoding;
+    private final SuccessorFunction<S> successorFunction;
+    private final SuccessorFunction<S> predecessorFunction;
+
+    /**
+     * Constructs an implicit graph that may be searched forward only.
+     *
+     * @param encoding          the state encoding.
+     * @param successorFunction the successor function.
+     */
+    public ImplicitGraph(final StateEncoding<S> encoding,
+                         final SuccessorFunction<S> successorFunction) {
+        this.encoding = Objects.requireNonNull(encoding,
+                                               "The input encoding is null.");
+        this.successorFunction =
+                Objects.requireNonNull(successorFunction,
+                                       "The input successor function is null.");
+        this.predecessorFunction = null;
+
+        if (encoding.getNumberOfWords() < 1) {
+            throw new IllegalArgumentException(
+                    "The encoding must have at least one word, has " +
+                    encoding.getNumberOfWords() + ".");
+        }
+    }
+
+    /**
+     * Constructs an implicit graph that may be searched in both directions.
+     *
+     * @param encoding            the state encoding.
+     * @param successorFunction   the successor function.
+     * @param predecessorFunction the predecessor function.
+     */
+    public ImplicitGraph(final StateEncoding<S> encoding,
+                         final SuccessorFunction<S> successorFunction,
+                         final SuccessorFunction<S> predecessorFunction) {
+        this.encoding = Objects.requireNonNull(encoding,
+                                               "The input encoding is null.");
+        this.successorFunction =
+                Objects.requireNonNull(successorFunction,
+                                       "The input successor function is null.");
+        this.predecessorFunction =
+                Objects.requireNonNull(predecessorFunction,
+                                       "The input predecessor function is " +
+                                       "null.");
+
+        if (encoding.getNumberOfWords() < 1) {
+            throw new IllegalArgumentException(
+                    "The encoding must have at least one word, has " +
+                    encoding.getNumberOfWords() + ".");
+        }
+    }
+
+    public StateEncoding<S> getEncoding() {
+        return encoding;
+    }
+
+    public SuccessorFunction<S> getSuccessorFunction() {
+        return successorFunction;
+    }
+
+    /**
+     * Returns the predecessor function.
+     *
+     * @return the predecessor function, or {@code null} if this graph may be
+     *         searched forward only.
+     */
+    public SuccessorFunction<S> getPredecessorFunction() {
+        return predecessorFunction;
+    }
+}
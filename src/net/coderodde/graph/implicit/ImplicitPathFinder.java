@@ -0,0 +1,45 @@
+package net.coderodde.graph.implicit;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+/**
+ * This abstract class defines the API shared by the shortest path algorithms
+ * over implicit graphs. It is the counterpart of
+ * {@link net.coderodde.graph.sp.HeuristicPathFinder} for the graphs too large
+ * to materialize as a {@link net.coderodde.graph.Digraph}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public abstract class ImplicitPathFinder {
+
+    /**
+     * Searches a shortest path in {@code graph} from {@code source} to
+     * {@code target}.
+     *
+     * @param <S>       the state type.
+     * @param graph     the implicit graph in which to search.
+     * @param heuristic the heuristic function used in search.
+     * @param source    the source state.
+     * @param target    the target state.
+     * @return a list of states representing a path from {@code source} to
+     *         {@code target} or an empty list if the target state is not
+     *         reachable from the source state.
+     */
+    public abstract <S> List<S> search(final ImplicitGraph<S> graph,
+                                       final StateHeuristic<S> heuristic,
+                                       final S source,
+                                       final S target);
+
+    /**
+     * Aborts the search if the running thread is interrupted.
+     *
+     * @throws CancellationException if the running thread is interrupted.
+     */
+    protected static void checkInterrupted() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("The search was interrupted.");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package net.coderodde.graph.implicit;
+
+/**
+ * This interface defines the API for encoding the states of an implicit graph
+ * in a fixed number of {@code long} words. The searches keep only the encoded
+ * states, so that the memory per explored state is that of the words plus a
+ * few primitive fields; two states are the same if and only if their
+ * encodings are equal.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @param <S> the state type.
+ */
+public interface StateEncoding<S> {
+
+    /**
+     * Returns the number of words in the encoding of every state.
+     *
+     * @return the number of words, at least one.
+     */
+    public int getNumberOfWords();
+
+    /**
+     * Writes the encoding of {@code state} to {@code words} starting from
+     * {@code offset}.
+     *
+     * @param state  the state to encode.
+     * @param words  the array receiving the encoding.
+     * @param offset the index of the first word.
+     */
+    public void encode(final S state, final long[] words, final int offset);
+
+    /**
+     * Reconstructs the state encoded in {@code words} starting from
+     * {@code offset}.
+     *
+     * @param words  the array holding the encoding.
+     * @param offset the index of the first word.
+     * @return the decoded state.
+     */
+    public S decode(final long[] words, final int offset);
+}
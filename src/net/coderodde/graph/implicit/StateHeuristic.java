@@ -0,0 +1,24 @@
+package net.coderodde.graph.implicit;
+
+/**
+ * This interface defines the API for heuristic functions over the states of
+ * an implicit graph. It is the counterpart of
+ * {@link net.coderodde.graph.util.HeuristicFunction}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @param <S> the state type.
+ */
+@FunctionalInterface
+public interface StateHeuristic<S> {
+
+    /**
+     * Returns an optimistic estimate for the distance from {@code from} to
+     * {@code to}, i.e., a lower bound on the cost of a cheapest path.
+     *
+     * @param from a state.
+     * @param to   another state.
+     * @return an optimistic estimate for the distance between the states.
+     */
+    public double estimate(final S from, final S to);
+}
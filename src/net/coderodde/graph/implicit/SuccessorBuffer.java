@@ -0,0 +1,62 @@
+package net.coderodde.graph.implicit;
+
+import java.util.Arrays;
+
+/**
+ * This class collects the neighbours generated by a
+ * {@link SuccessorFunction}. A search allocates one buffer and clears it
+ * before each expansion, so that generating the neighbours allocates nothing
+ * beyond the states themselves.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @param <S> the state type.
+ */
+public final class SuccessorBuffer<S> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Object[] states = new Object[INITIAL_CAPACITY];
+
+    private double[] costs = new double[INITIAL_CAPACITY];
+
+    private int size;
+
+    /**
+     * Appends a neighbour.
+     *
+     * @param state the neighbour state.
+     * @param cost  the cost of the arc leading to the neighbour.
+     */
+    public void add(final S state, final double cost) {
+        if (size == states.length) {
+            states = Arrays.copyOf(states, 2 * size);
+            costs = Arrays.copyOf(costs, 2 * size);
+        }
+
+        states[size] = state;
+        costs[size] = cost;
+        ++size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public S getState(final int index) {
+        return (S) states[index];
+    }
+
+    public double getCost(final int index) {
+        return costs[index];
+    }
+
+    /**
+     * Removes all the neighbours from this buffer.
+     */
+    public void clear() {
+        Arrays.fill(states, 0, size, null);
+        size = 0;
+    }
+}
@@ -0,0 +1,24 @@
+package net.coderodde.graph.implicit;
+
+/**
+ * This interface defines the API for generating the neighbours of a state in
+ * an implicit graph, which exists only through this function and is never
+ * materialized.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @param <S> the state type.
+ */
+@FunctionalInterface
+public interface SuccessorFunction<S> {
+
+    /**
+     * Appends to {@code buffer} each neighbour of {@code state} together with
+     * the non-negative cost of the arc leading to it. The buffer is cleared
+     * by the caller and reused for all the states of a search.
+     *
+     * @param state  the state whose neighbours to generate.
+     * @param buffer the buffer receiving the neighbours and the arc costs.
+     */
+    public void generate(final S state, final SuccessorBuffer<S> buffer);
+}
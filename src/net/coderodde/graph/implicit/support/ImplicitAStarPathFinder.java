@@ -0,0 +1,95 @@
+package net.coderodde.graph.implicit.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.coderodde.graph.implicit.ImplicitGraph;
+import net.coderodde.graph.implicit.ImplicitPathFinder;
+import net.coderodde.graph.implicit.StateEncoding;
+import net.coderodde.graph.implicit.StateHeuristic;
+import net.coderodde.graph.implicit.SuccessorBuffer;
+import net.coderodde.graph.implicit.SuccessorFunction;
+
+/**
+ * This class implements A* over implicit graphs. The states reached are kept
+ * encoded in a {@link StateTable}; a state object exists only while its
+ * neighbours are generated, so the memory grows with the number of explored
+ * states and not with the size of the graph. The heuristic must be
+ * consistent.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class ImplicitAStarPathFinder extends ImplicitPathFinder {
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <S> List<S> search(final ImplicitGraph<S> graph,
+                              final StateHeuristic<S> heuristic,
+                              final S source,
+                              final S target) {
+        Objects.requireNonNull(graph, "The input graph is null.");
+        Objects.requireNonNull(heuristic, "The input heuristic is null.");
+        Objects.requireNonNull(source, "The source state is null.");
+        Objects.requireNonNull(target, "The target state is null.");
+
+        final StateEncoding<S> encoding = graph.getEncoding();
+        final SuccessorFunction<S> successorFunction =
+                graph.getSuccessorFunction();
+        final int words = encoding.getNumberOfWords();
+        final long[] key = new long[words];
+        final long[] targetKey = new long[words];
+        final StateTable TABLE = new StateTable(words);
+        final StateHeap OPEN = new StateHeap();
+        final SuccessorBuffer<S> buffer = new SuccessorBuffer<>();
+
+        encoding.encode(target, targetKey, 0);
+        encoding.encode(source, key, 0);
+        OPEN.add(TABLE.add(key, 0, 0.0, 0), heuristic.estimate(source, target));
+
+        while (!OPEN.isEmpty()) {
+            checkInterrupted();
+
+            final int current = OPEN.extractMinimum();
+
+            if (TABLE.matches(current, targetKey, 0)) {
+                return TABLE.tracebackPath(current, encoding);
+            }
+
+            final double currentDistance = TABLE.getDistance(current);
+
+            TABLE.close(current);
+            buffer.clear();
+            successorFunction.generate(TABLE.decode(current, encoding),
+                                       buffer);
+
+            for (int i = 0; i < buffer.size(); ++i) {
+                final S child = buffer.getState(i);
+                encoding.encode(child, key, 0);
+
+                final int childId = TABLE.find(key, 0);
+
+                if (childId >= 0 && TABLE.isClosed(childId)) {
+                    continue;
+                }
+
+                final double tentativeCost = currentDistance +
+                                             buffer.getCost(i);
+
+                if (childId < 0) {
+                    OPEN.add(TABLE.add(key, 0, tentativeCost, current),
+                             tentativeCost + heuristic.estimate(child, target));
+                } else if (TABLE.getDistance(childId) > tentativeCost) {
+                    TABLE.update(childId, tentativeCost, current);
+                    OPEN.decreasePriority(
+                            childId,
+                            tentativeCost + heuristic.estimate(child, target));
+                }
+            }
+        }
+
+        return new ArrayList<>();
+    }
+}
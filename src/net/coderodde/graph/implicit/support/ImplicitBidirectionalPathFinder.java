@@ -0,0 +1,192 @@
+package net.coderodde.graph.implicit.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import net.coderodde.graph.implicit.ImplicitGraph;
+import net.coderodde.graph.implicit.ImplicitPathFinder;
+import net.coderodde.graph.implicit.StateEncoding;
+import net.coderodde.graph.implicit.StateHeuristic;
+import net.coderodde.graph.implicit.SuccessorBuffer;
+import net.coderodde.graph.implicit.SuccessorFunction;
+
+/**
+ * This class implements NBA*, the bidirectional heuristic search of
+ * {@link net.coderodde.graph.sp.support.NewBidirectionalAStarPathFinder}, over
+ * implicit graphs. The forward search generates successors and the backward
+ * search predecessors, so the graph must have a predecessor function. Each
+ * direction keeps its states in a {@link StateTable} of its own, and a state
+ * closed in either direction is closed for both.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class ImplicitBidirectionalPathFinder extends ImplicitPathFinder {
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public <S> List<S> search(final ImplicitGraph<S> graph,
+                              final StateHeuristic<S> heuristic,
+                              final S source,
+                              final S target) {
+        Objects.requireNonNull(graph, "The input graph is null.");
+        Objects.requireNonNull(heuristic, "The input heuristic is null.");
+        Objects.requireNonNull(source, "The source state is null.");
+        Objects.requireNonNull(target, "The target state is null.");
+
+        if (graph.getPredecessorFunction() == null) {
+            throw new IllegalArgumentException(
+                    "The graph has no predecessor function.");
+        }
+
+        final StateEncoding<S> encoding = graph.getEncoding();
+        final int words = encoding.getNumberOfWords();
+        final long[] key = new long[words];
+        final long[] targetKey = new long[words];
+
+        encoding.encode(source, key, 0);
+        encoding.encode(target, targetKey, 0);
+
+        if (Arrays.equals(key, targetKey)) {
+            return new ArrayList<>(Arrays.asList(source));
+        }
+
+        final Direction<S> A = new Direction<>(graph.getSuccessorFunction(),
+                                               words);
+        final Direction<S> B = new Direction<>(graph.getPredecessorFunction(),
+                                               words);
+        final double estimate = heuristic.estimate(source, target);
+
+        A.OPEN.add(A.TABLE.add(key, 0, 0.0, 0), estimate);
+        B.OPEN.add(B.TABLE.add(targetKey, 0, 0.0, 0), estimate);
+
+        double fA = estimate;
+        double fB = estimate;
+        double bestPathCost = Double.POSITIVE_INFINITY;
+        int touchA = -1;
+        int touchB = -1;
+
+        while (!A.OPEN.isEmpty() && !B.OPEN.isEmpty()) {
+            checkInterrupted();
+
+            final boolean forward = A.OPEN.size() < B.OPEN.size();
+            final Direction<S> self = forward ? A : B;
+            final Direction<S> other = forward ? B : A;
+            final int current = self.OPEN.extractMinimum();
+            final double currentDistance = self.TABLE.getDistance(current);
+            final S state = self.TABLE.decode(current, encoding);
+
+            self.TABLE.close(current);
+
+            // The estimate towards the far end of this direction, and the one
+            // from the near end, as in NBA*.
+            final double toGoal = forward ?
+                                  heuristic.estimate(state, target) :
+                                  heuristic.estimate(source, state);
+            final double fromStart = forward ?
+                                     heuristic.estimate(source, state) :
+                                     heuristic.estimate(state, target);
+
+            if (currentDistance + toGoal >= bestPathCost
+                    || currentDistance + (forward ? fB : fA) - fromStart
+                       >= bestPathCost) {
+                // Reject 'current'.
+                continue;
+            }
+
+            self.buffer.clear();
+            self.function.generate(state, self.buffer);
+
+            for (int i = 0; i < self.buffer.size(); ++i) {
+                final S neighbour = self.buffer.getState(i);
+                encoding.encode(neighbour, key, 0);
+
+                final int id = self.TABLE.find(key, 0);
+                final int otherId = other.TABLE.find(key, 0);
+
+                if ((id >= 0 && self.TABLE.isClosed(id))
+                        || (otherId >= 0 && other.TABLE.isClosed(otherId))) {
+                    continue;
+                }
+
+                final double tentativeScore = currentDistance +
+                                              self.buffer.getCost(i);
+                final int neighbourId;
+
+                if (id < 0) {
+                    neighbourId = self.TABLE.add(key,
+                                                 0,
+                                                 tentativeScore,
+                                                 current);
+                    self.OPEN.add(neighbourId,
+                                  tentativeScore +
+                                  (forward ?
+                                   heuristic.estimate(neighbour, target) :
+                                   heuristic.estimate(source, neighbour)));
+                } else if (self.TABLE.getDistance(id) > tentativeScore) {
+                    neighbourId = id;
+                    self.TABLE.update(id, tentativeScore, current);
+                    self.OPEN.decreasePriority(
+                            id,
+                            tentativeScore +
+                            (forward ?
+                             heuristic.estimate(neighbour, target) :
+                             heuristic.estimate(source, neighbour)));
+                } else {
+                    continue;
+                }
+
+                if (otherId >= 0) {
+                    final double pathLength =
+                            tentativeScore + other.TABLE.getDistance(otherId);
+
+                    if (bestPathCost > pathLength) {
+                        bestPathCost = pathLength;
+                        touchA = forward ? neighbourId : otherId;
+                        touchB = forward ? otherId : neighbourId;
+                    }
+                }
+            }
+
+            if (!self.OPEN.isEmpty()) {
+                if (forward) {
+                    fA = A.OPEN.minPriority();
+                } else {
+                    fB = B.OPEN.minPriority();
+                }
+            }
+        }
+
+        if (touchA < 0) {
+            return new ArrayList<>();
+        }
+
+        final List<S> path = A.TABLE.tracebackPath(touchA, encoding);
+
+        for (int id = touchB; B.TABLE.getParent(id) != id;) {
+            id = B.TABLE.getParent(id);
+            path.add(B.TABLE.decode(id, encoding));
+        }
+
+        return path;
+    }
+
+    /**
+     * The state of one search direction.
+     */
+    private static final class Direction<S> {
+
+        final SuccessorFunction<S> function;
+        final StateTable TABLE;
+        final StateHeap OPEN = new StateHeap();
+        final SuccessorBuffer<S> buffer = new SuccessorBuffer<>();
+
+        Direction(final SuccessorFunction<S> function, final int words) {
+            this.function = function;
+            this.TABLE = new StateTable(words);
+        }
+    }
+}
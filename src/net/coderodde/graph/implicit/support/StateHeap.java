@@ -0,0 +1,143 @@
+package net.coderodde.graph.implicit.support;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * This class implements a binary heap over the dense state identifiers of a
+ * {@link StateTable}. The elements, their priorities and their positions live
+ * in primitive arrays, so the open list costs a few bytes per state and boxes
+ * nothing.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+final class StateHeap {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] heap = new int[INITIAL_CAPACITY];
+
+    /**
+     * The priority of the element at each heap position.
+     */
+    private double[] priorities = new double[INITIAL_CAPACITY];
+
+    /**
+     * The heap position plus one of each identifier, or zero if the
+     * identifier is not in the heap.
+     */
+    private int[] positions = new int[INITIAL_CAPACITY];
+
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void add(final int id, final double priority) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, 2 * size);
+            priorities = Arrays.copyOf(priorities, 2 * size);
+        }
+
+        if (id >= positions.length) {
+            positions = Arrays.copyOf(positions,
+                                      Math.max(id + 1, 2 * positions.length));
+        }
+
+        siftUp(size++, id, priority);
+    }
+
+    /**
+     * Lowers the priority of {@code id}, which must be in this heap.
+     *
+     * @param id       the element.
+     * @param priority the new priority.
+     */
+    void decreasePriority(final int id, final double priority) {
+        final int position = positions[id] - 1;
+
+        if (priority < priorities[position]) {
+            siftUp(position, id, priority);
+        }
+    }
+
+    int min() {
+        if (size == 0) {
+            throw new NoSuchElementException("Reading from an empty heap.");
+        }
+
+        return heap[0];
+    }
+
+    double minPriority() {
+        if (size == 0) {
+            throw new NoSuchElementException("Reading from an empty heap.");
+        }
+
+        return priorities[0];
+    }
+
+    int extractMinimum() {
+        final int id = min();
+        positions[id] = 0;
+        --size;
+
+        if (size > 0) {
+            siftDown(heap[size], priorities[size]);
+        }
+
+        return id;
+    }
+
+    private void siftUp(int position, final int id, final double priority) {
+        while (position > 0) {
+            final int parent = (position - 1) >>> 1;
+
+            if (priorities[parent] <= priority) {
+                break;
+            }
+
+            place(position, heap[parent], priorities[parent]);
+            position = parent;
+        }
+
+        place(position, id, priority);
+    }
+
+    private void siftDown(final int id, final double priority) {
+        int position = 0;
+
+        while (true) {
+            int child = 2 * position + 1;
+
+            if (child >= size) {
+                break;
+            }
+
+            if (child + 1 < size && priorities[child + 1] < priorities[child]) {
+                ++child;
+            }
+
+            if (priorities[child] >= priority) {
+                break;
+            }
+
+            place(position, heap[child], priorities[child]);
+            position = child;
+        }
+
+        place(position, id, priority);
+    }
+
+    private void place(final int position, final int id, final double priority) {
+        heap[position] = id;
+        priorities[position] = priority;
+        positions[id] = position + 1;
+    }
+}
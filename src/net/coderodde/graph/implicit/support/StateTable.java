@@ -0,0 +1,214 @@
+package net.coderodde.graph.implicit.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import net.coderodde.graph.implicit.StateEncoding;
+
+/**
+ * This class implements the transposition table of a search over an implicit
+ * graph. Each state reached is stored once, as its encoding, and gets a dense
+ * identifier in the order of insertion; the distances, the parents and the
+ * closed flags are kept in primitive arrays indexed by the identifiers. An
+ * open-addressing index with linear probing maps the encodings to the
+ * identifiers. Growing the table rehashes the index only, so the identifiers
+ * stay valid for the whole search.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+final class StateTable {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final long MULTIPLIER = 0x9e3779b97f4a7c15L;
+
+    private final int words;
+
+    /**
+     * The encodings of the states, {@code words} words each.
+     */
+    private long[] keys;
+    private double[] distances;
+    private int[] parents;
+    private boolean[] closed;
+
+    /**
+     * The identifier plus one of the state in each bucket, or zero for a free
+     * bucket.
+     */
+    private int[] index = new int[2 * INITIAL_CAPACITY];
+
+    private int size;
+
+    StateTable(final int words) {
+        this.words = words;
+        this.keys = new long[INITIAL_CAPACITY * words];
+        this.distances = new double[INITIAL_CAPACITY];
+        this.parents = new int[INITIAL_CAPACITY];
+        this.closed = new boolean[INITIAL_CAPACITY];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the identifier of the state encoded in {@code key} starting from
+     * {@code offset}, or {@code -1} if the state is not in this table.
+     *
+     * @param key    the array holding the encoding.
+     * @param offset the index of the first word.
+     * @return the identifier of the state or {@code -1}.
+     */
+    int find(final long[] key, final int offset) {
+        final int mask = index.length - 1;
+
+        for (int bucket = hash(key, offset) & mask; ;
+                bucket = (bucket + 1) & mask) {
+            final int id = index[bucket] - 1;
+
+            if (id < 0) {
+                return -1;
+            }
+
+            if (matches(id, key, offset)) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * Adds the state encoded in {@code key}, which must not be in this table,
+     * as an open state. The parent of a root state is the root itself.
+     *
+     * @param key      the array holding the encoding.
+     * @param offset   the index of the first word.
+     * @param distance the distance of the state.
+     * @param parent   the identifier of the parent state.
+     * @return the identifier of the state.
+     */
+    int add(final long[] key,
+            final int offset,
+            final double distance,
+            final int parent) {
+        if (size == distances.length) {
+            final int capacity = 2 * size;
+            keys = Arrays.copyOf(keys, capacity * words);
+            distances = Arrays.copyOf(distances, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+            closed = Arrays.copyOf(closed, capacity);
+            rehash(2 * capacity);
+        }
+
+        final int id = size++;
+        System.arraycopy(key, offset, keys, id * words, words);
+        distances[id] = distance;
+        parents[id] = parent;
+        insert(id);
+        return id;
+    }
+
+    /**
+     * Returns {@code true} if the state {@code id} is encoded as in
+     * {@code key} starting from {@code offset}.
+     *
+     * @param id     the identifier of the state.
+     * @param key    the array holding the encoding.
+     * @param offset the index of the first word.
+     * @return {@code true} if the encodings are equal.
+     */
+    boolean matches(final int id, final long[] key, final int offset) {
+        final int start = id * words;
+
+        for (int i = 0; i < words; ++i) {
+            if (keys[start + i] != key[offset + i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    <S> S decode(final int id, final StateEncoding<S> encoding) {
+        return encoding.decode(keys, id * words);
+    }
+
+    double getDistance(final int id) {
+        return distances[id];
+    }
+
+    int getParent(final int id) {
+        return parents[id];
+    }
+
+    void update(final int id, final double distance, final int parent) {
+        distances[id] = distance;
+        parents[id] = parent;
+    }
+
+    boolean isClosed(final int id) {
+        return closed[id];
+    }
+
+    void close(final int id) {
+        closed[id] = true;
+    }
+
+    /**
+     * Returns the states on the path from the root of the search tree to the
+     * state {@code id}.
+     *
+     * @param <S>      the state type.
+     * @param id       the identifier of the last state of the path.
+     * @param encoding the encoding of the states.
+     * @return the list of states.
+     */
+    <S> List<S> tracebackPath(int id, final StateEncoding<S> encoding) {
+        final List<S> path = new ArrayList<>();
+
+        while (true) {
+            path.add(decode(id, encoding));
+
+            if (parents[id] == id) {
+                break;
+            }
+
+            id = parents[id];
+        }
+
+        Collections.reverse(path);
+        return path;
+    }
+
+    private void rehash(final int capacity) {
+        index = new int[capacity];
+
+        for (int id = 0; id < size; ++id) {
+            insert(id);
+        }
+    }
+
+    private void insert(final int id) {
+        final int mask = index.length - 1;
+        int bucket = hash(keys, id * words) & mask;
+
+        while (index[bucket] != 0) {
+            bucket = (bucket + 1) & mask;
+        }
+
+        index[bucket] = id + 1;
+    }
+
+    private int hash(final long[] key, final int offset) {
+        long h = 0L;
+
+        for (int i = 0; i < words; ++i) {
+            h = (h + key[offset + i]) * MULTIPLIER;
+            h ^= h >>> 29;
+        }
+
+        return (int) (h ^ (h >>> 32));
+    }
+}
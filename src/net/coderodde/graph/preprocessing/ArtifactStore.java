@@ -0,0 +1,205 @@
+package net.coderodde.graph.preprocessing;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import net.coderodde.graph.Digraph;
+
+/**
+ * This class stores preprocessing artifacts as files in a directory. Each
+ * artifact file is keyed by the preprocessor name, the format version and the
+ * content hash of the graph, so that a modified graph or an upgraded
+ * preprocessor never picks up a stale artifact. The files are memory-mapped
+ * when loaded.
+ * <p>
+ * Every file starts with a header consisting of a magic number, the
+ * preprocessor name, the format version and the graph hash, followed by the
+ * artifact payload written by the preprocessor.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class ArtifactStore {
+
+    /**
+     * The magic number starting every artifact file.
+     */
+    private static final int MAGIC = 0x41535041; // "ASPA"
+
+    /**
+     * The suffix of the artifact files.
+     */
+    private static final String SUFFIX = ".bin";
+
+    private final Path directory;
+
+    /**
+     * Constructs a store keeping its artifacts in {@code directory}.
+     *
+     * @param directory the directory holding the artifact files.
+     */
+    public ArtifactStore(final Path directory) {
+        this.directory = Objects.requireNonNull(directory,
+                                                "The directory is null.");
+    }
+
+    /**
+     * Returns the path of the artifact file of {@code preprocessor} for the
+     * graph with hash {@code graphHash}.
+     *
+     * @param preprocessor the preprocessor.
+     * @param graphHash    the content hash of the graph.
+     * @return the path of the artifact file.
+     */
+    public Path getPath(final Preprocessor<?> preprocessor,
+                        final String graphHash) {
+        return directory.resolve(preprocessor.getName() + "-v" +
+                                 preprocessor.getVersion() + "-" +
+                                 graphHash + SUFFIX);
+    }
+
+    /**
+     * Loads the artifact of {@code preprocessor} for {@code digraph} if it is
+     * stored, and otherwise computes and stores it.
+     *
+     * @param <A>          the artifact type.
+     * @param preprocessor the preprocessor.
+     * @param digraph      the graph.
+     * @param pool         the pool running the preprocessing.
+     * @param listener     the listener receiving progress reports.
+     * @return the artifact.
+     * @throws IOException if storing the artifact fails.
+     */
+    public <A> A loadOrCompute(final Preprocessor<A> preprocessor,
+                               final Digraph digraph,
+                               final ForkJoinPool pool,
+                               final ProgressListener listener)
+            throws IOException {
+        final String graphHash = GraphHash.of(digraph);
+        final A loaded = load(preprocessor, graphHash);
+
+        if (loaded != null) {
+            return loaded;
+        }
+
+        final A artifact = preprocessor.preprocess(digraph, pool, listener);
+        store(preprocessor, graphHash, artifact);
+        return artifact;
+    }
+
+    /**
+     * Loads the artifact of {@code preprocessor} for the graph with hash
+     * {@code graphHash}.
+     *
+     * @param <A>          the artifact type.
+     * @param preprocessor the preprocessor.
+     * @param graphHash    the content hash of the graph.
+     * @return the artifact, or {@code null} if it is not stored.
+     * @throws IOException if the artifact file exists but is invalid.
+     */
+    public <A> A load(final Preprocessor<A> preprocessor,
+                      final String graphHash) throws IOException {
+        final Path path = getPath(preprocessor, graphHash);
+
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+
+        try (final FileChannel channel = FileChannel.open(path,
+                                                StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer =
+                    channel.map(FileChannel.MapMode.READ_ONLY,
+                                0L,
+                                channel.size());
+
+            checkHeader(buffer, preprocessor, graphHash, path);
+            return preprocessor.read(buffer);
+        } catch (final RuntimeException ex) {
+            throw new IOException("Corrupted artifact file " + path + ".", ex);
+        }
+    }
+
+    /**
+     * Stores {@code artifact} of {@code preprocessor} for the graph with hash
+     * {@code graphHash}. The file is written under a temporary name and then
+     * moved in place, so that concurrent readers never observe a partial
+     * file.
+     *
+     * @param <A>          the artifact type.
+     * @param preprocessor the preprocessor.
+     * @param graphHash    the content hash of the graph.
+     * @param artifact     the artifact to store.
+     * @return the path of the artifact file.
+     * @throws IOException if writing fails.
+     */
+    public <A> Path store(final Preprocessor<A> preprocessor,
+                          final String graphHash,
+                          final A artifact) throws IOException {
+        Files.createDirectories(directory);
+        final Path path = getPath(preprocessor, graphHash);
+        final Path temporaryPath =
+                Files.createTempFile(directory, preprocessor.getName(), ".tmp");
+
+        try {
+            try (final OutputStream fileOut =
+                        Files.newOutputStream(temporaryPath);
+                 final DataOutputStream out =
+                        new DataOutputStream(
+                                new BufferedOutputStream(fileOut, 1 << 16))) {
+                out.writeInt(MAGIC);
+                writeString(out, preprocessor.getName());
+                out.writeInt(preprocessor.getVersion());
+                writeString(out, graphHash);
+                preprocessor.write(artifact, out);
+            }
+
+            Files.move(temporaryPath,
+                       path,
+                       StandardCopyOption.REPLACE_EXISTING,
+                       StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        }
+
+        return path;
+    }
+
+    private static void checkHeader(final ByteBuffer buffer,
+                                    final Preprocessor<?> preprocessor,
+                                    final String graphHash,
+                                    final Path path) throws IOException {
+        if (buffer.getInt() != MAGIC
+                || !readString(buffer).equals(preprocessor.getName())
+                || buffer.getInt() != preprocessor.getVersion()
+                || !readString(buffer).equals(graphHash)) {
+            throw new IOException("The file " + path + " is not an artifact " +
+                                  "of " + preprocessor.getName() + " v" +
+                                  preprocessor.getVersion() + " for the " +
+                                  "graph " + graphHash + ".");
+        }
+    }
+
+    private static void writeString(final DataOutputStream out,
+                                    final String string) throws IOException {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,62 @@
+package net.coderodde.graph.preprocessing;
+
+import net.coderodde.graph.Digraph;
+
+/**
+ * This class computes content hashes of graphs. The hash depends only on the 
+ * set of nodes and the set of weighted arcs, not on the order in which they 
+ * were added, so that the same graph loaded twice yields the same hash. 
+ * Each node and arc is mixed into two independent 64-bit lanes that are 
+ * combined by addition, which is order-independent.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public final class GraphHash {
+
+    private static final long NODE_SALT = 0x6a09e667f3bcc908L;
+    private static final long ARC_SALT  = 0xbb67ae8584caa73bL;
+    private static final long LANE_SALT = 0x3c6ef372fe94f82bL;
+
+    private GraphHash() {}
+
+    /**
+     * Computes the content hash of {@code digraph}.
+     * 
+     * @param digraph the graph to hash.
+     * @return the hash as a string of 32 hexadecimal digits.
+     */
+    public static String of(final Digraph digraph) {
+        long lane1 = mix(digraph.size());
+        long lane2 = mix(digraph.getNumberOfEdges() ^ LANE_SALT);
+
+        for (final Integer node : digraph.getAllNodes()) {
+            final long nodeHash = mix(NODE_SALT ^ node);
+            lane1 += nodeHash;
+            lane2 += mix(nodeHash ^ LANE_SALT);
+
+            for (final Integer child : digraph.getChildrenOf(node)) {
+                final long weight = Double.doubleToLongBits(
+                        digraph.getEdgeWeight(node, child));
+                final long arcHash = 
+                        mix(mix(mix(ARC_SALT ^ node) ^ child) ^ weight);
+                lane1 += arcHash;
+                lane2 += mix(arcHash ^ LANE_SALT);
+            }
+        }
+
+        return String.format("%016x%016x", lane1, lane2);
+    }
+
+    /**
+     * The finalizer of the SplitMix64 generator.
+     * 
+     * @param z the value to mix.
+     * @return the mixed value.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
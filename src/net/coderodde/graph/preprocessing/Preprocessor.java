@@ -0,0 +1,70 @@
+package net.coderodde.graph.preprocessing;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import net.coderodde.graph.Digraph;
+
+/**
+ * This interface defines the API shared by all graph preprocessing steps. A
+ * preprocessor computes an artifact from a graph, and knows how to serialize
+ * the artifact to a binary form and how to read it back. The binary form is
+ * versioned, so that artifacts written by an older implementation are 
+ * recomputed instead of being misread.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @param <A> the type of the computed artifact.
+ * @version 1.6 (Oct 18, 2026)
+ */
+public interface Preprocessor<A> {
+
+    /**
+     * Returns the name of this preprocessor. The name identifies the 
+     * artifacts of this preprocessor, so it must be stable and must also 
+     * capture all the parameters affecting the result.
+     * 
+     * @return the name of this preprocessor.
+     */
+    public String getName();
+
+    /**
+     * Returns the version of the binary format of the artifacts.
+     * 
+     * @return the format version.
+     */
+    public int getVersion();
+
+    /**
+     * Computes the artifact of {@code digraph}. The graph must not be modified
+     * during preprocessing.
+     * 
+     * @param digraph  the graph to preprocess.
+     * @param pool     the pool running the parallel parts of the computation.
+     * @param listener the listener receiving progress reports.
+     * @return the computed artifact.
+     */
+    public A preprocess(final Digraph digraph,
+                        final ForkJoinPool pool,
+                        final ProgressListener listener);
+
+    /**
+     * Writes {@code artifact} to {@code out}.
+     * 
+     * @param artifact the artifact to write.
+     * @param out      the output to write to.
+     * @throws IOException if writing fails.
+     */
+    public void write(final A artifact, final DataOutput out) 
+            throws IOException;
+
+    /**
+     * Reads an artifact from {@code buffer}, starting at its current position.
+     * The buffer is typically a memory-mapped artifact file.
+     * 
+     * @param buffer the buffer holding the artifact.
+     * @return the artifact read.
+     * @throws IOException if the buffer does not hold a valid artifact.
+     */
+    public A read(final ByteBuffer buffer) throws IOException;
+}
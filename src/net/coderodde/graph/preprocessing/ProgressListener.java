@@ -0,0 +1,27 @@
+package net.coderodde.graph.preprocessing;
+
+/**
+ * This interface defines the API for receiving progress reports from
+ * preprocessors. The reports may arrive from several threads concurrently.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public interface ProgressListener {
+
+    /**
+     * The listener ignoring all progress reports.
+     */
+    public static final ProgressListener NONE = 
+            (final String step, final long done, final long total) -> {};
+
+    /**
+     * Reports that {@code done} units of work out of {@code total} are 
+     * finished in the step {@code step}.
+     * 
+     * @param step  the name of the preprocessing step.
+     * @param done  the amount of finished work.
+     * @param total the total amount of work.
+     */
+    public void progress(final String step, final long done, final long total);
+}
@@ -0,0 +1,200 @@
+package net.coderodde.graph.preprocessing.support;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.preprocessing.Preprocessor;
+import net.coderodde.graph.preprocessing.ProgressListener;
+import net.coderodde.graph.util.ShortestPathTrees;
+
+/**
+ * This class implements the preprocessing of the ALT (A*, landmarks, triangle
+ * inequality) technique. It chooses a number of landmark nodes at random, and
+ * computes the distances from and to each landmark by running one Dijkstra
+ * search per landmark and direction, all of them in parallel.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class LandmarkPreprocessor implements Preprocessor<Landmarks> {
+
+    /**
+     * The version of the binary format.
+     */
+    private static final int VERSION = 1;
+
+    private final int numberOfLandmarks;
+    private final long seed;
+
+    /**
+     * Constructs a preprocessor choosing {@code numberOfLandmarks} landmarks
+     * using the random seed {@code seed}.
+     *
+     * @param numberOfLandmarks the number of landmarks.
+     * @param seed              the seed of the landmark selection.
+     */
+    public LandmarkPreprocessor(final int numberOfLandmarks, final long seed) {
+        if (numberOfLandmarks < 1) {
+            throw new IllegalArgumentException(
+                    "The number of landmarks must be positive, received " +
+                    numberOfLandmarks + ".");
+        }
+
+        this.numberOfLandmarks = numberOfLandmarks;
+        this.seed = seed;
+    }
+
+    @Override
+    public String getName() {
+        return "landmarks-" + numberOfLandmarks + "-" + seed;
+    }
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public Landmarks preprocess(final Digraph digraph,
+                                final ForkJoinPool pool,
+                                final ProgressListener listener) {
+        Objects.requireNonNull(digraph, "The input digraph is null.");
+        Objects.requireNonNull(pool, "The input pool is null.");
+        Objects.requireNonNull(listener, "The input listener is null.");
+
+        final int[] nodes = new int[digraph.size()];
+        int size = 0;
+
+        for (final Integer node : digraph.getAllNodes()) {
+            nodes[size++] = node;
+        }
+
+        // Sort for the sake of choosing the same landmarks for equal graphs.
+        Arrays.sort(nodes);
+
+        final int[] landmarks = chooseLandmarks(nodes);
+        final int k = landmarks.length;
+        final double[] distancesFrom = new double[nodes.length * k];
+        final double[] distancesTo = new double[nodes.length * k];
+        final AtomicInteger done = new AtomicInteger();
+        final List<ForkJoinTask<?>> tasks = new ArrayList<>(2 * k);
+
+        for (int i = 0; i < k; ++i) {
+            for (final boolean forward : new boolean[]{ true, false }) {
+                final int landmarkIndex = i;
+
+                tasks.add(ForkJoinTask.adapt(() -> {
+                    final Map<Integer, Double> distance =
+                            ShortestPathTrees.computeDistances(
+                                    digraph,
+                                    landmarks[landmarkIndex],
+                                    forward);
+
+                    final double[] target = forward ? distancesFrom :
+                                                      distancesTo;
+
+                    for (int j = 0; j < nodes.length; ++j) {
+                        final Double d = distance.get(nodes[j]);
+                        target[j * k + landmarkIndex] =
+                                d == null ? Double.POSITIVE_INFINITY : d;
+                    }
+
+                    listener.progress(getName(),
+                                      done.incrementAndGet(),
+                                      2 * k);
+                }));
+            }
+        }
+
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+
+        return new Landmarks(nodes, landmarks, distancesFrom, distancesTo);
+    }
+
+    @Override
+    public void write(final Landmarks artifact, final DataOutput out)
+            throws IOException {
+        out.writeInt(artifact.getNumberOfLandmarks());
+        out.writeInt(artifact.getNumberOfNodes());
+
+        for (final int node : artifact.getNodes()) {
+            out.writeInt(node);
+        }
+
+        for (final int landmark : artifact.getLandmarks()) {
+            out.writeInt(landmark);
+        }
+
+        for (final double distance : artifact.getDistancesFrom()) {
+            out.writeDouble(distance);
+        }
+
+        for (final double distance : artifact.getDistancesTo()) {
+            out.writeDouble(distance);
+        }
+    }
+
+    @Override
+    public Landmarks read(final ByteBuffer buffer) throws IOException {
+        final int k = buffer.getInt();
+        final int n = buffer.getInt();
+
+        if (k < 0 || n < 0 || (long) n * k > Integer.MAX_VALUE) {
+            throw new IOException(
+                    "Invalid landmark dimensions: " + k + " x " + n + ".");
+        }
+
+        final int[] nodes = new int[n];
+        final int[] landmarks = new int[k];
+        final double[] distancesFrom = new double[n * k];
+        final double[] distancesTo = new double[n * k];
+
+        readInts(buffer, nodes);
+        readInts(buffer, landmarks);
+        readDoubles(buffer, distancesFrom);
+        readDoubles(buffer, distancesTo);
+        return new Landmarks(nodes, landmarks, distancesFrom, distancesTo);
+    }
+
+    private int[] chooseLandmarks(final int[] nodes) {
+        final int[] shuffled = nodes.clone();
+        final int k = Math.min(numberOfLandmarks, nodes.length);
+        final Random random = new Random(seed);
+
+        for (int i = 0; i < k; ++i) {
+            final int j = i + random.nextInt(shuffled.length - i);
+            final int tmp = shuffled[i];
+            shuffled[i] = shuffled[j];
+            shuffled[j] = tmp;
+        }
+
+        return Arrays.copyOf(shuffled, k);
+    }
+
+    private static void readInts(final ByteBuffer buffer, final int[] array) {
+        buffer.asIntBuffer().get(array);
+        buffer.position(buffer.position() + Integer.BYTES * array.length);
+    }
+
+    private static void readDoubles(final ByteBuffer buffer,
+                                    final double[] array) {
+        buffer.asDoubleBuffer().get(array);
+        buffer.position(buffer.position() + Double.BYTES * array.length);
+    }
+}
@@ -0,0 +1,148 @@
+package net.coderodde.graph.preprocessing.support;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class holds the distances between a set of landmark nodes and all the
+ * nodes of a graph, in both directions. The distances of each node are stored
+ * contiguously, so that evaluating a node pair reads two short runs of the 
+ * distance arrays. Unreachable pairs have infinite distance.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public final class Landmarks {
+
+    private final int[] nodes;
+    private final int[] landmarks;
+    private final double[] distancesFrom;
+    private final double[] distancesTo;
+    private final Map<Integer, Integer> nodeIndices;
+
+    /**
+     * Constructs the landmark data.
+     * 
+     * @param nodes         the graph nodes.
+     * @param landmarks     the landmark nodes.
+     * @param distancesFrom the distance from the landmark {@code l} to the 
+     *                      node {@code nodes[i]} at index 
+     *                      {@code i * landmarks.length + l}.
+     * @param distancesTo   the distance from the node {@code nodes[i]} to the
+     *                      landmark {@code l} at index 
+     *                      {@code i * landmarks.length + l}.
+     */
+    public Landmarks(final int[] nodes, 
+                     final int[] landmarks,
+                     final double[] distancesFrom,
+                     final double[] distancesTo) {
+        if (distancesFrom.length != nodes.length * landmarks.length
+                || distancesTo.length != nodes.length * landmarks.length) {
+            throw new IllegalArgumentException(
+                    "The distance arrays do not match " + nodes.length + 
+                    " nodes and " + landmarks.length + " landmarks.");
+        }
+
+        this.nodes = nodes;
+        this.landmarks = landmarks;
+        this.distancesFrom = distancesFrom;
+        this.distancesTo = distancesTo;
+        this.nodeIndices = new HashMap<>(2 * nodes.length);
+
+        for (int i = 0; i < nodes.length; ++i) {
+            nodeIndices.put(nodes[i], i);
+        }
+    }
+
+    /**
+     * Returns the number of landmarks.
+     * 
+     * @return the number of landmarks.
+     */
+    public int getNumberOfLandmarks() {
+        return landmarks.length;
+    }
+
+    /**
+     * Returns the number of graph nodes.
+     * 
+     * @return the number of nodes.
+     */
+    public int getNumberOfNodes() {
+        return nodes.length;
+    }
+
+    /**
+     * Returns the {@code index}th graph node.
+     * 
+     * @param index the index of the node.
+     * @return the graph node.
+     */
+    public int getNode(final int index) {
+        return nodes[index];
+    }
+
+    /**
+     * Returns the {@code index}th landmark node.
+     * 
+     * @param index the index of the landmark.
+     * @return the landmark node.
+     */
+    public int getLandmark(final int index) {
+        return landmarks[index];
+    }
+
+    /**
+     * Returns the index of {@code node}, or {@code -1} if the node is not 
+     * covered.
+     * 
+     * @param node the node whose index to return.
+     * @return the index of the node.
+     */
+    public int getNodeIndex(final int node) {
+        final Integer index = nodeIndices.get(node);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the distance from the landmark {@code landmarkIndex} to the node
+     * with index {@code nodeIndex}.
+     * 
+     * @param landmarkIndex the index of the landmark.
+     * @param nodeIndex     the index of the node.
+     * @return the distance.
+     */
+    public double getDistanceFrom(final int landmarkIndex, 
+                                  final int nodeIndex) {
+        return distancesFrom[nodeIndex * landmarks.length + landmarkIndex];
+    }
+
+    /**
+     * Returns the distance from the node with index {@code nodeIndex} to the
+     * landmark {@code landmarkIndex}.
+     * 
+     * @param landmarkIndex the index of the landmark.
+     * @param nodeIndex     the index of the node.
+     * @return the distance.
+     */
+    public double getDistanceTo(final int landmarkIndex, 
+                                final int nodeIndex) {
+        return distancesTo[nodeIndex * landmarks.length + landmarkIndex];
+    }
+
+    int[] getNodes() {
+        return nodes;
+    }
+
+    int[] getLandmarks() {
+        return landmarks;
+    }
+
+    double[] getDistancesFrom() {
+        return distancesFrom;
+    }
+
+    double[] getDistancesTo() {
+        return distancesTo;
+    }
+}
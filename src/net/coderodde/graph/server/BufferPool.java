@@ -0,0 +1,105 @@
+package net.coderodde.graph.server;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * This class implements a pool of direct buffers, so that the server does not
+ * allocate off-heap memory per request. The buffers come in size classes,
+ * the powers of two between a minimum and a maximum size, so that a small
+ * response does not hold a large buffer. The pool retains at most a given
+ * number of free bytes per class and drops the rest.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+final class BufferPool {
+
+    private final List<Deque<ByteBuffer>> freeBuffers = new ArrayList<>();
+
+    private final int minimumSize;
+
+    private final int maximumSize;
+
+    private final int maxFreeBytesPerClass;
+
+    /**
+     * Constructs a pool. The sizes must be powers of two.
+     *
+     * @param minimumSize          the size of the smallest buffers.
+     * @param maximumSize          the size of the largest buffers.
+     * @param maxFreeBytesPerClass the maximum number of free bytes retained
+     *                             per size class.
+     */
+    BufferPool(final int minimumSize,
+               final int maximumSize,
+               final int maxFreeBytesPerClass) {
+        this.minimumSize = minimumSize;
+        this.maximumSize = maximumSize;
+        this.maxFreeBytesPerClass = maxFreeBytesPerClass;
+
+        for (int size = minimumSize; size <= maximumSize; size <<= 1) {
+            freeBuffers.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Returns the size of the largest buffers.
+     *
+     * @return the maximum buffer size.
+     */
+    int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns a cleared buffer of at least {@code size} bytes, or of the
+     * maximum size if {@code size} exceeds it, allocating the buffer if there
+     * are no free ones.
+     *
+     * @param size the number of bytes needed.
+     * @return a buffer.
+     */
+    ByteBuffer acquire(final int size) {
+        final int classIndex = getClassIndex(size);
+
+        synchronized (this) {
+            final ByteBuffer buffer = freeBuffers.get(classIndex).pollFirst();
+
+            if (buffer != null) {
+                return buffer;
+            }
+        }
+
+        return ByteBuffer.allocateDirect(minimumSize << classIndex);
+    }
+
+    /**
+     * Returns {@code buffer} to this pool, unless its class is full.
+     *
+     * @param buffer the buffer to release.
+     */
+    void release(final ByteBuffer buffer) {
+        buffer.clear();
+
+        final int classIndex = getClassIndex(buffer.capacity());
+        final Deque<ByteBuffer> free = freeBuffers.get(classIndex);
+
+        synchronized (this) {
+            if ((free.size() + 1L) * buffer.capacity() <=
+                    maxFreeBytesPerClass) {
+                free.addFirst(buffer);
+            }
+        }
+    }
+
+    private int getClassIndex(final int size) {
+        final int clamped = Math.max(minimumSize, Math.min(maximumSize, size));
+        return Integer.numberOfTrailingZeros(
+                Integer.highestOneBit(clamped - 1) << 1) -
+               Integer.numberOfTrailingZeros(minimumSize);
+    }
+}
@@ -0,0 +1,253 @@
+package net.coderodde.graph.server;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class implements a blocking client of {@link QueryServer}. The
+ * requests are buffered until {@link #flush()} or {@link #receive()}, so that
+ * a sequence of {@link #submit(int, int)} calls is pipelined over the
+ * connection in few writes. A client must be used by one thread at a time.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class QueryClient implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final SocketChannel channel;
+    private final ByteBuffer output = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final ByteBuffer input = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private int nextRequestId;
+
+    /**
+     * Connects to the server listening on {@code address}.
+     *
+     * @param address the address of the server.
+     * @throws IOException if the connection fails.
+     */
+    public QueryClient(final SocketAddress address) throws IOException {
+        Objects.requireNonNull(address, "The input address is null.");
+        channel = QueryProtocol.openChannel(address);
+
+        try {
+            channel.connect(address);
+            QueryProtocol.disableDelay(channel);
+        } catch (final IOException ex) {
+            channel.close();
+            throw ex;
+        }
+
+        input.flip();
+    }
+
+    /**
+     * Queues a query from {@code source} to {@code target}.
+     *
+     * @param source the source node.
+     * @param target the target node.
+     * @return the identifier of the request, reported by its result.
+     * @throws IOException if sending fails.
+     */
+    public int submit(final int source, final int target) throws IOException {
+        if (output.remaining() < QueryProtocol.REQUEST_SIZE) {
+            flush();
+        }
+
+        final int requestId = nextRequestId++;
+        output.putInt(requestId);
+        output.putInt(source);
+        output.putInt(target);
+        return requestId;
+    }
+
+    /**
+     * Sends the queued queries.
+     *
+     * @throws IOException if sending fails.
+     */
+    public void flush() throws IOException {
+        output.flip();
+
+        while (output.hasRemaining()) {
+            channel.write(output);
+        }
+
+        output.clear();
+    }
+
+    /**
+     * Sends the queued queries and waits for the next result, which may
+     * answer any pending query.
+     *
+     * @return the next result.
+     * @throws IOException if the connection fails.
+     */
+    public Result receive() throws IOException {
+        flush();
+        require(QueryProtocol.RESPONSE_HEADER_SIZE);
+
+        final int requestId = input.getInt();
+        final int status = input.getInt();
+        final double cost = input.getDouble();
+
+        if (status < 0) {
+            return new Result(requestId,
+                              status,
+                              Collections.<Integer>emptyList(),
+                              cost);
+        }
+
+        final List<Integer> path = new ArrayList<>(status);
+
+        for (int i = 0; i < status; ++i) {
+            require(Integer.BYTES);
+            path.add(input.getInt());
+        }
+
+        return new Result(requestId, status, path, cost);
+    }
+
+    /**
+     * Searches a shortest path from {@code source} to {@code target}. No other
+     * queries may be pending.
+     *
+     * @param source the source node.
+     * @param target the target node.
+     * @return the result of the query.
+     * @throws IOException if the connection fails.
+     */
+    public Result search(final int source, final int target)
+    throws IOException {
+        return searchAll(new int[]{ source }, new int[]{ target })[0];
+    }
+
+    /**
+     * Searches a shortest path from {@code sources[i]} to {@code targets[i]}
+     * for each {@code i}, pipelining all the queries. No other queries may be
+     * pending.
+     *
+     * @param sources the source nodes.
+     * @param targets the target nodes.
+     * @return the results in the order of the queries.
+     * @throws IOException if the connection fails.
+     */
+    public Result[] searchAll(final int[] sources, final int[] targets)
+    throws IOException {
+        Objects.requireNonNull(sources, "The input sources is null.");
+        Objects.requireNonNull(targets, "The input targets is null.");
+
+        if (sources.length != targets.length) {
+            throw new IllegalArgumentException(
+                    "The number of sources (" + sources.length + ") and " +
+                    "targets (" + targets.length + ") differ.");
+        }
+
+        final int firstRequestId = nextRequestId;
+        final Result[] results = new Result[sources.length];
+
+        for (int i = 0; i < sources.length; ++i) {
+            submit(sources[i], targets[i]);
+        }
+
+        for (int i = 0; i < sources.length; ++i) {
+            final Result result = receive();
+            results[result.getRequestId() - firstRequestId] = result;
+        }
+
+        return results;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Reads until at least {@code bytes} bytes are buffered.
+     */
+    private void require(final int bytes) throws IOException {
+        while (input.remaining() < bytes) {
+            input.compact();
+
+            final int read = channel.read(input);
+            input.flip();
+
+            if (read < 0) {
+                throw new EOFException("The server closed the connection.");
+            }
+        }
+    }
+
+    /**
+     * This class holds the result of a query.
+     */
+    public static final class Result {
+
+        private final int requestId;
+        private final int status;
+        private final List<Integer> path;
+        private final double cost;
+
+        Result(final int requestId,
+               final int status,
+               final List<Integer> path,
+               final double cost) {
+            this.requestId = requestId;
+            this.status = status;
+            this.path = Collections.unmodifiableList(path);
+            this.cost = cost;
+        }
+
+        public int getRequestId() {
+            return requestId;
+        }
+
+        /**
+         * Returns the shortest path found, or an empty list if the target is
+         * unreachable or the query was not answered.
+         *
+         * @return the path.
+         */
+        public List<Integer> getPath() {
+            return path;
+        }
+
+        /**
+         * Returns the cost of the path, infinite if the target is unreachable
+         * and NaN if the query was not answered.
+         *
+         * @return the cost of the path.
+         */
+        public double getCost() {
+            return cost;
+        }
+
+        /**
+         * Returns {@code true} if the server rejected the query because too
+         * many queries were pending.
+         *
+         * @return {@code true} if the query was rejected.
+         */
+        public boolean isRejected() {
+            return status == QueryProtocol.REJECTED;
+        }
+
+        /**
+         * Returns {@code true} if the search of the query threw an exception.
+         *
+         * @return {@code true} if the query failed.
+         */
+        public boolean isFailed() {
+            return status == QueryProtocol.FAILED;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package net.coderodde.graph.server;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.InetSocketAddress;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.nio.channels.NetworkChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+/**
+ * This class defines the binary protocol spoken by {@link QueryServer} and
+ * {@link QueryClient}. All the numbers are big-endian.
+ * <p>
+ * A request is {@link #REQUEST_SIZE} bytes: the request identifier, the
+ * source node and the target node, each an {@code int}. A response starts
+ * with a header of {@link #RESPONSE_HEADER_SIZE} bytes: the identifier of the
+ * request answered, the number of nodes on the path as an {@code int} and the
+ * cost of the path as a {@code double}; the nodes of the path follow as
+ * {@code int}s. An unreachable target yields an empty path of infinite cost.
+ * Instead of the number of nodes, the header may hold {@link #REJECTED} or
+ * {@link #FAILED}, followed by no nodes.
+ * <p>
+ * A client may send any number of requests without waiting for the
+ * responses, which may arrive in any order and are matched to the requests by
+ * their identifiers.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public final class QueryProtocol {
+
+    /**
+     * The size of a request in bytes.
+     */
+    public static final int REQUEST_SIZE = 12;
+
+    /**
+     * The size of a response header in bytes.
+     */
+    public static final int RESPONSE_HEADER_SIZE = 16;
+
+    /**
+     * The status of a query rejected because too many queries were pending.
+     */
+    public static final int REJECTED = -1;
+
+    /**
+     * The status of a query whose search threw an exception.
+     */
+    public static final int FAILED = -2;
+
+    private QueryProtocol() {}
+
+    /**
+     * Opens a server channel for {@code address}: a TCP channel for an
+     * {@link InetSocketAddress} and a Unix-domain channel otherwise.
+     */
+    static ServerSocketChannel openServerChannel(final SocketAddress address)
+    throws IOException {
+        if (address instanceof InetSocketAddress) {
+            return ServerSocketChannel.open();
+        }
+
+        return (ServerSocketChannel) openUnixChannel(ServerSocketChannel.class);
+    }
+
+    /**
+     * Opens a channel connecting to {@code address}: a TCP channel for an
+     * {@link InetSocketAddress} and a Unix-domain channel otherwise.
+     */
+    static SocketChannel openChannel(final SocketAddress address)
+    throws IOException {
+        if (address instanceof InetSocketAddress) {
+            return SocketChannel.open();
+        }
+
+        return (SocketChannel) openUnixChannel(SocketChannel.class);
+    }
+
+    /**
+     * Disables Nagle's algorithm on a TCP channel, so that the small requests
+     * and responses are sent right away.
+     */
+    static void disableDelay(final NetworkChannel channel) throws IOException {
+        if (channel.supportedOptions()
+                   .contains(StandardSocketOptions.TCP_NODELAY)) {
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        }
+    }
+
+    /**
+     * Opens a Unix-domain channel of the given class. The Unix-domain sockets
+     * are looked up by reflection, since they appeared in JDK 16.
+     */
+    private static Object openUnixChannel(final Class<?> channelClass)
+    throws IOException {
+        try {
+            final ProtocolFamily family =
+                    StandardProtocolFamily.valueOf("UNIX");
+
+            return channelClass.getMethod("open", ProtocolFamily.class)
+                               .invoke(null, family);
+        } catch (final InvocationTargetException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+
+            throw new IllegalStateException(ex.getCause());
+        } catch (final IllegalArgumentException
+                     | ReflectiveOperationException ex) {
+            throw new UnsupportedOperationException(
+                    "Unix-domain sockets need JDK 16 or later.", ex);
+        }
+    }
+}
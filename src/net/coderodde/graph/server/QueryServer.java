@@ -0,0 +1,847 @@
+package net.coderodde.graph.server;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.sp.HeuristicPathFinder;
+import net.coderodde.graph.util.HeuristicFunction;
+
+/**
+ * This class implements a server answering shortest path queries over one
+ * graph loaded in memory, so that many client processes may share it. The
+ * queries arrive over a TCP or a Unix-domain socket in the format of
+ * {@link QueryProtocol}.
+ * <p>
+ * One selector thread accepts the connections, reads the requests and writes
+ * the responses without blocking. The requests read from a connection at
+ * once are cut into batches of at most a given size, each batch searched by
+ * one task on an executor, and the responses of a batch are encoded together
+ * and queued to the connection as soon as the batch is done. At most a given
+ * number of queries may be pending; the queries beyond that limit are
+ * answered with {@link QueryProtocol#REJECTED} right away. The buffers for
+ * reading and writing are direct and pooled, and the responses of a batch
+ * take a buffer sized to them.
+ * <p>
+ * A connection stops reading while its queued responses exceed a threshold
+ * or while too many of its queries are running, and resumes once they
+ * drain, so that a client pipelining requests without reading the responses
+ * is held back by the socket instead of growing the memory of the server.
+ * <p>
+ * The path finder is shared by the executor threads, like in
+ * {@link net.coderodde.graph.sp.AsyncPathFinder}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class QueryServer implements AutoCloseable {
+
+    /**
+     * The default maximum number of queries in a batch.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+
+    /**
+     * The default maximum number of pending queries per processor.
+     */
+    private static final int DEFAULT_PENDING_QUERIES_PER_PROCESSOR = 256;
+
+    private static final int MIN_BUFFER_SIZE = 1 << 8;
+
+    private static final int MAX_BUFFER_SIZE = 1 << 16;
+
+    private static final int MAX_FREE_BYTES_PER_CLASS = 1 << 22;
+
+    /**
+     * The number of queued response bytes above which a connection stops
+     * reading.
+     */
+    static final int MAX_QUEUED_BYTES = 1 << 20;
+
+    /**
+     * The maximum number of running batches per connection, counted in
+     * queries as {@code maxBatchSize} times this.
+     */
+    private static final int MAX_BATCHES_PER_CONNECTION = 4;
+
+    private final Digraph digraph;
+    private final HeuristicFunction heuristicFunction;
+    private final HeuristicPathFinder finder;
+    private final Executor executor;
+    private final Semaphore admission;
+    private final int maxBatchSize;
+    private final boolean ownsExecutor;
+
+    private final BufferPool bufferPool =
+            new BufferPool(MIN_BUFFER_SIZE,
+                           MAX_BUFFER_SIZE,
+                           MAX_FREE_BYTES_PER_CLASS);
+
+    /**
+     * The number of response bytes queued over all the connections.
+     */
+    private final AtomicLong queuedBytes = new AtomicLong();
+
+    /**
+     * The connections with responses queued since the last selection.
+     */
+    private final Queue<Connection> writableConnections =
+            new ConcurrentLinkedQueue<>();
+
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread selectorThread;
+    private volatile boolean closed;
+
+    /**
+     * Constructs a server searching with {@code finder} on {@code executor}.
+     *
+     * @param digraph           the graph to serve.
+     * @param heuristicFunction the heuristic function used in search.
+     * @param finder            the path finder.
+     * @param executor          the executor running the batches.
+     * @param maxPendingQueries the maximum number of pending queries.
+     * @param maxBatchSize      the maximum number of queries in a batch.
+     */
+    public QueryServer(final Digraph digraph,
+                       final HeuristicFunction heuristicFunction,
+                       final HeuristicPathFinder finder,
+                       final Executor executor,
+                       final int maxPendingQueries,
+                       final int maxBatchSize) {
+        this(digraph,
+             heuristicFunction,
+             finder,
+             executor,
+             maxPendingQueries,
+             maxBatchSize,
+             false);
+    }
+
+    /**
+     * Constructs a server searching with {@code finder} on a thread pool with
+     * one thread per processor.
+     *
+     * @param digraph           the graph to serve.
+     * @param heuristicFunction the heuristic function used in search.
+     * @param finder            the path finder.
+     */
+    public QueryServer(final Digraph digraph,
+                       final HeuristicFunction heuristicFunction,
+                       final HeuristicPathFinder finder) {
+        this(digraph,
+             heuristicFunction,
+             finder,
+             newDefaultExecutor(),
+             DEFAULT_PENDING_QUERIES_PER_PROCESSOR *
+                     Runtime.getRuntime().availableProcessors(),
+             DEFAULT_MAX_BATCH_SIZE,
+             true);
+    }
+
+    private QueryServer(final Digraph digraph,
+                        final HeuristicFunction heuristicFunction,
+                        final HeuristicPathFinder finder,
+                        final Executor executor,
+                        final int maxPendingQueries,
+                        final int maxBatchSize,
+                        final boolean ownsExecutor) {
+        this.digraph = Objects.requireNonNull(digraph,
+                                              "The input digraph is null.");
+        this.heuristicFunction =
+                Objects.requireNonNull(heuristicFunction,
+                                       "The input heuristic function is null.");
+        this.finder = Objects.requireNonNull(finder,
+                                             "The input finder is null.");
+        this.executor = Objects.requireNonNull(executor,
+                                               "The input executor is null.");
+
+        if (maxPendingQueries < 1) {
+            throw new IllegalArgumentException(
+                    "The maximum number of pending queries must be " +
+                    "positive, received " + maxPendingQueries + ".");
+        }
+
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException(
+                    "The maximum batch size must be positive, received " +
+                    maxBatchSize + ".");
+        }
+
+        this.admission = new Semaphore(maxPendingQueries);
+        this.maxBatchSize = maxBatchSize;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * Binds this server to {@code address} and starts serving. An
+     * {@link java.net.InetSocketAddress} opens a TCP socket, and a
+     * {@code UnixDomainSocketAddress} (JDK 16 and later) opens a Unix-domain
+     * socket, whose file the caller deletes after closing the server.
+     *
+     * @param address the address to listen on.
+     * @throws IOException if the socket cannot be opened.
+     */
+    public synchronized void start(final SocketAddress address)
+    throws IOException {
+        Objects.requireNonNull(address, "The input address is null.");
+
+        if (selectorThread != null || closed) {
+            throw new IllegalStateException("The server was started.");
+        }
+
+        selector = Selector.open();
+
+        try {
+            serverChannel = QueryProtocol.openServerChannel(address);
+            serverChannel.bind(address);
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (final IOException | RuntimeException ex) {
+            if (serverChannel != null) {
+                serverChannel.close();
+            }
+
+            selector.close();
+            throw ex;
+        }
+
+        selectorThread = new Thread(this::serve, "QueryServer-selector");
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+    }
+
+    /**
+     * Returns the address this server listens on.
+     *
+     * @return the local address.
+     * @throws IOException if the address cannot be read.
+     */
+    public synchronized SocketAddress getLocalAddress() throws IOException {
+        if (serverChannel == null) {
+            throw new IllegalStateException("The server is not started.");
+        }
+
+        return serverChannel.getLocalAddress();
+    }
+
+    /**
+     * Returns the number of queries that may be received before the
+     * admission control starts rejecting them.
+     *
+     * @return the number of free admission permits.
+     */
+    public int getAvailablePermits() {
+        return admission.availablePermits();
+    }
+
+    /**
+     * Returns the number of response bytes queued over all the connections
+     * and not yet written to their sockets.
+     *
+     * @return the number of queued bytes.
+     */
+    long getQueuedBytes() {
+        return queuedBytes.get();
+    }
+
+    /**
+     * Stops serving and closes all the connections, and shuts down the
+     * executor if it was created by this server. The responses of the batches
+     * still running are dropped.
+     */
+    @Override
+    public void close() {
+        final Thread thread;
+
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            thread = selectorThread;
+        }
+
+        if (thread != null) {
+            selector.wakeup();
+
+            try {
+                thread.join();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (ownsExecutor) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    /**
+     * Runs the selector loop until this server is closed.
+     */
+    private void serve() {
+        try {
+            while (!closed) {
+                selector.select();
+                flushWritableConnections();
+
+                final Iterator<SelectionKey> iterator =
+                        selector.selectedKeys().iterator();
+
+                while (iterator.hasNext()) {
+                    final SelectionKey key = iterator.next();
+                    iterator.remove();
+
+                    if (!key.isValid()) {
+                        continue;
+                    }
+
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+
+                    final Connection connection =
+                            (Connection) key.attachment();
+
+                    try {
+                        if (key.isReadable()) {
+                            connection.read();
+                        }
+
+                        if (key.isValid() && key.isWritable()) {
+                            connection.write();
+                        }
+                    } catch (final IOException ex) {
+                        connection.close();
+                    }
+                }
+            }
+        } catch (final IOException | ClosedSelectorException ex) {
+            // Stop serving.
+        } finally {
+            for (final SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof Connection) {
+                    ((Connection) key.attachment()).close();
+                }
+            }
+
+            try {
+                serverChannel.close();
+                selector.close();
+            } catch (final IOException ex) {
+                // Nothing to do while shutting down.
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        final SocketChannel channel;
+
+        try {
+            channel = acceptChannel();
+        } catch (final IOException ex) {
+            // A failed accept, for example on running out of file
+            // descriptors, drops only this connection attempt.
+            return;
+        }
+
+        if (channel == null) {
+            return;
+        }
+
+        try {
+            channel.configureBlocking(false);
+            QueryProtocol.disableDelay(channel);
+            final SelectionKey key =
+                    channel.register(selector, SelectionKey.OP_READ);
+            key.attach(new Connection(channel, key));
+        } catch (final IOException ex) {
+            channel.close();
+        }
+    }
+
+    /**
+     * Accepts a pending connection.
+     *
+     * @return the accepted channel, or {@code null} if none is pending.
+     * @throws IOException if accepting fails.
+     */
+    SocketChannel acceptChannel() throws IOException {
+        return serverChannel.accept();
+    }
+
+    /**
+     * Writes the responses queued by the batches since the last selection.
+     */
+    private void flushWritableConnections() {
+        Connection connection;
+
+        while ((connection = writableConnections.poll()) != null) {
+            try {
+                connection.write();
+            } catch (final IOException ex) {
+                connection.close();
+            }
+        }
+    }
+
+    /**
+     * Searches the batch of {@code size} queries of the {@code queries} array
+     * holding a request identifier, a source and a target per query, and
+     * encodes the responses.
+     */
+    private List<ByteBuffer> search(final Connection connection,
+                                    final int[] queries,
+                                    final int size) {
+        // A failed query has a null path.
+        final List<List<Integer>> paths = new ArrayList<>(size);
+        int bytes = 0;
+        int released = 0;
+
+        try {
+            for (int i = 0; i < size; ++i) {
+                List<Integer> path = null;
+
+                try {
+                    // Do not search for a client that is gone.
+                    if (connection.isOpen()) {
+                        path = finder.search(digraph,
+                                             heuristicFunction,
+                                             queries[3 * i + 1],
+                                             queries[3 * i + 2]);
+                    }
+                } catch (final RuntimeException ex) {
+                    path = null;
+                } finally {
+                    admission.release();
+                    ++released;
+                }
+
+                paths.add(path);
+                bytes += QueryProtocol.RESPONSE_HEADER_SIZE +
+                         (path == null ? 0 : Integer.BYTES * path.size());
+            }
+        } finally {
+            // An error thrown by the finder skips the remaining queries.
+            admission.release(size - released);
+        }
+
+        if (!connection.isOpen()) {
+            return new ArrayList<>();
+        }
+
+        final ResponseEncoder encoder = new ResponseEncoder(bytes);
+
+        for (int i = 0; i < size; ++i) {
+            if (paths.get(i) == null) {
+                encoder.putStatus(queries[3 * i], QueryProtocol.FAILED);
+            } else {
+                encoder.putPath(queries[3 * i], paths.get(i));
+            }
+        }
+
+        return encoder.finish();
+    }
+
+    /**
+     * This class holds the state of a client connection. Only the selector
+     * thread reads from and writes to the channel; the batches queue their
+     * encoded responses.
+     */
+    private final class Connection {
+
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private final ByteBuffer input =
+                bufferPool.acquire(bufferPool.getMaximumSize());
+
+        /**
+         * The buffers to write, guarded by itself.
+         */
+        private final Deque<ByteBuffer> output = new ArrayDeque<>();
+
+        /**
+         * The number of bytes in {@code output}. Guarded by {@code output}.
+         */
+        private long outputBytes;
+
+        /**
+         * The number of submitted queries not yet answered. Guarded by
+         * {@code output}.
+         */
+        private int runningQueries;
+
+        /**
+         * Guarded by {@code output}.
+         */
+        private boolean open = true;
+
+        Connection(final SocketChannel channel, final SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+        }
+
+        boolean isOpen() {
+            synchronized (output) {
+                return open;
+            }
+        }
+
+        /**
+         * Reads the available requests and submits them in batches.
+         */
+        void read() throws IOException {
+            if (channel.read(input) < 0) {
+                close();
+                return;
+            }
+
+            processInput();
+        }
+
+        /**
+         * Submits the buffered requests in batches while this connection is
+         * not throttled, and updates the operations the selector waits for.
+         */
+        private void processInput() {
+            input.flip();
+            final List<Integer> rejected = new ArrayList<>();
+
+            while (input.remaining() >= QueryProtocol.REQUEST_SIZE
+                    && !isThrottled()) {
+                final int size = Math.min(
+                        maxBatchSize,
+                        input.remaining() / QueryProtocol.REQUEST_SIZE);
+                final int[] queries = new int[3 * size];
+                int admitted = 0;
+
+                for (int i = 0; i < size; ++i) {
+                    final int requestId = input.getInt();
+                    final int source = input.getInt();
+                    final int target = input.getInt();
+
+                    if (admission.tryAcquire()) {
+                        queries[3 * admitted] = requestId;
+                        queries[3 * admitted + 1] = source;
+                        queries[3 * admitted + 2] = target;
+                        ++admitted;
+                    } else {
+                        rejected.add(requestId);
+                    }
+                }
+
+                if (admitted > 0) {
+                    submit(queries, admitted);
+                }
+            }
+
+            input.compact();
+
+            if (!rejected.isEmpty()) {
+                final ResponseEncoder encoder =
+                        new ResponseEncoder(rejected.size() *
+                                            QueryProtocol.RESPONSE_HEADER_SIZE);
+
+                for (final Integer requestId : rejected) {
+                    encoder.putStatus(requestId, QueryProtocol.REJECTED);
+                }
+
+                send(encoder.finish(), 0);
+            }
+
+            updateInterest();
+        }
+
+        private void submit(final int[] queries, final int size) {
+            synchronized (output) {
+                runningQueries += size;
+            }
+
+            try {
+                executor.execute(() -> runBatch(queries, size));
+            } catch (final RejectedExecutionException ex) {
+                admission.release(size);
+                send(encodeStatuses(queries, size, QueryProtocol.REJECTED),
+                     size);
+            }
+        }
+
+        /**
+         * Searches a batch and queues its responses. Whatever the batch
+         * throws, its queries stop counting as running and are answered as
+         * failed, and if even that fails, the connection is closed, so that
+         * the client is never left waiting on a throttled connection.
+         */
+        private void runBatch(final int[] queries, final int size) {
+            List<ByteBuffer> buffers = new ArrayList<>();
+
+            try {
+                buffers = search(this, queries, size);
+            } catch (final RuntimeException | Error ex) {
+                buffers = encodeStatuses(queries, size, QueryProtocol.FAILED);
+
+                if (ex instanceof Error) {
+                    throw (Error) ex;
+                }
+            } finally {
+                send(buffers, size);
+
+                // Only a closed connection or a failed batch has no output.
+                if (buffers.isEmpty()) {
+                    close();
+                }
+            }
+        }
+
+        private List<ByteBuffer> encodeStatuses(final int[] queries,
+                                                final int size,
+                                                final int status) {
+            final ResponseEncoder encoder =
+                    new ResponseEncoder(size *
+                                        QueryProtocol.RESPONSE_HEADER_SIZE);
+
+            for (int i = 0; i < size; ++i) {
+                encoder.putStatus(queries[3 * i], status);
+            }
+
+            return encoder.finish();
+        }
+
+        /**
+         * Queues {@code buffers} answering {@code answeredQueries} submitted
+         * queries for writing. Called by any thread.
+         */
+        void send(final List<ByteBuffer> buffers, final int answeredQueries) {
+            synchronized (output) {
+                runningQueries -= answeredQueries;
+
+                if (open) {
+                    for (final ByteBuffer buffer : buffers) {
+                        output.addLast(buffer);
+                        outputBytes += buffer.remaining();
+                        queuedBytes.addAndGet(buffer.remaining());
+                    }
+
+                    // Write the responses, or resume reading if throttled.
+                    writableConnections.add(this);
+                    selector.wakeup();
+                    return;
+                }
+            }
+
+            for (final ByteBuffer buffer : buffers) {
+                bufferPool.release(buffer);
+            }
+        }
+
+        /**
+         * Writes the queued buffers until the socket would block, then
+         * resumes processing the buffered requests if the output drained
+         * enough.
+         */
+        void write() throws IOException {
+            if (!key.isValid()) {
+                return;
+            }
+
+            while (true) {
+                final ByteBuffer buffer;
+
+                synchronized (output) {
+                    buffer = output.peekFirst();
+                }
+
+                if (buffer == null) {
+                    break;
+                }
+
+                channel.write(buffer);
+
+                if (buffer.hasRemaining()) {
+                    break;
+                }
+
+                synchronized (output) {
+                    output.pollFirst();
+                    outputBytes -= buffer.limit();
+                    queuedBytes.addAndGet(-buffer.limit());
+                }
+
+                bufferPool.release(buffer);
+            }
+
+            if (input.position() >= QueryProtocol.REQUEST_SIZE
+                    && !isThrottled()) {
+                processInput();
+            } else {
+                updateInterest();
+            }
+        }
+
+        /**
+         * Returns {@code true} if this connection has too many queued bytes
+         * or running queries to take more requests.
+         */
+        private boolean isThrottled() {
+            synchronized (output) {
+                return outputBytes >= MAX_QUEUED_BYTES ||
+                       runningQueries >=
+                       MAX_BATCHES_PER_CONNECTION * maxBatchSize;
+            }
+        }
+
+        /**
+         * Waits for reading unless throttled, and for writing while there
+         * are queued buffers.
+         */
+        private void updateInterest() {
+            if (!key.isValid()) {
+                return;
+            }
+
+            int operations = isThrottled() ? 0 : SelectionKey.OP_READ;
+
+            synchronized (output) {
+                if (!output.isEmpty()) {
+                    operations |= SelectionKey.OP_WRITE;
+                }
+            }
+
+            key.interestOps(operations);
+        }
+
+        void close() {
+            synchronized (output) {
+                if (!open) {
+                    return;
+                }
+
+                open = false;
+
+                for (final ByteBuffer buffer : output) {
+                    bufferPool.release(buffer);
+                }
+
+                output.clear();
+                queuedBytes.addAndGet(-outputBytes);
+                outputBytes = 0L;
+            }
+
+            key.cancel();
+            bufferPool.release(input);
+
+            try {
+                channel.close();
+            } catch (final IOException ex) {
+                // The connection is dropped anyway.
+            }
+        }
+    }
+
+    /**
+     * This class encodes responses into pooled buffers sized to the expected
+     * number of bytes. A response may span several buffers.
+     */
+    private final class ResponseEncoder {
+
+        private final List<ByteBuffer> buffers = new ArrayList<>();
+        private ByteBuffer current;
+
+        /**
+         * The number of bytes still to encode.
+         */
+        private int remainingBytes;
+
+        ResponseEncoder(final int expectedBytes) {
+            this.remainingBytes = expectedBytes;
+        }
+
+        void putPath(final int requestId, final List<Integer> path) {
+            double cost = path.isEmpty() ? Double.POSITIVE_INFINITY : 0.0;
+
+            for (int i = 0; i < path.size() - 1; ++i) {
+                cost += digraph.getEdgeWeight(path.get(i), path.get(i + 1));
+            }
+
+            reserve(QueryProtocol.RESPONSE_HEADER_SIZE);
+            current.putInt(requestId);
+            current.putInt(path.size());
+            current.putDouble(cost);
+
+            for (final Integer node : path) {
+                reserve(Integer.BYTES);
+                current.putInt(node);
+            }
+        }
+
+        void putStatus(final int requestId, final int status) {
+            reserve(QueryProtocol.RESPONSE_HEADER_SIZE);
+            current.putInt(requestId);
+            current.putInt(status);
+            current.putDouble(Double.NaN);
+        }
+
+        /**
+         * Returns the buffers holding the encoded responses, ready for
+         * writing.
+         */
+        List<ByteBuffer> finish() {
+            if (current != null) {
+                current.flip();
+                buffers.add(current);
+                current = null;
+            }
+
+            return buffers;
+        }
+
+        private void reserve(final int bytes) {
+            if (current == null || current.remaining() < bytes) {
+                finish();
+                current = bufferPool.acquire(Math.max(bytes, remainingBytes));
+            }
+
+            remainingBytes -= bytes;
+        }
+    }
+
+    private static ExecutorService newDefaultExecutor() {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        final ThreadFactory threadFactory = (final Runnable runnable) -> {
+            final Thread thread =
+                    new Thread(runnable,
+                               "QueryServer-" +
+                               threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        return Executors.newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors(),
+                threadFactory);
+    }
+}
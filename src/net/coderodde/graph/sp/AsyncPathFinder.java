@@ -0,0 +1,244 @@
+package net.coderodde.graph.sp;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.util.HeuristicFunction;
+
+/**
+ * This class implements an asynchronous facade over a
+ * {@link HeuristicPathFinder}. Each query runs as a task on an executor, and
+ * its result is delivered via a {@link CompletableFuture}. Cancelling the
+ * future interrupts the running search, which then aborts at its next node
+ * expansion. At most a given number of queries may be pending (queued or
+ * running) at a time; the queries beyond that limit are rejected right away
+ * by completing their futures exceptionally with a
+ * {@link RejectedExecutionException}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class AsyncPathFinder implements AutoCloseable {
+
+    /**
+     * The default maximum number of pending queries per processor.
+     */
+    private static final int DEFAULT_PENDING_QUERIES_PER_PROCESSOR = 64;
+
+    private final HeuristicPathFinder finder;
+    private final Executor executor;
+    private final Semaphore admission;
+    private final boolean ownsExecutor;
+
+    /**
+     * Constructs an asynchronous path finder running its queries on
+     * {@code executor}.
+     *
+     * @param finder            the actual path finder.
+     * @param executor          the executor running the queries.
+     * @param maxPendingQueries the maximum number of pending queries.
+     */
+    public AsyncPathFinder(final HeuristicPathFinder finder,
+                           final Executor executor,
+                           final int maxPendingQueries) {
+        this(finder, executor, maxPendingQueries, false);
+    }
+
+    /**
+     * Constructs an asynchronous path finder running its queries on virtual
+     * threads if the platform supports them (JDK 21 and later), and on a
+     * thread pool with one thread per processor otherwise.
+     *
+     * @param finder the actual path finder.
+     */
+    public AsyncPathFinder(final HeuristicPathFinder finder) {
+        this(finder,
+             newDefaultExecutor(),
+             DEFAULT_PENDING_QUERIES_PER_PROCESSOR *
+                     Runtime.getRuntime().availableProcessors(),
+             true);
+    }
+
+    private AsyncPathFinder(final HeuristicPathFinder finder,
+                            final Executor executor,
+                            final int maxPendingQueries,
+                            final boolean ownsExecutor) {
+        this.finder = Objects.requireNonNull(finder,
+                                             "The input finder is null.");
+        this.executor = Objects.requireNonNull(executor,
+                                               "The input executor is null.");
+
+        if (maxPendingQueries < 1) {
+            throw new IllegalArgumentException(
+                    "The maximum number of pending queries must be " +
+                    "positive, received " + maxPendingQueries + ".");
+        }
+
+        this.admission = new Semaphore(maxPendingQueries);
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * Starts searching a shortest path in {@code digraph} from
+     * {@code source} to {@code target}.
+     *
+     * @param digraph           the directed graph in which to search.
+     * @param heuristicFunction the heuristic function used in search.
+     * @param source            the source node.
+     * @param target            the target node.
+     * @return the future path; see
+     *         {@link HeuristicPathFinder#search(Digraph, HeuristicFunction, Integer, Integer)}.
+     */
+    public CompletableFuture<List<Integer>>
+        searchAsync(final Digraph digraph,
+                    final HeuristicFunction heuristicFunction,
+                    final Integer source,
+                    final Integer target) {
+        final CompletableFuture<List<Integer>> future =
+                new CompletableFuture<>();
+
+        if (!admission.tryAcquire()) {
+            future.completeExceptionally(
+                    new RejectedExecutionException(
+                            "Too many pending queries."));
+            return future;
+        }
+
+        final SearchTask task = new SearchTask(future,
+                                               digraph,
+                                               heuristicFunction,
+                                               source,
+                                               target);
+
+        future.whenComplete((path, throwable) -> {
+            if (future.isCancelled()) {
+                task.interrupt();
+            }
+        });
+
+        try {
+            executor.execute(task);
+        } catch (final RejectedExecutionException ex) {
+            admission.release();
+            future.completeExceptionally(ex);
+        }
+
+        return future;
+    }
+
+    /**
+     * Returns the number of queries that may be submitted before the
+     * admission control starts rejecting them.
+     *
+     * @return the number of free admission permits.
+     */
+    public int getAvailablePermits() {
+        return admission.availablePermits();
+    }
+
+    /**
+     * Shuts down the executor if it was created by this finder. Queries
+     * already submitted are completed.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    private final class SearchTask implements Runnable {
+
+        private final CompletableFuture<List<Integer>> future;
+        private final Digraph digraph;
+        private final HeuristicFunction heuristicFunction;
+        private final Integer source;
+        private final Integer target;
+
+        /**
+         * The thread running this task, or {@code null} if the task is not
+         * running. Guarded by {@code this}.
+         */
+        private Thread runner;
+
+        SearchTask(final CompletableFuture<List<Integer>> future,
+                   final Digraph digraph,
+                   final HeuristicFunction heuristicFunction,
+                   final Integer source,
+                   final Integer target) {
+            this.future = future;
+            this.digraph = digraph;
+            this.heuristicFunction = heuristicFunction;
+            this.source = source;
+            this.target = target;
+        }
+
+        @Override
+        public void run() {
+            try {
+                synchronized (this) {
+                    runner = Thread.currentThread();
+                }
+
+                try {
+                    // A query cancelled while queued is not started at all.
+                    if (!future.isDone()) {
+                        future.complete(finder.search(digraph,
+                                                      heuristicFunction,
+                                                      source,
+                                                      target));
+                    }
+                } catch (final Throwable t) {
+                    future.completeExceptionally(t);
+                } finally {
+                    synchronized (this) {
+                        runner = null;
+                    }
+
+                    // Do not leak an interrupt of a cancelled query into the
+                    // next task run by this thread.
+                    Thread.interrupted();
+                }
+            } finally {
+                admission.release();
+            }
+        }
+
+        synchronized void interrupt() {
+            if (runner != null) {
+                runner.interrupt();
+            }
+        }
+    }
+
+    private static ExecutorService newDefaultExecutor() {
+        try {
+            final Method method =
+                    Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (final ReflectiveOperationException ex) {
+            final AtomicInteger threadNumber = new AtomicInteger();
+            final ThreadFactory threadFactory = (final Runnable runnable) -> {
+                final Thread thread =
+                        new Thread(runnable,
+                                   "AsyncPathFinder-" +
+                                   threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+
+            return Executors.newFixedThreadPool(
+                    Runtime.getRuntime().availableProcessors(),
+                    threadFactory);
+        }
+    }
+}
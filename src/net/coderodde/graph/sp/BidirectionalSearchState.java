@@ -0,0 +1,130 @@
+package net.coderodde.graph.sp;
+
+import java.util.List;
+
+/**
+ * This interface defines the API for the per-query state of bidirectional
+ * search algorithms: the tentative distances and the parents of the nodes in
+ * both search directions, together with the closed flags. Direction 
+ * <i>A</i> is the forward search from the source node, and direction 
+ * <i>B</i> is the backward search from the target node.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public interface BidirectionalSearchState {
+
+    /**
+     * Makes {@code source} the root of the forward search tree.
+     * 
+     * @param source the source node.
+     */
+    public void initializeA(final int source);
+
+    /**
+     * Makes {@code target} the root of the backward search tree.
+     * 
+     * @param target the target node.
+     */
+    public void initializeB(final int target);
+
+    /**
+     * Returns {@code true} if the forward search has reached {@code node}.
+     * 
+     * @param node the node to query.
+     * @return {@code true} if the node has a forward distance.
+     */
+    public boolean containsA(final int node);
+
+    /**
+     * Returns {@code true} if the backward search has reached {@code node}.
+     * 
+     * @param node the node to query.
+     * @return {@code true} if the node has a backward distance.
+     */
+    public boolean containsB(final int node);
+
+    /**
+     * Returns the tentative distance from the source node to {@code node}. The
+     * node must have been reached by the forward search.
+     * 
+     * @param node the node to query.
+     * @return the forward distance of the node.
+     */
+    public double getDistanceA(final int node);
+
+    /**
+     * Returns the tentative distance from {@code node} to the target node. The
+     * node must have been reached by the backward search.
+     * 
+     * @param node the node to query.
+     * @return the backward distance of the node.
+     */
+    public double getDistanceB(final int node);
+
+    /**
+     * Sets the forward distance and the forward parent of {@code node}.
+     * 
+     * @param node     the node to update.
+     * @param distance the new forward distance.
+     * @param parent   the new forward parent.
+     */
+    public void updateA(final int node, final double distance, final int parent);
+
+    /**
+     * Sets the backward distance and the backward parent of {@code node}.
+     * 
+     * @param node     the node to update.
+     * @param distance the new backward distance.
+     * @param parent   the new backward parent, i.e., the next node on the path
+     *                 towards the target.
+     */
+    public void updateB(final int node, final double distance, final int parent);
+
+    /**
+     * Returns {@code true} if {@code node} is closed in the forward search.
+     * 
+     * @param node the node to query.
+     * @return {@code true} if the node is closed in the forward direction.
+     */
+    public boolean isClosedA(final int node);
+
+    /**
+     * Returns {@code true} if {@code node} is closed in the backward search.
+     * 
+     * @param node the node to query.
+     * @return {@code true} if the node is closed in the backward direction.
+     */
+    public boolean isClosedB(final int node);
+
+    /**
+     * Returns {@code true} if {@code node} is closed in either direction.
+     * 
+     * @param node the node to query.
+     * @return {@code true} if the node is closed.
+     */
+    public boolean isClosed(final int node);
+
+    /**
+     * Closes {@code node} in the forward search.
+     * 
+     * @param node the node to close.
+     */
+    public void closeA(final int node);
+
+    /**
+     * Closes {@code node} in the backward search.
+     * 
+     * @param node the node to close.
+     */
+    public void closeB(final int node);
+
+    /**
+     * Reconstructs the path from the source node to the target node through 
+     * the node {@code touch} reached by both searches.
+     * 
+     * @param touch the meeting node of the two search trees.
+     * @return the path from the source node to the target node.
+     */
+    public List<Integer> tracebackPath(final int touch);
+}
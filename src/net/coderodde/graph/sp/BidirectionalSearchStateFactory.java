@@ -0,0 +1,21 @@
+package net.coderodde.graph.sp;
+
+import net.coderodde.graph.Digraph;
+
+/**
+ * This interface defines the API for factories providing bidirectional search
+ * algorithms with the search state of a single query.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public interface BidirectionalSearchStateFactory {
+
+    /**
+     * Returns an empty search state for a query over {@code digraph}.
+     * 
+     * @param digraph the graph being searched.
+     * @return an empty search state.
+     */
+    public BidirectionalSearchState newState(final Digraph digraph);
+}
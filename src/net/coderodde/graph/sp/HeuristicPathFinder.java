@@ -4,8 +4,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
 import net.coderodde.graph.Digraph;
+import net.coderodde.graph.util.ArcFlags;
 import net.coderodde.graph.util.HeuristicFunction;
+import net.coderodde.graph.util.ReachabilityIndex;
+import net.coderodde.util.MinimumPriorityQueueFactory;
+import net.coderodde.util.support.DaryHeap;
 
 /**
  * This abstract class defines the API shared by all the actual shortest path 
@@ -16,9 +22,70 @@ import net.coderodde.graph.util.HeuristicFunction;
  */
 public abstract class HeuristicPathFinder {
 
+    /**
+     * The arc flags used for pruning the search, or {@code null} if no arcs
+     * should be pruned.
+     */
+    protected ArcFlags arcFlags;
+
+    /**
+     * The index rejecting the unreachable queries, or {@code null} if all 
+     * queries should be searched.
+     */
+    protected ReachabilityIndex reachabilityIndex;
+
+    /**
+     * The factory creating the open lists of the search.
+     */
+    protected MinimumPriorityQueueFactory<Integer> queueFactory = DaryHeap::new;
+
+    /**
+     * Sets the arc flags used for pruning the search. The flags must have been
+     * computed for the very graph being searched. Passing {@code null} 
+     * disables the pruning.
+     * 
+     * @param arcFlags the arc flags to use.
+     */
+    public void setArcFlags(final ArcFlags arcFlags) {
+        this.arcFlags = arcFlags;
+    }
+
+    /**
+     * Returns the arc flags used for pruning the search.
+     * 
+     * @return the arc flags or {@code null} if no pruning takes place.
+     */
+    public ArcFlags getArcFlags() {
+        return arcFlags;
+    }
+
+    /**
+     * Sets the index used for rejecting the queries whose target is not 
+     * reachable from the source. The index must have been built for the very
+     * graph being searched. Passing {@code null} disables the rejection.
+     * 
+     * @param reachabilityIndex the reachability index to use.
+     */
+    public void setReachabilityIndex(
+            final ReachabilityIndex reachabilityIndex) {
+        this.reachabilityIndex = reachabilityIndex;
+    }
+
+    /**
+     * Returns the index used for rejecting the unreachable queries.
+     * 
+     * @return the reachability index or {@code null} if no queries are 
+     *         rejected.
+     */
+    public ReachabilityIndex getReachabilityIndex() {
+        return reachabilityIndex;
+    }
+
     /**
      * Searches a shortest path in {@code digraph} from {@code source} to
-     * {@code target}.
+     * {@code target}. This adapter unboxes the node arguments and delegates to
+     * {@link #search(Digraph, HeuristicFunction, int, int)}. The finders 
+     * written against the former boxed API override this method instead.
      * 
      * @param digraph           the directed graph in which to search.
      * @param heuristicFunction the heuristic function used in search.
@@ -28,10 +95,162 @@ public abstract class HeuristicPathFinder {
      *         {@code target} in {@code digraph} or an empty list if the target
      *         node is not reachable from the source node.
      */
-    public abstract List<Integer> search(final Digraph digraph,
-                                         final HeuristicFunction heuristicFunction,
-                                         final Integer source, 
-                                         final Integer target);
+    public List<Integer> search(final Digraph digraph,
+                                final HeuristicFunction heuristicFunction,
+                                final Integer source, 
+                                final Integer target) {
+        Objects.requireNonNull(source, "The source node is null.");
+        Objects.requireNonNull(target, "The target node is null.");
+        return search(digraph, 
+                      heuristicFunction, 
+                      source.intValue(), 
+                      target.intValue());
+    }
+
+    /**
+     * Searches a shortest path in {@code digraph} from {@code source} to
+     * {@code target}. This method boxes the node arguments and delegates to
+     * {@link #search(Digraph, HeuristicFunction, Integer, Integer)}, so a 
+     * subclass must override at least one of the two; the finders of this 
+     * library override this one.
+     * 
+     * @param digraph           the directed graph in which to search.
+     * @param heuristicFunction the heuristic function used in search.
+     * @param source            the source node.
+     * @param target            the target node.
+     * @return a list of integers representing a path from {@code source} to
+     *         {@code target} in {@code digraph} or an empty list if the target
+     *         node is not reachable from the source node.
+     */
+    public List<Integer> search(final Digraph digraph,
+                                final HeuristicFunction heuristicFunction,
+                                final int source, 
+                                final int target) {
+        return search(digraph, 
+                      heuristicFunction, 
+                      Integer.valueOf(source), 
+                      Integer.valueOf(target));
+    }
+
+    /**
+     * Sets the factory creating the open lists of the search.
+     * 
+     * @param queueFactory the queue factory to use.
+     */
+    public void setQueueFactory(
+            final MinimumPriorityQueueFactory<Integer> queueFactory) {
+        this.queueFactory = Objects.requireNonNull(queueFactory, 
+                                                   "The queue factory is null.");
+    }
+
+    /**
+     * Returns the factory creating the open lists of the search.
+     * 
+     * @return the queue factory.
+     */
+    public MinimumPriorityQueueFactory<Integer> getQueueFactory() {
+        return queueFactory;
+    }
+
+    /**
+     * Returns the region of {@code node} in the current arc flags, or 
+     * {@code -1} if there are no arc flags.
+     * 
+     * @param node the node whose region to return.
+     * @return the region of the node.
+     */
+    protected int getRegion(final int node) {
+        return arcFlags == null ? -1 : arcFlags.getRegion(node);
+    }
+
+    /**
+     * Returns {@code true} if a forward search towards the region 
+     * {@code targetRegion} must not relax the arc {@code (tail, head)}.
+     * 
+     * @param tail         the tail node of the arc.
+     * @param head         the head node of the arc.
+     * @param targetRegion the region of the target node.
+     * @return {@code true} if the arc is pruned.
+     */
+    protected boolean isPrunedForward(final int tail,
+                                      final int head,
+                                      final int targetRegion) {
+        return targetRegion >= 0 
+                && !arcFlags.isForwardFlagged(tail, head, targetRegion);
+    }
+
+    /**
+     * Returns {@code true} if a backward search towards the region 
+     * {@code sourceRegion} must not relax the arc {@code (tail, head)}.
+     * 
+     * @param tail         the tail node of the arc.
+     * @param head         the head node of the arc.
+     * @param sourceRegion the region of the source node.
+     * @return {@code true} if the arc is pruned.
+     */
+    protected boolean isPrunedBackward(final int tail,
+                                       final int head,
+                                       final int sourceRegion) {
+        return sourceRegion >= 0 
+                && !arcFlags.isBackwardFlagged(tail, head, sourceRegion);
+    }
+
+    /**
+     * Returns the directions of the arcs this finder traverses, as a 
+     * combination of {@link Digraph#FORWARD} and {@link Digraph#BACKWARD}. 
+     * The searches reject the graphs not storing them.
+     * 
+     * @return the required directions.
+     */
+    public int getRequiredDirections() {
+        return Digraph.BOTH;
+    }
+
+    /**
+     * Fails fast if {@code digraph} does not store all the directions this 
+     * finder traverses.
+     * 
+     * @param digraph the graph about to be searched.
+     * @throws IllegalArgumentException if a required direction is missing.
+     */
+    protected void checkDirections(final Digraph digraph) {
+        final int missing = getRequiredDirections() & ~digraph.getDirections();
+
+        if (missing != 0) {
+            throw new IllegalArgumentException(
+                    getClass().getSimpleName() + " needs the " +
+                    (missing == Digraph.FORWARD ? "forward" :
+                     missing == Digraph.BACKWARD ? "backward" :
+                     "forward and backward") + 
+                    " arcs, which the graph does not store.");
+        }
+    }
+
+    /**
+     * Returns {@code true} if the reachability index shows that there is no
+     * path from {@code source} to {@code target}.
+     * 
+     * @param source the source node.
+     * @param target the target node.
+     * @return {@code true} if the query may be answered with an empty path.
+     */
+    protected boolean isUnreachable(final int source, final int target) {
+        return reachabilityIndex != null 
+                && !reachabilityIndex.mayReach(source, target);
+    }
+
+    /**
+     * Aborts the search if the running thread is interrupted. The search loops
+     * call this once per expanded node, which lets asynchronous callers cancel
+     * a running query. The interrupted status of the thread is left set.
+     * 
+     * @throws CancellationException if the running thread is interrupted.
+     */
+    protected static void checkInterrupted() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("The search was interrupted.");
+        }
+    }
 
     protected List<Integer> 
         tracebackPath(final Integer target,
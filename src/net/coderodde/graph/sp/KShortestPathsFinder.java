@@ -0,0 +1,280 @@
+package net.coderodde.graph.sp;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.MaskedDigraph;
+import net.coderodde.graph.util.HeuristicFunction;
+
+/**
+ * This class implements
+ * <a href="https://en.wikipedia.org/wiki/Yen%27s_algorithm">Yen's algorithm</a>
+ * for finding the {@code k} shortest loopless paths between two nodes. It
+ * delegates the shortest path searches to a {@link HeuristicPathFinder}. Each
+ * spur search runs on a {@link MaskedDigraph} hiding the nodes of the root
+ * path and the edges leaving the spur node along the already found paths, so
+ * that the graph itself is never modified. The sequential finder reuses a
+ * single masked view for all the spur searches, and a path finder configured
+ * with a pooling state factory (such as
+ * {@link net.coderodde.graph.sp.support.ArrayBidirectionalSearchState#factory()})
+ * reuses its search state as well.
+ * <p>
+ * Given a fork-join pool, the spur searches deviating from the same path run
+ * in parallel; the path finder must then support concurrent searches, which
+ * all the finders in this library do. Since masking edges invalidates arc
+ * flags, the path finder must not use them.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class KShortestPathsFinder {
+
+    private final HeuristicPathFinder finder;
+
+    /**
+     * The pool running the spur searches, or {@code null} if they run in the
+     * calling thread.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a finder running all the searches in the calling thread.
+     *
+     * @param finder the path finder for the spur searches.
+     */
+    public KShortestPathsFinder(final HeuristicPathFinder finder) {
+        this.finder = Objects.requireNonNull(finder,
+                                             "The input finder is null.");
+        this.pool = null;
+    }
+
+    /**
+     * Constructs a finder running the spur searches in parallel on
+     * {@code pool}.
+     *
+     * @param finder the path finder for the spur searches.
+     * @param pool   the pool running the spur searches.
+     */
+    public KShortestPathsFinder(final HeuristicPathFinder finder,
+                                final ForkJoinPool pool) {
+        this.finder = Objects.requireNonNull(finder,
+                                             "The input finder is null.");
+        this.pool = Objects.requireNonNull(pool, "The input pool is null.");
+    }
+
+    /**
+     * Searches at most {@code k} shortest loopless paths in {@code digraph}
+     * from {@code source} to {@code target}.
+     *
+     * @param digraph           the directed graph in which to search.
+     * @param heuristicFunction the heuristic function used in search.
+     * @param source            the source node.
+     * @param target            the target node.
+     * @param k                 the maximum number of paths to return.
+     * @return the list of paths in non-decreasing order of their lengths, or
+     *         an empty list if the target node is not reachable from the
+     *         source node.
+     */
+    public List<List<Integer>> search(final Digraph digraph,
+                                      final HeuristicFunction heuristicFunction,
+                                      final Integer source,
+                                      final Integer target,
+                                      final int k) {
+        Objects.requireNonNull(digraph, "The input digraph is null.");
+        Objects.requireNonNull(heuristicFunction,
+                               "The input heuristic function is null.");
+        Objects.requireNonNull(source, "The source node is null.");
+        Objects.requireNonNull(target, "The target node is null.");
+
+        if (k < 1) {
+            throw new IllegalArgumentException(
+                    "The number of paths must be positive, received " + k +
+                    ".");
+        }
+
+        if (finder.getArcFlags() != null) {
+            throw new IllegalStateException(
+                    "The arc flags are not valid for the masked graphs.");
+        }
+
+        final List<List<Integer>> paths = new ArrayList<>(k);
+        final List<Integer> shortestPath =
+                finder.search(digraph, heuristicFunction, source, target);
+
+        if (shortestPath.isEmpty()) {
+            return paths;
+        }
+
+        final PriorityQueue<Candidate> candidates = new PriorityQueue<>();
+        final Set<List<Integer>> seen = new HashSet<>();
+        final MaskedDigraph maskedDigraph = new MaskedDigraph(digraph);
+
+        paths.add(shortestPath);
+        seen.add(shortestPath);
+
+        while (paths.size() < k) {
+            final List<Integer> previousPath = paths.get(paths.size() - 1);
+            final List<SpurSearch> spurSearches =
+                    new ArrayList<>(previousPath.size() - 1);
+
+            for (int i = 0; i < previousPath.size() - 1; ++i) {
+                spurSearches.add(new SpurSearch(digraph,
+                                                heuristicFunction,
+                                                paths,
+                                                previousPath,
+                                                i,
+                                                target));
+            }
+
+            if (pool == null) {
+                for (final SpurSearch spurSearch : spurSearches) {
+                    spurSearch.run(maskedDigraph);
+                }
+            } else {
+                final List<ForkJoinTask<?>> tasks =
+                        new ArrayList<>(spurSearches.size());
+
+                for (final SpurSearch spurSearch : spurSearches) {
+                    tasks.add(pool.submit(() -> {
+                        spurSearch.run(new MaskedDigraph(digraph));
+                    }));
+                }
+
+                for (final ForkJoinTask<?> task : tasks) {
+                    task.join();
+                }
+            }
+
+            // Collect in the order of the spur nodes so that the result does
+            // not depend on the scheduling of the parallel searches.
+            for (final SpurSearch spurSearch : spurSearches) {
+                if (spurSearch.path != null && seen.add(spurSearch.path)) {
+                    candidates.add(new Candidate(spurSearch.path,
+                                                 spurSearch.length));
+                }
+            }
+
+            if (candidates.isEmpty()) {
+                break;
+            }
+
+            paths.add(candidates.remove().path);
+        }
+
+        return paths;
+    }
+
+    /**
+     * Returns the length of {@code path} in {@code digraph}.
+     *
+     * @param digraph the graph.
+     * @param path    the path.
+     * @return the sum of the weights of the edges along the path.
+     */
+    private static double getLength(final Digraph digraph,
+                                    final List<Integer> path) {
+        double length = 0.0;
+
+        for (int i = 0; i < path.size() - 1; ++i) {
+            length += digraph.getEdgeWeight(path.get(i), path.get(i + 1));
+        }
+
+        return length;
+    }
+
+    /**
+     * The search for the shortest path deviating from a previous path at a
+     * given spur node.
+     */
+    private final class SpurSearch {
+
+        private final Digraph digraph;
+        private final HeuristicFunction heuristicFunction;
+        private final List<List<Integer>> paths;
+        private final List<Integer> previousPath;
+        private final int spurIndex;
+        private final Integer target;
+
+        /**
+         * The found path, or {@code null} if there is none.
+         */
+        List<Integer> path;
+
+        double length;
+
+        SpurSearch(final Digraph digraph,
+                   final HeuristicFunction heuristicFunction,
+                   final List<List<Integer>> paths,
+                   final List<Integer> previousPath,
+                   final int spurIndex,
+                   final Integer target) {
+            this.digraph = digraph;
+            this.heuristicFunction = heuristicFunction;
+            this.paths = paths;
+            this.previousPath = previousPath;
+            this.spurIndex = spurIndex;
+            this.target = target;
+        }
+
+        void run(final MaskedDigraph maskedDigraph) {
+            final List<Integer> rootPath =
+                    previousPath.subList(0, spurIndex + 1);
+            final Integer spurNode = previousPath.get(spurIndex);
+
+            maskedDigraph.unmaskAll();
+
+            // Hide the next edge of every found path sharing the root path.
+            for (final List<Integer> path : paths) {
+                if (path.size() > spurIndex + 1
+                        && path.subList(0, spurIndex + 1).equals(rootPath)) {
+                    maskedDigraph.maskEdge(spurNode, path.get(spurIndex + 1));
+                }
+            }
+
+            // Hide the root path except the spur node to keep paths loopless.
+            for (int i = 0; i < spurIndex; ++i) {
+                maskedDigraph.maskNode(rootPath.get(i));
+            }
+
+            final List<Integer> spurPath = finder.search(maskedDigraph,
+                                                         heuristicFunction,
+                                                         spurNode,
+                                                         target);
+            if (spurPath.isEmpty()) {
+                return;
+            }
+
+            final List<Integer> totalPath =
+                    new ArrayList<>(spurIndex + spurPath.size());
+
+            totalPath.addAll(rootPath.subList(0, spurIndex));
+            totalPath.addAll(spurPath);
+            path = totalPath;
+            length = getLength(digraph, totalPath);
+        }
+    }
+
+    private static final class Candidate implements Comparable<Candidate> {
+
+        final List<Integer> path;
+        final double length;
+
+        Candidate(final List<Integer> path, final double length) {
+            this.path = path;
+            this.length = length;
+        }
+
+        @Override
+        public int compareTo(final Candidate other) {
+            final int cmp = Double.compare(length, other.length);
+            return cmp != 0 ? cmp : Integer.compare(path.size(),
+                                                    other.path.size());
+        }
+    }
+}
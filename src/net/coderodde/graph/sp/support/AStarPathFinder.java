@@ -1,17 +1,13 @@
 package net.coderodde.graph.sp.support;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import net.coderodde.graph.ArcCursor;
 import net.coderodde.graph.Digraph;
 import net.coderodde.graph.sp.HeuristicPathFinder;
 import net.coderodde.graph.util.HeuristicFunction;
 import net.coderodde.util.MinimumPriorityQueue;
-import net.coderodde.util.support.DaryHeap;
 
 /**
  * This class implements 
@@ -23,64 +19,259 @@ import net.coderodde.util.support.DaryHeap;
  */
 public class AStarPathFinder extends HeuristicPathFinder {
 
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int getRequiredDirections() {
+        return Digraph.FORWARD;
+    }
+
     /**
      * {@inheritDoc }
      */
     @Override
     public List<Integer> search(final Digraph digraph, 
                                 final HeuristicFunction heuristicFunction, 
-                                final Integer source,
-                                final Integer target) {
+                                final int source,
+                                final int target) {
         Objects.requireNonNull(digraph, "The input digraph is null.");
         Objects.requireNonNull(heuristicFunction, 
                                "The input heuristic function is null.");
-        Objects.requireNonNull(source, "The source node is null.");
-        Objects.requireNonNull(target, "The target node is null.");
+        checkDirections(digraph);
+
+        if (isUnreachable(source, target)) {
+            return new ArrayList<>();
+        }
 
-        final MinimumPriorityQueue<Integer> OPEN = new DaryHeap<>();
-        final Set<Integer> CLOSED = new HashSet<>();
-        final Map<Integer, Integer> PARENTS = new HashMap<>();
-        final Map<Integer, Double> DISTANCE = new HashMap<>();
+        final MinimumPriorityQueue<Integer> OPEN = queueFactory.newQueue();
+        final NodeTable TABLE = new NodeTable();
+        final int targetRegion = getRegion(target);
+        final ExpansionBatch batch = new ExpansionBatch();
 
         OPEN.add(source, heuristicFunction.estimate(source, target));
-        PARENTS.put(source, null);
-        DISTANCE.put(source, 0.0);
+        TABLE.add(source, 0.0, source);
 
         while (!OPEN.isEmpty()) {
-            final Integer current = OPEN.extractMinimum();
+            checkInterrupted();
+
+            final int current = OPEN.extractMinimum();
 
-            if (current.equals(target)) {
-                return tracebackPath(target, PARENTS);
+            if (current == target) {
+                return TABLE.tracebackPath(target);
             }
 
-            CLOSED.add(current);
+            expand(digraph, 
+                   heuristicFunction, 
+                   OPEN, 
+                   TABLE, 
+                   batch, 
+                   current, 
+                   target, 
+                   targetRegion);
+        }
 
-            for (final Integer child : digraph.getChildrenOf(current)) {
-                if (CLOSED.contains(child)) {
-                    continue;
-                }
+        return new ArrayList<>();
+    }   
+
+    /**
+     * Starts a session of queries from {@code source}. The session keeps the
+     * search tree between the queries. It uses the queue factory of this
+     * finder, but not the arc flags, since the pruning depends on the target.
+     * 
+     * @param digraph           the directed graph in which to search.
+     * @param heuristicFunction the heuristic function used in search.
+     * @param source            the source node of all the queries.
+     * @return a new session.
+     */
+    public Session newSession(final Digraph digraph,
+                              final HeuristicFunction heuristicFunction,
+                              final int source) {
+        Objects.requireNonNull(digraph, "The input digraph is null.");
+        Objects.requireNonNull(heuristicFunction, 
+                               "The input heuristic function is null.");
+        checkDirections(digraph);
+        return new Session(digraph, heuristicFunction, source);
+    }
+
+    /**
+     * Closes {@code current} and relaxes the arcs leaving it.
+     */
+    private void expand(final Digraph digraph,
+                        final HeuristicFunction heuristicFunction,
+                        final MinimumPriorityQueue<Integer> OPEN,
+                        final NodeTable TABLE,
+                        final ExpansionBatch batch,
+                        final int current,
+                        final int target,
+                        final int targetRegion) {
+        final int currentSlot = TABLE.find(current);
+        final double currentDistance = TABLE.getDistance(currentSlot);
+
+        TABLE.close(currentSlot);
+        batch.clear();
+
+        for (final ArcCursor arc = digraph.getChildArcsOf(current); 
+                arc.next();) {
+            final Integer child = arc.getNode();
+            final int childSlot = TABLE.find(child);
+
+            if ((childSlot >= 0 && TABLE.isClosed(childSlot))
+                    || isPrunedForward(current, child, targetRegion)) {
+                continue;
+            }
+
+            final double tentativeCost = currentDistance + arc.getWeight();
+
+            if (childSlot < 0) {
+                TABLE.add(child, tentativeCost, current);
+                batch.add(child, tentativeCost, true);
+            } else if (TABLE.getDistance(childSlot) > tentativeCost) {
+                TABLE.update(childSlot, tentativeCost, current);
+                batch.add(child, tentativeCost, false);
+            }
+        }
+
+        heuristicFunction.estimateAll(batch.nodes, 
+                                      batch.size, 
+                                      target, 
+                                      batch.estimates);
+        batch.push(OPEN);
+    }
+
+    /**
+     * This class implements a sequence of A* queries sharing a source node.
+     * The session keeps the search tree between the queries: a target
+     * already settled is answered by tracing back its path, and any other
+     * target resumes the search after re-keying the open list with the
+     * estimates towards the new target. With a consistent heuristic, the 
+     * settled nodes keep their shortest distances whatever the target, so 
+     * the search work amortizes over the queries. When the modification 
+     * count of the graph changes, the session drops the search tree and 
+     * starts over from the source node. A session must be used by one thread 
+     * at a time.
+     */
+    public final class Session {
+
+        private final Digraph digraph;
+        private final HeuristicFunction heuristicFunction;
+        private final int source;
+        private final MinimumPriorityQueue<Integer> OPEN = 
+                queueFactory.newQueue();
+        private final ExpansionBatch batch = new ExpansionBatch();
+        private NodeTable TABLE;
+
+        /**
+         * The target whose estimates key the open list.
+         */
+        private int target;
+
+        private boolean keyed;
+
+        /**
+         * The modification count of the graph the search tree is valid for.
+         */
+        private long modificationCount;
+
+        private Session(final Digraph digraph,
+                        final HeuristicFunction heuristicFunction,
+                        final int source) {
+            this.digraph = digraph;
+            this.heuristicFunction = heuristicFunction;
+            this.source = source;
+            restart();
+        }
 
-                final double tentativeCost = 
-                        DISTANCE.get(current) +
-                        digraph.getEdgeWeight(current, child);
-
-                if (!DISTANCE.containsKey(child)) {
-                    DISTANCE.put(child, tentativeCost);
-                    PARENTS.put(child, current);
-                    OPEN.add(child, 
-                             tentativeCost +
-                             heuristicFunction.estimate(child, target));
-                } else if (DISTANCE.get(child) > tentativeCost) {
-                    DISTANCE.put(child, tentativeCost);
-                    PARENTS.put(child, current);
-                    OPEN.decreasePriority(child,
-                                          tentativeCost + 
-                                          heuristicFunction.estimate(child, 
-                                                                     target));
+        public int getSource() {
+            return source;
+        }
+
+        /**
+         * Searches a shortest path from the source node of this session to 
+         * {@code target}.
+         * 
+         * @param target the target node.
+         * @return a list of integers representing a path from the source 
+         *         node to {@code target} or an empty list if the target node 
+         *         is not reachable from the source node.
+         */
+        public List<Integer> search(final int target) {
+            if (modificationCount != digraph.getModificationCount()) {
+                restart();
+            }
+
+            if (isUnreachable(source, target)) {
+                return new ArrayList<>();
+            }
+
+            final int targetSlot = TABLE.find(target);
+
+            if (targetSlot >= 0 && TABLE.isClosed(targetSlot)) {
+                return TABLE.tracebackPath(target);
+            }
+
+            if (!keyed || this.target != target) {
+                rekey(target);
+            }
+
+            while (!OPEN.isEmpty()) {
+                checkInterrupted();
+
+                // The target stays open, so that the open list remains 
+                // complete for the next queries.
+                if (OPEN.min() == target) {
+                    return TABLE.tracebackPath(target);
                 }
+
+                expand(digraph,
+                       heuristicFunction,
+                       OPEN,
+                       TABLE,
+                       batch,
+                       OPEN.extractMinimum(),
+                       target,
+                       -1);
             }
+
+            return new ArrayList<>();
         }
 
-        return new ArrayList<>();
-    }   
+        /**
+         * Drops the search tree and starts over from the source node.
+         */
+        private void restart() {
+            OPEN.clear();
+            TABLE = new NodeTable();
+            OPEN.add(source, 0.0);
+            TABLE.add(source, 0.0, source);
+            keyed = false;
+            modificationCount = digraph.getModificationCount();
+        }
+
+        /**
+         * Rebuilds the open list with the priorities towards {@code target}.
+         * 
+         * @param target the new target node.
+         */
+        private void rekey(final int target) {
+            batch.clear();
+
+            for (int slot = 0; slot < TABLE.getCapacity(); ++slot) {
+                if (TABLE.isOpen(slot)) {
+                    batch.add(TABLE.getNode(slot), 
+                              TABLE.getDistance(slot), 
+                              true);
+                }
+            }
+
+            heuristicFunction.estimateAll(batch.nodes, 
+                                          batch.size, 
+                                          target, 
+                                          batch.estimates);
+            OPEN.clear();
+            batch.push(OPEN);
+            this.target = target;
+            keyed = true;
+        }
+    }
 }
@@ -0,0 +1,433 @@
+package net.coderodde.graph.sp.support;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.sp.HeuristicPathFinder;
+import net.coderodde.graph.util.ArcFlags;
+import net.coderodde.graph.util.HeuristicFunction;
+import net.coderodde.graph.util.ReachabilityIndex;
+import net.coderodde.util.MinimumPriorityQueueFactory;
+
+/**
+ * This class implements a facade dispatching each query to the candidate path
+ * finder expected to answer it the fastest. The finders win on different
+ * queries: A* on the short ones, the bidirectional searches on the long ones,
+ * depending on how tight the heuristic is. The facade learns which, online.
+ * <p>
+ * Each query is classified by cheap features: the order of magnitude of the
+ * heuristic estimate from the source to the target, of the degrees of the
+ * source and the target, and of the size of the graph. Per class, the facade
+ * keeps an exponentially weighted average of the recent latencies of each
+ * finder and runs an epsilon-greedy bandit over them: it tries each finder
+ * once, then picks the finder with the lowest average, except for a small
+ * fraction of the queries sent to a random finder so that the averages keep
+ * up with the workload. A finder throwing an exception is charged a penalty
+ * latency. The finders not supporting the directions stored by the graph are
+ * never picked.
+ * <p>
+ * The candidates must be safe for concurrent searches if the facade is. The
+ * setters of the arc flags, the queue factory and the reachability index set
+ * them on the facade and on every candidate; the facade itself uses only the
+ * reachability index, to answer the unreachable queries without dispatching
+ * them.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class AdaptivePathFinder extends HeuristicPathFinder {
+
+    /**
+     * The default fraction of the queries dispatched to a random finder.
+     */
+    public static final double DEFAULT_EXPLORATION_RATE = 0.02;
+
+    /**
+     * The weight of the latest latency in the averages.
+     */
+    private static final double LATENCY_WEIGHT = 0.2;
+
+    /**
+     * The factor of the highest latency in a class charged to a failed
+     * search.
+     */
+    private static final double FAILURE_PENALTY_FACTOR = 10.0;
+
+    private static final int MAX_DEGREE_CLASS = 7;
+
+    private static final int MIN_DISTANCE_CLASS = -32;
+
+    private static final int MAX_DISTANCE_CLASS = 31;
+
+    private final HeuristicPathFinder[] finders;
+    private final double explorationRate;
+    private final Random random;
+
+    /**
+     * The source of the time in nanoseconds the latencies are measured with.
+     */
+    private final LongSupplier clock;
+
+    /**
+     * Maps the feature classes to their statistics. Guarded by itself.
+     */
+    private final Map<Long, QueryClass> queryClasses = new HashMap<>();
+
+    private final AtomicLongArray dispatchCounts;
+
+    /**
+     * Constructs a facade over A*, BHPA, NBA* and parallel NBA*.
+     */
+    public AdaptivePathFinder() {
+        this(new AStarPathFinder(),
+             new BHPAPathFinder(),
+             new NewBidirectionalAStarPathFinder(),
+             new ParallelNewBidirectionalAStarPathFinder());
+    }
+
+    /**
+     * Constructs a facade over {@code finders} exploring at the default rate.
+     *
+     * @param finders the candidate finders.
+     */
+    public AdaptivePathFinder(final HeuristicPathFinder... finders) {
+        this(DEFAULT_EXPLORATION_RATE, new Random(), finders);
+    }
+
+    /**
+     * Constructs a facade over {@code finders}.
+     *
+     * @param explorationRate the fraction of the queries dispatched to a
+     *                        random finder.
+     * @param random          the random number generator for exploring.
+     * @param finders         the candidate finders.
+     */
+    public AdaptivePathFinder(final double explorationRate,
+                              final Random random,
+                              final HeuristicPathFinder... finders) {
+        this(explorationRate, random, System::nanoTime, finders);
+    }
+
+    /**
+     * Constructs a facade over {@code finders} measuring the latencies with
+     * {@code clock}.
+     *
+     * @param explorationRate the fraction of the queries dispatched to a
+     *                        random finder.
+     * @param random          the random number generator for exploring.
+     * @param clock           the source of the time in nanoseconds.
+     * @param finders         the candidate finders.
+     */
+    public AdaptivePathFinder(final double explorationRate,
+                              final Random random,
+                              final LongSupplier clock,
+                              final HeuristicPathFinder... finders) {
+        Objects.requireNonNull(random, "The input random is null.");
+        Objects.requireNonNull(clock, "The input clock is null.");
+        Objects.requireNonNull(finders, "The input finders is null.");
+
+        if (finders.length == 0) {
+            throw new IllegalArgumentException("No finders given.");
+        }
+
+        if (!(explorationRate >= 0.0 && explorationRate <= 1.0)) {
+            throw new IllegalArgumentException(
+                    "The exploration rate must be within [0, 1], received " +
+                    explorationRate + ".");
+        }
+
+        for (final HeuristicPathFinder finder : finders) {
+            Objects.requireNonNull(finder, "A finder is null.");
+        }
+
+        this.finders = finders.clone();
+        this.explorationRate = explorationRate;
+        this.random = random;
+        this.clock = clock;
+        this.dispatchCounts = new AtomicLongArray(finders.length);
+    }
+
+    /**
+     * Returns the directions required by the least demanding candidate, which
+     * suffice for the facade to search.
+     *
+     * @return the required directions.
+     */
+    @Override
+    public int getRequiredDirections() {
+        int directions = Digraph.BOTH;
+
+        for (final HeuristicPathFinder finder : finders) {
+            final int required = finder.getRequiredDirections();
+
+            if (Integer.bitCount(required) < Integer.bitCount(directions)) {
+                directions = required;
+            }
+        }
+
+        return directions;
+    }
+
+    /**
+     * Sets the arc flags on the facade and on every candidate.
+     *
+     * @param arcFlags the arc flags to use.
+     */
+    @Override
+    public void setArcFlags(final ArcFlags arcFlags) {
+        super.setArcFlags(arcFlags);
+
+        for (final HeuristicPathFinder finder : finders) {
+            finder.setArcFlags(arcFlags);
+        }
+    }
+
+    /**
+     * Sets the reachability index on the facade and on every candidate.
+     *
+     * @param reachabilityIndex the reachability index to use.
+     */
+    @Override
+    public void setReachabilityIndex(
+            final ReachabilityIndex reachabilityIndex) {
+        super.setReachabilityIndex(reachabilityIndex);
+
+        for (final HeuristicPathFinder finder : finders) {
+            finder.setReachabilityIndex(reachabilityIndex);
+        }
+    }
+
+    /**
+     * Sets the queue factory on the facade and on every candidate.
+     *
+     * @param queueFactory the factory creating the open lists.
+     */
+    @Override
+    public void setQueueFactory(
+            final MinimumPriorityQueueFactory<Integer> queueFactory) {
+        super.setQueueFactory(queueFactory);
+
+        for (final HeuristicPathFinder finder : finders) {
+            finder.setQueueFactory(queueFactory);
+        }
+    }
+
+    /**
+     * Returns the number of queries dispatched to the {@code index}th
+     * candidate so far.
+     *
+     * @param index the index of the candidate.
+     * @return the number of dispatched queries.
+     */
+    public long getDispatchCount(final int index) {
+        return dispatchCounts.get(index);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public List<Integer> search(final Digraph digraph,
+                                final HeuristicFunction heuristicFunction,
+                                final int source,
+                                final int target) {
+        Objects.requireNonNull(digraph, "The input digraph is null.");
+        Objects.requireNonNull(heuristicFunction,
+                               "The input heuristic function is null.");
+        checkDirections(digraph);
+
+        if (isUnreachable(source, target)) {
+            return new ArrayList<>();
+        }
+
+        final QueryClass queryClass =
+                getQueryClass(classify(digraph,
+                                       heuristicFunction,
+                                       source,
+                                       target));
+        final int index = queryClass.choose(digraph.getDirections());
+        dispatchCounts.incrementAndGet(index);
+
+        final long startTime = clock.getAsLong();
+        boolean succeeded = false;
+
+        try {
+            final List<Integer> path = finders[index].search(digraph,
+                                                             heuristicFunction,
+                                                             source,
+                                                             target);
+            succeeded = true;
+            return path;
+        } finally {
+            final long latency = clock.getAsLong() - startTime;
+
+            if (succeeded) {
+                queryClass.record(index, latency);
+            } else {
+                queryClass.recordFailure(index, latency);
+            }
+        }
+    }
+
+    /**
+     * Packs the classes of the query features into a key.
+     */
+    private static long classify(final Digraph digraph,
+                                 final HeuristicFunction heuristicFunction,
+                                 final int source,
+                                 final int target) {
+        final int distanceClass =
+                Math.max(MIN_DISTANCE_CLASS,
+                         Math.min(MAX_DISTANCE_CLASS,
+                                  Math.getExponent(
+                                          heuristicFunction.estimate(source,
+                                                                     target))));
+        int degree = 0;
+
+        if (digraph.hasNode(source) && digraph.hasNode(target)) {
+            if ((digraph.getDirections() & Digraph.FORWARD) != 0) {
+                degree += digraph.getChildrenOf(source).size();
+            }
+
+            if ((digraph.getDirections() & Digraph.BACKWARD) != 0) {
+                degree += digraph.getParentsOf(target).size();
+            }
+        }
+
+        final int degreeClass =
+                Math.min(MAX_DEGREE_CLASS,
+                         Integer.SIZE - Integer.numberOfLeadingZeros(degree));
+        final int sizeClass =
+                Integer.SIZE - Integer.numberOfLeadingZeros(digraph.size());
+
+        return ((long)(distanceClass - MIN_DISTANCE_CLASS) << 16)
+                | (degreeClass << 8)
+                | sizeClass;
+    }
+
+    private QueryClass getQueryClass(final long key) {
+        synchronized (queryClasses) {
+            QueryClass queryClass = queryClasses.get(key);
+
+            if (queryClass == null) {
+                queryClass = new QueryClass();
+                queryClasses.put(key, queryClass);
+            }
+
+            return queryClass;
+        }
+    }
+
+    /**
+     * This class holds the latency statistics of the candidates over one
+     * class of queries.
+     */
+    private final class QueryClass {
+
+        /**
+         * The number of queries dispatched to each finder.
+         */
+        private final long[] dispatched = new long[finders.length];
+
+        /**
+         * The number of latencies recorded for each finder.
+         */
+        private final long[] samples = new long[finders.length];
+
+        /**
+         * The averages of the recent latencies in nanoseconds.
+         */
+        private final double[] latencies = new double[finders.length];
+
+        /**
+         * Returns the index of the finder to run on a graph storing
+         * {@code directions}, and counts the dispatch.
+         */
+        synchronized int choose(final int directions) {
+            final int index = pick(directions);
+            ++dispatched[index];
+            return index;
+        }
+
+        private int pick(final int directions) {
+            int best = -1;
+            int first = -1;
+            int compatible = 0;
+
+            for (int i = 0; i < finders.length; ++i) {
+                if ((finders[i].getRequiredDirections() & ~directions) != 0) {
+                    continue;
+                }
+
+                // Try each finder once, even while the first queries run.
+                if (dispatched[i] == 0) {
+                    return i;
+                }
+
+                ++compatible;
+
+                if (first < 0) {
+                    first = i;
+                }
+
+                // A finder whose first query still runs has no latency yet.
+                if (samples[i] > 0
+                        && (best < 0 || latencies[i] < latencies[best])) {
+                    best = i;
+                }
+            }
+
+            if (first < 0) {
+                throw new IllegalArgumentException(
+                        "None of the finders can search the graph.");
+            }
+
+            if (best < 0) {
+                best = first;
+            }
+
+            if (compatible > 1 && random.nextDouble() < explorationRate) {
+                int skip = random.nextInt(compatible);
+
+                for (int i = 0; i < finders.length; ++i) {
+                    if ((finders[i].getRequiredDirections() & ~directions) == 0
+                            && skip-- == 0) {
+                        return i;
+                    }
+                }
+            }
+
+            return best;
+        }
+
+        synchronized void record(final int index, final double latency) {
+            latencies[index] = samples[index]++ == 0 ?
+                               latency :
+                               latencies[index] +
+                               LATENCY_WEIGHT * (latency - latencies[index]);
+        }
+
+        /**
+         * Charges the finder {@code index} a multiple of the highest latency
+         * of this class for a search that threw after {@code latency}
+         * nanoseconds.
+         */
+        synchronized void recordFailure(final int index, final long latency) {
+            double highest = latency;
+
+            for (int i = 0; i < finders.length; ++i) {
+                if (samples[i] > 0) {
+                    highest = Math.max(highest, latencies[i]);
+                }
+            }
+
+            record(index, FAILURE_PENALTY_FACTOR * Math.max(highest, 1.0));
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package net.coderodde.graph.sp.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.sp.BidirectionalSearchState;
+import net.coderodde.graph.sp.BidirectionalSearchStateFactory;
+
+/**
+ * This class implements the bidirectional search state on a single primitive
+ * array of per-node records. The nodes must be identified by the integers
+ * {@code 0, 1, ..., capacity - 1}, for example, by renumbering them via
+ * {@link net.coderodde.graph.util.NodeReordering}. Each record consists of
+ * four {@code long} words, 32 bytes:
+ * <ol>
+ *   <li>the forward distance,</li>
+ *   <li>the backward distance,</li>
+ *   <li>the forward parent (high half) and the backward parent (low half),</li>
+ *   <li>the reached and closed flags of both directions.</li>
+ * </ol>
+ * The JVM does not guarantee how the array is aligned to the cache lines, so
+ * a record typically lies within one 64-byte cache line but may span two.
+ * Checking whether the other search has met a node, and reading its distance,
+ * thus typically touches a single cache line. The state remembers the records
+ * it has touched, so that it may be cleared and reused for the next query in
+ * time proportional to the size of the previous search.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class ArrayBidirectionalSearchState
+implements BidirectionalSearchState {
+
+    private static final int RECORD_LENGTH = 4;
+
+    private static final int DISTANCE_A = 0;
+    private static final int DISTANCE_B = 1;
+    private static final int PARENTS = 2;
+    private static final int FLAGS = 3;
+
+    private static final long REACHED_A = 1L;
+    private static final long REACHED_B = 2L;
+    private static final long CLOSED_A = 4L;
+    private static final long CLOSED_B = 8L;
+
+    private static final int NO_PARENT = -1;
+
+    private final long[] records;
+
+    private final int capacity;
+
+    private int[] touched = new int[64];
+
+    private int touchedSize;
+
+    /**
+     * Constructs an empty state for the nodes {@code 0, 1, ..., capacity - 1}.
+     *
+     * @param capacity the number of nodes.
+     */
+    public ArrayBidirectionalSearchState(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException(
+                    "The capacity is negative: " + capacity + ".");
+        }
+
+        this.capacity = capacity;
+        this.records = new long[RECORD_LENGTH * capacity];
+    }
+
+    /**
+     * Returns a factory that keeps one state per thread, reusing it for all
+     * the queries the thread runs. The graphs searched must have the node
+     * identifiers {@code 0, 1, ..., digraph.size() - 1}.
+     *
+     * @return a state factory.
+     */
+    public static BidirectionalSearchStateFactory factory() {
+        final ThreadLocal<ArrayBidirectionalSearchState> states =
+                new ThreadLocal<>();
+
+        return (final Digraph digraph) -> {
+            ArrayBidirectionalSearchState state = states.get();
+
+            if (state == null || state.capacity < digraph.size()) {
+                state = new ArrayBidirectionalSearchState(digraph.size());
+                states.set(state);
+            } else {
+                state.clear();
+            }
+
+            return state;
+        };
+    }
+
+    /**
+     * Returns the number of nodes this state can hold.
+     *
+     * @return the capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Resets all the touched records.
+     */
+    public void clear() {
+        for (int i = 0; i < touchedSize; ++i) {
+            final int offset = RECORD_LENGTH * touched[i];
+            Arrays.fill(records, offset, offset + RECORD_LENGTH, 0L);
+        }
+
+        touchedSize = 0;
+    }
+
+    @Override
+    public void initializeA(final int source) {
+        updateA(source, 0.0, NO_PARENT);
+    }
+
+    @Override
+    public void initializeB(final int target) {
+        updateB(target, 0.0, NO_PARENT);
+    }
+
+    @Override
+    public boolean containsA(final int node) {
+        return (records[RECORD_LENGTH * node + FLAGS] & REACHED_A) != 0L;
+    }
+
+    @Override
+    public boolean containsB(final int node) {
+        return (records[RECORD_LENGTH * node + FLAGS] & REACHED_B) != 0L;
+    }
+
+    @Override
+    public double getDistanceA(final int node) {
+        return Double.longBitsToDouble(
+                records[RECORD_LENGTH * node + DISTANCE_A]);
+    }
+
+    @Override
+    public double getDistanceB(final int node) {
+        return Double.longBitsToDouble(
+                records[RECORD_LENGTH * node + DISTANCE_B]);
+    }
+
+    @Override
+    public void updateA(final int node,
+                        final double distance,
+                        final int parent) {
+        final int offset = touch(node);
+        records[offset + DISTANCE_A] = Double.doubleToRawLongBits(distance);
+        records[offset + PARENTS] =
+                ((long) parent << 32)
+                | (records[offset + PARENTS] & 0xffffffffL);
+        records[offset + FLAGS] |= REACHED_A;
+    }
+
+    @Override
+    public void updateB(final int node,
+                        final double distance,
+                        final int parent) {
+        final int offset = touch(node);
+        records[offset + DISTANCE_B] = Double.doubleToRawLongBits(distance);
+        records[offset + PARENTS] =
+                (records[offset + PARENTS] & 0xffffffff00000000L)
+                | (parent & 0xffffffffL);
+        records[offset + FLAGS] |= REACHED_B;
+    }
+
+    @Override
+    public boolean isClosedA(final int node) {
+        return (records[RECORD_LENGTH * node + FLAGS] & CLOSED_A) != 0L;
+    }
+
+    @Override
+    public boolean isClosedB(final int node) {
+        return (records[RECORD_LENGTH * node + FLAGS] & CLOSED_B) != 0L;
+    }
+
+    @Override
+    public boolean isClosed(final int node) {
+        return (records[RECORD_LENGTH * node + FLAGS]
+                & (CLOSED_A | CLOSED_B)) != 0L;
+    }
+
+    @Override
+    public void closeA(final int node) {
+        records[touch(node) + FLAGS] |= CLOSED_A;
+    }
+
+    @Override
+    public void closeB(final int node) {
+        records[touch(node) + FLAGS] |= CLOSED_B;
+    }
+
+    @Override
+    public List<Integer> tracebackPath(final int touch) {
+        final List<Integer> path = new ArrayList<>();
+        int current = touch;
+
+        while (current != NO_PARENT) {
+            path.add(current);
+            current = getParentA(current);
+        }
+
+        Collections.<Integer>reverse(path);
+        current = getParentB(touch);
+
+        while (current != NO_PARENT) {
+            path.add(current);
+            current = getParentB(current);
+        }
+
+        return path;
+    }
+
+    private int getParentA(final int node) {
+        return (int)(records[RECORD_LENGTH * node + PARENTS] >> 32);
+    }
+
+    private int getParentB(final int node) {
+        return (int) records[RECORD_LENGTH * node + PARENTS];
+    }
+
+    /**
+     * Returns the offset of the record of {@code node}, remembering the
+     * record as touched if it is written to for the first time.
+     *
+     * @param node the node whose record to touch.
+     * @return the offset of the record.
+     */
+    private int touch(final int node) {
+        if (node < 0 || node >= capacity) {
+            throw new IllegalArgumentException(
+                    "The node " + node + " is out of the range [0, " +
+                    capacity + ").");
+        }
+
+        final int offset = RECORD_LENGTH * node;
+
+        if (records[offset + FLAGS] == 0L) {
+            if (touchedSize == touched.length) {
+                touched = Arrays.copyOf(touched, 2 * touchedSize);
+            }
+
+            touched[touchedSize++] = node;
+        }
+
+        return offset;
+    }
+}
@@ -2,17 +2,15 @@ package net.coderodde.graph.sp.support;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import net.coderodde.graph.ArcCursor;
 import net.coderodde.graph.Digraph;
+import net.coderodde.graph.sp.BidirectionalSearchState;
+import net.coderodde.graph.sp.BidirectionalSearchStateFactory;
 import net.coderodde.graph.sp.HeuristicPathFinder;
 import net.coderodde.graph.util.HeuristicFunction;
 import net.coderodde.util.MinimumPriorityQueue;
-import net.coderodde.util.support.DaryHeap;
 
 /**
  * This class implements the BHPA algorithm discovered by Ira Pohl around 1971.
@@ -22,89 +20,110 @@ import net.coderodde.util.support.DaryHeap;
  */
 public class BHPAPathFinder extends HeuristicPathFinder {
 
+    /**
+     * The factory providing the search state of each query.
+     */
+    private BidirectionalSearchStateFactory stateFactory = 
+            (final Digraph digraph) -> new HashBidirectionalSearchState();
+
+    /**
+     * Sets the factory providing the search state of each query. Use 
+     * {@link ArrayBidirectionalSearchState#factory()} for graphs whose nodes 
+     * are identified by {@code 0, 1, ..., n - 1}.
+     * 
+     * @param stateFactory the state factory to use.
+     */
+    public void setStateFactory(
+            final BidirectionalSearchStateFactory stateFactory) {
+        this.stateFactory = Objects.requireNonNull(stateFactory, 
+                                                   "The state factory is null.");
+    }
+
     /**
      * {@inheritDoc }
      */
     @Override
     public List<Integer> search(final Digraph digraph, 
                                 final HeuristicFunction heuristicFunction, 
-                                final Integer source, 
-                                final Integer target) {
+                                final int source, 
+                                final int target) {
 
         Objects.requireNonNull(digraph, "The input digraph is null.");
         Objects.requireNonNull(heuristicFunction, 
                                "The input heuristic function is null.");
-        Objects.requireNonNull(source, "The source node is null.");
-        Objects.requireNonNull(target, "The target node is null.");
+        checkDirections(digraph);
 
-        if (source.equals(target)) {
+        if (source == target) {
             return new ArrayList<>(Arrays.asList(target));
         }
 
-        final MinimumPriorityQueue<Integer> OPENA = new DaryHeap<>();
-        final MinimumPriorityQueue<Integer> OPENB = new DaryHeap<>();
+        if (isUnreachable(source, target)) {
+            return new ArrayList<>();
+        }
 
-        final Set<Integer> CLOSEDA = new HashSet<>();
-        final Set<Integer> CLOSEDB = new HashSet<>();
+        final MinimumPriorityQueue<Integer> OPENA = queueFactory.newQueue();
+        final MinimumPriorityQueue<Integer> OPENB = queueFactory.newQueue();
 
-        final Map<Integer, Integer> PARENTSA = new HashMap<>();
-        final Map<Integer, Integer> PARENTSB = new HashMap<>();
+        final BidirectionalSearchState state = stateFactory.newState(digraph);
 
-        final Map<Integer, Double> DISTANCEA = new HashMap<>();
-        final Map<Integer, Double> DISTANCEB = new HashMap<>();
+        final int sourceRegion = getRegion(source);
+        final int targetRegion = getRegion(target);
+        final ExpansionBatch batch = new ExpansionBatch();
 
         OPENA.add(source, 0.0);
         OPENB.add(target, 0.0);
 
-        PARENTSA.put(source, null);
-        PARENTSB.put(target, null);
-
-        DISTANCEA.put(source, 0.0);
-        DISTANCEB.put(target, 0.0);
+        state.initializeA(source);
+        state.initializeB(target);
 
         Integer touchNode = null;
         double bestPathCost = Double.POSITIVE_INFINITY;
+        int closedA = 0;
+        int closedB = 0;
 
         while (!OPENA.isEmpty() && !OPENB.isEmpty()) {
+            checkInterrupted();
+
             if (touchNode != null) {
-                final Integer minA = OPENA.min();
-                final Integer minB = OPENB.min();
+                final int minA = OPENA.min();
+                final int minB = OPENB.min();
 
-                final double distanceA = DISTANCEA.get(minA) +
+                final double distanceA = state.getDistanceA(minA) +
                                          heuristicFunction.estimate(minA, 
                                                                     target);
 
-                final double distanceB = DISTANCEB.get(minB) +
-                                         heuristicFunction.estimate(minB,
-                                                                    source);
+                final double distanceB = state.getDistanceB(minB) +
+                                         heuristicFunction.estimate(source,
+                                                                    minB);
 
                 if (bestPathCost <= Math.max(distanceA, distanceB)) {
-                    return tracebackPath(touchNode, PARENTSA, PARENTSB);
+                    return state.tracebackPath(touchNode);
                 }
             }
 
-            if (OPENA.size() + CLOSEDA.size() < OPENB.size() + CLOSEDB.size()) {
-                final Integer current = OPENA.extractMinimum();
-                CLOSEDA.add(current);
-
-                for (final Integer child : digraph.getChildrenOf(current)) {
-                    if (CLOSEDA.contains(child)) {
+            if (OPENA.size() + closedA < OPENB.size() + closedB) {
+                final int current = OPENA.extractMinimum();
+                state.closeA(current);
+                ++closedA;
+                batch.clear();
+
+                for (final ArcCursor arc = digraph.getChildArcsOf(current); 
+                        arc.next();) {
+                    final Integer child = arc.getNode();
+                    if (state.isClosedA(child)
+                            || isPrunedForward(current, child, targetRegion)) {
                         continue;
                     }
 
-                    final double tentativeScore = DISTANCEA.get(current) +
-                                                  digraph.getEdgeWeight(current, 
-                                                                        child);
+                    final double tentativeScore = state.getDistanceA(current) +
+                                                  arc.getWeight();
 
-                    if (!DISTANCEA.containsKey(child)) {
-                        DISTANCEA.put(child, tentativeScore);
-                        PARENTSA.put(child, current);
-                        OPENA.add(child,
-                                  tentativeScore + 
-                                  heuristicFunction.estimate(child, target));
+                    if (!state.containsA(child)) {
+                        state.updateA(child, tentativeScore, current);
+                        batch.add(child, tentativeScore, true);
 
-                        if (CLOSEDB.contains(child)) {
-                            final double pathCost = DISTANCEB.get(child) + 
+                        if (state.isClosedB(child)) {
+                            final double pathCost = state.getDistanceB(child) + 
                                                     tentativeScore;
 
                             if (bestPathCost > pathCost) {
@@ -112,16 +131,12 @@ public class BHPAPathFinder extends HeuristicPathFinder {
                                 touchNode = child;
                             }
                         }
-                    } else if (DISTANCEA.get(child) > tentativeScore) {
-                        DISTANCEA.put(child, tentativeScore);
-                        PARENTSA.put(child, current);
-                        OPENA.decreasePriority(
-                                child,
-                                tentativeScore +
-                                heuristicFunction.estimate(child, target));
-
-                        if (CLOSEDB.contains(child)) {
-                            final double pathCost = DISTANCEB.get(child) + 
+                    } else if (state.getDistanceA(child) > tentativeScore) {
+                        state.updateA(child, tentativeScore, current);
+                        batch.add(child, tentativeScore, false);
+
+                        if (state.isClosedB(child)) {
+                            final double pathCost = state.getDistanceB(child) + 
                                                     tentativeScore;
 
                             if (bestPathCost > pathCost) {
@@ -131,28 +146,37 @@ public class BHPAPathFinder extends HeuristicPathFinder {
                         }
                     }
                 }
-            } else {   
-                final Integer current = OPENB.extractMinimum();
-                CLOSEDB.add(current);
 
-                for (final Integer parent : digraph.getParentsOf(current)) {
-                    if (CLOSEDB.contains(parent)) {
+                heuristicFunction.estimateAll(batch.nodes, 
+                                              batch.size, 
+                                              target, 
+                                              batch.estimates);
+                batch.push(OPENA);
+            } else {   
+                final int current = OPENB.extractMinimum();
+                state.closeB(current);
+                ++closedB;
+                batch.clear();
+
+                for (final ArcCursor arc = digraph.getParentArcsOf(current); 
+                        arc.next();) {
+                    final Integer parent = arc.getNode();
+                    if (state.isClosedB(parent)
+                            || isPrunedBackward(parent, 
+                                                current, 
+                                                sourceRegion)) {
                         continue;
                     }
 
                     final double tentativeScore = 
-                            DISTANCEB.get(current) +
-                            digraph.getEdgeWeight(parent, current);
-
-                    if (!DISTANCEB.containsKey(parent)) {
-                        DISTANCEB.put(parent, tentativeScore);
-                        PARENTSB.put(parent, current);
-                        OPENB.add(parent,
-                                  tentativeScore + 
-                                  heuristicFunction.estimate(parent, source));
-
-                        if (CLOSEDA.contains(parent)) {
-                            final double pathCost = DISTANCEA.get(parent) + 
+                            state.getDistanceB(current) + arc.getWeight();
+
+                    if (!state.containsB(parent)) {
+                        state.updateB(parent, tentativeScore, current);
+                        batch.add(parent, tentativeScore, true);
+
+                        if (state.isClosedA(parent)) {
+                            final double pathCost = state.getDistanceA(parent) + 
                                                     tentativeScore;
 
                             if (bestPathCost > pathCost) {
@@ -160,16 +184,12 @@ public class BHPAPathFinder extends HeuristicPathFinder {
                                 touchNode = parent;
                             }
                         }
-                    } else if (DISTANCEB.get(parent) > tentativeScore) {
-                        DISTANCEB.put(parent, tentativeScore);
-                        PARENTSB.put(parent, current);
-                        OPENB.decreasePriority(
-                                parent,
-                                tentativeScore +
-                                heuristicFunction.estimate(parent, source));
-
-                        if (CLOSEDA.contains(parent)) {
-                            final double pathCost = DISTANCEA.get(parent) + 
+                    } else if (state.getDistanceB(parent) > tentativeScore) {
+                        state.updateB(parent, tentativeScore, current);
+                        batch.add(parent, tentativeScore, false);
+
+                        if (state.isClosedA(parent)) {
+                            final double pathCost = state.getDistanceA(parent) + 
                                                     tentativeScore;
 
                             if (bestPathCost > pathCost) {
@@ -179,6 +199,12 @@ public class BHPAPathFinder extends HeuristicPathFinder {
                         }
                     }
                 }
+
+                heuristicFunction.estimateAllFrom(source,
+                                                  batch.nodes, 
+                                                  batch.size, 
+                                                  batch.estimates);
+                batch.push(OPENB);
             }
         }
 
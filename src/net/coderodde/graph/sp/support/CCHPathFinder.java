@@ -0,0 +1,215 @@
+package net.coderodde.graph.sp.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.sp.BidirectionalSearchState;
+import net.coderodde.graph.sp.BidirectionalSearchStateFactory;
+import net.coderodde.graph.sp.HeuristicPathFinder;
+import net.coderodde.graph.util.ContractionHierarchy;
+import net.coderodde.graph.util.HeuristicFunction;
+import net.coderodde.graph.util.HierarchyMetric;
+import net.coderodde.util.MinimumPriorityQueue;
+
+/**
+ * This class implements the queries of customizable contraction hierarchies:
+ * a bidirectional Dijkstra search in which both directions only climb to
+ * higher ranks, over the weights of the current {@link HierarchyMetric}. The
+ * shortcuts of the resulting path are unpacked into the arcs of the graph.
+ * The search keeps its distances and parents in a
+ * {@link BidirectionalSearchState} indexed by rank, as BHPA and NBA* do.
+ * <p>
+ * The heuristic function and the arc flags are ignored. The graph passed to
+ * {@link #search(Digraph, HeuristicFunction, int, int)} must be the one the
+ * metric was customized for. Replacing the metric via
+ * {@link #setMetric(HierarchyMetric)} affects the queries starting after the
+ * call.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class CCHPathFinder extends HeuristicPathFinder {
+
+    private volatile HierarchyMetric metric;
+
+    /**
+     * The factory providing the search state of each query.
+     */
+    private BidirectionalSearchStateFactory stateFactory =
+            ArrayBidirectionalSearchState.factory();
+
+    /**
+     * Constructs a finder searching over {@code metric}.
+     *
+     * @param metric the customized metric.
+     */
+    public CCHPathFinder(final HierarchyMetric metric) {
+        setMetric(metric);
+    }
+
+    /**
+     * Sets the metric to search over, typically a newer customization of the
+     * same hierarchy.
+     *
+     * @param metric the customized metric.
+     */
+    public void setMetric(final HierarchyMetric metric) {
+        this.metric = Objects.requireNonNull(metric,
+                                             "The input metric is null.");
+    }
+
+    public HierarchyMetric getMetric() {
+        return metric;
+    }
+
+    /**
+     * Sets the factory providing the search state of each query. The nodes
+     * of the state are the ranks {@code 0, 1, ..., n - 1}.
+     *
+     * @param stateFactory the state factory to use.
+     */
+    public void setStateFactory(
+            final BidirectionalSearchStateFactory stateFactory) {
+        this.stateFactory = Objects.requireNonNull(stateFactory,
+                                                   "The state factory is null.");
+    }
+
+    /**
+     * Returns zero: the queries traverse the hierarchy of the metric, not the
+     * arcs of the graph.
+     */
+    @Override
+    public int getRequiredDirections() {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public List<Integer> search(final Digraph digraph,
+                                final HeuristicFunction heuristicFunction,
+                                final int source,
+                                final int target) {
+        Objects.requireNonNull(digraph, "The input digraph is null.");
+
+        if (source == target) {
+            return new ArrayList<>(Arrays.asList(target));
+        }
+
+        if (isUnreachable(source, target)) {
+            return new ArrayList<>();
+        }
+
+        final HierarchyMetric metric = this.metric;
+        final ContractionHierarchy hierarchy = metric.getHierarchy();
+        final int sourceRank = hierarchy.getRank(source);
+        final int targetRank = hierarchy.getRank(target);
+
+        if (sourceRank < 0 || targetRank < 0) {
+            return new ArrayList<>();
+        }
+
+        final MinimumPriorityQueue<Integer> OPENA = queueFactory.newQueue();
+        final MinimumPriorityQueue<Integer> OPENB = queueFactory.newQueue();
+        final BidirectionalSearchState state = stateFactory.newState(digraph);
+
+        OPENA.add(sourceRank, 0.0);
+        OPENB.add(targetRank, 0.0);
+        state.initializeA(sourceRank);
+        state.initializeB(targetRank);
+
+        int touchRank = -1;
+        double bestPathCost = Double.POSITIVE_INFINITY;
+
+        while (true) {
+            checkInterrupted();
+
+            // A direction whose smallest distance reaches the best path cost
+            // cannot improve the path any more.
+            final double minA = OPENA.isEmpty() ?
+                                Double.POSITIVE_INFINITY :
+                                state.getDistanceA(OPENA.min());
+            final double minB = OPENB.isEmpty() ?
+                                Double.POSITIVE_INFINITY :
+                                state.getDistanceB(OPENB.min());
+
+            if (Math.min(minA, minB) >= bestPathCost) {
+                break;
+            }
+
+            final boolean forward = minA <= minB;
+            final int current = forward ?
+                                OPENA.extractMinimum() :
+                                OPENB.extractMinimum();
+
+            if (forward) {
+                state.closeA(current);
+            } else {
+                state.closeB(current);
+            }
+
+            if (state.containsA(current) && state.containsB(current)) {
+                final double pathCost = state.getDistanceA(current) +
+                                        state.getDistanceB(current);
+
+                if (bestPathCost > pathCost) {
+                    bestPathCost = pathCost;
+                    touchRank = current;
+                }
+            }
+
+            final double currentDistance = forward ?
+                                           state.getDistanceA(current) :
+                                           state.getDistanceB(current);
+
+            for (int arc = hierarchy.getFirstArc(current);
+                    arc < hierarchy.getFirstArc(current + 1);
+                    ++arc) {
+                final int head = hierarchy.getHead(arc);
+                final double tentativeScore =
+                        currentDistance +
+                        (forward ? metric.getUpwardWeight(arc) :
+                                   metric.getDownwardWeight(arc));
+
+                if (tentativeScore == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+
+                if (forward) {
+                    if (!state.containsA(head)) {
+                        state.updateA(head, tentativeScore, current);
+                        OPENA.add(head, tentativeScore);
+                    } else if (state.getDistanceA(head) > tentativeScore) {
+                        state.updateA(head, tentativeScore, current);
+                        OPENA.decreasePriority(head, tentativeScore);
+                    }
+                } else {
+                    if (!state.containsB(head)) {
+                        state.updateB(head, tentativeScore, current);
+                        OPENB.add(head, tentativeScore);
+                    } else if (state.getDistanceB(head) > tentativeScore) {
+                        state.updateB(head, tentativeScore, current);
+                        OPENB.decreasePriority(head, tentativeScore);
+                    }
+                }
+            }
+        }
+
+        if (touchRank < 0) {
+            return new ArrayList<>();
+        }
+
+        final List<Integer> ranks = state.tracebackPath(touchRank);
+        final List<Integer> path = new ArrayList<>();
+        path.add(source);
+
+        for (int i = 1; i < ranks.size(); ++i) {
+            metric.unpackArc(ranks.get(i - 1), ranks.get(i), path);
+        }
+
+        return path;
+    }
+}
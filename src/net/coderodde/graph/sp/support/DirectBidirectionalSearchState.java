@@ -0,0 +1,264 @@
+package net.coderodde.graph.sp.support;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import net.coderodde.graph.sp.BidirectionalSearchState;
+
+/**
+ * This class implements the bidirectional search state off the Java heap. The
+ * records have the same layout as in {@link ArrayBidirectionalSearchState},
+ * but live in direct byte buffers of {@link DirectSearchStatePool#PAGE_SIZE}
+ * records each. A page is taken from the pool when the search first writes to
+ * one of its records, so that a query over a huge graph holds only the pages
+ * it has touched, and reading a record of a missing page finds it unreached.
+ * Clearing the state returns the touched pages to the pool.
+ * <p>
+ * A state is obtained from {@link DirectSearchStatePool#newState} and must be
+ * used by one thread at a time. Once closed, it must not be written to.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class DirectBidirectionalSearchState
+implements BidirectionalSearchState, AutoCloseable {
+
+    private static final int RECORD_BYTES = 32;
+
+    private static final int DISTANCE_A = 0;
+    private static final int DISTANCE_B = 8;
+    private static final int PARENTS = 16;
+    private static final int FLAGS = 24;
+
+    private static final long REACHED_A = 1L;
+    private static final long REACHED_B = 2L;
+    private static final long CLOSED_A = 4L;
+    private static final long CLOSED_B = 8L;
+
+    private static final int NO_PARENT = -1;
+
+    private static final int PAGE_SHIFT =
+            Integer.numberOfTrailingZeros(DirectSearchStatePool.PAGE_SIZE);
+
+    private static final int PAGE_MASK = DirectSearchStatePool.PAGE_SIZE - 1;
+
+    private final DirectSearchStatePool pool;
+
+    private final int capacity;
+
+    private final ByteBuffer[] pages;
+
+    private int[] touchedPages = new int[16];
+
+    private int touchedPagesSize;
+
+    private boolean closed;
+
+    DirectBidirectionalSearchState(final DirectSearchStatePool pool,
+                                   final int capacity) {
+        this.pool = pool;
+        this.capacity = capacity;
+        this.pages = new ByteBuffer[(capacity + PAGE_MASK) >>> PAGE_SHIFT];
+    }
+
+    /**
+     * Returns the number of nodes this state can hold.
+     *
+     * @return the capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of pages this state currently holds.
+     *
+     * @return the number of touched pages.
+     */
+    public int getPageCount() {
+        return touchedPagesSize;
+    }
+
+    /**
+     * Returns all the touched pages to the pool.
+     */
+    public void clear() {
+        for (int i = 0; i < touchedPagesSize; ++i) {
+            pool.releasePage(pages[touchedPages[i]]);
+            pages[touchedPages[i]] = null;
+        }
+
+        touchedPagesSize = 0;
+    }
+
+    /**
+     * Returns all the touched pages to the pool and makes this state
+     * unusable.
+     */
+    @Override
+    public void close() {
+        clear();
+        closed = true;
+    }
+
+    @Override
+    public void initializeA(final int source) {
+        updateA(source, 0.0, NO_PARENT);
+    }
+
+    @Override
+    public void initializeB(final int target) {
+        updateB(target, 0.0, NO_PARENT);
+    }
+
+    @Override
+    public boolean containsA(final int node) {
+        return (getFlags(node) & REACHED_A) != 0L;
+    }
+
+    @Override
+    public boolean containsB(final int node) {
+        return (getFlags(node) & REACHED_B) != 0L;
+    }
+
+    @Override
+    public double getDistanceA(final int node) {
+        return pages[node >>> PAGE_SHIFT].getDouble(offset(node) + DISTANCE_A);
+    }
+
+    @Override
+    public double getDistanceB(final int node) {
+        return pages[node >>> PAGE_SHIFT].getDouble(offset(node) + DISTANCE_B);
+    }
+
+    @Override
+    public void updateA(final int node,
+                        final double distance,
+                        final int parent) {
+        final ByteBuffer page = touch(node);
+        final int offset = offset(node);
+        page.putDouble(offset + DISTANCE_A, distance);
+        page.putLong(offset + PARENTS,
+                     ((long) parent << 32)
+                     | (page.getLong(offset + PARENTS) & 0xffffffffL));
+        page.putLong(offset + FLAGS, page.getLong(offset + FLAGS) | REACHED_A);
+    }
+
+    @Override
+    public void updateB(final int node,
+                        final double distance,
+                        final int parent) {
+        final ByteBuffer page = touch(node);
+        final int offset = offset(node);
+        page.putDouble(offset + DISTANCE_B, distance);
+        page.putLong(offset + PARENTS,
+                     (page.getLong(offset + PARENTS) & 0xffffffff00000000L)
+                     | (parent & 0xffffffffL));
+        page.putLong(offset + FLAGS, page.getLong(offset + FLAGS) | REACHED_B);
+    }
+
+    @Override
+    public boolean isClosedA(final int node) {
+        return (getFlags(node) & CLOSED_A) != 0L;
+    }
+
+    @Override
+    public boolean isClosedB(final int node) {
+        return (getFlags(node) & CLOSED_B) != 0L;
+    }
+
+    @Override
+    public boolean isClosed(final int node) {
+        return (getFlags(node) & (CLOSED_A | CLOSED_B)) != 0L;
+    }
+
+    @Override
+    public void closeA(final int node) {
+        final ByteBuffer page = touch(node);
+        final int offset = offset(node) + FLAGS;
+        page.putLong(offset, page.getLong(offset) | CLOSED_A);
+    }
+
+    @Override
+    public void closeB(final int node) {
+        final ByteBuffer page = touch(node);
+        final int offset = offset(node) + FLAGS;
+        page.putLong(offset, page.getLong(offset) | CLOSED_B);
+    }
+
+    @Override
+    public List<Integer> tracebackPath(final int touch) {
+        final List<Integer> path = new ArrayList<>();
+        int current = touch;
+
+        while (current != NO_PARENT) {
+            path.add(current);
+            current = (int)(getParents(current) >> 32);
+        }
+
+        Collections.<Integer>reverse(path);
+        current = (int) getParents(touch);
+
+        while (current != NO_PARENT) {
+            path.add(current);
+            current = (int) getParents(current);
+        }
+
+        return path;
+    }
+
+    private long getParents(final int node) {
+        return pages[node >>> PAGE_SHIFT].getLong(offset(node) + PARENTS);
+    }
+
+    private long getFlags(final int node) {
+        if (node < 0 || node >= capacity) {
+            return 0L;
+        }
+
+        final ByteBuffer page = pages[node >>> PAGE_SHIFT];
+        return page == null ? 0L : page.getLong(offset(node) + FLAGS);
+    }
+
+    private static int offset(final int node) {
+        return (node & PAGE_MASK) * RECORD_BYTES;
+    }
+
+    /**
+     * Returns the page holding the record of {@code node}, taking it from the
+     * pool if the record is written to for the first time.
+     *
+     * @param node the node whose record to touch.
+     * @return the page of the record.
+     */
+    private ByteBuffer touch(final int node) {
+        if (node < 0 || node >= capacity) {
+            throw new IllegalArgumentException(
+                    "The node " + node + " is out of the range [0, " +
+                    capacity + ").");
+        }
+
+        final int index = node >>> PAGE_SHIFT;
+        ByteBuffer page = pages[index];
+
+        if (page == null) {
+            if (closed) {
+                throw new IllegalStateException("The state is closed.");
+            }
+
+            page = pool.acquirePage();
+            pages[index] = page;
+
+            if (touchedPagesSize == touchedPages.length) {
+                touchedPages = Arrays.copyOf(touchedPages,
+                                             2 * touchedPagesSize);
+            }
+
+            touchedPages[touchedPagesSize++] = index;
+        }
+
+        return page;
+    }
+}
@@ -0,0 +1,174 @@
+package net.coderodde.graph.sp.support;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.sp.BidirectionalSearchStateFactory;
+
+/**
+ * This class implements a pool of off-heap memory pages for
+ * {@link DirectBidirectionalSearchState}. As a state factory, the pool keeps
+ * one state per thread: asking for a new state clears the previous state of
+ * the calling thread, whose pages return to the pool for the next queries of
+ * any thread. The pool retains at most a given number of free pages and drops
+ * the rest.
+ * <p>
+ * Closing the pool drops all its free pages, and makes it reject new states
+ * and pages; the pages held by the states in use are dropped as the states
+ * are cleared. The off-heap memory of a dropped page is freed once the
+ * garbage collector reclaims its buffer.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class DirectSearchStatePool
+implements BidirectionalSearchStateFactory, AutoCloseable {
+
+    /**
+     * The number of node records in a page.
+     */
+    public static final int PAGE_SIZE = 1 << 12;
+
+    /**
+     * The default maximum number of free pages retained.
+     */
+    public static final int DEFAULT_MAX_FREE_PAGES = 1 << 10;
+
+    private static final int PAGE_BYTES = 32 * PAGE_SIZE;
+
+    private final ThreadLocal<DirectBidirectionalSearchState> states =
+            new ThreadLocal<>();
+
+    private final Deque<ByteBuffer> freePages = new ArrayDeque<>();
+
+    private final int maxFreePages;
+
+    /**
+     * A zero page for clearing the released pages in bulk.
+     */
+    private final ByteBuffer zeroPage = ByteBuffer.allocateDirect(PAGE_BYTES);
+
+    private long allocatedPages;
+
+    private boolean closed;
+
+    /**
+     * Constructs a pool retaining at most {@link #DEFAULT_MAX_FREE_PAGES} free
+     * pages.
+     */
+    public DirectSearchStatePool() {
+        this(DEFAULT_MAX_FREE_PAGES);
+    }
+
+    /**
+     * Constructs a pool retaining at most {@code maxFreePages} free pages.
+     *
+     * @param maxFreePages the maximum number of free pages.
+     */
+    public DirectSearchStatePool(final int maxFreePages) {
+        if (maxFreePages < 0) {
+            throw new IllegalArgumentException(
+                    "The maximum number of free pages is negative: " +
+                    maxFreePages + ".");
+        }
+
+        this.maxFreePages = maxFreePages;
+    }
+
+    /**
+     * Returns the calling thread's state, cleared, for a query over
+     * {@code digraph}. The graph must have the node identifiers
+     * {@code 0, 1, ..., digraph.size() - 1}.
+     *
+     * @param digraph the graph being searched.
+     * @return an empty search state.
+     */
+    @Override
+    public DirectBidirectionalSearchState newState(final Digraph digraph) {
+        checkNotClosed();
+        DirectBidirectionalSearchState state = states.get();
+
+        if (state == null || state.getCapacity() < digraph.size()) {
+            if (state != null) {
+                state.close();
+            }
+
+            state = new DirectBidirectionalSearchState(this, digraph.size());
+            states.set(state);
+        } else {
+            state.clear();
+        }
+
+        return state;
+    }
+
+    /**
+     * Returns the number of free pages in this pool.
+     *
+     * @return the number of free pages.
+     */
+    public synchronized int getFreePageCount() {
+        return freePages.size();
+    }
+
+    /**
+     * Returns the number of pages this pool has allocated so far.
+     *
+     * @return the number of allocated pages.
+     */
+    public synchronized long getAllocatedPageCount() {
+        return allocatedPages;
+    }
+
+    /**
+     * Drops all the free pages and rejects new states and pages.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        freePages.clear();
+    }
+
+    /**
+     * Returns a zeroed page, allocating it if there are no free ones.
+     *
+     * @return a page.
+     */
+    synchronized ByteBuffer acquirePage() {
+        checkNotClosed();
+        final ByteBuffer page = freePages.pollFirst();
+
+        if (page != null) {
+            return page;
+        }
+
+        ++allocatedPages;
+        return ByteBuffer.allocateDirect(PAGE_BYTES)
+                         .order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Zeroes {@code page} and returns it to this pool, unless the pool is
+     * closed or full.
+     *
+     * @param page the page to release.
+     */
+    void releasePage(final ByteBuffer page) {
+        page.clear();
+        page.put(zeroPage.duplicate());
+
+        synchronized (this) {
+            if (!closed && freePages.size() < maxFreePages) {
+                freePages.addFirst(page);
+            }
+        }
+    }
+
+    private synchronized void checkNotClosed() {
+        if (closed) {
+            throw new IllegalStateException("The pool is closed.");
+        }
+    }
+}
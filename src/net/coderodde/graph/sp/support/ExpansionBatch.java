@@ -0,0 +1,86 @@
+package net.coderodde.graph.sp.support;
+
+import java.util.Arrays;
+import net.coderodde.util.MinimumPriorityQueue;
+
+/**
+ * This class collects the neighbours improved by a node expansion, so that
+ * their heuristic estimates may be computed by a single call to
+ * {@link net.coderodde.graph.util.HeuristicFunction#estimateAll(int[], int, int, double[])}
+ * before they are pushed to the open list.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+final class ExpansionBatch {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The improved neighbours.
+     */
+    int[] nodes = new int[INITIAL_CAPACITY];
+
+    /**
+     * The improved neighbours as the very objects held by the graph, so that
+     * pushing them to the open list boxes nothing.
+     */
+    Integer[] elements = new Integer[INITIAL_CAPACITY];
+
+    /**
+     * The new distances of the neighbours.
+     */
+    double[] distances = new double[INITIAL_CAPACITY];
+
+    /**
+     * Whether each neighbour is reached for the first time, and thus must be
+     * added to, rather than updated in, the open list.
+     */
+    boolean[] added = new boolean[INITIAL_CAPACITY];
+
+    /**
+     * The heuristic estimates of the neighbours.
+     */
+    double[] estimates = new double[INITIAL_CAPACITY];
+
+    int size;
+
+    void clear() {
+        size = 0;
+    }
+
+    void add(final Integer node, final double distance, final boolean added) {
+        if (size == nodes.length) {
+            final int capacity = 2 * size;
+            nodes = Arrays.copyOf(nodes, capacity);
+            elements = Arrays.copyOf(elements, capacity);
+            distances = Arrays.copyOf(distances, capacity);
+            this.added = Arrays.copyOf(this.added, capacity);
+            estimates = Arrays.copyOf(estimates, capacity);
+        }
+
+        nodes[size] = node;
+        elements[size] = node;
+        distances[size] = distance;
+        this.added[size] = added;
+        ++size;
+    }
+
+    /**
+     * Adds the nodes of this batch to {@code OPEN} or decreases their
+     * priorities.
+     *
+     * @param OPEN the open list.
+     */
+    void push(final MinimumPriorityQueue<Integer> OPEN) {
+        for (int i = 0; i < size; ++i) {
+            final double priority = distances[i] + estimates[i];
+
+            if (added[i]) {
+                OPEN.add(elements[i], priority);
+            } else {
+                OPEN.decreasePriority(elements[i], priority);
+            }
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package net.coderodde.graph.sp.support;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import net.coderodde.graph.ArcCursor;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.sp.HeuristicPathFinder;
+import net.coderodde.graph.util.HeuristicFunction;
+import net.coderodde.util.MinimumPriorityQueue;
+
+/**
+ * This class implements divide-and-conquer frontier A* by Richard E. Korf,
+ * Weixiong Zhang, Ignacio Thayer and Heath Hohwald. The search keeps only the
+ * frontier in memory: an expanded node is deleted, and each frontier node
+ * remembers which of its neighbours are expanded, so that they are never
+ * generated again. Since no search tree is kept, every frontier node
+ * remembers instead a relay node: the first node of its path whose distance
+ * from the source reaches half of the estimated distance to the target. Once
+ * the target is reached, the path is rebuilt by searching from the source to
+ * the relay node and from the relay node to the target, recursively.
+ * <p>
+ * On a directed graph, expanding a node also inserts its unreached parents
+ * into the frontier as unreached nodes, so that they do not generate it
+ * again. The heuristic function must be consistent, since the expanded nodes
+ * are never reopened. Unlike {@link SMAStarPathFinder}, this finder does not
+ * cap the memory, but it expands every node at most once per search, which
+ * keeps the queries with unreachable targets linear in time.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class FrontierAStarPathFinder extends HeuristicPathFinder {
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public List<Integer> search(final Digraph digraph,
+                                final HeuristicFunction heuristicFunction,
+                                final int source,
+                                final int target) {
+        Objects.requireNonNull(digraph, "The input digraph is null.");
+        Objects.requireNonNull(heuristicFunction,
+                               "The input heuristic function is null.");
+        checkDirections(digraph);
+
+        if (isUnreachable(source, target)) {
+            return new ArrayList<>();
+        }
+
+        final List<Integer> path = new ArrayList<>();
+        path.add(source);
+
+        // Each segment is a pair of nodes to connect with a shortest path;
+        // a segment with a single node just appends it to the path.
+        final Deque<int[]> segments = new ArrayDeque<>();
+        segments.push(new int[]{ source, target });
+
+        while (!segments.isEmpty()) {
+            final int[] segment = segments.pop();
+
+            if (segment.length == 1) {
+                path.add(segment[0]);
+                continue;
+            }
+
+            final int from = segment[0];
+            final int to = segment[1];
+
+            if (from == to) {
+                continue;
+            }
+
+            final Result result =
+                    new Search(digraph, heuristicFunction, from, to).run();
+
+            if (result == null) {
+                // Only the very first search may fail.
+                return new ArrayList<>();
+            }
+
+            if (result.relay != to) {
+                segments.push(new int[]{ result.relay, to });
+                segments.push(new int[]{ from, result.relay });
+            } else if (result.parent == from) {
+                path.add(to);
+            } else {
+                segments.push(new int[]{ to });
+                segments.push(new int[]{ from, result.parent });
+            }
+        }
+
+        return path;
+    }
+
+    /**
+     * The outcome of a single search reaching its target.
+     */
+    private static final class Result {
+
+        /**
+         * The relay node of the target; the target itself if no node before
+         * it qualified.
+         */
+        final int relay;
+
+        /**
+         * The parent of the target on the found path.
+         */
+        final int parent;
+
+        Result(final int relay, final int parent) {
+            this.relay = relay;
+            this.parent = parent;
+        }
+    }
+
+    /**
+     * A frontier node.
+     */
+    private static final class FrontierNode {
+
+        double g = Double.POSITIVE_INFINITY;
+        int parent;
+
+        /**
+         * The relay node of the path leading to this node, or {@code null}
+         * if the path has not reached half of the estimated distance yet.
+         */
+        Integer relay;
+
+        /**
+         * Tells whether this node is in the open list. An unreached parent of
+         * an expanded node is in the frontier without being open.
+         */
+        boolean open;
+
+        /**
+         * The expanded neighbours of this node.
+         */
+        int[] used = new int[2];
+        int usedSize;
+
+        void use(final int node) {
+            if (usedSize == used.length) {
+                used = Arrays.copyOf(used, 2 * usedSize);
+            }
+
+            used[usedSize++] = node;
+        }
+
+        boolean isUsed(final int node) {
+            for (int i = 0; i < usedSize; ++i) {
+                if (used[i] == node) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * The state of a single search.
+     */
+    private final class Search {
+
+        private final Digraph digraph;
+        private final HeuristicFunction heuristicFunction;
+        private final int source;
+        private final int target;
+        private final int targetRegion;
+        private final double relayDistance;
+
+        private final MinimumPriorityQueue<Integer> OPEN =
+                queueFactory.newQueue();
+        private final Map<Integer, FrontierNode> FRONTIER = new HashMap<>();
+
+        Search(final Digraph digraph,
+               final HeuristicFunction heuristicFunction,
+               final int source,
+               final int target) {
+            this.digraph = digraph;
+            this.heuristicFunction = heuristicFunction;
+            this.source = source;
+            this.target = target;
+            this.targetRegion = getRegion(target);
+            this.relayDistance =
+                    0.5 * heuristicFunction.estimate(source, target);
+        }
+
+        /**
+         * Runs the search.
+         *
+         * @return the relay and the parent of the target, or {@code null} if
+         *         the target is not reachable.
+         */
+        Result run() {
+            final FrontierNode root = new FrontierNode();
+            root.g = 0.0;
+            root.open = true;
+            FRONTIER.put(source, root);
+            OPEN.add(source, heuristicFunction.estimate(source, target));
+
+            while (!OPEN.isEmpty()) {
+                checkInterrupted();
+
+                final int current = OPEN.extractMinimum();
+                final FrontierNode currentNode = FRONTIER.remove(current);
+
+                if (current == target) {
+                    return new Result(currentNode.relay == null ?
+                                      target :
+                                      currentNode.relay,
+                                      currentNode.parent);
+                }
+
+                for (final ArcCursor arc = digraph.getChildArcsOf(current); 
+                        arc.next();) {
+                    final Integer child = arc.getNode();
+
+                    if (child == current
+                            || currentNode.isUsed(child)
+                            || isPrunedForward(current, child, targetRegion)) {
+                        continue;
+                    }
+
+                    final double g = currentNode.g + arc.getWeight();
+
+                    FrontierNode childNode = FRONTIER.get(child);
+
+                    if (childNode == null) {
+                        childNode = new FrontierNode();
+                        FRONTIER.put(child, childNode);
+                    }
+
+                    childNode.use(current);
+
+                    if (childNode.g <= g) {
+                        continue;
+                    }
+
+                    final double f =
+                            g + heuristicFunction.estimate(child.intValue(), target);
+
+                    childNode.g = g;
+                    childNode.parent = current;
+                    childNode.relay =
+                            currentNode.relay != null ?
+                            currentNode.relay :
+                            (g >= relayDistance ? child : null);
+
+                    if (childNode.open) {
+                        OPEN.decreasePriority(child, f);
+                    } else {
+                        childNode.open = true;
+                        OPEN.add(child, f);
+                    }
+                }
+
+                for (final Integer parent : digraph.getParentsOf(current)) {
+                    if (parent == current
+                            || currentNode.isUsed(parent)
+                            || isPrunedForward(parent, current, targetRegion)) {
+                        continue;
+                    }
+
+                    FrontierNode parentNode = FRONTIER.get(parent);
+
+                    if (parentNode == null) {
+                        parentNode = new FrontierNode();
+                        FRONTIER.put(parent, parentNode);
+                    } else if (parentNode.isUsed(current)) {
+                        continue;
+                    }
+
+                    parentNode.use(current);
+                }
+            }
+
+            return null;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package net.coderodde.graph.sp.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import net.coderodde.graph.sp.BidirectionalSearchState;
+
+/**
+ * This class implements the bidirectional search state on hash maps and hash 
+ * sets. It works with arbitrary node identifiers, and its memory usage is
+ * proportional to the number of reached nodes.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class HashBidirectionalSearchState implements BidirectionalSearchState {
+
+    private final Set<Integer> CLOSEDA = new HashSet<>();
+    private final Set<Integer> CLOSEDB = new HashSet<>();
+
+    private final Map<Integer, Integer> PARENTSA = new HashMap<>();
+    private final Map<Integer, Integer> PARENTSB = new HashMap<>();
+
+    private final Map<Integer, Double> DISTANCEA = new HashMap<>();
+    private final Map<Integer, Double> DISTANCEB = new HashMap<>();
+
+    @Override
+    public void initializeA(final int source) {
+        PARENTSA.put(source, null);
+        DISTANCEA.put(source, 0.0);
+    }
+
+    @Override
+    public void initializeB(final int target) {
+        PARENTSB.put(target, null);
+        DISTANCEB.put(target, 0.0);
+    }
+
+    @Override
+    public boolean containsA(final int node) {
+        return DISTANCEA.containsKey(node);
+    }
+
+    @Override
+    public boolean containsB(final int node) {
+        return DISTANCEB.containsKey(node);
+    }
+
+    @Override
+    public double getDistanceA(final int node) {
+        return DISTANCEA.get(node);
+    }
+
+    @Override
+    public double getDistanceB(final int node) {
+        return DISTANCEB.get(node);
+    }
+
+    @Override
+    public void updateA(final int node, 
+                        final double distance, 
+                        final int parent) {
+        DISTANCEA.put(node, distance);
+        PARENTSA.put(node, parent);
+    }
+
+    @Override
+    public void updateB(final int node, 
+                        final double distance, 
+                        final int parent) {
+        DISTANCEB.put(node, distance);
+        PARENTSB.put(node, parent);
+    }
+
+    @Override
+    public boolean isClosedA(final int node) {
+        return CLOSEDA.contains(node);
+    }
+
+    @Override
+    public boolean isClosedB(final int node) {
+        return CLOSEDB.contains(node);
+    }
+
+    @Override
+    public boolean isClosed(final int node) {
+        return CLOSEDA.contains(node) || CLOSEDB.contains(node);
+    }
+
+    @Override
+    public void closeA(final int node) {
+        CLOSEDA.add(node);
+    }
+
+    @Override
+    public void closeB(final int node) {
+        CLOSEDB.add(node);
+    }
+
+    @Override
+    public List<Integer> tracebackPath(final int touch) {
+        final List<Integer> path = new ArrayList<>();
+        Integer current = touch;
+
+        while (current != null) {
+            path.add(current);
+            current = PARENTSA.get(current);
+        }
+
+        Collections.<Integer>reverse(path);
+        current = PARENTSB.get(touch);
+
+        while (current != null) {
+            path.add(current);
+            current = PARENTSB.get(current);
+        }
+
+        return path;
+    }
+}
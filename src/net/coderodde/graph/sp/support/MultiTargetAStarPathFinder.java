@@ -0,0 +1,196 @@
+package net.coderodde.graph.sp.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import net.coderodde.graph.ArcCursor;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.sp.HeuristicPathFinder;
+import net.coderodde.graph.util.HeuristicFunction;
+import net.coderodde.graph.util.MultiTargetHeuristicFunction;
+import net.coderodde.util.MinimumPriorityQueue;
+
+/**
+ * This class implements A* search towards a set of target nodes. A single
+ * search returns the shortest paths from the source node to the closest
+ * target nodes: guided by a consistent heuristic estimating the distance to
+ * the closest target (for example, {@link
+ * net.coderodde.graph.util.support.NearestPointHeuristicFunction}), the
+ * search settles the targets in the order of their distances, and stops as
+ * soon as the requested number of them is settled.
+ * <p>
+ * With arc flags, an arc is pruned only if it is not flagged for the region of
+ * any of the targets.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class MultiTargetAStarPathFinder extends HeuristicPathFinder {
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int getRequiredDirections() {
+        return Digraph.FORWARD;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public List<Integer> search(final Digraph digraph,
+                                final HeuristicFunction heuristicFunction,
+                                final int source,
+                                final int target) {
+        Objects.requireNonNull(heuristicFunction,
+                               "The input heuristic function is null.");
+
+        final List<List<Integer>> paths =
+                search(digraph,
+                       (final int node) ->
+                               heuristicFunction.estimate(node, target),
+                       source,
+                       Collections.<Integer>singleton(target),
+                       1);
+
+        return paths.isEmpty() ? new ArrayList<>() : paths.get(0);
+    }
+
+    /**
+     * Searches the shortest paths in {@code digraph} from {@code source} to
+     * the {@code k} target nodes closest to it.
+     *
+     * @param digraph           the directed graph in which to search.
+     * @param heuristicFunction the heuristic function estimating the distance
+     *                          to the closest target.
+     * @param source            the source node.
+     * @param targets           the target nodes.
+     * @param k                 the maximum number of paths to return.
+     * @return the list of paths in non-decreasing order of their lengths; it
+     *         has fewer than {@code k} paths if fewer than {@code k} targets
+     *         are reachable from the source node.
+     */
+    public List<List<Integer>>
+        search(final Digraph digraph,
+               final MultiTargetHeuristicFunction heuristicFunction,
+               final int source,
+               final Collection<Integer> targets,
+               final int k) {
+        Objects.requireNonNull(digraph, "The input digraph is null.");
+        Objects.requireNonNull(heuristicFunction,
+                               "The input heuristic function is null.");
+        checkDirections(digraph);
+        Objects.requireNonNull(targets, "The target collection is null.");
+
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("There are no targets.");
+        }
+
+        if (k < 1) {
+            throw new IllegalArgumentException(
+                    "The number of paths must be positive, received " + k +
+                    ".");
+        }
+
+        final Set<Integer> TARGETS = new HashSet<>(targets);
+        final MinimumPriorityQueue<Integer> OPEN = queueFactory.newQueue();
+        final NodeTable TABLE = new NodeTable();
+        final int[] targetRegions = getRegions(TARGETS);
+        final List<List<Integer>> paths = new ArrayList<>(k);
+
+        OPEN.add(source, heuristicFunction.estimate(source));
+        TABLE.add(source, 0.0, source);
+
+        while (!OPEN.isEmpty()) {
+            checkInterrupted();
+
+            final Integer current = OPEN.extractMinimum();
+
+            if (TARGETS.contains(current)) {
+                paths.add(TABLE.tracebackPath(current));
+
+                if (paths.size() == k) {
+                    return paths;
+                }
+            }
+
+            final int currentSlot = TABLE.find(current);
+            final double currentDistance = TABLE.getDistance(currentSlot);
+
+            TABLE.close(currentSlot);
+
+            for (final ArcCursor arc = digraph.getChildArcsOf(current); 
+                    arc.next();) {
+                final Integer child = arc.getNode();
+                final int childSlot = TABLE.find(child);
+
+                if ((childSlot >= 0 && TABLE.isClosed(childSlot))
+                        || isPrunedForward(current, child, targetRegions)) {
+                    continue;
+                }
+
+                final double tentativeCost =
+                        currentDistance + arc.getWeight();
+
+                if (childSlot < 0) {
+                    TABLE.add(child, tentativeCost, current);
+                    OPEN.add(child,
+                             tentativeCost +
+                             heuristicFunction.estimate(child));
+                } else if (TABLE.getDistance(childSlot) > tentativeCost) {
+                    TABLE.update(childSlot, tentativeCost, current);
+                    OPEN.decreasePriority(child,
+                                          tentativeCost +
+                                          heuristicFunction.estimate(child));
+                }
+            }
+        }
+
+        return paths;
+    }
+
+    /**
+     * Returns the distinct regions of {@code targets}. If there are no arc
+     * flags, or some target is not covered by the partition, the only region
+     * returned is {@code -1}, which disables the pruning.
+     */
+    private int[] getRegions(final Set<Integer> targets) {
+        final Set<Integer> regions = new HashSet<>();
+
+        for (final Integer target : targets) {
+            final int region = getRegion(target);
+
+            if (region < 0) {
+                return new int[]{ -1 };
+            }
+
+            regions.add(region);
+        }
+
+        final int[] result = new int[regions.size()];
+        int i = 0;
+
+        for (final Integer region : regions) {
+            result[i++] = region;
+        }
+
+        return result;
+    }
+
+    private boolean isPrunedForward(final int tail,
+                                    final int head,
+                                    final int[] targetRegions) {
+        for (final int targetRegion : targetRegions) {
+            if (!isPrunedForward(tail, head, targetRegion)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
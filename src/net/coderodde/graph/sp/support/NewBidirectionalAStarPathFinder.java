@@ -2,17 +2,15 @@ package net.coderodde.graph.sp.support;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import net.coderodde.graph.ArcCursor;
 import net.coderodde.graph.Digraph;
+import net.coderodde.graph.sp.BidirectionalSearchState;
+import net.coderodde.graph.sp.BidirectionalSearchStateFactory;
 import net.coderodde.graph.sp.HeuristicPathFinder;
 import net.coderodde.graph.util.HeuristicFunction;
 import net.coderodde.util.MinimumPriorityQueue;
-import net.coderodde.util.support.DaryHeap;
 
 /**
  * This class implements a bidirectional heuristic graph search algorithm called
@@ -25,104 +23,122 @@ import net.coderodde.util.support.DaryHeap;
  */
 public class NewBidirectionalAStarPathFinder extends HeuristicPathFinder {
 
+    /**
+     * The factory providing the search state of each query.
+     */
+    private BidirectionalSearchStateFactory stateFactory = 
+            (final Digraph digraph) -> new HashBidirectionalSearchState();
+
+    /**
+     * Sets the factory providing the search state of each query. Use 
+     * {@link ArrayBidirectionalSearchState#factory()} for graphs whose nodes 
+     * are identified by {@code 0, 1, ..., n - 1}.
+     * 
+     * @param stateFactory the state factory to use.
+     */
+    public void setStateFactory(
+            final BidirectionalSearchStateFactory stateFactory) {
+        this.stateFactory = Objects.requireNonNull(stateFactory, 
+                                                   "The state factory is null.");
+    }
+
     /**
      * {@inheritDoc }
      */
     @Override
     public List<Integer> search(final Digraph digraph, 
                                 final HeuristicFunction heuristicFunction, 
-                                final Integer source, 
-                                final Integer target) {
+                                final int source, 
+                                final int target) {
         Objects.requireNonNull(digraph, "The input digraph is null.");
         Objects.requireNonNull(heuristicFunction, 
                                "The input heuristic function is null.");
-        Objects.requireNonNull(source, "The source node is null.");
-        Objects.requireNonNull(target, "The target node is null.");
+        checkDirections(digraph);
 
-        if (source.equals(target)) {
+        if (source == target) {
             return new ArrayList<>(Arrays.asList(target));
         }
 
-        final MinimumPriorityQueue<Integer> OPENA = new DaryHeap<>();
-        final MinimumPriorityQueue<Integer> OPENB = new DaryHeap<>();
+        if (isUnreachable(source, target)) {
+            return new ArrayList<>();
+        }
 
-        final Set<Integer> CLOSED = new HashSet<>();
+        final MinimumPriorityQueue<Integer> OPENA = queueFactory.newQueue();
+        final MinimumPriorityQueue<Integer> OPENB = queueFactory.newQueue();
 
-        final Map<Integer, Integer> PARENTSA = new HashMap<>();
-        final Map<Integer, Integer> PARENTSB = new HashMap<>();
+        final BidirectionalSearchState state = stateFactory.newState(digraph);
 
-        final Map<Integer, Double> DISTANCEA = new HashMap<>();
-        final Map<Integer, Double> DISTANCEB = new HashMap<>();
+        final int sourceRegion = getRegion(source);
+        final int targetRegion = getRegion(target);
+        final ExpansionBatch batch = new ExpansionBatch();
 
         double bestPathCost = Double.POSITIVE_INFINITY;
         double fA = heuristicFunction.estimate(source, target);
-        double fB = heuristicFunction.estimate(target, source);
+        double fB = heuristicFunction.estimate(source, target);
 
         Integer touchNode = null;
 
         OPENA.add(source, fA);
         OPENB.add(target, fB);
 
-        PARENTSA.put(source, null);
-        PARENTSB.put(target, null);
-
-        DISTANCEA.put(source, 0.0);
-        DISTANCEB.put(target, 0.0);
+        state.initializeA(source);
+        state.initializeB(target);
 
         while (!OPENA.isEmpty() && !OPENB.isEmpty()) {
+            checkInterrupted();
+
             if (OPENA.size() < OPENB.size()) {
-                final Integer current = OPENA.extractMinimum();
-                CLOSED.add(current);
+                final int current = OPENA.extractMinimum();
+                state.closeA(current);
 
-                final double currentDistance = DISTANCEA.get(current);
+                final double currentDistance = state.getDistanceA(current);
 
                 if (currentDistance + 
                         heuristicFunction.estimate(current, target) 
                         >= bestPathCost 
                         || 
                         currentDistance + fB -
-                        heuristicFunction.estimate(current, source)
+                        heuristicFunction.estimate(source, current)
                         >= bestPathCost) {
                     // Reject 'current'.
                     continue;
                 }
 
-                for (final Integer child : digraph.getChildrenOf(current)) {
-                    if (CLOSED.contains(child)) {
+                batch.clear();
+
+                for (final ArcCursor arc = digraph.getChildArcsOf(current); 
+                        arc.next();) {
+                    final Integer child = arc.getNode();
+                    if (state.isClosed(child)
+                            || isPrunedForward(current, child, targetRegion)) {
                         continue;
                     }
 
                     final double tentativeScore = 
-                            DISTANCEA.get(current) + 
-                            digraph.getEdgeWeight(current, child);
+                            currentDistance + arc.getWeight();
 
-                    if (!DISTANCEA.containsKey(child)) {
-                        DISTANCEA.put(child, tentativeScore);
-                        PARENTSA.put(child, current);
-                        OPENA.add(child, 
-                                  tentativeScore +
-                                  heuristicFunction.estimate(child, target));
+                    if (!state.containsA(child)) {
+                        state.updateA(child, tentativeScore, current);
+                        batch.add(child, tentativeScore, true);
 
-                        if (DISTANCEB.containsKey(child)) {
-                            final double pathLength = tentativeScore +
-                                                      DISTANCEB.get(child);
+                        if (state.containsB(child)) {
+                            final double pathLength = 
+                                    tentativeScore +
+                                    state.getDistanceB(child);
 
                             if (bestPathCost > pathLength) {
                                 bestPathCost = pathLength;
                                 touchNode = child;
                             }
                         }
-                    } else if (DISTANCEA.get(child) > tentativeScore) {
-                        DISTANCEA.put(child, tentativeScore);
-                        PARENTSA.put(child, current);
-                        OPENA.decreasePriority(
-                                child,
-                                tentativeScore +
-                                heuristicFunction.estimate(child, target));
-
-                        if (DISTANCEB.containsKey(child)) {
-                            final double pathLength = tentativeScore +
-                                                      DISTANCEB.get(child);
+                    } else if (state.getDistanceA(child) > tentativeScore) {
+                        state.updateA(child, tentativeScore, current);
+                        batch.add(child, tentativeScore, false);
+
+                        if (state.containsB(child)) {
+                            final double pathLength = 
+                                    tentativeScore +
+                                    state.getDistanceB(child);
 
                             if (bestPathCost > pathLength) {
                                 bestPathCost = pathLength;
@@ -132,19 +148,25 @@ public class NewBidirectionalAStarPathFinder extends HeuristicPathFinder {
                     }
                 }
 
+                heuristicFunction.estimateAll(batch.nodes, 
+                                              batch.size, 
+                                              target, 
+                                              batch.estimates);
+                batch.push(OPENA);
+
                 if (!OPENA.isEmpty()) {
-                    final Integer min = OPENA.min();
-                    fA = DISTANCEA.get(min) + 
+                    final int min = OPENA.min();
+                    fA = state.getDistanceA(min) + 
                          heuristicFunction.estimate(min, target);
                 }
             } else {
-                final Integer current = OPENB.extractMinimum();
-                CLOSED.add(current);
+                final int current = OPENB.extractMinimum();
+                state.closeB(current);
 
-                final double currentDistance = DISTANCEB.get(current);
+                final double currentDistance = state.getDistanceB(current);
 
                 if (currentDistance + 
-                        heuristicFunction.estimate(current, source)
+                        heuristicFunction.estimate(source, current)
                         >= bestPathCost
                         ||
                         currentDistance + fA 
@@ -154,41 +176,43 @@ public class NewBidirectionalAStarPathFinder extends HeuristicPathFinder {
                     continue;
                 } 
 
-                for (final Integer parent : digraph.getParentsOf(current)) {
-                    if (CLOSED.contains(parent)) {
+                batch.clear();
+
+                for (final ArcCursor arc = digraph.getParentArcsOf(current); 
+                        arc.next();) {
+                    final Integer parent = arc.getNode();
+                    if (state.isClosed(parent)
+                            || isPrunedBackward(parent, 
+                                                current, 
+                                                sourceRegion)) {
                         continue;
                     }
 
-                    double tentativeScore = DISTANCEB.get(current) +
-                                            digraph.getEdgeWeight(parent, 
-                                                                  current);
-                    if (!DISTANCEB.containsKey(parent)) {
-                        DISTANCEB.put(parent, tentativeScore);
-                        PARENTSB.put(parent, current);
-                        OPENB.add(parent, 
-                                  tentativeScore +
-                                  heuristicFunction.estimate(parent, source));
+                    final double tentativeScore = 
+                            currentDistance + arc.getWeight();
+
+                    if (!state.containsB(parent)) {
+                        state.updateB(parent, tentativeScore, current);
+                        batch.add(parent, tentativeScore, true);
 
-                        if (DISTANCEA.containsKey(parent)) {
-                            final double pathLength = tentativeScore +
-                                                      DISTANCEA.get(parent);
+                        if (state.containsA(parent)) {
+                            final double pathLength = 
+                                    tentativeScore +
+                                    state.getDistanceA(parent);
 
                             if (bestPathCost > pathLength) {
                                 bestPathCost = pathLength;
                                 touchNode = parent;
                             }
                         }
-                    } else if (DISTANCEB.get(parent) > tentativeScore) {
-                        DISTANCEB.put(parent, tentativeScore);
-                        PARENTSB.put(parent, current);
-                        OPENB.decreasePriority(
-                                parent,
-                                tentativeScore +
-                                heuristicFunction.estimate(parent, source));
-
-                        if (DISTANCEA.containsKey(parent)) {
-                            final double pathLength = tentativeScore +
-                                                      DISTANCEA.get(parent);
+                    } else if (state.getDistanceB(parent) > tentativeScore) {
+                        state.updateB(parent, tentativeScore, current);
+                        batch.add(parent, tentativeScore, false);
+
+                        if (state.containsA(parent)) {
+                            final double pathLength = 
+                                    tentativeScore +
+                                    state.getDistanceA(parent);
 
                             if (bestPathCost > pathLength) {
                                 bestPathCost = pathLength;
@@ -198,10 +222,16 @@ public class NewBidirectionalAStarPathFinder extends HeuristicPathFinder {
                     }
                 }
 
+                heuristicFunction.estimateAllFrom(source,
+                                                  batch.nodes, 
+                                                  batch.size, 
+                                                  batch.estimates);
+                batch.push(OPENB);
+
                 if (!OPENB.isEmpty()) {
-                    final Integer min = OPENB.min();
-                    fB = DISTANCEB.get(min) + 
-                         heuristicFunction.estimate(min, source);
+                    final int min = OPENB.min();
+                    fB = state.getDistanceB(min) + 
+                         heuristicFunction.estimate(source, min);
                 }
             }
         }
@@ -210,6 +240,6 @@ public class NewBidirectionalAStarPathFinder extends HeuristicPathFinder {
             return new ArrayList<>();
         }
 
-        return tracebackPath(touchNode, PARENTSA, PARENTSB);
+        return state.tracebackPath(touchNode);
     }
 }
@@ -0,0 +1,177 @@
+package net.coderodde.graph.sp.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class implements an open-addressing hash table mapping the nodes
+ * reached by a unidirectional search to their distances, parents and closed
+ * flags, all stored in primitive arrays. Unlike a {@code HashMap}, it
+ * allocates nothing per node. The methods operate on slots returned by
+ * {@link #find(int)} and {@link #add(int, double, int)}; adding a node may
+ * rehash the table, which invalidates all the slots obtained before.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+final class NodeTable {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final byte FREE = 0;
+    private static final byte OPEN = 1;
+    private static final byte CLOSED = 2;
+
+    private int[] nodes = new int[INITIAL_CAPACITY];
+    private double[] distances = new double[INITIAL_CAPACITY];
+    private int[] parents = new int[INITIAL_CAPACITY];
+    private byte[] states = new byte[INITIAL_CAPACITY];
+
+    private int size;
+
+    /**
+     * Returns the slot of {@code node}, or a negative value if the node is
+     * not in this table.
+     *
+     * @param node the node to look up.
+     * @return the slot of the node or a negative value.
+     */
+    int find(final int node) {
+        final int mask = nodes.length - 1;
+
+        for (int slot = hash(node) & mask; ; slot = (slot + 1) & mask) {
+            if (states[slot] == FREE) {
+                return -1;
+            }
+
+            if (nodes[slot] == node) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Adds {@code node}, which must not be in this table, as an open node.
+     * The parent of a root node is the root itself.
+     *
+     * @param node     the node to add.
+     * @param distance the distance of the node.
+     * @param parent   the parent of the node.
+     * @return the slot of the node.
+     */
+    int add(final int node, final double distance, final int parent) {
+        if (2 * (size + 1) > nodes.length) {
+            rehash(2 * nodes.length);
+        }
+
+        final int mask = nodes.length - 1;
+        int slot = hash(node) & mask;
+
+        while (states[slot] != FREE) {
+            slot = (slot + 1) & mask;
+        }
+
+        nodes[slot] = node;
+        distances[slot] = distance;
+        parents[slot] = parent;
+        states[slot] = OPEN;
+        ++size;
+        return slot;
+    }
+
+    double getDistance(final int slot) {
+        return distances[slot];
+    }
+
+    void update(final int slot, final double distance, final int parent) {
+        distances[slot] = distance;
+        parents[slot] = parent;
+    }
+
+    /**
+     * Returns the number of slots, some of which may be free.
+     *
+     * @return the number of slots.
+     */
+    int getCapacity() {
+        return nodes.length;
+    }
+
+    int getNode(final int slot) {
+        return nodes[slot];
+    }
+
+    boolean isOpen(final int slot) {
+        return states[slot] == OPEN;
+    }
+
+    boolean isClosed(final int slot) {
+        return states[slot] == CLOSED;
+    }
+
+    void close(final int slot) {
+        states[slot] = CLOSED;
+    }
+
+    /**
+     * Returns the path from the root of the search tree to {@code target}.
+     *
+     * @param target the last node of the path.
+     * @return the path.
+     */
+    List<Integer> tracebackPath(final int target) {
+        final List<Integer> path = new ArrayList<>();
+        int current = target;
+
+        while (true) {
+            path.add(current);
+            final int parent = parents[find(current)];
+
+            if (parent == current) {
+                break;
+            }
+
+            current = parent;
+        }
+
+        Collections.<Integer>reverse(path);
+        return path;
+    }
+
+    private void rehash(final int capacity) {
+        final int[] oldNodes = nodes;
+        final double[] oldDistances = distances;
+        final int[] oldParents = parents;
+        final byte[] oldStates = states;
+        final int mask = capacity - 1;
+
+        nodes = new int[capacity];
+        distances = new double[capacity];
+        parents = new int[capacity];
+        states = new byte[capacity];
+
+        for (int i = 0; i < oldNodes.length; ++i) {
+            if (oldStates[i] == FREE) {
+                continue;
+            }
+
+            int slot = hash(oldNodes[i]) & mask;
+
+            while (states[slot] != FREE) {
+                slot = (slot + 1) & mask;
+            }
+
+            nodes[slot] = oldNodes[i];
+            distances[slot] = oldDistances[i];
+            parents[slot] = oldParents[i];
+            states[slot] = oldStates[i];
+        }
+    }
+
+    private static int hash(final int node) {
+        // Fibonacci hashing spreads consecutive identifiers over the table.
+        final int h = node * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,335 @@
+package net.coderodde.graph.sp.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import net.coderodde.graph.ArcCursor;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.sp.HeuristicPathFinder;
+import net.coderodde.graph.util.HeuristicFunction;
+import net.coderodde.util.ConcurrentMinimumPriorityQueue;
+import net.coderodde.util.support.MultiQueue;
+
+/**
+ * This class implements a parallel A* in which all the threads of a fork-join
+ * pool expand nodes taken from one shared {@link MultiQueue}. Since the queue
+ * is relaxed, a node may be expanded before its shortest distance is known;
+ * the search therefore corrects labels: a node whose distance improves is
+ * queued again, and the queued copies with outdated distances are skipped.
+ * Reaching the target gives an upper bound on the cost of a shortest path,
+ * and every node whose distance plus estimate reaches the bound is pruned.
+ * The search ends when no queued or running work is left, at which point the
+ * bound is optimal for an admissible heuristic function.
+ * <p>
+ * The finder ignores the queue factory, since the open list is shared by the
+ * threads.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class ParallelAStarPathFinder extends HeuristicPathFinder {
+
+    /**
+     * The number of heaps of the shared queue per thread.
+     */
+    private static final int HEAPS_PER_THREAD = 2;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a finder running on the common pool.
+     */
+    public ParallelAStarPathFinder() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a finder running one search thread per parallelism level of
+     * {@code pool}.
+     *
+     * @param pool the pool to search on.
+     */
+    public ParallelAStarPathFinder(final ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool, "The input pool is null.");
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int getRequiredDirections() {
+        return Digraph.FORWARD;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public List<Integer> search(final Digraph digraph,
+                                final HeuristicFunction heuristicFunction,
+                                final int source,
+                                final int target) {
+        Objects.requireNonNull(digraph, "The input digraph is null.");
+        Objects.requireNonNull(heuristicFunction,
+                               "The input heuristic function is null.");
+        checkDirections(digraph);
+
+        if (isUnreachable(source, target) || !digraph.hasNode(source)) {
+            return new ArrayList<>();
+        }
+
+        final int threads = pool.getParallelism();
+        final Search search = new Search(digraph,
+                                         heuristicFunction,
+                                         target,
+                                         getRegion(target),
+                                         Thread.currentThread(),
+                                         new MultiQueue<>(HEAPS_PER_THREAD *
+                                                          threads));
+        search.start(source);
+
+        final List<ForkJoinTask<?>> tasks = new ArrayList<>(threads);
+
+        for (int i = 0; i < threads; ++i) {
+            tasks.add(ForkJoinTask.adapt(search::run));
+        }
+
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+
+        checkInterrupted();
+        return search.tracebackPath(source);
+    }
+
+    /**
+     * The best known distance and the parent of a reached node.
+     */
+    private static final class NodeRecord {
+
+        private double distance;
+        private Integer parent;
+
+        NodeRecord(final double distance, final Integer parent) {
+            this.distance = distance;
+            this.parent = parent;
+        }
+
+        synchronized double getDistance() {
+            return distance;
+        }
+
+        synchronized Integer getParent() {
+            return parent;
+        }
+
+        /**
+         * Lowers the distance of this node if {@code distance} improves it.
+         *
+         * @return {@code true} if the distance was lowered.
+         */
+        synchronized boolean improve(final double distance,
+                                     final Integer parent) {
+            if (this.distance <= distance) {
+                return false;
+            }
+
+            this.distance = distance;
+            this.parent = parent;
+            return true;
+        }
+    }
+
+    /**
+     * A queued node with the distance it was queued with.
+     */
+    private static final class Entry {
+
+        final Integer node;
+        final double distance;
+
+        Entry(final Integer node, final double distance) {
+            this.node = node;
+            this.distance = distance;
+        }
+    }
+
+    /**
+     * The state shared by the threads of one query.
+     */
+    private final class Search {
+
+        private final Digraph digraph;
+        private final HeuristicFunction heuristicFunction;
+        private final int target;
+        private final int targetRegion;
+        private final Thread caller;
+        private final ConcurrentMinimumPriorityQueue<Entry> OPEN;
+        private final ConcurrentHashMap<Integer, NodeRecord> records =
+                new ConcurrentHashMap<>();
+
+        /**
+         * The number of queued entries plus the number of entries being
+         * expanded. The search is over when this drops to zero.
+         */
+        private final AtomicLong pending = new AtomicLong();
+
+        /**
+         * The bits of the best known path cost, which, being non-negative,
+         * order as the costs do.
+         */
+        private final AtomicLong bestPathCostBits =
+                new AtomicLong(Double.doubleToLongBits(
+                        Double.POSITIVE_INFINITY));
+
+        private volatile boolean cancelled;
+
+        Search(final Digraph digraph,
+               final HeuristicFunction heuristicFunction,
+               final int target,
+               final int targetRegion,
+               final Thread caller,
+               final ConcurrentMinimumPriorityQueue<Entry> OPEN) {
+            this.digraph = digraph;
+            this.heuristicFunction = heuristicFunction;
+            this.target = target;
+            this.targetRegion = targetRegion;
+            this.caller = caller;
+            this.OPEN = OPEN;
+        }
+
+        void start(final int source) {
+            final Integer sourceNode = source;
+            records.put(sourceNode, new NodeRecord(0.0, null));
+            pending.incrementAndGet();
+            OPEN.add(new Entry(sourceNode, 0.0),
+                     heuristicFunction.estimate(source, target));
+        }
+
+        void run() {
+            final List<Entry> batch = new ArrayList<>();
+
+            while (pending.get() > 0L && !cancelled) {
+                if (caller.isInterrupted()) {
+                    cancelled = true;
+                    return;
+                }
+
+                final Entry entry = OPEN.extractMinimum();
+
+                if (entry == null) {
+                    // Another thread is expanding the last entries.
+                    Thread.yield();
+                    continue;
+                }
+
+                batch.clear();
+                expand(entry, batch);
+                pending.addAndGet(batch.size());
+
+                for (final Entry child : batch) {
+                    OPEN.add(child,
+                             child.distance +
+                             heuristicFunction.estimate(child.node.intValue(),
+                                                        target));
+                }
+
+                pending.decrementAndGet();
+            }
+        }
+
+        private void expand(final Entry entry, final List<Entry> batch) {
+            final int current = entry.node;
+            final double bestPathCost = getBestPathCost();
+
+            if (records.get(entry.node).getDistance() < entry.distance
+                    || entry.distance +
+                       heuristicFunction.estimate(current, target)
+                       >= bestPathCost) {
+                // Outdated or pruned.
+                return;
+            }
+
+            if (current == target) {
+                improveBestPathCost(entry.distance);
+                return;
+            }
+
+            for (final ArcCursor arc = digraph.getChildArcsOf(current);
+                    arc.next();) {
+                final Integer child = arc.getNode();
+
+                if (isPrunedForward(current, child, targetRegion)) {
+                    continue;
+                }
+
+                final double tentativeCost = entry.distance + arc.getWeight();
+
+                if (tentativeCost >= bestPathCost) {
+                    continue;
+                }
+
+                final NodeRecord record = records.get(child);
+
+                if (record == null) {
+                    if (records.putIfAbsent(
+                            child,
+                            new NodeRecord(tentativeCost,
+                                           entry.node)) == null) {
+                        batch.add(new Entry(child, tentativeCost));
+                    } else if (records.get(child).improve(tentativeCost,
+                                                          entry.node)) {
+                        batch.add(new Entry(child, tentativeCost));
+                    }
+                } else if (record.improve(tentativeCost, entry.node)) {
+                    batch.add(new Entry(child, tentativeCost));
+                }
+            }
+        }
+
+        private double getBestPathCost() {
+            return Double.longBitsToDouble(bestPathCostBits.get());
+        }
+
+        private void improveBestPathCost(final double cost) {
+            final long bits = Double.doubleToLongBits(cost);
+            long current;
+
+            do {
+                current = bestPathCostBits.get();
+
+                if (current <= bits) {
+                    return;
+                }
+            } while (!bestPathCostBits.compareAndSet(current, bits));
+        }
+
+        List<Integer> tracebackPath(final int source) {
+            final NodeRecord targetRecord = records.get(target);
+
+            if (targetRecord == null
+                    || getBestPathCost() == Double.POSITIVE_INFINITY) {
+                return new ArrayList<>();
+            }
+
+            final List<Integer> path = new ArrayList<>();
+
+            for (Integer node = target; node != null;
+                    node = records.get(node).getParent()) {
+                path.add(node);
+            }
+
+            Collections.reverse(path);
+            return path;
+        }
+    }
+}
@@ -8,13 +8,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
+import net.coderodde.graph.ArcCursor;
 import net.coderodde.graph.Digraph;
 import net.coderodde.graph.sp.HeuristicPathFinder;
 import net.coderodde.graph.util.HeuristicFunction;
 import net.coderodde.util.MinimumPriorityQueue;
-import net.coderodde.util.support.DaryHeap;
 
 /**
  * This class implements a bidirectional heuristic graph search algorithm that
@@ -34,24 +35,28 @@ extends HeuristicPathFinder {
     @Override
     public List<Integer> search(final Digraph digraph, 
                                 final HeuristicFunction heuristicFunction, 
-                                final Integer source, 
-                                final Integer target) {
+                                final int source, 
+                                final int target) {
         Objects.requireNonNull(digraph, "The input digraph is null.");
         Objects.requireNonNull(heuristicFunction, 
                                "The input heuristic function is null.");
-        Objects.requireNonNull(source, "The source node is null.");
-        Objects.requireNonNull(target, "The target node is null.");
+        checkDirections(digraph);
 
-        if (source.equals(target)) {
+        if (source == target) {
             return new ArrayList<>(Arrays.asList(target));
         }
 
+        if (isUnreachable(source, target)) {
+            return new ArrayList<>();
+        }
+
         final PathLengthHolder pathLengthHolder = new PathLengthHolder();
         final Set<Integer> CLOSED = 
                 Collections.<Integer>newSetFromMap(new ConcurrentHashMap<>());
 
         final SearchThread forwardThread = 
-                new ForwardSearchThread(CLOSED,
+                new ForwardSearchThread(queueFactory.newQueue(),
+                                        CLOSED,
                                         digraph,
                                         heuristicFunction, 
                                         source, 
@@ -59,7 +64,8 @@ extends HeuristicPathFinder {
                                         pathLengthHolder);
 
         final SearchThread backwardThread = 
-                new BackwardSearchThread(CLOSED,
+                new BackwardSearchThread(queueFactory.newQueue(),
+                                         CLOSED,
                                          digraph, 
                                          heuristicFunction, 
                                          source, 
@@ -69,6 +75,11 @@ extends HeuristicPathFinder {
         forwardThread.setBrotherThread(backwardThread);
         backwardThread.setBrotherThread(forwardThread);
 
+        // Seed both search trees before either thread starts, lest a thread 
+        // exhaust its search before the other one has reached its root node.
+        forwardThread.initialize(source);
+        backwardThread.initialize(target);
+
         forwardThread.start();
         backwardThread.start();
 
@@ -76,7 +87,9 @@ extends HeuristicPathFinder {
             forwardThread.join();
             backwardThread.join();
         } catch (InterruptedException ex) {
-            throw new RuntimeException("PNBA* was interrupted!");
+            forwardThread.finish();
+            Thread.currentThread().interrupt();
+            throw new CancellationException("PNBA* was interrupted!");
         }
 
         final Integer touchNode = pathLengthHolder.getTouchNode();
@@ -122,7 +135,7 @@ extends HeuristicPathFinder {
         protected volatile boolean finished;
         protected volatile double F;
         protected SearchThread brotherThread;
-        protected final MinimumPriorityQueue<Integer> OPEN = new DaryHeap<>();
+        protected final MinimumPriorityQueue<Integer> OPEN;
         protected final Set<Integer> CLOSED;
         protected final Map<Integer, Integer> PARENTS = new HashMap<>();
         protected final Map<Integer, Double> DISTANCE = new HashMap<>();
@@ -132,12 +145,14 @@ extends HeuristicPathFinder {
         protected final Integer source;
         protected final Integer target;
 
-        SearchThread(final Set<Integer> CLOSED,
+        SearchThread(final MinimumPriorityQueue<Integer> OPEN,
+                     final Set<Integer> CLOSED,
                      final Digraph digraph,
                      final HeuristicFunction heuristicFunction,
                      final Integer source,
                      final Integer target,
                      final PathLengthHolder pathLengthHolder) {
+            this.OPEN = OPEN;
             this.CLOSED = CLOSED;
             this.digraph = digraph;
             this.heuristicFunction = heuristicFunction;
@@ -154,6 +169,13 @@ extends HeuristicPathFinder {
             this.brotherThread = brotherThread;
         }
 
+        void initialize(final Integer root) {
+            F = heuristicFunction.estimate(source, target);
+            PARENTS.put(root, null);
+            DISTANCE.put(root, 0.0);
+            OPEN.add(root, F);
+        }
+
         void finish() {
             finished = true;
             brotherThread.finished = true;
@@ -174,14 +196,16 @@ extends HeuristicPathFinder {
 
     private static final class ForwardSearchThread extends SearchThread {
 
-        ForwardSearchThread(final Set<Integer> CLOSED,
+        ForwardSearchThread(final MinimumPriorityQueue<Integer> OPEN,
+                            final Set<Integer> CLOSED,
                             final Digraph digraph,
                             final HeuristicFunction heuristicFunction,
                             final Integer source,
                             final Integer target,
                             final PathLengthHolder pathLengthHolder) {
 
-            super(CLOSED,
+            super(OPEN,
+                  CLOSED,
                   digraph,
                   heuristicFunction, 
                   source, 
@@ -191,11 +215,6 @@ extends HeuristicPathFinder {
 
         @Override
         public void run() {
-            F = heuristicFunction.estimate(source, target);
-            PARENTS.put(source, null);
-            DISTANCE.put(source, 0.0);
-            OPEN.add(source, F);
-
             while (!finished) {
                 if (OPEN.isEmpty()) {
                     finish();
@@ -213,17 +232,18 @@ extends HeuristicPathFinder {
                 final double L = pathLengthHolder.read();
                 double tmp = DISTANCE.get(current) + 
                              brotherThread.getF() - 
-                             heuristicFunction.estimate(current, source);
+                             heuristicFunction.estimate(source, current);
 
                 if (f < L && tmp < L) {
-                    for (final Integer child : digraph.getChildrenOf(current)) {
+                    for (final ArcCursor arc = digraph.getChildArcsOf(current); 
+                            arc.next();) {
+                        final Integer child = arc.getNode();
                         if (CLOSED.contains(child)) {
                             continue;
                         }
 
                         double tentativeScore = DISTANCE.get(current) + 
-                                                digraph.getEdgeWeight(current, 
-                                                                      child);
+                                                arc.getWeight();
 
                         if (!DISTANCE.containsKey(child)) {
                             DISTANCE.put(child, tentativeScore);
@@ -283,13 +303,15 @@ extends HeuristicPathFinder {
 
     private static final class BackwardSearchThread extends SearchThread {
 
-        BackwardSearchThread(final Set<Integer> CLOSED,
+        BackwardSearchThread(final MinimumPriorityQueue<Integer> OPEN,
+                             final Set<Integer> CLOSED,
                              final Digraph digraph,
                              final HeuristicFunction heuristicFunction,
                              final Integer source,
                              final Integer target,
                              final PathLengthHolder pathLengthHolder) {
-            super(CLOSED,
+            super(OPEN,
+                  CLOSED,
                   digraph, 
                   heuristicFunction,
                   source,
@@ -299,11 +321,6 @@ extends HeuristicPathFinder {
 
         @Override
         public void run() {
-            F = heuristicFunction.estimate(source, target);
-            PARENTS.put(target, null);
-            DISTANCE.put(target, 0.0);
-            OPEN.add(target, F);
-
             while (!finished) {
                 if (OPEN.isEmpty()) {
                     finish();
@@ -317,28 +334,30 @@ extends HeuristicPathFinder {
                 }
 
                 final double f = DISTANCE.get(current) + 
-                           heuristicFunction.estimate(current, source);
+                           heuristicFunction.estimate(source, current);
                 final double L = pathLengthHolder.read();
                 double tmp = DISTANCE.get(current) + 
                              brotherThread.getF() - 
                              heuristicFunction.estimate(current, target);
 
                 if (f < L && tmp < L) {
-                    for (final Integer parent : digraph.getParentsOf(current)) {
+                    for (final ArcCursor arc = 
+                                 digraph.getParentArcsOf(current); 
+                            arc.next();) {
+                        final Integer parent = arc.getNode();
                         if (CLOSED.contains(parent)) {
                             continue;
                         }
 
                         double tentativeScore = DISTANCE.get(current) + 
-                                                digraph.getEdgeWeight(parent, 
-                                                                      current);
+                                                arc.getWeight();
                         if (!DISTANCE.containsKey(parent)) {
                             DISTANCE.put(parent, tentativeScore);
                             PARENTS.put(parent, current);
                             OPEN.add(parent, 
                                      tentativeScore + 
-                                     heuristicFunction.estimate(parent, 
-                                                                source));
+                                     heuristicFunction.estimate(source, 
+                                                                parent));
 
                             Map<Integer, Double> OTHER_DISTANCE =
                                     getBrotherThread().getDistanceMap();
@@ -358,8 +377,8 @@ extends HeuristicPathFinder {
                             OPEN.decreasePriority(
                                      parent,
                                      tentativeScore +
-                                     heuristicFunction.estimate(parent, 
-                                                                source));
+                                     heuristicFunction.estimate(source, 
+                                                                parent));
 
                             Map<Integer, Double> OTHER_DISTANCE = 
                                     getBrotherThread().getDistanceMap();
@@ -385,7 +404,7 @@ extends HeuristicPathFinder {
                 }
 
                 this.F = DISTANCE.get(OPEN.min()) + 
-                         heuristicFunction.estimate(OPEN.min(), target);
+                         heuristicFunction.estimate(source, OPEN.min());
             }
         }
     }
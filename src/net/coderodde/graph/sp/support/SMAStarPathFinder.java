@@ -0,0 +1,391 @@
+package net.coderodde.graph.sp.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import net.coderodde.graph.ArcCursor;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.sp.HeuristicPathFinder;
+import net.coderodde.graph.util.HeuristicFunction;
+
+/**
+ * This class implements SMA* (simplified memory-bounded A*) by Stuart Russell.
+ * The search keeps at most a given number of nodes in memory. When the limit
+ * is exceeded, it first forgets the expanded nodes left without children,
+ * which serve only for detecting duplicates. Next, it forgets the open leaf
+ * with the largest <i>f</i>-value, and its parent remembers the smallest
+ * <i>f</i>-value of its forgotten children, so that the parent is expanded
+ * again once the forgotten subtree may contain the shortest path. A node
+ * reached via a shorter path is moved under its new parent and reopened, as in
+ * A* on graphs with inconsistent heuristics.
+ * <p>
+ * With an admissible heuristic, the returned path is shortest among the paths
+ * having fewer nodes than the memory limit. The more memory is available, the
+ * fewer nodes are generated repeatedly; with a limit exceeding the number of
+ * nodes ever reached, SMA* expands the same nodes as A*. Since forgotten nodes
+ * lose their duplicate detection, a limit far below the number of reachable
+ * nodes may make the running time grow exponentially, notably for unreachable
+ * targets; {@link FrontierAStarPathFinder} handles those in linear time, and
+ * {@link net.coderodde.graph.sp.AsyncPathFinder} may cancel a query running
+ * for too long. The open list is an ordered set that supports removing the
+ * worst node, so the queue factory of this finder is not used.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class SMAStarPathFinder extends HeuristicPathFinder {
+
+    /**
+     * The default maximum number of nodes kept in memory.
+     */
+    public static final int DEFAULT_MEMORY_LIMIT = 1 << 20;
+
+    /**
+     * Orders the open nodes by their keys, the deeper ones first on ties.
+     * Thus, the best node to expand is the first one, and the worst node to
+     * forget is the last one.
+     */
+    private static final Comparator<SearchNode> ORDER = (a, b) -> {
+        final int cmp = Double.compare(a.key, b.key);
+
+        if (cmp != 0) {
+            return cmp;
+        }
+
+        if (a.depth != b.depth) {
+            return Integer.compare(b.depth, a.depth);
+        }
+
+        return Long.compare(a.serial, b.serial);
+    };
+
+    /**
+     * The maximum number of nodes kept in memory.
+     */
+    private int memoryLimit = DEFAULT_MEMORY_LIMIT;
+
+    /**
+     * Sets the maximum number of nodes kept in memory.
+     *
+     * @param memoryLimit the maximum number of nodes, at least two.
+     */
+    public void setMemoryLimit(final int memoryLimit) {
+        if (memoryLimit < 2) {
+            throw new IllegalArgumentException(
+                    "The memory limit must be at least 2, received " +
+                    memoryLimit + ".");
+        }
+
+        this.memoryLimit = memoryLimit;
+    }
+
+    /**
+     * Returns the maximum number of nodes kept in memory.
+     *
+     * @return the memory limit.
+     */
+    public int getMemoryLimit() {
+        return memoryLimit;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int getRequiredDirections() {
+        return Digraph.FORWARD;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public List<Integer> search(final Digraph digraph,
+                                final HeuristicFunction heuristicFunction,
+                                final int source,
+                                final int target) {
+        Objects.requireNonNull(digraph, "The input digraph is null.");
+        Objects.requireNonNull(heuristicFunction,
+                               "The input heuristic function is null.");
+        checkDirections(digraph);
+
+        if (source == target) {
+            return new ArrayList<>(Arrays.asList(target));
+        }
+
+        if (isUnreachable(source, target)) {
+            return new ArrayList<>();
+        }
+
+        return new Search(digraph,
+                          heuristicFunction,
+                          source,
+                          target,
+                          memoryLimit).run();
+    }
+
+    /**
+     * A node of the search tree.
+     */
+    private static final class SearchNode {
+
+        final int node;
+        final long serial;
+
+        SearchNode parent;
+        int depth;
+        double g;
+
+        /**
+         * The <i>f</i>-value of this node, never less than the
+         * <i>f</i>-value of its parent.
+         */
+        double f;
+
+        /**
+         * The priority of this node in the open list: the <i>f</i>-value
+         * when the node is yet to be expanded, and the smallest
+         * <i>f</i>-value of its forgotten children when it is to be expanded
+         * again.
+         */
+        double key;
+
+        /**
+         * The smallest <i>f</i>-value of the forgotten children.
+         */
+        double forgotten = Double.POSITIVE_INFINITY;
+
+        /**
+         * The number of children in memory.
+         */
+        int children;
+
+        boolean open;
+
+        SearchNode(final int node, final long serial) {
+            this.node = node;
+            this.serial = serial;
+        }
+    }
+
+    /**
+     * The state of a single search.
+     */
+    private final class Search {
+
+        private final Digraph digraph;
+        private final HeuristicFunction heuristicFunction;
+        private final int source;
+        private final int target;
+        private final int memoryLimit;
+        private final int targetRegion;
+
+        private final NavigableSet<SearchNode> OPEN = new TreeSet<>(ORDER);
+        private final Map<Integer, SearchNode> MEMORY = new HashMap<>();
+
+        /**
+         * The expanded nodes having neither children in memory nor forgotten
+         * children, in the order they became such. None of them may lead to a
+         * shorter path than the nodes in memory, so they are kept only for
+         * detecting duplicates, and are the first ones to forget.
+         */
+        private final Set<SearchNode> DEAD = new LinkedHashSet<>();
+
+        private long serial;
+
+        Search(final Digraph digraph,
+               final HeuristicFunction heuristicFunction,
+               final int source,
+               final int target,
+               final int memoryLimit) {
+            this.digraph = digraph;
+            this.heuristicFunction = heuristicFunction;
+            this.source = source;
+            this.target = target;
+            this.memoryLimit = memoryLimit;
+            this.targetRegion = getRegion(target);
+        }
+
+        List<Integer> run() {
+            final SearchNode root = new SearchNode(source, serial++);
+            root.f = heuristicFunction.estimate(source, target);
+            MEMORY.put(source, root);
+            open(root, root.f);
+
+            while (!OPEN.isEmpty()) {
+                checkInterrupted();
+
+                final SearchNode current = OPEN.pollFirst();
+                current.open = false;
+
+                if (current.node == target) {
+                    return tracebackPath(current);
+                }
+
+                // A node expanded again inherits the smallest f-value of its
+                // forgotten children, and passes it on to them.
+                current.f = current.key;
+                current.forgotten = Double.POSITIVE_INFINITY;
+                expand(current);
+                checkDead(current);
+            }
+
+            return new ArrayList<>();
+        }
+
+        private void expand(final SearchNode current) {
+            // A child at this depth would not leave room in memory for its
+            // ancestors, and thus for the path leading to it.
+            if (current.depth + 1 >= memoryLimit) {
+                return;
+            }
+
+            for (final ArcCursor arc = digraph.getChildArcsOf(current.node); 
+                    arc.next();) {
+                final Integer child = arc.getNode();
+                if (isPrunedForward(current.node, child, targetRegion)) {
+                    continue;
+                }
+
+                final double g = current.g + arc.getWeight();
+
+                SearchNode node = MEMORY.get(child);
+
+                if (node != null) {
+                    if (node.g <= g) {
+                        continue;
+                    }
+
+                    final SearchNode oldParent = node.parent;
+                    --oldParent.children;
+
+                    if (oldParent != current) {
+                        checkDead(oldParent);
+                    }
+
+                    if (node.open) {
+                        OPEN.remove(node);
+                        node.open = false;
+                    } else {
+                        DEAD.remove(node);
+                    }
+                } else {
+                    node = new SearchNode(child, serial++);
+                    MEMORY.put(child, node);
+                }
+
+                node.parent = current;
+                node.depth = current.depth + 1;
+                node.g = g;
+                node.f = Math.max(g + heuristicFunction.estimate(node.node,
+                                                                 target),
+                                  current.f);
+                ++current.children;
+                open(node, node.f);
+
+                while (MEMORY.size() > memoryLimit) {
+                    if (!DEAD.isEmpty()) {
+                        forgetDead();
+                    } else if (!forgetWorstLeaf()) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Forgets the oldest dead node.
+         */
+        private void forgetDead() {
+            final Iterator<SearchNode> iterator = DEAD.iterator();
+            final SearchNode node = iterator.next();
+            iterator.remove();
+            MEMORY.remove(node.node);
+            --node.parent.children;
+            checkDead(node.parent);
+        }
+
+        /**
+         * Forgets the open leaf with the largest key, letting its parent
+         * remember the key.
+         *
+         * @return {@code true} if a leaf was forgotten.
+         */
+        private boolean forgetWorstLeaf() {
+            final Iterator<SearchNode> iterator = OPEN.descendingIterator();
+
+            while (iterator.hasNext()) {
+                final SearchNode leaf = iterator.next();
+
+                if (leaf.children > 0 || leaf.parent == null) {
+                    continue;
+                }
+
+                iterator.remove();
+                leaf.open = false;
+                MEMORY.remove(leaf.node);
+
+                final SearchNode parent = leaf.parent;
+                --parent.children;
+                parent.forgotten = Math.min(parent.forgotten, leaf.key);
+
+                if (parent.open) {
+                    if (parent.key > leaf.key) {
+                        OPEN.remove(parent);
+                        open(parent, leaf.key);
+                    }
+                } else {
+                    DEAD.remove(parent);
+                    open(parent, parent.forgotten);
+                }
+
+                return true;
+            }
+
+            return false;
+        }
+
+        /**
+         * Marks {@code node} as dead if it is expanded and has neither
+         * children in memory nor forgotten children. The root is never dead.
+         *
+         * @param node the node to check.
+         */
+        private void checkDead(final SearchNode node) {
+            if (node.children == 0
+                    && !node.open
+                    && node.forgotten == Double.POSITIVE_INFINITY
+                    && node.parent != null) {
+                DEAD.add(node);
+            }
+        }
+
+        private void open(final SearchNode node, final double key) {
+            node.key = key;
+            node.open = true;
+            OPEN.add(node);
+        }
+
+        private List<Integer> tracebackPath(SearchNode node) {
+            final List<Integer> path = new ArrayList<>(node.depth + 1);
+
+            while (node != null) {
+                path.add(node.node);
+                node = node.parent;
+            }
+
+            Collections.<Integer>reverse(path);
+            return path;
+        }
+    }
+}
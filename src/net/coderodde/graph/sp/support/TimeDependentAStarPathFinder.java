@@ -0,0 +1,163 @@
+package net.coderodde.graph.sp.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.coderodde.graph.ArcCursor;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.TimeDependentDigraph;
+import net.coderodde.graph.TravelTimeCursor;
+import net.coderodde.graph.sp.HeuristicPathFinder;
+import net.coderodde.graph.util.HeuristicFunction;
+import net.coderodde.util.MinimumPriorityQueue;
+
+/**
+ * This class implements time-dependent A*: the search finds a path arriving
+ * at the target as early as possible when leaving the source at a given
+ * departure time. The arcs of a {@link TimeDependentDigraph} are traversed
+ * with the travel times of their functions at the times the search reaches
+ * their tails; since the functions are FIFO, the earliest arrival at a node is
+ * the best time to leave it, and the search settles each node once as plain
+ * A* does.
+ * <p>
+ * The heuristic function must be a lower bound on the remaining travel time at
+ * any time, which holds for any function admissible and consistent for the
+ * static weights of the graph, these being the minimum travel times. The arc
+ * flags are ignored. On a graph other than a {@link TimeDependentDigraph},
+ * the static weights are used as constant travel times.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class TimeDependentAStarPathFinder extends HeuristicPathFinder {
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int getRequiredDirections() {
+        return Digraph.FORWARD;
+    }
+
+    /**
+     * Searches a path departing from {@code source} at time 0.
+     */
+    @Override
+    public List<Integer> search(final Digraph digraph,
+                                final HeuristicFunction heuristicFunction,
+                                final int source,
+                                final int target) {
+        return search(digraph, heuristicFunction, source, target, 0.0);
+    }
+
+    /**
+     * Searches a path from {@code source} to {@code target} with the earliest
+     * arrival when departing at {@code departureTime}.
+     *
+     * @param digraph           the directed graph in which to search.
+     * @param heuristicFunction the lower bound on the remaining travel time.
+     * @param source            the source node.
+     * @param target            the target node.
+     * @param departureTime     the departure time from the source node.
+     * @return a list of integers representing a path from {@code source} to
+     *         {@code target} or an empty list if the target node is not
+     *         reachable from the source node.
+     */
+    public List<Integer> search(final Digraph digraph,
+                                final HeuristicFunction heuristicFunction,
+                                final int source,
+                                final int target,
+                                final double departureTime) {
+        Objects.requireNonNull(digraph, "The input digraph is null.");
+        Objects.requireNonNull(heuristicFunction,
+                               "The input heuristic function is null.");
+        checkDirections(digraph);
+
+        if (isUnreachable(source, target)) {
+            return new ArrayList<>();
+        }
+
+        final TimeDependentDigraph timeDependentDigraph =
+                digraph instanceof TimeDependentDigraph ?
+                (TimeDependentDigraph) digraph :
+                null;
+        final MinimumPriorityQueue<Integer> OPEN = queueFactory.newQueue();
+        final NodeTable TABLE = new NodeTable();
+        final ExpansionBatch batch = new ExpansionBatch();
+
+        // The distances are the travel times since the departure.
+        OPEN.add(source, heuristicFunction.estimate(source, target));
+        TABLE.add(source, 0.0, source);
+
+        while (!OPEN.isEmpty()) {
+            checkInterrupted();
+
+            final int current = OPEN.extractMinimum();
+
+            if (current == target) {
+                return TABLE.tracebackPath(target);
+            }
+
+            final int currentSlot = TABLE.find(current);
+            final double currentDistance = TABLE.getDistance(currentSlot);
+            final double currentTime = departureTime + currentDistance;
+
+            TABLE.close(currentSlot);
+            batch.clear();
+
+            if (timeDependentDigraph != null) {
+                for (final TravelTimeCursor arc =
+                        timeDependentDigraph.getTravelTimesOf(current);
+                        arc.next();) {
+                    relax(TABLE,
+                          batch,
+                          current,
+                          arc.getNode(),
+                          currentDistance,
+                          arc.getTravelTime(currentTime));
+                }
+            } else {
+                for (final ArcCursor arc = digraph.getChildArcsOf(current);
+                        arc.next();) {
+                    relax(TABLE,
+                          batch,
+                          current,
+                          arc.getNode(),
+                          currentDistance,
+                          arc.getWeight());
+                }
+            }
+
+            heuristicFunction.estimateAll(batch.nodes,
+                                          batch.size,
+                                          target,
+                                          batch.estimates);
+            batch.push(OPEN);
+        }
+
+        return new ArrayList<>();
+    }
+
+    private static void relax(final NodeTable TABLE,
+                              final ExpansionBatch batch,
+                              final int current,
+                              final Integer child,
+                              final double currentDistance,
+                              final double travelTime) {
+        final int childSlot = TABLE.find(child);
+
+        if (childSlot >= 0 && TABLE.isClosed(childSlot)) {
+            return;
+        }
+
+        final double tentativeCost = currentDistance + travelTime;
+
+        if (childSlot < 0) {
+            TABLE.add(child, tentativeCost, current);
+            batch.add(child, tentativeCost, true);
+        } else if (TABLE.getDistance(childSlot) > tentativeCost) {
+            TABLE.update(childSlot, tentativeCost, current);
+            batch.add(child, tentativeCost, false);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package net.coderodde.graph.util;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import net.coderodde.graph.Digraph;
+
+/**
+ * This class implements <i>arc flags</i>. Given a partition of the graph nodes
+ * into regions, each arc {@code (u, v)} receives a bit vector with one bit per
+ * region. The forward bit of a region {@code R} is set if and only if the arc
+ * lies on some shortest path ending in {@code R}, and the backward bit is set
+ * if and only if the arc lies on some shortest path starting in {@code R}. A
+ * forward search towards a target in region {@code R} may ignore all arcs
+ * whose forward bit for {@code R} is not set, and a backward search towards a
+ * source in region {@code R} may ignore all arcs whose backward bit is not
+ * set.
+ * <p>
+ * The flags are computed once in the constructor by running a Dijkstra search
+ * from each boundary node of each region. They become stale whenever the graph
+ * is modified.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class ArcFlags {
+
+    /**
+     * The relative slack used when deciding whether an arc is tight, i.e.,
+     * lies on a shortest path. Flagging too many arcs is always safe.
+     */
+    private static final double EPSILON = 1e-9;
+
+    private final NodePartition partition;
+
+    private final Map<Integer, Map<Integer, long[]>> forwardFlags =
+            new HashMap<>();
+
+    private final Map<Integer, Map<Integer, long[]>> backwardFlags =
+            new HashMap<>();
+
+    /**
+     * Computes the arc flags of {@code digraph} with respect to
+     * {@code partition}.
+     *
+     * @param digraph   the graph to preprocess.
+     * @param partition the partition of the graph nodes.
+     */
+    public ArcFlags(final Digraph digraph, final NodePartition partition) {
+        Objects.requireNonNull(digraph, "The input digraph is null.");
+        Objects.requireNonNull(partition, "The input partition is null.");
+        this.partition = partition;
+        final int words = (partition.getNumberOfRegions() + 63) / 64;
+
+        for (final Integer tail : digraph.getAllNodes()) {
+            final Map<Integer, long[]> forward = new HashMap<>();
+            final Map<Integer, long[]> backward = new HashMap<>();
+
+            for (final Integer head : digraph.getChildrenOf(tail)) {
+                forward .put(head, new long[words]);
+                backward.put(head, new long[words]);
+            }
+
+            forwardFlags .put(tail, forward);
+            backwardFlags.put(tail, backward);
+        }
+
+        for (int region = 0;
+                region < partition.getNumberOfRegions();
+                ++region) {
+            computeRegion(digraph, region);
+        }
+    }
+
+    /**
+     * Returns the partition these arc flags are computed for.
+     *
+     * @return the node partition.
+     */
+    public NodePartition getPartition() {
+        return partition;
+    }
+
+    /**
+     * Returns the region of {@code node}, or {@code -1} if the node is not
+     * covered by the partition.
+     *
+     * @param node the node whose region to return.
+     * @return the region of the node.
+     */
+    public int getRegion(final int node) {
+        return partition.getRegion(node);
+    }
+
+    /**
+     * Returns {@code true} if the arc {@code (tail, head)} lies on some
+     * shortest path ending in the region {@code region}. Unknown arcs are
+     * never pruned.
+     *
+     * @param tail   the tail node of the arc.
+     * @param head   the head node of the arc.
+     * @param region the region of the target node.
+     * @return {@code true} if the arc may be relaxed by a forward search.
+     */
+    public boolean isForwardFlagged(final int tail,
+                                    final int head,
+                                    final int region) {
+        return isFlagged(forwardFlags, tail, head, region);
+    }
+
+    /**
+     * Returns {@code true} if the arc {@code (tail, head)} lies on some
+     * shortest path starting in the region {@code region}. Unknown arcs are
+     * never pruned.
+     *
+     * @param tail   the tail node of the arc.
+     * @param head   the head node of the arc.
+     * @param region the region of the source node.
+     * @return {@code true} if the arc may be relaxed by a backward search.
+     */
+    public boolean isBackwardFlagged(final int tail,
+                                     final int head,
+                                     final int region) {
+        return isFlagged(backwardFlags, tail, head, region);
+    }
+
+    /**
+     * Computes both the forward and the backward flags of the region
+     * {@code region}.
+     *
+     * @param digraph the graph being preprocessed.
+     * @param region  the region to compute.
+     */
+    private void computeRegion(final Digraph digraph, final int region) {
+        final Set<Integer> entryNodes = new HashSet<>();
+        final Set<Integer> exitNodes = new HashSet<>();
+
+        for (final Integer node : digraph.getAllNodes()) {
+            if (partition.getRegion(node) != region) {
+                continue;
+            }
+
+            for (final Integer child : digraph.getChildrenOf(node)) {
+                if (partition.getRegion(child) == region) {
+                    setFlag(forwardFlags,  node, child, region);
+                    setFlag(backwardFlags, node, child, region);
+                } else {
+                    exitNodes.add(node);
+                }
+            }
+
+            for (final Integer parent : digraph.getParentsOf(node)) {
+                if (partition.getRegion(parent) != region) {
+                    entryNodes.add(node);
+                }
+            }
+        }
+
+        for (final Integer entryNode : entryNodes) {
+            final Map<Integer, Double> distance =
+                    ShortestPathTrees.computeDistances(digraph,
+                                                       entryNode,
+                                                       false);
+
+            for (final Map.Entry<Integer, Double> e : distance.entrySet()) {
+                final Integer head = e.getKey();
+                final double headDistance = e.getValue();
+
+                for (final Integer tail : digraph.getParentsOf(head)) {
+                    final Double tailDistance = distance.get(tail);
+
+                    if (tailDistance != null
+                            && isTight(headDistance +
+                                       digraph.getEdgeWeight(tail, head),
+                                       tailDistance)) {
+                        setFlag(forwardFlags, tail, head, region);
+                    }
+                }
+            }
+        }
+
+        for (final Integer exitNode : exitNodes) {
+            final Map<Integer, Double> distance =
+                    ShortestPathTrees.computeDistances(digraph,
+                                                       exitNode,
+                                                       true);
+
+            for (final Map.Entry<Integer, Double> e : distance.entrySet()) {
+                final Integer tail = e.getKey();
+                final double tailDistance = e.getValue();
+
+                for (final Integer head : digraph.getChildrenOf(tail)) {
+                    final Double headDistance = distance.get(head);
+
+                    if (headDistance != null
+                            && isTight(tailDistance +
+                                       digraph.getEdgeWeight(tail, head),
+                                       headDistance)) {
+                        setFlag(backwardFlags, tail, head, region);
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean isTight(final double pathDistance,
+                                   final double shortestDistance) {
+        return pathDistance <= shortestDistance +
+                               EPSILON * Math.max(1.0, shortestDistance);
+    }
+
+    private boolean isFlagged(final Map<Integer, Map<Integer, long[]>> flags,
+                              final int tail,
+                              final int head,
+                              final int region) {
+        if (region < 0) {
+            return true;
+        }
+
+        final Map<Integer, long[]> arcs = flags.get(tail);
+
+        if (arcs == null) {
+            return true;
+        }
+
+        final long[] bits = arcs.get(head);
+
+        if (bits == null) {
+            return true;
+        }
+
+        return (bits[region >>> 6] & (1L << region)) != 0L;
+    }
+
+    private static void setFlag(final Map<Integer, Map<Integer, long[]>> flags,
+                                final Integer tail,
+                                final Integer head,
+                                final int region) {
+        flags.get(tail).get(head)[region >>> 6] |= 1L << region;
+    }
+}
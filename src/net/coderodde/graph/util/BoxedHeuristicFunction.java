@@ -0,0 +1,36 @@
+package net.coderodde.graph.util;
+
+/**
+ * This interface adapts the heuristic functions written against the former
+ * boxed API, which implement {@link #estimate(Integer, Integer)}. Such a class
+ * keeps compiling by implementing this interface instead of 
+ * {@link HeuristicFunction}; the primitive estimates then box their arguments.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public interface BoxedHeuristicFunction extends HeuristicFunction {
+
+    /**
+     * Returns an optimistic estimate for distance between {@code from} and
+     * {@code to}.
+     * 
+     * @param from a node.
+     * @param to   another node.
+     * @return an optimistic estimate for distance between the two nodes.
+     */
+    @Override
+    public double estimate(final Integer from, final Integer to);
+
+    /**
+     * Returns the same estimate as {@link #estimate(Integer, Integer)}.
+     * 
+     * @param from a node.
+     * @param to   another node.
+     * @return an optimistic estimate for distance between the two nodes.
+     */
+    @Override
+    public default double estimate(final int from, final int to) {
+        return estimate(Integer.valueOf(from), Integer.valueOf(to));
+    }
+}
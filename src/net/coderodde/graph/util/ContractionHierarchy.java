@@ -0,0 +1,806 @@
+package net.coderodde.graph.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import net.coderodde.graph.ArcCursor;
+import net.coderodde.graph.Digraph;
+
+/**
+ * This class implements the metric-independent phase of <i>customizable
+ * contraction hierarchies</i>. The nodes are ranked by nested dissection of
+ * the graph with the arc directions and weights ignored: each part is split
+ * by a breadth-first search into two halves and the nodes of the boundary
+ * between them, which receive the highest ranks of the part. Contracting the
+ * nodes in the order of their ranks then adds a shortcut between each two
+ * higher-ranked neighbours of each contracted node. The hierarchy depends on
+ * the topology only, so it is computed once, whereas the weights are applied
+ * by {@link #customize(double[], ForkJoinPool)} whenever they change.
+ * <p>
+ * Within the hierarchy, the nodes are identified by their ranks, and each arc
+ * connects a lower-ranked tail with a higher-ranked head. The arcs leaving a
+ * node are sorted by head, and the arcs entering it are sorted by tail. The
+ * arcs of the graph being customized, the <i>input arcs</i>, are numbered
+ * {@code 0, 1, ..., getNumberOfInputArcs() - 1} in the order of their tails
+ * and then heads in the graph; the self-loops are left out.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public final class ContractionHierarchy {
+
+    /**
+     * The parts of at most this many nodes are not dissected further, but
+     * ranked by increasing degree.
+     */
+    private static final int LEAF_SIZE = 16;
+
+    /**
+     * The number of nodes customized by a single task.
+     */
+    private static final int CHUNK_SIZE = 256;
+
+    private final int[] rankToNode;
+    private final Map<Integer, Integer> nodeToRank;
+
+    /**
+     * The index of the first arc leaving each rank, followed by the number of
+     * arcs.
+     */
+    private final int[] firstArcs;
+
+    private final int[] heads;
+
+    /**
+     * The index of the first arc entering each rank in {@code tails} and
+     * {@code inArcs}, followed by the number of arcs.
+     */
+    private final int[] firstInArcs;
+
+    private final int[] tails;
+    private final int[] inArcs;
+
+    /**
+     * The ranks grouped by level: a rank is on a level above all of its lower
+     * neighbours, so that the ranks of a level may be customized in parallel.
+     */
+    private final int[] levelStarts;
+    private final int[] levelRanks;
+
+    private final int[] inputTails;
+    private final int[] inputHeads;
+
+    /**
+     * The slot of each input arc: twice the hierarchy arc, plus one if the
+     * input arc runs from the higher rank to the lower one.
+     */
+    private final int[] inputSlots;
+
+    /**
+     * Computes the hierarchy of {@code digraph}.
+     *
+     * @param digraph the graph to contract.
+     */
+    public ContractionHierarchy(final Digraph digraph) {
+        Objects.requireNonNull(digraph, "The input digraph is null.");
+
+        final int n = digraph.size();
+        final int[] nodes = new int[n];
+        final Map<Integer, Integer> indexMap = new HashMap<>(2 * n);
+        int size = 0;
+
+        for (final Integer node : digraph.getAllNodes()) {
+            indexMap.put(node, size);
+            nodes[size++] = node;
+        }
+
+        final int[][] neighbours = getUndirectedNeighbours(digraph,
+                                                           nodes,
+                                                           indexMap);
+        final int[] order = new NestedDissection(neighbours).order();
+
+        this.rankToNode = new int[n];
+        this.nodeToRank = new HashMap<>(2 * n);
+
+        final int[] indexToRank = new int[n];
+
+        for (int rank = 0; rank < n; ++rank) {
+            rankToNode[rank] = nodes[order[rank]];
+            nodeToRank.put(rankToNode[rank], rank);
+            indexToRank[order[rank]] = rank;
+        }
+
+        // Contract: the lowest upper neighbour of each node inherits the
+        // other upper neighbours, which yields the same shortcuts as
+        // connecting all of them pairwise.
+        final int[][] upper = new int[n][];
+
+        for (int i = 0; i < n; ++i) {
+            final int rank = indexToRank[i];
+            int count = 0;
+            final int[] list = new int[neighbours[i].length];
+
+            for (final int neighbour : neighbours[i]) {
+                if (indexToRank[neighbour] > rank) {
+                    list[count++] = indexToRank[neighbour];
+                }
+            }
+
+            upper[rank] = Arrays.copyOf(list, count);
+            Arrays.sort(upper[rank]);
+        }
+
+        for (int rank = 0; rank < n; ++rank) {
+            final int[] list = upper[rank];
+
+            if (list.length > 1) {
+                upper[list[0]] = merge(upper[list[0]], list, 1);
+            }
+        }
+
+        this.firstArcs = new int[n + 1];
+
+        for (int rank = 0; rank < n; ++rank) {
+            firstArcs[rank + 1] = firstArcs[rank] + upper[rank].length;
+        }
+
+        final int arcs = firstArcs[n];
+        this.heads = new int[arcs];
+        this.firstInArcs = new int[n + 1];
+
+        for (int rank = 0; rank < n; ++rank) {
+            System.arraycopy(upper[rank],
+                             0,
+                             heads,
+                             firstArcs[rank],
+                             upper[rank].length);
+            upper[rank] = null;
+        }
+
+        for (int arc = 0; arc < arcs; ++arc) {
+            ++firstInArcs[heads[arc] + 1];
+        }
+
+        for (int rank = 0; rank < n; ++rank) {
+            firstInArcs[rank + 1] += firstInArcs[rank];
+        }
+
+        this.tails = new int[arcs];
+        this.inArcs = new int[arcs];
+        final int[] fill = Arrays.copyOf(firstInArcs, n);
+
+        for (int rank = 0; rank < n; ++rank) {
+            for (int arc = firstArcs[rank]; arc < firstArcs[rank + 1]; ++arc) {
+                final int index = fill[heads[arc]]++;
+                tails[index] = rank;
+                inArcs[index] = arc;
+            }
+        }
+
+        final int[] levels = new int[n];
+        int maxLevel = -1;
+
+        for (int rank = 0; rank < n; ++rank) {
+            for (int i = firstInArcs[rank]; i < firstInArcs[rank + 1]; ++i) {
+                levels[rank] = Math.max(levels[rank], levels[tails[i]] + 1);
+            }
+
+            maxLevel = Math.max(maxLevel, levels[rank]);
+        }
+
+        this.levelStarts = new int[maxLevel + 2];
+        this.levelRanks = new int[n];
+
+        for (int rank = 0; rank < n; ++rank) {
+            ++levelStarts[levels[rank] + 1];
+        }
+
+        for (int level = 0; level <= maxLevel; ++level) {
+            levelStarts[level + 1] += levelStarts[level];
+        }
+
+        final int[] levelFill = Arrays.copyOf(levelStarts, maxLevel + 1);
+
+        for (int rank = 0; rank < n; ++rank) {
+            levelRanks[levelFill[levels[rank]]++] = rank;
+        }
+
+        final int maxInputArcs = digraph.getNumberOfEdges();
+        final int[] inputTails = new int[maxInputArcs];
+        final int[] inputHeads = new int[maxInputArcs];
+        final int[] inputSlots = new int[maxInputArcs];
+        int input = 0;
+
+        for (final int tail : nodes) {
+            for (final ArcCursor cursor = digraph.getChildArcsOf(tail);
+                    cursor.next();) {
+                final int head = cursor.getNode();
+
+                if (head == tail) {
+                    continue;
+                }
+
+                final int tailRank = nodeToRank.get(tail);
+                final int headRank = nodeToRank.get(head);
+                final int arc = findArc(Math.min(tailRank, headRank),
+                                        Math.max(tailRank, headRank));
+
+                inputTails[input] = tail;
+                inputHeads[input] = head;
+                inputSlots[input] = 2 * arc + (tailRank < headRank ? 0 : 1);
+                ++input;
+            }
+        }
+
+        this.inputTails = Arrays.copyOf(inputTails, input);
+        this.inputHeads = Arrays.copyOf(inputHeads, input);
+        this.inputSlots = Arrays.copyOf(inputSlots, input);
+    }
+
+    /**
+     * Returns the number of nodes.
+     *
+     * @return the number of nodes.
+     */
+    public int size() {
+        return rankToNode.length;
+    }
+
+    /**
+     * Returns the number of arcs, including the shortcuts.
+     *
+     * @return the number of arcs.
+     */
+    public int getNumberOfArcs() {
+        return heads.length;
+    }
+
+    public int getNumberOfInputArcs() {
+        return inputTails.length;
+    }
+
+    public int getInputTail(final int inputArc) {
+        return inputTails[inputArc];
+    }
+
+    public int getInputHead(final int inputArc) {
+        return inputHeads[inputArc];
+    }
+
+    /**
+     * Returns the rank of {@code node}, or {@code -1} if the node is not in
+     * the hierarchy.
+     *
+     * @param node the node whose rank to return.
+     * @return the rank of the node.
+     */
+    public int getRank(final int node) {
+        final Integer rank = nodeToRank.get(node);
+        return rank == null ? -1 : rank;
+    }
+
+    public int getNode(final int rank) {
+        return rankToNode[rank];
+    }
+
+    /**
+     * Returns the index of the first arc leaving {@code rank}. The arcs
+     * leaving the rank end before the first arc of {@code rank + 1}.
+     *
+     * @param rank the tail rank.
+     * @return the index of the first arc.
+     */
+    public int getFirstArc(final int rank) {
+        return firstArcs[rank];
+    }
+
+    public int getHead(final int arc) {
+        return heads[arc];
+    }
+
+    /**
+     * Returns the arc from {@code tail} to {@code head}, or {@code -1} if
+     * there is no such arc.
+     *
+     * @param tail the lower rank.
+     * @param head the higher rank.
+     * @return the arc index.
+     */
+    public int findArc(final int tail, final int head) {
+        final int arc = Arrays.binarySearch(heads,
+                                            firstArcs[tail],
+                                            firstArcs[tail + 1],
+                                            head);
+        return arc < 0 ? -1 : arc;
+    }
+
+    /**
+     * Computes the shortcut weights for the input arc weights
+     * {@code weights}, where {@code weights[i]} is the weight of the input
+     * arc {@code i}. An infinite weight closes the arc. The ranks of each
+     * level are customized in parallel on {@code pool}.
+     *
+     * @param weights the weights of the input arcs.
+     * @param pool    the pool running the customization.
+     * @return the customized metric.
+     */
+    public HierarchyMetric customize(final double[] weights,
+                                     final ForkJoinPool pool) {
+        Objects.requireNonNull(weights, "The input weights are null.");
+        Objects.requireNonNull(pool, "The input pool is null.");
+
+        if (weights.length != inputTails.length) {
+            throw new IllegalArgumentException(
+                    "Expected " + inputTails.length + " weights, received " +
+                    weights.length + ".");
+        }
+
+        final int arcs = heads.length;
+        final double[] slotWeights = new double[2 * arcs];
+        final int[] middles = new int[2 * arcs];
+
+        Arrays.fill(slotWeights, Double.POSITIVE_INFINITY);
+        Arrays.fill(middles, -1);
+
+        for (int input = 0; input < weights.length; ++input) {
+            final double weight = weights[input];
+
+            if (!(weight >= 0.0)) {
+                throw new IllegalArgumentException(
+                        "The weight of the input arc " + input +
+                        " is not a non-negative number: " + weight + ".");
+            }
+
+            final int slot = inputSlots[input];
+            slotWeights[slot] = Math.min(slotWeights[slot], weight);
+        }
+
+        final ThreadLocal<int[]> arcOf = 
+                ThreadLocal.withInitial(() -> new int[rankToNode.length]);
+
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                for (int level = 0; level < levelStarts.length - 1; ++level) {
+                    final int start = levelStarts[level];
+                    final int end = levelStarts[level + 1];
+
+                    if (end - start <= CHUNK_SIZE) {
+                        customizeRanks(start, 
+                                       end, 
+                                       slotWeights, 
+                                       middles, 
+                                       arcOf.get());
+                        continue;
+                    }
+
+                    final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+
+                    for (int i = start; i < end; i += CHUNK_SIZE) {
+                        final int chunkStart = i;
+                        final int chunkEnd = Math.min(end, i + CHUNK_SIZE);
+
+                        tasks.add(ForkJoinTask.adapt(() ->
+                                customizeRanks(chunkStart,
+                                               chunkEnd,
+                                               slotWeights,
+                                               middles,
+                                               arcOf.get())));
+                    }
+
+                    invokeAll(tasks);
+                }
+            }
+        });
+
+        return new HierarchyMetric(this, slotWeights, middles);
+    }
+
+    /**
+     * Computes the shortcut weights for the current arc weights of
+     * {@code digraph}, which must have the topology this hierarchy was
+     * computed for. The removed arcs are closed.
+     *
+     * @param digraph the graph holding the weights.
+     * @param pool    the pool running the customization.
+     * @return the customized metric.
+     */
+    public HierarchyMetric customize(final Digraph digraph,
+                                     final ForkJoinPool pool) {
+        Objects.requireNonNull(digraph, "The input digraph is null.");
+        final double[] weights = new double[inputTails.length];
+
+        for (int input = 0; input < weights.length; ++input) {
+            final double weight = digraph.getEdgeWeight(inputTails[input],
+                                                        inputHeads[input]);
+            weights[input] = Double.isNaN(weight) ?
+                             Double.POSITIVE_INFINITY :
+                             weight;
+        }
+
+        return customize(weights, pool);
+    }
+
+    /**
+     * Relaxes the arcs leaving the ranks {@code levelRanks[start], ...,
+     * levelRanks[end - 1]} over the lower triangles: the arc from {@code u}
+     * to {@code v} may be replaced by the arcs from {@code z} to {@code u}
+     * and to {@code v}, where {@code z} is ranked below {@code u}. Only the
+     * arcs leaving the given ranks are written.
+     *
+     * @param arcOf a scratch array mapping the heads of the arcs leaving the
+     *              current rank to the arcs.
+     */
+    private void customizeRanks(final int start,
+                                final int end,
+                                final double[] slotWeights,
+                                final int[] middles,
+                                final int[] arcOf) {
+        for (int i = start; i < end; ++i) {
+            final int u = levelRanks[i];
+
+            for (int arc = firstArcs[u]; arc < firstArcs[u + 1]; ++arc) {
+                arcOf[heads[arc]] = arc;
+            }
+
+            for (int in = firstInArcs[u]; in < firstInArcs[u + 1]; ++in) {
+                final int z = tails[in];
+                final int arcZU = inArcs[in];
+
+                // The heads of z above u are all heads of u, since the
+                // contraction of z connected them.
+                for (int arcZV = arcZU + 1;
+                        arcZV < firstArcs[z + 1];
+                        ++arcZV) {
+                    final int arc = arcOf[heads[arcZV]];
+
+                    // u -> z -> v
+                    final double up = slotWeights[2 * arcZU + 1] +
+                                      slotWeights[2 * arcZV];
+
+                    // v -> z -> u
+                    final double down = slotWeights[2 * arcZV + 1] +
+                                        slotWeights[2 * arcZU];
+
+                    if (up < slotWeights[2 * arc]) {
+                        slotWeights[2 * arc] = up;
+                        middles[2 * arc] = z;
+                    }
+
+                    if (down < slotWeights[2 * arc + 1]) {
+                        slotWeights[2 * arc + 1] = down;
+                        middles[2 * arc + 1] = z;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the sorted union of {@code target} and
+     * {@code source[from], ..., source[source.length - 1]}, both sorted.
+     */
+    private static int[] merge(final int[] target,
+                               final int[] source,
+                               final int from) {
+        final int[] result = new int[target.length + source.length - from];
+        int i = 0;
+        int j = from;
+        int size = 0;
+
+        while (i < target.length || j < source.length) {
+            final int next;
+
+            if (j == source.length
+                    || (i < target.length && target[i] <= source[j])) {
+                next = target[i++];
+            } else {
+                next = source[j++];
+            }
+
+            if (size == 0 || result[size - 1] != next) {
+                result[size++] = next;
+            }
+        }
+
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    private static int[][] getUndirectedNeighbours(
+            final Digraph digraph,
+            final int[] nodes,
+            final Map<Integer, Integer> indexMap) {
+        final int[][] neighbours = new int[nodes.length][];
+        int[] buffer = new int[16];
+
+        for (int i = 0; i < nodes.length; ++i) {
+            int count = 0;
+
+            for (final boolean forward : new boolean[]{ true, false }) {
+                for (final Integer neighbour :
+                        forward ? digraph.getChildrenOf(nodes[i]) :
+                                  digraph.getParentsOf(nodes[i])) {
+                    final int index = indexMap.get(neighbour);
+
+                    if (index == i) {
+                        continue;
+                    }
+
+                    if (count == buffer.length) {
+                        buffer = Arrays.copyOf(buffer, 2 * count);
+                    }
+
+                    buffer[count++] = index;
+                }
+            }
+
+            Arrays.sort(buffer, 0, count);
+            int distinct = 0;
+
+            for (int j = 0; j < count; ++j) {
+                if (distinct == 0 || buffer[distinct - 1] != buffer[j]) {
+                    buffer[distinct++] = buffer[j];
+                }
+            }
+
+            neighbours[i] = Arrays.copyOf(buffer, distinct);
+        }
+
+        return neighbours;
+    }
+
+    /**
+     * This class computes the nested dissection order of an undirected graph.
+     */
+    private static final class NestedDissection {
+
+        private final int[][] neighbours;
+
+        /**
+         * The part of each node being dissected, by the identifier of the
+         * part.
+         */
+        private final int[] partOf;
+
+        private final int[] distance;
+        private final int[] order;
+        private int orderSize;
+        private int parts;
+
+        NestedDissection(final int[][] neighbours) {
+            this.neighbours = neighbours;
+            this.partOf = new int[neighbours.length];
+            this.distance = new int[neighbours.length];
+            this.order = new int[neighbours.length];
+        }
+
+        /**
+         * Returns the nodes in the order of increasing rank.
+         */
+        int[] order() {
+            final int[] all = new int[neighbours.length];
+
+            for (int i = 0; i < all.length; ++i) {
+                all[i] = i;
+            }
+
+            dissect(all);
+            return order;
+        }
+
+        /**
+         * Appends the nodes of {@code part} to the order, the separator
+         * last.
+         */
+        private void dissect(final int[] part) {
+            if (part.length <= LEAF_SIZE) {
+                appendByDegree(part);
+                return;
+            }
+
+            final int id = mark(part);
+            final int[] first = sweep(part[0], id, id);
+
+            if (first.length < part.length) {
+                dissectComponents(part, id);
+                return;
+            }
+
+            // Sweep again to start from a peripheral node.
+            final int[] bfs = sweep(first[first.length - 1], id, id);
+
+            // Cut after the breadth-first level in the middle third with the
+            // fewest nodes adjacent to the next level. The arcs only join
+            // nodes on the same or adjacent levels, so these nodes separate
+            // the levels up to the cut from the levels after it.
+            int cut = -1;
+            int cutSize = Integer.MAX_VALUE;
+
+            for (int start = 0, end; start < bfs.length; start = end) {
+                end = start + 1;
+
+                while (end < bfs.length
+                        && distance[bfs[end]] == distance[bfs[start]]) {
+                    ++end;
+                }
+
+                if (end < bfs.length / 3 || end > bfs.length - bfs.length / 3) {
+                    continue;
+                }
+
+                int size = 0;
+
+                for (int i = start; i < end && size < cutSize; ++i) {
+                    if (hasNextLevelNeighbour(bfs[i], id)) {
+                        ++size;
+                    }
+                }
+
+                if (size < cutSize) {
+                    cut = end;
+                    cutSize = size;
+                }
+            }
+
+            if (cut < 0) {
+                // A single level spans the middle third.
+                cut = bfs.length / 2;
+            }
+
+            final int[] partB = Arrays.copyOfRange(bfs, cut, bfs.length);
+            final int[] separator = boundary(bfs, 0, cut, mark(partB));
+            final int[] partA = unmarked(bfs, 0, cut, mark(separator));
+
+            dissect(partA);
+            dissect(partB);
+            appendByDegree(separator);
+        }
+
+        /**
+         * Returns {@code true} if {@code node} has a neighbour in the part
+         * {@code id} on the next breadth-first level.
+         */
+        private boolean hasNextLevelNeighbour(final int node, final int id) {
+            for (final int neighbour : neighbours[node]) {
+                if (partOf[neighbour] == id
+                        && distance[neighbour] > distance[node]) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * Orders the connected components of the part {@code id}
+         * independently; none of them needs a separator.
+         */
+        private void dissectComponents(final int[] part, final int id) {
+            final int doneId = ++parts;
+            final List<int[]> components = new ArrayList<>();
+
+            for (final int node : part) {
+                if (partOf[node] == id) {
+                    components.add(sweep(node, id, doneId));
+                }
+            }
+
+            for (final int[] component : components) {
+                dissect(component);
+            }
+        }
+
+        private int mark(final int[] nodes) {
+            final int id = ++parts;
+
+            for (final int node : nodes) {
+                partOf[node] = id;
+            }
+
+            return id;
+        }
+
+        /**
+         * Returns the nodes of the part {@code id} reachable from
+         * {@code start} in the order of a breadth-first search, and moves
+         * them to the part {@code newId}.
+         */
+        private int[] sweep(final int start, final int id, final int newId) {
+            final int visitedId = ++parts;
+            int[] queue = new int[16];
+            int head = 0;
+            int tail = 0;
+
+            queue[tail++] = start;
+            partOf[start] = visitedId;
+            distance[start] = 0;
+
+            while (head < tail) {
+                final int node = queue[head++];
+
+                for (final int neighbour : neighbours[node]) {
+                    if (partOf[neighbour] != id) {
+                        continue;
+                    }
+
+                    partOf[neighbour] = visitedId;
+                    distance[neighbour] = distance[node] + 1;
+
+                    if (tail == queue.length) {
+                        queue = Arrays.copyOf(queue, 2 * tail);
+                    }
+
+                    queue[tail++] = neighbour;
+                }
+            }
+
+            final int[] reached = Arrays.copyOf(queue, tail);
+
+            for (final int node : reached) {
+                partOf[node] = newId;
+            }
+
+            return reached;
+        }
+
+        /**
+         * Returns the nodes of {@code nodes[from], ..., nodes[to - 1]} with a
+         * neighbour in the part {@code otherId}.
+         */
+        private int[] boundary(final int[] nodes,
+                               final int from,
+                               final int to,
+                               final int otherId) {
+            final int[] result = new int[to - from];
+            int size = 0;
+
+            for (int i = from; i < to; ++i) {
+                for (final int neighbour : neighbours[nodes[i]]) {
+                    if (partOf[neighbour] == otherId) {
+                        result[size++] = nodes[i];
+                        break;
+                    }
+                }
+            }
+
+            return Arrays.copyOf(result, size);
+        }
+
+        private int[] unmarked(final int[] nodes,
+                               final int from,
+                               final int to,
+                               final int id) {
+            final int[] result = new int[to - from];
+            int size = 0;
+
+            for (int i = from; i < to; ++i) {
+                if (partOf[nodes[i]] != id) {
+                    result[size++] = nodes[i];
+                }
+            }
+
+            return Arrays.copyOf(result, size);
+        }
+
+        private void appendByDegree(final int[] nodes) {
+            final long[] keys = new long[nodes.length];
+
+            for (int i = 0; i < nodes.length; ++i) {
+                keys[i] = ((long) neighbours[nodes[i]].length << 32)
+                          | nodes[i];
+            }
+
+            Arrays.sort(keys);
+
+            for (final long key : keys) {
+                order[orderSize++] = (int) key;
+            }
+        }
+    }
+}
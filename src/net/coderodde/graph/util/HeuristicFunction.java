@@ -9,12 +9,65 @@ package net.coderodde.graph.util;
 public interface HeuristicFunction {
 
     /**
-     * Returns an optimistic estimate for distance between {@code from} and
-     * {@code to}.
+     * Returns an optimistic estimate for distance between {@code from} and
+     * {@code to}, i.e., a lower bound on the length of a shortest path from
+     * {@code from} to {@code to}. The estimate need not be symmetric.
      * 
      * @param from a node.
      * @param to   another node.
      * @return an optimistic estimate for distance between the two nodes.
      */
-    public double estimate(final Integer from, final Integer to);
+    public double estimate(final int from, final int to);
+
+    /**
+     * Returns the same estimate as {@link #estimate(int, int)}. This adapter
+     * serves the callers holding boxed node identifiers.
+     * 
+     * @param from a node.
+     * @param to   another node.
+     * @return an optimistic estimate for distance between the two nodes.
+     */
+    public default double estimate(final Integer from, final Integer to) {
+        return estimate(from.intValue(), to.intValue());
+    }
+
+    /**
+     * Stores in {@code out[i]} the estimate from {@code nodes[i]} to
+     * {@code target} for each {@code i} in {@code 0, 1, ..., count - 1}. The
+     * path finders call this method for all the children of an expanded node
+     * at once, so that implementations may amortize the per-call overhead.
+     * 
+     * @param nodes  the nodes to estimate from.
+     * @param count  the number of nodes.
+     * @param target the node to estimate to.
+     * @param out    the array receiving the estimates.
+     */
+    public default void estimateAll(final int[] nodes,
+                                    final int count,
+                                    final int target,
+                                    final double[] out) {
+        for (int i = 0; i < count; ++i) {
+            out[i] = estimate(nodes[i], target);
+        }
+    }
+
+    /**
+     * Stores in {@code out[i]} the estimate from {@code source} to 
+     * {@code nodes[i]} for each {@code i} in {@code 0, 1, ..., count - 1}. 
+     * This is the counterpart of 
+     * {@link #estimateAll(int[], int, int, double[])} for backward searches.
+     * 
+     * @param source the node to estimate from.
+     * @param nodes  the nodes to estimate to.
+     * @param count  the number of nodes.
+     * @param out    the array receiving the estimates.
+     */
+    public default void estimateAllFrom(final int source,
+                                        final int[] nodes,
+                                        final int count,
+                                        final double[] out) {
+        for (int i = 0; i < count; ++i) {
+            out[i] = estimate(source, nodes[i]);
+        }
+    }
 }
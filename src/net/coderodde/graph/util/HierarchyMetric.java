@@ -0,0 +1,91 @@
+package net.coderodde.graph.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * This class holds the arc weights of a {@link ContractionHierarchy}
+ * customized for one set of input weights. Each arc of the hierarchy has an
+ * upward weight, from its lower-ranked tail to its higher-ranked head, and a
+ * downward weight in the opposite direction; a weight coming from a shortcut
+ * remembers the lower-ranked middle node it bypasses. The metric is immutable,
+ * so the queries may keep using it while the next one is customized.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public final class HierarchyMetric {
+
+    private final ContractionHierarchy hierarchy;
+
+    /**
+     * The upward weight of arc {@code a} at {@code 2 * a} and the downward
+     * weight at {@code 2 * a + 1}.
+     */
+    private final double[] weights;
+
+    /**
+     * The middle rank of each weight, or {@code -1} if the weight is that of
+     * an input arc.
+     */
+    private final int[] middles;
+
+    HierarchyMetric(final ContractionHierarchy hierarchy,
+                    final double[] weights,
+                    final int[] middles) {
+        this.hierarchy = hierarchy;
+        this.weights = weights;
+        this.middles = middles;
+    }
+
+    public ContractionHierarchy getHierarchy() {
+        return hierarchy;
+    }
+
+    public double getUpwardWeight(final int arc) {
+        return weights[2 * arc];
+    }
+
+    public double getDownwardWeight(final int arc) {
+        return weights[2 * arc + 1];
+    }
+
+    /**
+     * Appends to {@code path} the nodes of the path represented by the arc
+     * from {@code tailRank} to {@code headRank}, in either direction, leaving
+     * out the tail node itself.
+     *
+     * @param tailRank the rank of the tail.
+     * @param headRank the rank of the head.
+     * @param path     the list to append the original node identifiers to.
+     */
+    public void unpackArc(final int tailRank,
+                          final int headRank,
+                          final List<Integer> path) {
+        // Each pair of ranks is an arc still to unpack; the later arcs of
+        // the path are deeper in the stack.
+        final Deque<int[]> stack = new ArrayDeque<>();
+        stack.push(new int[]{ tailRank, headRank });
+
+        while (!stack.isEmpty()) {
+            final int[] arc = stack.pop();
+            final int middle = getMiddle(arc[0], arc[1]);
+
+            if (middle < 0) {
+                path.add(hierarchy.getNode(arc[1]));
+            } else {
+                stack.push(new int[]{ middle, arc[1] });
+                stack.push(new int[]{ arc[0], middle });
+            }
+        }
+    }
+
+    private int getMiddle(final int tailRank, final int headRank) {
+        if (tailRank < headRank) {
+            return middles[2 * hierarchy.findArc(tailRank, headRank)];
+        }
+
+        return middles[2 * hierarchy.findArc(headRank, tailRank) + 1];
+    }
+}
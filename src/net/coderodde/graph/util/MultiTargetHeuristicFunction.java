@@ -0,0 +1,22 @@
+package net.coderodde.graph.util;
+
+/**
+ * This interface defines the API of heuristic functions for searches towards
+ * a set of target nodes.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+@FunctionalInterface
+public interface MultiTargetHeuristicFunction {
+
+    /**
+     * Returns an optimistic estimate for the distance from {@code node} to the
+     * closest target node, i.e., a lower bound on the length of a shortest
+     * path from {@code node} to any of the targets.
+     *
+     * @param node a node.
+     * @return an optimistic estimate for distance to the closest target.
+     */
+    public double estimate(final int node);
+}
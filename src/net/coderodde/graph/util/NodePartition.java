@@ -0,0 +1,28 @@
+package net.coderodde.graph.util;
+
+/**
+ * This interface defines the API for partitions dividing the nodes of a graph
+ * into disjoint regions. The regions are identified by integers 
+ * {@code 0, 1, ..., getNumberOfRegions() - 1}.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public interface NodePartition {
+
+    /**
+     * Returns the number of regions in this partition.
+     * 
+     * @return the number of regions.
+     */
+    public int getNumberOfRegions();
+
+    /**
+     * Returns the region of {@code node}, or {@code -1} if the node is not 
+     * covered by this partition.
+     * 
+     * @param node the node whose region to return.
+     * @return the region of the node.
+     */
+    public int getRegion(final int node);
+}
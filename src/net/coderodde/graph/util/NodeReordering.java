@@ -0,0 +1,322 @@
+package net.coderodde.graph.util;
+
+import java.awt.geom.Point2D;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.util.support.PointHeuristicFunction;
+
+/**
+ * This class renumbers the nodes of a graph as {@code 0, 1, ..., n - 1} such
+ * that the nodes close to each other in the graph receive close identifiers.
+ * Searching the reordered graph touches memory in a far more local manner. The
+ * class keeps the mapping in both directions, so that the paths found in the
+ * reordered graph may be translated back to the original node identifiers.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public final class NodeReordering {
+
+    /**
+     * The number of bits per coordinate used for computing the Hilbert curve
+     * indices.
+     */
+    private static final int HILBERT_ORDER = 16;
+
+    /**
+     * Maps each original node to its new identifier.
+     */
+    private final Map<Integer, Integer> oldToNew;
+
+    /**
+     * Maps each new identifier to its original node.
+     */
+    private final int[] newToOld;
+
+    private NodeReordering(final List<Integer> order) {
+        this.oldToNew = new HashMap<>(2 * order.size());
+        this.newToOld = new int[order.size()];
+
+        for (int i = 0; i < newToOld.length; ++i) {
+            newToOld[i] = order.get(i);
+            oldToNew.put(order.get(i), i);
+        }
+    }
+
+    /**
+     * Orders the nodes of {@code digraph} along the Hilbert curve passing
+     * through the coordinates stored in {@code heuristicFunction}.
+     *
+     * @param digraph           the graph whose nodes to order.
+     * @param heuristicFunction the heuristic function holding the coordinates.
+     * @return the node reordering.
+     */
+    public static NodeReordering
+        byHilbertCurve(final Digraph digraph,
+                       final PointHeuristicFunction heuristicFunction) {
+        Objects.requireNonNull(digraph, "The input digraph is null.");
+        Objects.requireNonNull(heuristicFunction,
+                               "The input heuristic function is null.");
+
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+
+        for (final Integer node : digraph.getAllNodes()) {
+            final Point2D.Double point = heuristicFunction.getPoint(node);
+
+            if (point == null) {
+                throw new IllegalArgumentException(
+                        "The node " + node + " has no coordinates.");
+            }
+
+            minX = Math.min(minX, point.x);
+            minY = Math.min(minY, point.y);
+            maxX = Math.max(maxX, point.x);
+            maxY = Math.max(maxY, point.y);
+        }
+
+        final int cells = 1 << HILBERT_ORDER;
+        final double scaleX = (cells - 1) / Math.max(maxX - minX,
+                                                     Double.MIN_VALUE);
+        final double scaleY = (cells - 1) / Math.max(maxY - minY,
+                                                     Double.MIN_VALUE);
+        final Map<Integer, Long> key = new HashMap<>();
+
+        for (final Integer node : digraph.getAllNodes()) {
+            final Point2D.Double point = heuristicFunction.getPoint(node);
+            key.put(node, hilbertIndex((int)((point.x - minX) * scaleX),
+                                       (int)((point.y - minY) * scaleY)));
+        }
+
+        final List<Integer> order = new ArrayList<>(digraph.getAllNodes());
+        Collections.sort(order, Comparator.comparing(key::get));
+        return new NodeReordering(order);
+    }
+
+    /**
+     * Orders the nodes of {@code digraph} by the reverse Cuthill-McKee
+     * algorithm: a breadth-first search ignoring the arc directions, visiting
+     * the neighbors of each node in the order of increasing degree, and
+     * starting each connected component from a node of minimum degree.
+     *
+     * @param digraph the graph whose nodes to order.
+     * @return the node reordering.
+     */
+    public static NodeReordering
+        byReverseCuthillMcKee(final Digraph digraph) {
+        Objects.requireNonNull(digraph, "The input digraph is null.");
+
+        final Comparator<Integer> byDegree =
+                Comparator.comparingInt(node -> degree(digraph, node));
+
+        final List<Integer> starts = new ArrayList<>(digraph.getAllNodes());
+        Collections.sort(starts, byDegree);
+
+        final List<Integer> order = new ArrayList<>(digraph.size());
+        final Set<Integer> visited = new HashSet<>();
+        final Deque<Integer> queue = new ArrayDeque<>();
+        final List<Integer> neighbors = new ArrayList<>();
+
+        for (final Integer start : starts) {
+            if (!visited.add(start)) {
+                continue;
+            }
+
+            queue.addLast(start);
+
+            while (!queue.isEmpty()) {
+                final Integer current = queue.removeFirst();
+                order.add(current);
+                neighbors.clear();
+
+                for (final Integer child : digraph.getChildrenOf(current)) {
+                    if (visited.add(child)) {
+                        neighbors.add(child);
+                    }
+                }
+
+                for (final Integer parent : digraph.getParentsOf(current)) {
+                    if (visited.add(parent)) {
+                        neighbors.add(parent);
+                    }
+                }
+
+                Collections.sort(neighbors, byDegree);
+                queue.addAll(neighbors);
+            }
+        }
+
+        Collections.reverse(order);
+        return new NodeReordering(order);
+    }
+
+    /**
+     * Returns the number of nodes being reordered.
+     *
+     * @return the number of nodes.
+     */
+    public int size() {
+        return newToOld.length;
+    }
+
+    /**
+     * Returns the new identifier of the original node {@code oldNode}.
+     *
+     * @param oldNode the original node.
+     * @return the new identifier of the node.
+     * @throws IllegalArgumentException if the node is not reordered.
+     */
+    public int toNewNode(final int oldNode) {
+        final Integer newNode = oldToNew.get(oldNode);
+
+        if (newNode == null) {
+            throw new IllegalArgumentException(
+                    "The node " + oldNode + " is not reordered.");
+        }
+
+        return newNode;
+    }
+
+    /**
+     * Returns the original node of the new identifier {@code newNode}.
+     *
+     * @param newNode the new identifier.
+     * @return the original node.
+     */
+    public int toOldNode(final int newNode) {
+        return newToOld[newNode];
+    }
+
+    /**
+     * Translates a path in the reordered graph to the original node
+     * identifiers.
+     *
+     * @param path the path in the reordered graph.
+     * @return the same path in the original graph.
+     */
+    public List<Integer> toOldPath(final List<Integer> path) {
+        final List<Integer> ret = new ArrayList<>(path.size());
+
+        for (final Integer node : path) {
+            ret.add(newToOld[node]);
+        }
+
+        return ret;
+    }
+
+    /**
+     * Builds a copy of {@code digraph} using the new node identifiers. The
+     * nodes are inserted in the order of their new identifiers, and the
+     * children of each node in increasing order, so that iterating the copy
+     * follows the new order.
+     *
+     * @param digraph the graph to renumber.
+     * @return the renumbered graph.
+     */
+    public Digraph reorder(final Digraph digraph) {
+        Objects.requireNonNull(digraph, "The input digraph is null.");
+        final Digraph ret = new Digraph();
+
+        for (int node = 0; node < newToOld.length; ++node) {
+            ret.addNode(node);
+        }
+
+        int[] children = new int[16];
+
+        for (int tail = 0; tail < newToOld.length; ++tail) {
+            final int oldTail = newToOld[tail];
+            final Set<Integer> oldChildren = digraph.getChildrenOf(oldTail);
+
+            if (children.length < oldChildren.size()) {
+                children = new int[oldChildren.size()];
+            }
+
+            int size = 0;
+
+            for (final Integer oldChild : oldChildren) {
+                children[size++] = toNewNode(oldChild);
+            }
+
+            Arrays.sort(children, 0, size);
+
+            for (int i = 0; i < size; ++i) {
+                final int head = children[i];
+                ret.addEdge(tail,
+                            head,
+                            digraph.getEdgeWeight(oldTail, newToOld[head]));
+            }
+        }
+
+        return ret;
+    }
+
+    /**
+     * Builds a copy of {@code heuristicFunction} using the new node
+     * identifiers.
+     *
+     * @param heuristicFunction the heuristic function to renumber.
+     * @return the renumbered heuristic function.
+     */
+    public PointHeuristicFunction
+        reorder(final PointHeuristicFunction heuristicFunction) {
+        Objects.requireNonNull(heuristicFunction,
+                               "The input heuristic function is null.");
+        final PointHeuristicFunction ret = new PointHeuristicFunction();
+
+        for (int node = 0; node < newToOld.length; ++node) {
+            ret.map(node, heuristicFunction.getPoint(newToOld[node]));
+        }
+
+        return ret;
+    }
+
+    private static int degree(final Digraph digraph, final Integer node) {
+        return digraph.getChildrenOf(node).size() +
+               digraph.getParentsOf(node).size();
+    }
+
+    /**
+     * Computes the index of the cell {@code (x, y)} along the Hilbert curve
+     * filling the {@code 2^HILBERT_ORDER x 2^HILBERT_ORDER} grid.
+     *
+     * @param x the column of the cell.
+     * @param y the row of the cell.
+     * @return the Hilbert index of the cell.
+     */
+    private static long hilbertIndex(int x, int y) {
+        final int last = (1 << HILBERT_ORDER) - 1;
+        long index = 0L;
+
+        for (int s = 1 << (HILBERT_ORDER - 1); s > 0; s >>>= 1) {
+            final int rx = (x & s) != 0 ? 1 : 0;
+            final int ry = (y & s) != 0 ? 1 : 0;
+            index += (long) s * s * ((3 * rx) ^ ry);
+
+            if (ry == 0) {
+                if (rx == 1) {
+                    x = last - x;
+                    y = last - y;
+                }
+
+                final int tmp = x;
+                x = y;
+                y = tmp;
+            }
+        }
+
+        return index;
+    }
+}
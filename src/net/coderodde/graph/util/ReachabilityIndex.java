@@ -0,0 +1,478 @@
+package net.coderodde.graph.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import net.coderodde.graph.ArcCursor;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.DigraphListener;
+
+/**
+ * This class implements a reachability index rejecting in constant time most
+ * of the queries whose target is not reachable from the source. The index
+ * decomposes the graph into strongly connected components, numbered in the
+ * reverse topological order of the condensation, and labels each component
+ * with a number of intervals computed by randomized depth-first traversals of
+ * the condensation: a component reaching another one has a larger number and
+ * intervals containing those of the other one. A query failing any of these
+ * tests has no path, and a query passing all of them within one component
+ * has one. The other queries may or may not have a path.
+ * <p>
+ * The index listens to the changes of the graph. Removing arcs, changing
+ * weights and adding arcs within a component keep the index valid; adding
+ * any other arc invalidates it, after which it rejects no queries until
+ * {@link #rebuild()} is called. Call {@link #detach()} to stop listening when
+ * the index is no longer needed.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class ReachabilityIndex implements DigraphListener {
+
+    /**
+     * The default number of interval labels per component.
+     */
+    public static final int DEFAULT_LABELINGS = 2;
+
+    private final Digraph digraph;
+    private final int labelings;
+    private final ForkJoinPool pool;
+
+    /**
+     * The current labels, or {@code null} if the index is invalidated.
+     */
+    private volatile Labels labels;
+
+    /**
+     * Builds the reachability index of {@code digraph} with the default
+     * number of labelings, computed on the common pool.
+     *
+     * @param digraph the graph to index.
+     */
+    public ReachabilityIndex(final Digraph digraph) {
+        this(digraph, DEFAULT_LABELINGS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds the reachability index of {@code digraph}. More labelings reject
+     * more unreachable queries at the cost of memory and build time.
+     *
+     * @param digraph   the graph to index.
+     * @param labelings the number of interval labels per component.
+     * @param pool      the pool computing the labelings in parallel.
+     */
+    public ReachabilityIndex(final Digraph digraph,
+                             final int labelings,
+                             final ForkJoinPool pool) {
+        Objects.requireNonNull(digraph, "The input digraph is null.");
+        Objects.requireNonNull(pool, "The input pool is null.");
+
+        if (labelings < 0) {
+            throw new IllegalArgumentException(
+                    "The number of labelings is negative: " + labelings +
+                    ".");
+        }
+
+        this.digraph = digraph;
+        this.labelings = labelings;
+        this.pool = pool;
+        this.labels = new Labels(digraph, labelings, pool);
+        digraph.addListener(this);
+    }
+
+    /**
+     * Returns {@code false} if there is certainly no path from {@code source}
+     * to {@code target}. Always returns {@code true} if the index is
+     * invalidated or either node was added after the last build.
+     *
+     * @param source the source node.
+     * @param target the target node.
+     * @return {@code false} if {@code target} is not reachable from
+     *         {@code source}.
+     */
+    public boolean mayReach(final int source, final int target) {
+        final Labels current = labels;
+        return current == null || current.mayReach(source, target);
+    }
+
+    /**
+     * Returns {@code true} if the index was not invalidated since the last
+     * build.
+     *
+     * @return {@code true} if the index is valid.
+     */
+    public boolean isValid() {
+        return labels != null;
+    }
+
+    /**
+     * Returns the number of strongly connected components as of the last
+     * build, or {@code -1} if the index is invalidated.
+     *
+     * @return the number of components.
+     */
+    public int getNumberOfComponents() {
+        final Labels current = labels;
+        return current == null ? -1 : current.components;
+    }
+
+    /**
+     * Rebuilds the index from the current state of the graph. The graph must
+     * not be modified during the rebuild.
+     */
+    public void rebuild() {
+        labels = new Labels(digraph, labelings, pool);
+    }
+
+    /**
+     * Stops listening to the changes of the graph, which invalidates the
+     * index for good.
+     */
+    public void detach() {
+        digraph.removeListener(this);
+        labels = null;
+    }
+
+    @Override
+    public void edgeAdded(final int tailNodeId, final int headNodeId) {
+        final Labels current = labels;
+
+        if (current != null
+                && !current.isSameComponent(tailNodeId, headNodeId)) {
+            labels = null;
+        }
+    }
+
+    /**
+     * The immutable labels of one build.
+     */
+    private static final class Labels {
+
+        /**
+         * Maps each node to its component.
+         */
+        private final Map<Integer, Integer> componentMap;
+
+        private final int components;
+
+        /**
+         * The post-order number of each component in each labeling,
+         * {@code components} numbers per labeling.
+         */
+        private final int[] ranks;
+
+        /**
+         * The smallest post-order number of a component reachable from each
+         * component in each labeling.
+         */
+        private final int[] lows;
+
+        Labels(final Digraph digraph,
+               final int labelings,
+               final ForkJoinPool pool) {
+            final int n = digraph.size();
+            final int[] nodes = new int[n];
+            final Map<Integer, Integer> indexMap = new HashMap<>(2 * n);
+            int size = 0;
+
+            for (final Integer node : digraph.getAllNodes()) {
+                indexMap.put(node, size);
+                nodes[size++] = node;
+            }
+
+            final int[] firstArcs = new int[n + 1];
+            int[] heads = new int[Math.max(16, digraph.getNumberOfEdges())];
+            int arcs = 0;
+
+            for (int i = 0; i < n; ++i) {
+                for (final ArcCursor arc = digraph.getChildArcsOf(nodes[i]);
+                        arc.next();) {
+                    if (arcs == heads.length) {
+                        heads = Arrays.copyOf(heads, 2 * arcs);
+                    }
+
+                    heads[arcs++] = indexMap.get(arc.getNode());
+                }
+
+                firstArcs[i + 1] = arcs;
+            }
+
+            final int[] component = new int[n];
+            this.components = computeComponents(firstArcs, heads, component);
+            this.componentMap = new HashMap<>(2 * n);
+
+            for (int i = 0; i < n; ++i) {
+                componentMap.put(nodes[i], component[i]);
+            }
+
+            final int[] dagFirstArcs = new int[components + 1];
+            final int[] dagHeads = buildCondensation(firstArcs,
+                                                     heads,
+                                                     component,
+                                                     dagFirstArcs);
+
+            this.ranks = new int[labelings * components];
+            this.lows = new int[labelings * components];
+
+            final List<ForkJoinTask<?>> tasks = new ArrayList<>(labelings);
+
+            for (int labeling = 0; labeling < labelings; ++labeling) {
+                final int labelingIndex = labeling;
+
+                tasks.add(ForkJoinTask.adapt(() ->
+                        label(dagFirstArcs,
+                              dagHeads,
+                              labelingIndex)));
+            }
+
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+        }
+
+        boolean isSameComponent(final int node1, final int node2) {
+            final Integer component1 = componentMap.get(node1);
+            return component1 != null
+                    && component1.equals(componentMap.get(node2));
+        }
+
+        boolean mayReach(final int source, final int target) {
+            final Integer sourceComponent = componentMap.get(source);
+            final Integer targetComponent = componentMap.get(target);
+
+            if (sourceComponent == null || targetComponent == null) {
+                return true;
+            }
+
+            final int s = sourceComponent;
+            final int t = targetComponent;
+
+            if (s == t) {
+                return true;
+            }
+
+            if (s < t) {
+                return false;
+            }
+
+            for (int offset = 0; offset < ranks.length; offset += components) {
+                if (ranks[offset + t] > ranks[offset + s]
+                        || lows[offset + t] < lows[offset + s]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Computes the strongly connected components with an iterative
+         * version of Tarjan's algorithm. The components are numbered in the
+         * order of completion, so that every arc between two components
+         * leads to a smaller number.
+         *
+         * @return the number of components.
+         */
+        private static int computeComponents(final int[] firstArcs,
+                                             final int[] heads,
+                                             final int[] component) {
+            final int n = component.length;
+            final int[] index = new int[n];
+            final int[] lowLink = new int[n];
+            final int[] nextArc = new int[n];
+            final int[] callStack = new int[n];
+            final int[] sccStack = new int[n];
+            final boolean[] onStack = new boolean[n];
+            int counter = 0;
+            int components = 0;
+            int sccSize = 0;
+
+            Arrays.fill(index, -1);
+
+            for (int root = 0; root < n; ++root) {
+                if (index[root] >= 0) {
+                    continue;
+                }
+
+                int depth = 0;
+                callStack[depth++] = root;
+                index[root] = lowLink[root] = counter++;
+                nextArc[root] = firstArcs[root];
+                sccStack[sccSize++] = root;
+                onStack[root] = true;
+
+                while (depth > 0) {
+                    final int node = callStack[depth - 1];
+
+                    if (nextArc[node] < firstArcs[node + 1]) {
+                        final int child = heads[nextArc[node]++];
+
+                        if (index[child] < 0) {
+                            index[child] = lowLink[child] = counter++;
+                            nextArc[child] = firstArcs[child];
+                            sccStack[sccSize++] = child;
+                            onStack[child] = true;
+                            callStack[depth++] = child;
+                        } else if (onStack[child]) {
+                            lowLink[node] = Math.min(lowLink[node],
+                                                     index[child]);
+                        }
+
+                        continue;
+                    }
+
+                    --depth;
+
+                    if (depth > 0) {
+                        final int parent = callStack[depth - 1];
+                        lowLink[parent] = Math.min(lowLink[parent],
+                                                   lowLink[node]);
+                    }
+
+                    if (lowLink[node] == index[node]) {
+                        int member;
+
+                        do {
+                            member = sccStack[--sccSize];
+                            onStack[member] = false;
+                            component[member] = components;
+                        } while (member != node);
+
+                        ++components;
+                    }
+                }
+            }
+
+            return components;
+        }
+
+        /**
+         * Builds the arcs between the components, possibly with duplicates.
+         *
+         * @return the heads of the arcs.
+         */
+        private int[] buildCondensation(final int[] firstArcs,
+                                        final int[] heads,
+                                        final int[] component,
+                                        final int[] dagFirstArcs) {
+            final int n = component.length;
+
+            for (int node = 0; node < n; ++node) {
+                for (int arc = firstArcs[node];
+                        arc < firstArcs[node + 1];
+                        ++arc) {
+                    if (component[heads[arc]] != component[node]) {
+                        ++dagFirstArcs[component[node] + 1];
+                    }
+                }
+            }
+
+            for (int c = 0; c < components; ++c) {
+                dagFirstArcs[c + 1] += dagFirstArcs[c];
+            }
+
+            final int[] dagHeads = new int[dagFirstArcs[components]];
+            final int[] fill = Arrays.copyOf(dagFirstArcs, components);
+
+            for (int node = 0; node < n; ++node) {
+                for (int arc = firstArcs[node];
+                        arc < firstArcs[node + 1];
+                        ++arc) {
+                    final int c = component[heads[arc]];
+
+                    if (c != component[node]) {
+                        dagHeads[fill[component[node]]++] = c;
+                    }
+                }
+            }
+
+            return dagHeads;
+        }
+
+        /**
+         * Computes the interval labels of one labeling by a depth-first
+         * traversal visiting the roots and the children in a random order.
+         */
+        private void label(final int[] dagFirstArcs,
+                           final int[] dagHeads,
+                           final int labeling) {
+            final int offset = labeling * components;
+            final Random random = new Random(labeling);
+            final int[] order = new int[components];
+            final int[] nextArc = new int[components];
+            final int[] arcOffset = new int[components];
+            final int[] stack = new int[components];
+            final boolean[] visited = new boolean[components];
+            int counter = 0;
+
+            for (int c = 0; c < components; ++c) {
+                order[c] = c;
+                arcOffset[c] = random.nextInt(1 << 30);
+            }
+
+            for (int i = components - 1; i > 0; --i) {
+                final int j = random.nextInt(i + 1);
+                final int tmp = order[i];
+                order[i] = order[j];
+                order[j] = tmp;
+            }
+
+            for (final int root : order) {
+                if (visited[root]) {
+                    continue;
+                }
+
+                int depth = 0;
+                stack[depth++] = root;
+                visited[root] = true;
+                lows[offset + root] = Integer.MAX_VALUE;
+
+                while (depth > 0) {
+                    final int c = stack[depth - 1];
+                    final int degree = dagFirstArcs[c + 1] - dagFirstArcs[c];
+
+                    if (nextArc[c] < degree) {
+                        // Start the children of each component at a random
+                        // arc.
+                        final int child =
+                                dagHeads[dagFirstArcs[c] +
+                                         (arcOffset[c] + nextArc[c]++) %
+                                         degree];
+
+                        if (!visited[child]) {
+                            visited[child] = true;
+                            lows[offset + child] = Integer.MAX_VALUE;
+                            stack[depth++] = child;
+                        } else {
+                            lows[offset + c] = Math.min(lows[offset + c],
+                                                        lows[offset + child]);
+                        }
+
+                        continue;
+                    }
+
+                    ranks[offset + c] = counter++;
+                    lows[offset + c] = Math.min(lows[offset + c],
+                                                ranks[offset + c]);
+
+                    if (--depth > 0) {
+                        final int parent = stack[depth - 1];
+                        lows[offset + parent] =
+                                Math.min(lows[offset + parent],
+                                         lows[offset + c]);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package net.coderodde.graph.util;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import net.coderodde.graph.Digraph;
+import net.coderodde.util.MinimumPriorityQueue;
+import net.coderodde.util.support.DaryHeap;
+
+/**
+ * This class provides the exhaustive shortest path tree computations needed by
+ * the preprocessing stages of the speedup techniques.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public final class ShortestPathTrees {
+
+    private ShortestPathTrees() {}
+
+    /**
+     * Runs Dijkstra's algorithm from {@code source}. If {@code forward} is
+     * set, computes the distances from the source to all reachable nodes;
+     * otherwise computes the distances from all nodes reaching the source to
+     * the source.
+     *
+     * @param digraph the graph to search.
+     * @param source  the source node.
+     * @param forward the search direction.
+     * @return the map mapping each settled node to its distance.
+     */
+    public static Map<Integer, Double>
+        computeDistances(final Digraph digraph,
+                         final Integer source,
+                         final boolean forward) {
+        Objects.requireNonNull(digraph, "The input digraph is null.");
+        Objects.requireNonNull(source, "The source node is null.");
+
+        final MinimumPriorityQueue<Integer> OPEN = new DaryHeap<>();
+        final Set<Integer> CLOSED = new HashSet<>();
+        final Map<Integer, Double> DISTANCE = new HashMap<>();
+
+        OPEN.add(source, 0.0);
+        DISTANCE.put(source, 0.0);
+
+        while (!OPEN.isEmpty()) {
+            final Integer current = OPEN.extractMinimum();
+            CLOSED.add(current);
+
+            final Set<Integer> neighbors = forward ?
+                                           digraph.getChildrenOf(current) :
+                                           digraph.getParentsOf(current);
+
+            for (final Integer neighbor : neighbors) {
+                if (CLOSED.contains(neighbor)) {
+                    continue;
+                }
+
+                final double tentativeDistance =
+                        DISTANCE.get(current) +
+                        (forward ? digraph.getEdgeWeight(current, neighbor) :
+                                   digraph.getEdgeWeight(neighbor, current));
+
+                final Double neighborDistance = DISTANCE.get(neighbor);
+
+                if (neighborDistance == null) {
+                    DISTANCE.put(neighbor, tentativeDistance);
+                    OPEN.add(neighbor, tentativeDistance);
+                } else if (neighborDistance > tentativeDistance) {
+                    DISTANCE.put(neighbor, tentativeDistance);
+                    OPEN.decreasePriority(neighbor, tentativeDistance);
+                }
+            }
+        }
+
+        return DISTANCE;
+    }
+}
@@ -0,0 +1,106 @@
+package net.coderodde.graph.util.support;
+
+import java.awt.geom.Point2D;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.util.NodePartition;
+
+/**
+ * This class implements a node partition that lays a regular grid over the
+ * bounding box of the node coordinates and assigns each node to the grid cell 
+ * containing it.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class GridNodePartition implements NodePartition {
+
+    private final Map<Integer, Integer> map = new HashMap<>();
+    private final int regions;
+
+    /**
+     * Constructs a grid partition with {@code rows} rows and {@code columns}
+     * columns over the nodes of {@code digraph}.
+     * 
+     * @param digraph           the graph whose nodes to partition.
+     * @param heuristicFunction the heuristic function holding the node
+     *                          coordinates.
+     * @param rows              the number of grid rows.
+     * @param columns           the number of grid columns.
+     */
+    public GridNodePartition(final Digraph digraph,
+                             final PointHeuristicFunction heuristicFunction,
+                             final int rows,
+                             final int columns) {
+        Objects.requireNonNull(digraph, "The input digraph is null.");
+        Objects.requireNonNull(heuristicFunction, 
+                               "The input heuristic function is null.");
+
+        if (rows < 1 || columns < 1) {
+            throw new IllegalArgumentException(
+                    "The grid must have at least one row and one column, " +
+                    "received " + rows + " x " + columns + ".");
+        }
+
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+
+        for (final Integer node : digraph.getAllNodes()) {
+            final Point2D.Double point = getPoint(heuristicFunction, node);
+            minX = Math.min(minX, point.x);
+            minY = Math.min(minY, point.y);
+            maxX = Math.max(maxX, point.x);
+            maxY = Math.max(maxY, point.y);
+        }
+
+        final double cellWidth  = Math.max(maxX - minX, Double.MIN_VALUE) 
+                                  / columns;
+        final double cellHeight = Math.max(maxY - minY, Double.MIN_VALUE) 
+                                  / rows;
+
+        for (final Integer node : digraph.getAllNodes()) {
+            final Point2D.Double point = getPoint(heuristicFunction, node);
+            final int column = Math.min(columns - 1, 
+                                        (int)((point.x - minX) / cellWidth));
+            final int row = Math.min(rows - 1, 
+                                     (int)((point.y - minY) / cellHeight));
+            map.put(node, row * columns + column);
+        }
+
+        this.regions = rows * columns;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int getNumberOfRegions() {
+        return regions;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int getRegion(final int node) {
+        final Integer region = map.get(node);
+        return region == null ? -1 : region;
+    }
+
+    private static Point2D.Double 
+        getPoint(final PointHeuristicFunction heuristicFunction,
+                 final Integer node) {
+        final Point2D.Double point = heuristicFunction.getPoint(node);
+
+        if (point == null) {
+            throw new IllegalArgumentException(
+                    "The node " + node + " has no coordinates.");
+        }
+
+        return point;
+    }
+}
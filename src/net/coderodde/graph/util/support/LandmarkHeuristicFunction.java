@@ -0,0 +1,56 @@
+package net.coderodde.graph.util.support;
+
+import java.util.Objects;
+import net.coderodde.graph.preprocessing.support.Landmarks;
+import net.coderodde.graph.util.HeuristicFunction;
+
+/**
+ * This class implements the ALT heuristic function. By the triangle 
+ * inequality, for each landmark {@code L}, both 
+ * {@code d(L, to) - d(L, from)} and {@code d(from, L) - d(to, L)} are lower
+ * bounds for {@code d(from, to)}; the heuristic returns the largest such bound
+ * over all landmarks. Unlike the Euclidean heuristic, it needs no coordinates
+ * and adapts to the arc weights of the graph.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class LandmarkHeuristicFunction implements HeuristicFunction {
+
+    private final Landmarks landmarks;
+
+    public LandmarkHeuristicFunction(final Landmarks landmarks) {
+        this.landmarks = Objects.requireNonNull(landmarks, 
+                                                "The landmarks are null.");
+    }
+
+    @Override
+    public double estimate(final int from, final int to) {
+        final int fromIndex = landmarks.getNodeIndex(from);
+        final int toIndex = landmarks.getNodeIndex(to);
+
+        if (fromIndex < 0 || toIndex < 0) {
+            return 0.0;
+        }
+
+        double estimate = 0.0;
+
+        for (int i = 0; i < landmarks.getNumberOfLandmarks(); ++i) {
+            final double forward = landmarks.getDistanceFrom(i, toIndex) - 
+                                   landmarks.getDistanceFrom(i, fromIndex);
+            final double backward = landmarks.getDistanceTo(i, fromIndex) -
+                                    landmarks.getDistanceTo(i, toIndex);
+
+            // Skip the bounds involving unreachable pairs (NaN or infinite).
+            if (forward > estimate && forward < Double.POSITIVE_INFINITY) {
+                estimate = forward;
+            }
+
+            if (backward > estimate && backward < Double.POSITIVE_INFINITY) {
+                estimate = backward;
+            }
+        }
+
+        return estimate;
+    }
+}
@@ -0,0 +1,178 @@
+package net.coderodde.graph.util.support;
+
+import java.awt.geom.Point2D;
+import java.util.Collection;
+import java.util.Objects;
+import net.coderodde.graph.util.MultiTargetHeuristicFunction;
+
+/**
+ * This class implements a multi-target heuristic function returning the
+ * Euclidean distance from a node to the closest target node. The target
+ * points are stored in a static two-dimensional k-d tree, so that each
+ * estimate takes logarithmic rather than linear time in the number of
+ * targets. The tree is laid out implicitly in two coordinate arrays: the
+ * median of each subarray is the root of the corresponding subtree.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ */
+public class NearestPointHeuristicFunction
+implements MultiTargetHeuristicFunction {
+
+    private final PointHeuristicFunction heuristicFunction;
+    private final double[] x;
+    private final double[] y;
+
+    /**
+     * Constructs a heuristic function estimating the distances to
+     * {@code targets} using the node coordinates of
+     * {@code heuristicFunction}.
+     *
+     * @param heuristicFunction the heuristic function holding the node
+     *                          coordinates.
+     * @param targets           the target nodes.
+     */
+    public NearestPointHeuristicFunction(
+            final PointHeuristicFunction heuristicFunction,
+            final Collection<Integer> targets) {
+        this.heuristicFunction =
+                Objects.requireNonNull(heuristicFunction,
+                                       "The input heuristic function is null.");
+        Objects.requireNonNull(targets, "The target collection is null.");
+
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("There are no targets.");
+        }
+
+        this.x = new double[targets.size()];
+        this.y = new double[targets.size()];
+
+        int i = 0;
+
+        for (final Integer target : targets) {
+            final Point2D.Double point = getPoint(target);
+            x[i] = point.x;
+            y[i] = point.y;
+            ++i;
+        }
+
+        build(0, x.length, true);
+    }
+
+    @Override
+    public double estimate(final int node) {
+        final Point2D.Double point = getPoint(node);
+        return Math.sqrt(nearest(0, x.length, true, point.x, point.y,
+                                 Double.POSITIVE_INFINITY));
+    }
+
+    /**
+     * Arranges the points in {@code [from, to)} into a k-d tree whose root
+     * splits on the x-coordinate if {@code splitX} is set, and on the
+     * y-coordinate otherwise.
+     */
+    private void build(final int from, final int to, final boolean splitX) {
+        if (to - from < 2) {
+            return;
+        }
+
+        final int median = (from + to) >>> 1;
+        select(from, to - 1, median, splitX ? x : y);
+        build(from, median, !splitX);
+        build(median + 1, to, !splitX);
+    }
+
+    /**
+     * Returns the smaller of {@code best} and the smallest squared distance
+     * from {@code (px, py)} to a point of the subtree in {@code [from, to)}.
+     */
+    private double nearest(final int from,
+                           final int to,
+                           final boolean splitX,
+                           final double px,
+                           final double py,
+                           double best) {
+        if (from >= to) {
+            return best;
+        }
+
+        final int median = (from + to) >>> 1;
+        final double dx = x[median] - px;
+        final double dy = y[median] - py;
+        best = Math.min(best, dx * dx + dy * dy);
+
+        // The signed distance from the query point to the splitting line.
+        final double delta = splitX ? px - x[median] : py - y[median];
+
+        if (delta < 0.0) {
+            best = nearest(from, median, !splitX, px, py, best);
+
+            if (delta * delta < best) {
+                best = nearest(median + 1, to, !splitX, px, py, best);
+            }
+        } else {
+            best = nearest(median + 1, to, !splitX, px, py, best);
+
+            if (delta * delta < best) {
+                best = nearest(from, median, !splitX, px, py, best);
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Rearranges the points in {@code [left, right]} such that the point at
+     * index {@code k} has the {@code k}th smallest key, no point before it has
+     * a larger key and no point after it has a smaller one.
+     */
+    private void select(int left, int right, final int k, final double[] key) {
+        while (left < right) {
+            final double pivot = key[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+
+            while (i <= j) {
+                while (key[i] < pivot) {
+                    ++i;
+                }
+
+                while (key[j] > pivot) {
+                    --j;
+                }
+
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(final int i, final int j) {
+        final double tmpX = x[i];
+        final double tmpY = y[i];
+        x[i] = x[j];
+        y[i] = y[j];
+        x[j] = tmpX;
+        y[j] = tmpY;
+    }
+
+    private Point2D.Double getPoint(final int node) {
+        final Point2D.Double point = heuristicFunction.getPoint(node);
+
+        if (point == null) {
+            throw new IllegalArgumentException(
+                    "The node " + node + " has no coordinates.");
+        }
+
+        return point;
+    }
+}
@@ -1,6 +1,7 @@
 package net.coderodde.graph.util.support;
 
 import java.awt.geom.Point2D;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import net.coderodde.graph.util.HeuristicFunction;
@@ -9,20 +10,103 @@ import net.coderodde.graph.util.HeuristicFunction;
  * This class implements a heuristic function. It stores an associative array 
  * mapping each graph node to a point in a plane, and uses them for computing 
  * Euclidean distance between two given graph nodes.
+ * <p>
+ * The coordinates of the non-negative nodes are also copied to primitive 
+ * arrays indexed by the node, so that the estimates need no boxing nor map 
+ * lookups. The points must not be modified after they are mapped, and every 
+ * node passed to the estimating methods must be mapped.
  * 
  * @author Rodion "rodde" Efremov
  * @version 1.6 (May 15, 2016)
  */
 public class PointHeuristicFunction implements HeuristicFunction {
 
+    private static final int INITIAL_CAPACITY = 1024;
+
     private final Map<Integer, Point2D.Double> map = new HashMap<>();
 
+    private double[] xs = new double[INITIAL_CAPACITY];
+    private double[] ys = new double[INITIAL_CAPACITY];
+
     public void map(final Integer node, final Point2D.Double point) {
         this.map.put(node, point);
+
+        if (node < 0) {
+            return;
+        }
+
+        if (node >= xs.length) {
+            final int capacity = Math.max(node + 1, 2 * xs.length);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+        }
+
+        xs[node] = point.x;
+        ys[node] = point.y;
+    }
+
+    /**
+     * Returns the point mapped to {@code node}, or {@code null} if there is no
+     * such.
+     * 
+     * @param node the node whose point to return.
+     * @return the point of the node.
+     */
+    public Point2D.Double getPoint(final Integer node) {
+        return map.get(node);
     }
 
     @Override
-    public double estimate(final Integer from, final Integer to) {
+    public double estimate(final int from, final int to) {
+        if (isIndexed(from) && isIndexed(to)) {
+            final double dx = xs[from] - xs[to];
+            final double dy = ys[from] - ys[to];
+            return Math.sqrt(dx * dx + dy * dy);
+        }
+
         return map.get(from).distance(map.get(to));
     }
+
+    @Override
+    public void estimateAll(final int[] nodes,
+                            final int count,
+                            final int target,
+                            final double[] out) {
+        final double tx;
+        final double ty;
+
+        if (isIndexed(target)) {
+            tx = xs[target];
+            ty = ys[target];
+        } else {
+            final Point2D.Double targetPoint = map.get(target);
+            tx = targetPoint.x;
+            ty = targetPoint.y;
+        }
+
+        for (int i = 0; i < count; ++i) {
+            final int node = nodes[i];
+
+            if (isIndexed(node)) {
+                final double dx = xs[node] - tx;
+                final double dy = ys[node] - ty;
+                out[i] = Math.sqrt(dx * dx + dy * dy);
+            } else {
+                out[i] = map.get(node).distance(tx, ty);
+            }
+        }
+    }
+
+    @Override
+    public void estimateAllFrom(final int source,
+                                final int[] nodes,
+                                final int count,
+                                final double[] out) {
+        // The Euclidean distance is symmetric.
+        estimateAll(nodes, count, source, out);
+    }
+
+    private boolean isIndexed(final int node) {
+        return node >= 0 && node < xs.length;
+    }
 }
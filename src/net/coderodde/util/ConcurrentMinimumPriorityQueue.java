@@ -0,0 +1,54 @@
+package net.coderodde.util;
+
+/**
+ * This interface defines the API for minimum-priority queues shared by
+ * concurrent threads. It is the concurrent counterpart of
+ * {@link MinimumPriorityQueue}, with relaxed semantics: an extraction may
+ * return an element of nearly, rather than exactly, the lowest priority, and
+ * the size is a snapshot that may be stale by the time it is returned. The
+ * queue may hold the same element several times; instead of decreasing the
+ * priority of an element, the callers add it again and skip the outdated
+ * copies when extracting them.
+ *
+ * @author Rodion "rodde" Efremov
+ * @param <E> the type of elements stored by the implementation.
+ * @version 1.6 (Oct 18, 2026)
+ */
+public interface ConcurrentMinimumPriorityQueue<E> {
+
+    /**
+     * Adds {@code element} to this queue with the priority {@code priority}.
+     *
+     * @param element  the element to store.
+     * @param priority the priority of the element.
+     */
+    public void add(E element, double priority);
+
+    /**
+     * Extracts an element with a low priority.
+     *
+     * @return an element with a low priority, or {@code null} if this queue
+     *         appears empty.
+     */
+    public E extractMinimum();
+
+    /**
+     * Returns the approximate amount of elements in this queue.
+     *
+     * @return the amount of elements in this queue.
+     */
+    public int size();
+
+    /**
+     * Returns {@code true} if this queue appears empty.
+     *
+     * @return {@code true} or {@code false}.
+     */
+    public boolean isEmpty();
+
+    /**
+     * Removes all elements from this queue. Must not run concurrently with
+     * the other operations.
+     */
+    public void clear();
+}
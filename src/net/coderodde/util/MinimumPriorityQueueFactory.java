@@ -0,0 +1,20 @@
+package net.coderodde.util;
+
+/**
+ * This interface defines the API for factories creating empty minimum-priority
+ * queues. Search algorithms use it for obtaining their open lists, so that the
+ * queue implementation may be chosen per graph type.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @param <E> the type of elements stored by the created queues.
+ * @version 1.6 (Oct 18, 2026)
+ */
+public interface MinimumPriorityQueueFactory<E> {
+
+    /**
+     * Creates a new empty queue.
+     * 
+     * @return a new empty queue.
+     */
+    public MinimumPriorityQueue<E> newQueue();
+}
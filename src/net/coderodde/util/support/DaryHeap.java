@@ -148,9 +148,7 @@ public class DaryHeap<E> implements MinimumPriorityQueue<E> {
     public void decreasePriority(E element, double newPriority) {
         Node<E> node = map.get(element);
 
-        if (node == null 
-                || node.index == 0
-                || node.priority <= newPriority) {
+        if (node == null || node.priority <= newPriority) {
             return;
         }
 
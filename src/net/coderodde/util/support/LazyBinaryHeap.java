@@ -0,0 +1,258 @@
+package net.coderodde.util.support;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import net.coderodde.util.MinimumPriorityQueue;
+
+/**
+ * This class implements a binary heap with lazy deletion. Instead of locating
+ * and sifting the element, {@link #decreasePriority(Object, double)} inserts a
+ * duplicate entry with the new priority; the outdated entries are discarded
+ * whenever they surface at the top of the heap. The heap entries carry no
+ * position bookkeeping, which makes the sifting loops tight at the cost of a
+ * larger heap.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @param <E> the element type.
+ */
+public class LazyBinaryHeap<E> implements MinimumPriorityQueue<E> {
+
+    /**
+     * The minimum storage capacity.
+     */
+    private static final int MINIMUM_CAPACITY = 128;
+
+    /**
+     * The default storage capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Holds the current priority of a live element.
+     */
+    private static final class Entry {
+
+        Entry(final double priority) {
+            this.priority = priority;
+        }
+
+        /**
+         * The current priority of the element.
+         */
+        double priority;
+    }
+
+    /**
+     * The heap entry priorities.
+     */
+    private double[] priorities;
+
+    /**
+     * The heap entry elements.
+     */
+    private Object[] elements;
+
+    /**
+     * The number of heap entries, including the outdated ones.
+     */
+    private int entries;
+
+    /**
+     * Maps each live element to its current priority.
+     */
+    private final Map<E, Entry> map;
+
+    /**
+     * Constructs a new heap with given capacity.
+     *
+     * @param capacity the capacity of this heap.
+     */
+    public LazyBinaryHeap(final int capacity) {
+        final int actualCapacity = Math.max(capacity, MINIMUM_CAPACITY);
+        this.priorities = new double[actualCapacity];
+        this.elements = new Object[actualCapacity];
+        this.map = new HashMap<>(actualCapacity);
+    }
+
+    /**
+     * Constructs a new heap with default capacity.
+     */
+    public LazyBinaryHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(final E element, final double priority) {
+        if (map.containsKey(element)) {
+            return;
+        }
+
+        map.put(element, new Entry(priority));
+        push(element, priority);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void decreasePriority(final E element, final double newPriority) {
+        final Entry entry = map.get(element);
+
+        if (entry == null || entry.priority <= newPriority) {
+            return;
+        }
+
+        entry.priority = newPriority;
+        push(element, newPriority);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E extractMinimum() {
+        if (map.isEmpty()) {
+            throw new NoSuchElementException(
+            "Reading from an empty lazy binary heap.");
+        }
+
+        discardOutdated();
+        final E ret = (E) elements[0];
+        map.remove(ret);
+        pop();
+        return ret;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E min() {
+        if (map.isEmpty()) {
+            throw new NoSuchElementException("Reading from an empty queue.");
+        }
+
+        discardOutdated();
+        return (E) elements[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, entries, null);
+        entries = 0;
+        map.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the string indicating the implementation type.
+     */
+    @Override
+    public String toString() {
+        return "LazyBinaryHeap";
+    }
+
+    /**
+     * Pops the top entries until the top entry is live, i.e., its element is
+     * still in this heap and its priority is current.
+     */
+    private void discardOutdated() {
+        for (;;) {
+            final Entry entry = map.get(elements[0]);
+
+            if (entry != null && entry.priority == priorities[0]) {
+                return;
+            }
+
+            pop();
+        }
+    }
+
+    private void push(final Object element, final double priority) {
+        if (entries == elements.length) {
+            final int newLength = 3 * entries / 2;
+            priorities = Arrays.copyOf(priorities, newLength);
+            elements = Arrays.copyOf(elements, newLength);
+        }
+
+        int index = entries++;
+
+        while (index > 0) {
+            final int parentIndex = (index - 1) >>> 1;
+
+            if (priorities[parentIndex] <= priority) {
+                break;
+            }
+
+            priorities[index] = priorities[parentIndex];
+            elements[index] = elements[parentIndex];
+            index = parentIndex;
+        }
+
+        priorities[index] = priority;
+        elements[index] = element;
+    }
+
+    private void pop() {
+        final int last = --entries;
+        final double priority = priorities[last];
+        final Object element = elements[last];
+        elements[last] = null; // For the sake of garbage collection.
+
+        if (last == 0) {
+            return;
+        }
+
+        int index = 0;
+
+        for (;;) {
+            int childIndex = 2 * index + 1;
+
+            if (childIndex >= last) {
+                break;
+            }
+
+            if (childIndex + 1 < last
+                    && priorities[childIndex + 1] < priorities[childIndex]) {
+                ++childIndex;
+            }
+
+            if (priorities[childIndex] >= priority) {
+                break;
+            }
+
+            priorities[index] = priorities[childIndex];
+            elements[index] = elements[childIndex];
+            index = childIndex;
+        }
+
+        priorities[index] = priority;
+        elements[index] = element;
+    }
+}
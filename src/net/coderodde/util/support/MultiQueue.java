@@ -0,0 +1,297 @@
+package net.coderodde.util.support;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import net.coderodde.util.ConcurrentMinimumPriorityQueue;
+
+/**
+ * This class implements the MultiQueue of Rihani, Sanders and Dementiev: a
+ * relaxed concurrent priority queue made of {@code c * p} sequential binary
+ * heaps for {@code p} threads, each guarded by a try-lock. An addition goes to
+ * a random heap whose lock is free. An extraction peeks at the minimum
+ * priorities of two random heaps, which are published without locking, and
+ * pops the better one. Since the threads rarely meet at the same heap, the
+ * queue scales with the number of threads, while the extracted elements stay
+ * close to the true minimum: their expected rank is linear in the number of
+ * heaps.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @param <E> the element type.
+ */
+public class MultiQueue<E> implements ConcurrentMinimumPriorityQueue<E> {
+
+    /**
+     * The default number of heaps per thread.
+     */
+    private static final int DEFAULT_HEAPS_PER_THREAD = 2;
+
+    /**
+     * The number of failed attempts at sampling two heaps after which an
+     * extraction scans all the heaps.
+     */
+    private static final int SAMPLING_ATTEMPTS = 8;
+
+    /**
+     * A binary heap of elements and priorities, holding the lock guarding it.
+     */
+    private static final class Heap {
+
+        private static final int INITIAL_CAPACITY = 64;
+
+        private final AtomicBoolean lock = new AtomicBoolean();
+
+        Object[] elements = new Object[INITIAL_CAPACITY];
+        double[] priorities = new double[INITIAL_CAPACITY];
+        int size;
+
+        /**
+         * The smallest priority in this heap, or positive infinity if the
+         * heap is empty. Readers need not hold the lock.
+         */
+        volatile double top = Double.POSITIVE_INFINITY;
+
+        /**
+         * Tells whether this heap is empty, since the elements of infinite
+         * priority leave {@code top} infinite too. Readers need not hold the
+         * lock.
+         */
+        volatile boolean empty = true;
+
+        boolean tryLock() {
+            return !lock.get() && lock.compareAndSet(false, true);
+        }
+
+        void unlock() {
+            lock.set(false);
+        }
+
+        void push(final Object element, final double priority) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, 2 * size);
+                priorities = Arrays.copyOf(priorities, 2 * size);
+            }
+
+            int index = size++;
+
+            while (index > 0) {
+                final int parent = (index - 1) >>> 1;
+
+                if (priorities[parent] <= priority) {
+                    break;
+                }
+
+                elements[index] = elements[parent];
+                priorities[index] = priorities[parent];
+                index = parent;
+            }
+
+            elements[index] = element;
+            priorities[index] = priority;
+            top = priorities[0];
+            empty = false;
+        }
+
+        Object pop() {
+            final Object result = elements[0];
+            final int last = --size;
+            final Object element = elements[last];
+            final double priority = priorities[last];
+            int index = 0;
+
+            elements[last] = null;
+
+            while (true) {
+                int child = 2 * index + 1;
+
+                if (child >= size) {
+                    break;
+                }
+
+                if (child + 1 < size
+                        && priorities[child + 1] < priorities[child]) {
+                    ++child;
+                }
+
+                if (priorities[child] >= priority) {
+                    break;
+                }
+
+                elements[index] = elements[child];
+                priorities[index] = priorities[child];
+                index = child;
+            }
+
+            if (size > 0) {
+                elements[index] = element;
+                priorities[index] = priority;
+                top = priorities[0];
+            } else {
+                top = Double.POSITIVE_INFINITY;
+                empty = true;
+            }
+
+            return result;
+        }
+
+        void clear() {
+            Arrays.fill(elements, 0, size, null);
+            size = 0;
+            top = Double.POSITIVE_INFINITY;
+            empty = true;
+        }
+
+        /**
+         * Tells whether this heap should be popped rather than {@code other}.
+         */
+        boolean isBetterThan(final Heap other) {
+            return !empty && (other.empty || top < other.top);
+        }
+    }
+
+    private final Heap[] heaps;
+
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * Constructs a queue with two heaps per available processor.
+     */
+    public MultiQueue() {
+        this(DEFAULT_HEAPS_PER_THREAD *
+             Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a queue with {@code numberOfHeaps} heaps. For {@code p}
+     * threads, {@code 2 * p} heaps keep the contention low and the quality
+     * high.
+     *
+     * @param numberOfHeaps the number of internal heaps.
+     */
+    public MultiQueue(final int numberOfHeaps) {
+        if (numberOfHeaps < 1) {
+            throw new IllegalArgumentException(
+                    "The number of heaps must be at least 1, received " +
+                    numberOfHeaps + ".");
+        }
+
+        this.heaps = new Heap[numberOfHeaps];
+
+        for (int i = 0; i < numberOfHeaps; ++i) {
+            heaps[i] = new Heap();
+        }
+    }
+
+    public int getNumberOfHeaps() {
+        return heaps.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(final E element, final double priority) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (true) {
+            final Heap heap = heaps[random.nextInt(heaps.length)];
+
+            if (heap.tryLock()) {
+                try {
+                    heap.push(element, priority);
+                } finally {
+                    heap.unlock();
+                }
+
+                size.increment();
+                return;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E extractMinimum() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        int attempts = 0;
+
+        while (true) {
+            Heap heap;
+
+            if (attempts++ < SAMPLING_ATTEMPTS) {
+                final Heap heap1 = heaps[random.nextInt(heaps.length)];
+                final Heap heap2 = heaps[random.nextInt(heaps.length)];
+                heap = heap2.isBetterThan(heap1) ? heap2 : heap1;
+            } else {
+                // The sampled heaps keep being empty or locked: look at all.
+                heap = heaps[0];
+
+                for (int i = 1; i < heaps.length; ++i) {
+                    if (heaps[i].isBetterThan(heap)) {
+                        heap = heaps[i];
+                    }
+                }
+            }
+
+            if (heap.empty) {
+                if (size.sum() == 0L) {
+                    return null;
+                }
+
+                continue;
+            }
+
+            if (!heap.tryLock()) {
+                continue;
+            }
+
+            final Object element;
+
+            try {
+                if (heap.size == 0) {
+                    continue;
+                }
+
+                element = heap.pop();
+            } finally {
+                heap.unlock();
+            }
+
+            size.decrement();
+            return (E) element;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return (int) Math.max(0L, size.sum());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        for (final Heap heap : heaps) {
+            heap.clear();
+        }
+
+        size.reset();
+    }
+}
@@ -0,0 +1,283 @@
+package net.coderodde.util.support;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import net.coderodde.util.MinimumPriorityQueue;
+
+/**
+ * This class implements a
+ * <a href="https://en.wikipedia.org/wiki/Pairing_heap">pairing heap</a>. The
+ * heap is a multiway tree in which every node stores its leftmost child and
+ * its siblings in a doubly-linked list. Insertions and priority decreases run
+ * in constant time, and the minimum extraction merges the root's children in
+ * two passes.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @param <E> the element type.
+ */
+public class PairingHeap<E> implements MinimumPriorityQueue<E> {
+
+    /**
+     * The initial capacity of the merge buffer.
+     */
+    private static final int INITIAL_BUFFER_CAPACITY = 64;
+
+    /**
+     * Stores an element, its priority and the tree links.
+     *
+     * @param <E> the element type.
+     */
+    private static final class Node<E> {
+
+        Node(final E element, final double priority) {
+            this.element = element;
+            this.priority = priority;
+        }
+
+        /**
+         * The actual element.
+         */
+        E element;
+
+        /**
+         * The priority of the element.
+         */
+        double priority;
+
+        /**
+         * The leftmost child of this node.
+         */
+        Node<E> child;
+
+        /**
+         * The next sibling of this node.
+         */
+        Node<E> next;
+
+        /**
+         * The previous sibling of this node, or the parent if this node is
+         * the leftmost child.
+         */
+        Node<E> previous;
+    }
+
+    /**
+     * The root of the heap tree.
+     */
+    private Node<E> root;
+
+    /**
+     * The map mapping elements to their respective tree nodes.
+     */
+    private final Map<E, Node<E>> map = new HashMap<>();
+
+    /**
+     * The buffer holding the subtrees being merged during minimum extraction.
+     */
+    private Node[] buffer = new Node[INITIAL_BUFFER_CAPACITY];
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(final E element, final double priority) {
+        if (map.containsKey(element)) {
+            return;
+        }
+
+        final Node<E> node = new Node<>(element, priority);
+        map.put(element, node);
+        root = root == null ? node : link(root, node);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void decreasePriority(final E element, final double newPriority) {
+        final Node<E> node = map.get(element);
+
+        if (node == null || node.priority <= newPriority) {
+            return;
+        }
+
+        node.priority = newPriority;
+
+        if (node == root) {
+            return;
+        }
+
+        // Cut the subtree rooted at 'node' and merge it with the root.
+        if (node.previous.child == node) {
+            node.previous.child = node.next;
+        } else {
+            node.previous.next = node.next;
+        }
+
+        if (node.next != null) {
+            node.next.previous = node.previous;
+        }
+
+        node.next = null;
+        node.previous = null;
+        root = link(root, node);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E extractMinimum() {
+        if (root == null) {
+            throw new NoSuchElementException(
+            "Reading from an empty pairing heap.");
+        }
+
+        final E ret = root.element;
+        map.remove(ret);
+        root = mergePairs(root.child);
+
+        if (root != null) {
+            root.previous = null;
+        }
+
+        return ret;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E min() {
+        if (root == null) {
+            throw new NoSuchElementException("Reading from an empty queue.");
+        }
+
+        return root.element;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        root = null;
+        map.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the string indicating the implementation type.
+     */
+    @Override
+    public String toString() {
+        return "PairingHeap";
+    }
+
+    /**
+     * Makes the tree with the larger root priority the leftmost child of the
+     * other one, and returns the resulting tree. Both arguments must be roots
+     * without siblings.
+     *
+     * @param a the root of a tree.
+     * @param b the root of another tree.
+     * @return the root of the linked tree.
+     */
+    private static <E> Node<E> link(final Node<E> a, final Node<E> b) {
+        final Node<E> parent;
+        final Node<E> child;
+
+        if (b.priority < a.priority) {
+            parent = b;
+            child = a;
+        } else {
+            parent = a;
+            child = b;
+        }
+
+        child.next = parent.child;
+
+        if (parent.child != null) {
+            parent.child.previous = child;
+        }
+
+        child.previous = parent;
+        parent.child = child;
+        return parent;
+    }
+
+    /**
+     * Merges the sibling list starting at {@code first} by linking the
+     * siblings pairwise from left to right, and then linking the resulting
+     * trees from right to left.
+     *
+     * @param first the leftmost sibling.
+     * @return the root of the merged tree.
+     */
+    private Node<E> mergePairs(Node<E> first) {
+        if (first == null) {
+            return null;
+        }
+
+        int size = 0;
+
+        while (first != null) {
+            final Node<E> a = first;
+            final Node<E> b = a.next;
+
+            if (b == null) {
+                first = null;
+                a.next = null;
+                a.previous = null;
+                store(size++, a);
+                break;
+            }
+
+            first = b.next;
+            a.next = null;
+            a.previous = null;
+            b.next = null;
+            b.previous = null;
+            store(size++, link(a, b));
+        }
+
+        Node<E> ret = (Node<E>) buffer[--size];
+        buffer[size] = null;
+
+        while (size > 0) {
+            ret = link((Node<E>) buffer[--size], ret);
+            buffer[size] = null;
+        }
+
+        return ret;
+    }
+
+    private void store(final int index, final Node<E> node) {
+        if (index == buffer.length) {
+            final Node[] newBuffer = new Node[2 * buffer.length];
+            System.arraycopy(buffer, 0, newBuffer, 0, buffer.length);
+            buffer = newBuffer;
+        }
+
+        buffer[index] = node;
+    }
+}
@@ -0,0 +1,278 @@
+package net.coderodde.util.support;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import net.coderodde.util.MinimumPriorityQueue;
+
+/**
+ * This class implements a 4-ary heap in struct-of-arrays layout: the priority
+ * keys are stored in a dense {@code double} array separate from the elements,
+ * so that sifting compares adjacent primitives only. The root is stored at
+ * index 3, which places the four children of the node at index {@code i} at
+ * the indices {@code 4i - 8, ..., 4i - 5} and its parent at index
+ * {@code i / 4 + 2}: every group of siblings starts at a multiple of four
+ * and spans 32 bytes of the priority array, so that as long as the array
+ * data is cache line aligned, no group of siblings straddles two cache lines.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 18, 2026)
+ * @param <E> the element type.
+ */
+public class QuaternaryHeap<E> implements MinimumPriorityQueue<E> {
+
+    /**
+     * The minimum storage capacity.
+     */
+    private static final int MINIMUM_CAPACITY = 128;
+
+    /**
+     * The default storage capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The index of the root node.
+     */
+    private static final int ROOT = 3;
+
+    /**
+     * Stores an element and its current index in the storage arrays.
+     *
+     * @param <E> the element type.
+     */
+    private static final class Slot<E> {
+
+        Slot(final E element) {
+            this.element = element;
+        }
+
+        /**
+         * The actual element.
+         */
+        final E element;
+
+        /**
+         * The index of this slot in the storage arrays.
+         */
+        int index;
+    }
+
+    /**
+     * The priority keys. The key at index {@code i} belongs to the element in
+     * {@code slots[i]}.
+     */
+    private double[] priorities;
+
+    /**
+     * The element slots.
+     */
+    private Slot[] slots;
+
+    /**
+     * The map mapping elements to their respective slots.
+     */
+    private final Map<E, Slot<E>> map;
+
+    /**
+     * The index one past the last occupied index.
+     */
+    private int end = ROOT;
+
+    /**
+     * Constructs a new heap with given capacity.
+     *
+     * @param capacity the capacity of this heap.
+     */
+    public QuaternaryHeap(final int capacity) {
+        final int actualCapacity = Math.max(capacity, MINIMUM_CAPACITY);
+        this.priorities = new double[actualCapacity + ROOT];
+        this.slots = new Slot[actualCapacity + ROOT];
+        this.map = new HashMap<>(actualCapacity);
+    }
+
+    /**
+     * Constructs a new heap with default capacity.
+     */
+    public QuaternaryHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(final E element, final double priority) {
+        if (map.containsKey(element)) {
+            return;
+        }
+
+        if (end == slots.length) {
+            final int newLength = ROOT + 3 * (end - ROOT) / 2;
+            priorities = Arrays.copyOf(priorities, newLength);
+            slots = Arrays.copyOf(slots, newLength);
+        }
+
+        final Slot<E> slot = new Slot<>(element);
+        map.put(element, slot);
+        siftUp(end++, slot, priority);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void decreasePriority(final E element, final double newPriority) {
+        final Slot<E> slot = map.get(element);
+
+        if (slot == null || priorities[slot.index] <= newPriority) {
+            return;
+        }
+
+        siftUp(slot.index, slot, newPriority);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E extractMinimum() {
+        if (end == ROOT) {
+            throw new NoSuchElementException(
+            "Reading from an empty 4-ary heap.");
+        }
+
+        final E ret = ((Slot<E>) slots[ROOT]).element;
+        map.remove(ret);
+        --end;
+
+        final Slot<E> last = (Slot<E>) slots[end];
+        final double lastPriority = priorities[end];
+        slots[end] = null; // For the sake of garbage collection.
+
+        if (end != ROOT) {
+            siftDown(last, lastPriority);
+        }
+
+        return ret;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E min() {
+        if (end == ROOT) {
+            throw new NoSuchElementException("Reading from an empty queue.");
+        }
+
+        return ((Slot<E>) slots[ROOT]).element;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return end - ROOT;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return end == ROOT;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(slots, ROOT, end, null);
+        map.clear();
+        end = ROOT;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the string indicating the implementation type.
+     */
+    @Override
+    public String toString() {
+        return "QuaternaryHeap";
+    }
+
+    /**
+     * Moves the hole at index {@code index} towards the root until
+     * {@code priority} fits, and stores {@code slot} there.
+     *
+     * @param index    the index of the hole.
+     * @param slot     the slot to store.
+     * @param priority the priority of the slot.
+     */
+    private void siftUp(int index, final Slot<E> slot, final double priority) {
+        while (index > ROOT) {
+            final int parentIndex = (index >>> 2) + 2;
+
+            if (priorities[parentIndex] <= priority) {
+                break;
+            }
+
+            priorities[index] = priorities[parentIndex];
+            slots[index] = slots[parentIndex];
+            slots[index].index = index;
+            index = parentIndex;
+        }
+
+        priorities[index] = priority;
+        slots[index] = slot;
+        slot.index = index;
+    }
+
+    /**
+     * Moves the hole at the root towards the leaves until {@code priority}
+     * fits, and stores {@code slot} there.
+     *
+     * @param slot     the slot to store.
+     * @param priority the priority of the slot.
+     */
+    private void siftDown(final Slot<E> slot, final double priority) {
+        int index = ROOT;
+
+        for (;;) {
+            final int firstChildIndex = (index << 2) - 8;
+
+            if (firstChildIndex >= end) {
+                break;
+            }
+
+            final int lastChildIndex = Math.min(firstChildIndex + 4, end);
+            int minChildIndex = firstChildIndex;
+            double minChildPriority = priorities[firstChildIndex];
+
+            for (int i = firstChildIndex + 1; i < lastChildIndex; ++i) {
+                if (minChildPriority > priorities[i]) {
+                    minChildPriority = priorities[i];
+                    minChildIndex = i;
+                }
+            }
+
+            if (minChildPriority >= priority) {
+                break;
+            }
+
+            priorities[index] = minChildPriority;
+            slots[index] = slots[minChildIndex];
+            slots[index].index = index;
+            index = minChildIndex;
+        }
+
+        priorities[index] = priority;
+        slots[index] = slot;
+        slot.index = index;
+    }
+}
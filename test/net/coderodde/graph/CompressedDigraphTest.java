@@ -0,0 +1,136 @@
+package net.coderodde.graph;
+
+import java.util.Arrays;
+import java.util.Random;
+import net.coderodde.graph.sp.HeuristicPathFinder;
+import net.coderodde.graph.sp.support.AStarPathFinder;
+import net.coderodde.graph.sp.support.BHPAPathFinder;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class CompressedDigraphTest {
+
+    @Test
+    public void testKeepsArcsAndRoundsWeightsUp() {
+        final Random random = new Random(5L);
+        final Digraph digraph = new Digraph();
+        final int n = 500;
+
+        for (int i = 0; i < n; ++i) {
+            digraph.addNode(i);
+        }
+
+        for (int i = 0; i < 5 * n; ++i) {
+            digraph.addEdge(random.nextInt(n),
+                            random.nextInt(n),
+                            100.0 * random.nextDouble());
+        }
+
+        final CompressedDigraph[] compressed = {
+            CompressedDigraph.withFloatWeights(digraph),
+            CompressedDigraph.withFixedPointWeights(digraph)
+        };
+
+        for (final CompressedDigraph graph : compressed) {
+            assertEquals(digraph.size(), graph.size());
+            assertEquals(digraph.getNumberOfEdges(), graph.getNumberOfEdges());
+
+            for (int node = 0; node < n; ++node) {
+                assertEquals(digraph.getChildrenOf(node),
+                             graph.getChildrenOf(node));
+                assertEquals(digraph.getParentsOf(node),
+                             graph.getParentsOf(node));
+
+                for (final ArcCursor arc = graph.getParentArcsOf(node);
+                        arc.next();) {
+                    final double weight =
+                            digraph.getEdgeWeight(arc.getNode(), node);
+
+                    assertTrue(arc.getWeight() >= weight);
+                    assertEquals(weight, arc.getWeight(), 0.01);
+                    assertEquals(arc.getWeight(),
+                                 graph.getEdgeWeight(arc.getNode(), node),
+                                 0.0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFixedPointWeightsAreNeverRoundedDown() {
+        final Random random = new Random(11L);
+
+        for (int i = 0; i < 20_000; ++i) {
+            // The first maximum was once decoded one ulp below itself.
+            final double maximum = i == 0 ?
+                                   255.99935591799735 :
+                                   1000.0 * random.nextDouble();
+            final Digraph digraph = new Digraph();
+            digraph.addEdge(0, 1, maximum);
+            digraph.addEdge(1, 2, maximum * random.nextDouble());
+            digraph.addEdge(2, 0, Math.nextDown(maximum));
+
+            final CompressedDigraph graph =
+                    CompressedDigraph.withFixedPointWeights(digraph);
+
+            for (int node = 0; node < 3; ++node) {
+                for (final ArcCursor arc = graph.getChildArcsOf(node);
+                        arc.next();) {
+                    assertTrue(arc.getWeight() >=
+                               digraph.getEdgeWeight(node, arc.getNode()));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testForwardOnlyGraphServesForwardSearches() {
+        final Digraph digraph = new Digraph();
+        digraph.addEdge(0, 1, 1.0);
+        digraph.addEdge(1, 2, 1.0);
+        digraph.addEdge(0, 2, 3.0);
+
+        final CompressedDigraph graph =
+                CompressedDigraph.withFloatWeights(digraph, Digraph.FORWARD);
+        final HeuristicPathFinder finder = new AStarPathFinder();
+
+        assertEquals(Digraph.FORWARD, graph.getDirections());
+        assertEquals(Arrays.asList(0, 1, 2),
+                     finder.search(graph, (u, v) -> 0.0, 0, 2));
+        assertEquals(1.0, graph.getEdgeWeight(1, 2), 0.0);
+
+        try {
+            graph.getParentArcsOf(2);
+            fail("The missing direction was not rejected.");
+        } catch (final UnsupportedOperationException ex) {
+        }
+
+        try {
+            new BHPAPathFinder().search(graph, (u, v) -> 0.0, 0, 2);
+            fail("The incompatible finder was not rejected.");
+        } catch (final IllegalArgumentException ex) {
+        }
+    }
+
+    @Test
+    public void testBackwardOnlyGraphKeepsEdgeWeights() {
+        final Digraph digraph = new Digraph();
+        digraph.addEdge(0, 1, 2.0);
+        digraph.addEdge(1, 0, 5.0);
+
+        final CompressedDigraph graph =
+                CompressedDigraph.withFixedPointWeights(digraph,
+                                                        Digraph.BACKWARD);
+
+        assertEquals(2.0, graph.getEdgeWeight(0, 1), 0.01);
+        assertEquals(5.0, graph.getEdgeWeight(1, 0), 0.01);
+        assertTrue(Double.isNaN(graph.getEdgeWeight(0, 0)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsSparseNodeIdentifiers() {
+        final Digraph digraph = new Digraph();
+        digraph.addEdge(0, 5, 1.0);
+        CompressedDigraph.withFloatWeights(digraph);
+    }
+}
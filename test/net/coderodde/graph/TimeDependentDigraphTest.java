@@ -0,0 +1,84 @@
+package net.coderodde.graph;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class TimeDependentDigraphTest {
+
+    @Test
+    public void testWeightUpdatesReuseTheFunction() {
+        final TimeDependentDigraph digraph = new TimeDependentDigraph();
+        final TravelTimeFunctions functions = digraph.getFunctions();
+
+        digraph.addEdge(0, 1, 1.0);
+        final int function = digraph.getEdgeFunction(0, 1);
+
+        for (int i = 2; i < 1000; ++i) {
+            assertTrue(digraph.addEdge(0, 1, i));
+        }
+
+        assertFalse(digraph.addEdge(0, 1, 999.0));
+        assertEquals(1, functions.size());
+        assertEquals(function, digraph.getEdgeFunction(0, 1));
+        assertEquals(999.0, digraph.getEdgeWeight(0, 1), 0.0);
+        assertEquals(999.0, digraph.getTravelTime(0, 1, 50.0), 0.0);
+    }
+
+    @Test
+    public void testRemovedArcsFreeTheirFunctions() {
+        final TimeDependentDigraph digraph = new TimeDependentDigraph();
+        final TravelTimeFunctions functions = digraph.getFunctions();
+
+        for (int i = 0; i < 100; ++i) {
+            digraph.addEdge(0, 1, 1.0);
+            digraph.addEdge(1, 2, 2.0);
+            digraph.addEdge(2, 2, 3.0);
+            digraph.removeEdge(0, 1);
+            digraph.clearNode(2);
+        }
+
+        assertEquals(3, functions.size());
+
+        for (int i = 0; i < 100; ++i) {
+            digraph.addEdge(i, i + 1, i);
+        }
+
+        digraph.clear();
+
+        for (int i = 0; i < 100; ++i) {
+            digraph.addEdge(i + 1, i, 2.0 * i);
+        }
+
+        assertEquals(100, functions.size());
+        assertEquals(40.0, digraph.getTravelTime(21, 20, 0.0), 0.0);
+    }
+
+    @Test
+    public void testSharedFunctionsAreNotOverwritten() {
+        final TimeDependentDigraph digraph = new TimeDependentDigraph();
+        final TravelTimeFunctions functions = digraph.getFunctions();
+
+        digraph.addEdge(0, 1, 5.0);
+        final int function = digraph.getEdgeFunction(0, 1);
+
+        // Once attached explicitly, the function may be shared.
+        digraph.addTimeDependentEdge(1, 2, function);
+        digraph.addEdge(0, 1, 7.0);
+
+        assertEquals(5.0, digraph.getTravelTime(1, 2, 0.0), 0.0);
+        assertEquals(7.0, digraph.getTravelTime(0, 1, 0.0), 0.0);
+        assertEquals(5.0, functions.evaluate(function, 0.0), 0.0);
+
+        // Neither is the function of a removed arc reused.
+        digraph.removeEdge(1, 2);
+        digraph.addEdge(3, 4, 9.0);
+        assertTrue(digraph.getEdgeFunction(3, 4) != function);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNegativeWeightUpdate() {
+        final TimeDependentDigraph digraph = new TimeDependentDigraph();
+        digraph.addEdge(0, 1, 1.0);
+        digraph.addEdge(0, 1, -1.0);
+    }
+}
@@ -0,0 +1,102 @@
+package net.coderodde.graph.generator.support;
+
+import java.util.concurrent.ForkJoinPool;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.generator.GeneratedGraph;
+import net.coderodde.graph.generator.GraphGenerator;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class GraphGeneratorTest {
+
+    /**
+     * More nodes than in three chunks, so that the chunks run in parallel.
+     */
+    private static final int NODES = 3 * AbstractGraphGenerator.CHUNK_SIZE +
+                                     1000;
+
+    private static final GraphGenerator[] GENERATORS = {
+        new RandomGeometricGraphGenerator(NODES, 4 * NODES, 1000.0, 1000.0,
+                                          1.2),
+        new RandomGeometricGraphGenerator(NODES, 4 * NODES, 1000.0, 1000.0,
+                                          1.2, 15.0),
+        new RoadLikeGraphGenerator(NODES, 1000.0, 1000.0),
+        new GridGraphGenerator(250, NODES / 250, 1.0, 0.3),
+    };
+
+    @Test
+    public void testGraphsDoNotDependOnTheNumberOfThreads() {
+        final ForkJoinPool sequentialPool = new ForkJoinPool(1);
+        final ForkJoinPool parallelPool = new ForkJoinPool(4);
+
+        try {
+            for (final GraphGenerator generator : GENERATORS) {
+                final GeneratedGraph expected =
+                        generator.generate(17L, sequentialPool);
+                final GeneratedGraph actual =
+                        generator.generate(17L, parallelPool);
+
+                assertTrue(generator.getName(), expected.getNumberOfArcs() > 0);
+                assertSameGraph(expected, actual);
+                assertSameDigraph(expected.toDigraph(), actual.toDigraph());
+            }
+        } finally {
+            sequentialPool.shutdown();
+            parallelPool.shutdown();
+        }
+    }
+
+    @Test
+    public void testSeedsGiveDifferentGraphs() {
+        for (final GraphGenerator generator : GENERATORS) {
+            final GeneratedGraph graph1 =
+                    generator.generate(1L, ForkJoinPool.commonPool());
+            final GeneratedGraph graph2 =
+                    generator.generate(2L, ForkJoinPool.commonPool());
+            boolean different = false;
+
+            for (int arc = 0; arc < Math.min(graph1.getNumberOfArcs(),
+                                             graph2.getNumberOfArcs());
+                    ++arc) {
+                if (graph1.getWeight(arc) != graph2.getWeight(arc)) {
+                    different = true;
+                    break;
+                }
+            }
+
+            assertTrue(generator.getName(), different);
+        }
+    }
+
+    private static void assertSameGraph(final GeneratedGraph expected,
+                                        final GeneratedGraph actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.getNumberOfArcs(), actual.getNumberOfArcs());
+
+        for (int node = 0; node < expected.size(); ++node) {
+            assertEquals(expected.getX(node), actual.getX(node), 0.0);
+            assertEquals(expected.getY(node), actual.getY(node), 0.0);
+            assertEquals(expected.getFirstArc(node), actual.getFirstArc(node));
+        }
+
+        for (int arc = 0; arc < expected.getNumberOfArcs(); ++arc) {
+            assertEquals(expected.getHead(arc), actual.getHead(arc));
+            assertEquals(expected.getWeight(arc), actual.getWeight(arc), 0.0);
+        }
+    }
+
+    private static void assertSameDigraph(final Digraph expected,
+                                          final Digraph actual) {
+        assertEquals(expected.getAllNodes(), actual.getAllNodes());
+        assertEquals(expected.getNumberOfEdges(), actual.getNumberOfEdges());
+
+        for (final Integer tail : expected.getAllNodes()) {
+            for (final Integer head : expected.getChildrenOf(tail)) {
+                assertTrue(actual.hasEdge(tail, head));
+                assertEquals(expected.getEdgeWeight(tail, head),
+                             actual.getEdgeWeight(tail, head),
+                             0.0);
+            }
+        }
+    }
+}
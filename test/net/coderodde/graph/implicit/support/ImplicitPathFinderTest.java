@@ -0,0 +1,178 @@
+package net.coderodde.graph.implicit.support;
+
+import java.util.List;
+import java.util.Random;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.implicit.ImplicitGraph;
+import net.coderodde.graph.implicit.ImplicitPathFinder;
+import net.coderodde.graph.implicit.StateEncoding;
+import net.coderodde.graph.implicit.StateHeuristic;
+import net.coderodde.graph.implicit.SuccessorBuffer;
+import net.coderodde.graph.sp.support.AStarPathFinder;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ImplicitPathFinderTest {
+
+    private static final int WIDTH = 40;
+
+    /**
+     * A cell of a grid with blocked cells, entering a cell costing between 1
+     * and 2.
+     */
+    private static final class Cell {
+
+        final int x;
+        final int y;
+
+        Cell(final int x, final int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    private static final StateEncoding<Cell> ENCODING =
+            new StateEncoding<Cell>() {
+
+        @Override
+        public int getNumberOfWords() {
+            return 1;
+        }
+
+        @Override
+        public void encode(final Cell cell,
+                           final long[] words,
+                           final int offset) {
+            words[offset] = ((long) cell.x << 32) | cell.y;
+        }
+
+        @Override
+        public Cell decode(final long[] words, final int offset) {
+            return new Cell((int) (words[offset] >>> 32), (int) words[offset]);
+        }
+    };
+
+    private static final StateHeuristic<Cell> MANHATTAN =
+            (from, to) -> Math.abs(from.x - to.x) + Math.abs(from.y - to.y);
+
+    private static final int[][] MOVES = { { 1, 0 }, { -1, 0 },
+                                           { 0, 1 }, { 0, -1 } };
+
+    @Test
+    public void testFindersAgreeWithDigraphSearch() {
+        final ImplicitGraph<Cell> graph =
+                new ImplicitGraph<>(ENCODING,
+                                    ImplicitPathFinderTest::successors,
+                                    ImplicitPathFinderTest::predecessors);
+        final Digraph digraph = new Digraph();
+
+        for (int x = 0; x < WIDTH; ++x) {
+            for (int y = 0; y < WIDTH; ++y) {
+                final SuccessorBuffer<Cell> buffer = new SuccessorBuffer<>();
+                successors(new Cell(x, y), buffer);
+
+                for (int i = 0; i < buffer.size(); ++i) {
+                    final Cell cell = buffer.getState(i);
+                    digraph.addEdge(id(x, y),
+                                    id(cell.x, cell.y),
+                                    buffer.getCost(i));
+                }
+            }
+        }
+
+        final ImplicitPathFinder[] finders = {
+            new ImplicitAStarPathFinder(),
+            new ImplicitBidirectionalPathFinder()
+        };
+        final Random random = new Random(13L);
+
+        for (int i = 0; i < 100; ++i) {
+            final Cell source = new Cell(random.nextInt(WIDTH),
+                                         random.nextInt(WIDTH));
+            final Cell target = new Cell(random.nextInt(WIDTH),
+                                         random.nextInt(WIDTH));
+
+            if (isBlocked(source.x, source.y)
+                    || isBlocked(target.x, target.y)) {
+                continue;
+            }
+
+            final List<Integer> expected =
+                    new AStarPathFinder().search(digraph,
+                                                 (from, to) -> 0.0,
+                                                 id(source.x, source.y),
+                                                 id(target.x, target.y));
+
+            for (final ImplicitPathFinder finder : finders) {
+                final List<Cell> path =
+                        finder.search(graph, MANHATTAN, source, target);
+
+                assertEquals(expected.isEmpty(), path.isEmpty());
+
+                if (!path.isEmpty()) {
+                    assertEquals(cost(digraph, expected),
+                                 cost(digraph, path),
+                                 1e-9);
+                }
+            }
+        }
+    }
+
+    private static void successors(final Cell cell,
+                                   final SuccessorBuffer<Cell> buffer) {
+        for (final int[] move : MOVES) {
+            final int x = cell.x + move[0];
+            final int y = cell.y + move[1];
+
+            if (x >= 0 && y >= 0 && x < WIDTH && y < WIDTH
+                    && !isBlocked(x, y)) {
+                buffer.add(new Cell(x, y), entryCost(x, y));
+            }
+        }
+    }
+
+    private static void predecessors(final Cell cell,
+                                     final SuccessorBuffer<Cell> buffer) {
+        for (final int[] move : MOVES) {
+            final int x = cell.x + move[0];
+            final int y = cell.y + move[1];
+
+            if (x >= 0 && y >= 0 && x < WIDTH && y < WIDTH
+                    && !isBlocked(x, y)) {
+                buffer.add(new Cell(x, y), entryCost(cell.x, cell.y));
+            }
+        }
+    }
+
+    private static boolean isBlocked(final int x, final int y) {
+        return (x * 7 + y * 13) % 9 == 0 && x % 5 != 0;
+    }
+
+    private static double entryCost(final int x, final int y) {
+        return 1.0 + ((x * 31 + y * 17) % 5) / 4.0;
+    }
+
+    private static int id(final int x, final int y) {
+        return x * WIDTH + y;
+    }
+
+    private static double cost(final Digraph digraph,
+                               final List<?> path) {
+        double cost = 0.0;
+
+        for (int i = 0; i < path.size() - 1; ++i) {
+            cost += digraph.getEdgeWeight(toId(path.get(i)),
+                                          toId(path.get(i + 1)));
+        }
+
+        return cost;
+    }
+
+    private static int toId(final Object node) {
+        if (node instanceof Cell) {
+            return id(((Cell) node).x, ((Cell) node).y);
+        }
+
+        return (Integer) node;
+    }
+}
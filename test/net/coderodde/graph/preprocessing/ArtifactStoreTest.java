@@ -0,0 +1,215 @@
+package net.coderodde.graph.preprocessing;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.preprocessing.support.LandmarkPreprocessor;
+import net.coderodde.graph.preprocessing.support.Landmarks;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ArtifactStoreTest {
+
+    private static final LandmarkPreprocessor PREPROCESSOR =
+            new LandmarkPreprocessor(4, 13L);
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final Path directory = Files.createTempDirectory("artifacts");
+        final ForkJoinPool pool = new ForkJoinPool(2);
+
+        try {
+            final ArtifactStore store = new ArtifactStore(directory);
+            final Digraph digraph = createGraph();
+            final String graphHash = GraphHash.of(digraph);
+
+            assertNull(store.load(PREPROCESSOR, graphHash));
+
+            final Landmarks computed =
+                    store.loadOrCompute(PREPROCESSOR,
+                                        digraph,
+                                        pool,
+                                        ProgressListener.NONE);
+
+            assertTrue(Files.isRegularFile(store.getPath(PREPROCESSOR,
+                                                         graphHash)));
+            assertLandmarksEqual(computed,
+                                 store.load(PREPROCESSOR, graphHash));
+
+            // The second call must load the file instead of preprocessing.
+            assertLandmarksEqual(computed,
+                                 store.loadOrCompute(
+                                         PREPROCESSOR,
+                                         digraph,
+                                         pool,
+                                         (step, done, total) -> fail()));
+
+            // A changed graph has another hash and thus no artifact.
+            digraph.addEdge(0, 1, 1000.0);
+            assertNull(store.load(PREPROCESSOR, GraphHash.of(digraph)));
+        } finally {
+            pool.shutdown();
+            deleteDirectory(directory);
+        }
+    }
+
+    @Test
+    public void testRejectsOtherVersion() throws IOException {
+        final Path directory = Files.createTempDirectory("artifacts");
+
+        try {
+            final ArtifactStore store = new ArtifactStore(directory);
+            final Digraph digraph = createGraph();
+            final String graphHash = GraphHash.of(digraph);
+            final Preprocessor<Landmarks> nextVersion =
+                    new NextVersionPreprocessor();
+
+            store.store(PREPROCESSOR,
+                        graphHash,
+                        PREPROCESSOR.preprocess(digraph,
+                                                ForkJoinPool.commonPool(),
+                                                ProgressListener.NONE));
+
+            // The other version has its own file name ...
+            assertNull(store.load(nextVersion, graphHash));
+
+            // ... and a version 1 file under that name is rejected.
+            Files.copy(store.getPath(PREPROCESSOR, graphHash),
+                       store.getPath(nextVersion, graphHash),
+                       StandardCopyOption.REPLACE_EXISTING);
+
+            try {
+                store.load(nextVersion, graphHash);
+                fail("An artifact of another version was accepted.");
+            } catch (final IOException ex) {
+            }
+        } finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    @Test
+    public void testRejectsOtherFormat() throws IOException {
+        final Path directory = Files.createTempDirectory("artifacts");
+
+        try {
+            final ArtifactStore store = new ArtifactStore(directory);
+            final String graphHash = GraphHash.of(createGraph());
+            final byte[] garbage = new byte[64];
+
+            new Random(17L).nextBytes(garbage);
+            Files.write(store.getPath(PREPROCESSOR, graphHash), garbage);
+
+            try {
+                store.load(PREPROCESSOR, graphHash);
+                fail("A file of another format was accepted.");
+            } catch (final IOException ex) {
+            }
+
+            // A truncated file fails while reading the payload.
+            Files.write(store.getPath(PREPROCESSOR, graphHash), new byte[2]);
+
+            try {
+                store.load(PREPROCESSOR, graphHash);
+                fail("A truncated file was accepted.");
+            } catch (final IOException ex) {
+            }
+        } finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    /**
+     * The landmark preprocessor with a bumped format version.
+     */
+    private static final class NextVersionPreprocessor
+            implements Preprocessor<Landmarks> {
+
+        @Override
+        public String getName() {
+            return PREPROCESSOR.getName();
+        }
+
+        @Override
+        public int getVersion() {
+            return PREPROCESSOR.getVersion() + 1;
+        }
+
+        @Override
+        public Landmarks preprocess(final Digraph digraph,
+                                    final ForkJoinPool pool,
+                                    final ProgressListener listener) {
+            return PREPROCESSOR.preprocess(digraph, pool, listener);
+        }
+
+        @Override
+        public void write(final Landmarks artifact, final DataOutput out)
+                throws IOException {
+            PREPROCESSOR.write(artifact, out);
+        }
+
+        @Override
+        public Landmarks read(final ByteBuffer buffer) throws IOException {
+            return PREPROCESSOR.read(buffer);
+        }
+    }
+
+    private static Digraph createGraph() {
+        final Random random = new Random(11L);
+        final Digraph digraph = new Digraph();
+
+        for (int i = 0; i < 100; ++i) {
+            digraph.addNode(i);
+        }
+
+        for (int i = 0; i < 400; ++i) {
+            digraph.addEdge(random.nextInt(100),
+                            random.nextInt(100),
+                            1.0 + 9.0 * random.nextDouble());
+        }
+
+        return digraph;
+    }
+
+    private static void assertLandmarksEqual(final Landmarks expected,
+                                             final Landmarks actual) {
+        assertEquals(expected.getNumberOfLandmarks(),
+                     actual.getNumberOfLandmarks());
+        assertEquals(expected.getNumberOfNodes(), actual.getNumberOfNodes());
+
+        for (int i = 0; i < expected.getNumberOfLandmarks(); ++i) {
+            assertEquals(expected.getLandmark(i), actual.getLandmark(i));
+        }
+
+        for (int j = 0; j < expected.getNumberOfNodes(); ++j) {
+            assertEquals(expected.getNode(j), actual.getNode(j));
+
+            for (int i = 0; i < expected.getNumberOfLandmarks(); ++i) {
+                assertEquals(expected.getDistanceFrom(i, j),
+                             actual.getDistanceFrom(i, j),
+                             0.0);
+                assertEquals(expected.getDistanceTo(i, j),
+                             actual.getDistanceTo(i, j),
+                             0.0);
+            }
+        }
+    }
+
+    private static void deleteDirectory(final Path directory)
+            throws IOException {
+        try (final Stream<Path> files = Files.list(directory)) {
+            for (final Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+
+        Files.delete(directory);
+    }
+}
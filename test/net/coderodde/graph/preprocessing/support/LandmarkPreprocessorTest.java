@@ -0,0 +1,93 @@
+package net.coderodde.graph.preprocessing.support;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.preprocessing.ProgressListener;
+import net.coderodde.graph.sp.HeuristicPathFinder;
+import net.coderodde.graph.sp.support.AStarPathFinder;
+import net.coderodde.graph.util.HeuristicFunction;
+import net.coderodde.graph.util.ShortestPathTrees;
+import net.coderodde.graph.util.support.LandmarkHeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class LandmarkPreprocessorTest {
+
+    private static final int NODES = 300;
+
+    @Test
+    public void testAltFindsOptimalPaths() {
+        final Random random = new Random(19L);
+        final Digraph digraph = new Digraph();
+
+        for (int i = 0; i < NODES; ++i) {
+            digraph.addNode(i);
+        }
+
+        // Sparse enough for some targets to be unreachable.
+        for (int i = 0; i < 3 * NODES; ++i) {
+            digraph.addEdge(random.nextInt(NODES),
+                            random.nextInt(NODES),
+                            1.0 + 99.0 * random.nextDouble());
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        final Landmarks landmarks;
+
+        try {
+            landmarks = new LandmarkPreprocessor(8, 23L)
+                    .preprocess(digraph, pool, ProgressListener.NONE);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(8, landmarks.getNumberOfLandmarks());
+        assertEquals(NODES, landmarks.getNumberOfNodes());
+
+        final HeuristicFunction alt = new LandmarkHeuristicFunction(landmarks);
+        final HeuristicPathFinder finder = new AStarPathFinder();
+
+        for (int i = 0; i < 30; ++i) {
+            final int source = random.nextInt(NODES);
+            final Map<Integer, Double> distances =
+                    ShortestPathTrees.computeDistances(digraph, source, true);
+
+            for (int j = 0; j < 20; ++j) {
+                final int target = random.nextInt(NODES);
+                final Double distance = distances.get(target);
+                final List<Integer> path =
+                        finder.search(digraph, alt, source, target);
+
+                if (distance == null) {
+                    assertTrue(path.isEmpty());
+                    continue;
+                }
+
+                assertTrue(alt.estimate(source, target) <= distance + 1e-9);
+                assertEquals(source, (int) path.get(0));
+                assertEquals(target, (int) path.get(path.size() - 1));
+                assertEquals(distance, cost(digraph, path), 1e-9);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNoLandmarks() {
+        new LandmarkPreprocessor(0, 1L);
+    }
+
+    private static double cost(final Digraph digraph,
+                               final List<Integer> path) {
+        double cost = 0.0;
+
+        for (int i = 0; i < path.size() - 1; ++i) {
+            assertTrue(digraph.hasEdge(path.get(i), path.get(i + 1)));
+            cost += digraph.getEdgeWeight(path.get(i), path.get(i + 1));
+        }
+
+        return cost;
+    }
+}
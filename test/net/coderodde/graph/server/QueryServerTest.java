@@ -0,0 +1,276 @@
+package net.coderodde.graph.server;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.sp.HeuristicPathFinder;
+import net.coderodde.graph.sp.support.AStarPathFinder;
+import net.coderodde.graph.util.HeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class QueryServerTest {
+
+    private static final HeuristicFunction ZERO = (u, v) -> 0.0;
+
+    @Test
+    public void testPipelinedQueriesMatchDirectSearch() throws Exception {
+        final Random random = new Random(7L);
+        final Digraph digraph = new Digraph();
+        final int n = 300;
+
+        for (int i = 0; i < 4 * n; ++i) {
+            digraph.addEdge(random.nextInt(n),
+                            random.nextInt(n),
+                            10.0 * random.nextDouble());
+        }
+
+        final HeuristicPathFinder finder = new AStarPathFinder();
+        final int queries = 500;
+        final int[] sources = new int[queries];
+        final int[] targets = new int[queries];
+
+        for (int i = 0; i < queries; ++i) {
+            sources[i] = random.nextInt(n);
+            targets[i] = random.nextInt(n);
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try (final QueryServer server =
+                new QueryServer(digraph,
+                                ZERO,
+                                finder,
+                                executor,
+                                queries,
+                                QueryServer.DEFAULT_MAX_BATCH_SIZE)) {
+            server.start(new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                                               0));
+
+            try (final QueryClient client =
+                    new QueryClient(server.getLocalAddress())) {
+                final QueryClient.Result[] results =
+                        client.searchAll(sources, targets);
+
+                for (int i = 0; i < queries; ++i) {
+                    final List<Integer> path =
+                            finder.search(digraph, ZERO, sources[i], targets[i]);
+
+                    assertFalse(results[i].isRejected());
+                    assertFalse(results[i].isFailed());
+                    assertEquals(path.isEmpty(),
+                                 results[i].getPath().isEmpty());
+                    assertEquals(cost(digraph, path),
+                                 results[i].getCost(),
+                                 1e-9);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testRejectsQueriesBeyondTheLimit() throws Exception {
+        final Digraph digraph = new Digraph();
+        digraph.addEdge(0, 1, 2.0);
+
+        // Holds the batches until the test runs them.
+        final List<Runnable> tasks = new ArrayList<>();
+        final Executor executor = (final Runnable task) -> {
+            synchronized (tasks) {
+                tasks.add(task);
+            }
+        };
+
+        try (final QueryServer server =
+                new QueryServer(digraph,
+                                ZERO,
+                                new AStarPathFinder(),
+                                executor,
+                                1,
+                                QueryServer.DEFAULT_MAX_BATCH_SIZE)) {
+            server.start(new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                                               0));
+
+            try (final QueryClient client =
+                    new QueryClient(server.getLocalAddress())) {
+                final int first = client.submit(0, 1);
+                final int second = client.submit(0, 1);
+                final QueryClient.Result rejected = client.receive();
+
+                assertEquals(second, rejected.getRequestId());
+                assertTrue(rejected.isRejected());
+
+                synchronized (tasks) {
+                    assertEquals(1, tasks.size());
+                    tasks.get(0).run();
+                }
+
+                final QueryClient.Result answered = client.receive();
+
+                assertEquals(first, answered.getRequestId());
+                assertEquals(2, answered.getPath().size());
+                assertEquals(2.0, answered.getCost(), 0.0);
+                assertEquals(1, server.getAvailablePermits());
+            }
+        }
+    }
+
+    @Test
+    public void testStopsReadingWhileResponsesQueueUp() throws Exception {
+        final Digraph digraph = new Digraph();
+        final int n = 2000;
+
+        for (int i = 0; i < n - 1; ++i) {
+            digraph.addEdge(i, i + 1, 1.0);
+        }
+
+        // Each response is about 8 KiB, 24 MiB in all.
+        final int queries = 3000;
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try (final QueryServer server =
+                new QueryServer(digraph,
+                                ZERO,
+                                new AStarPathFinder(),
+                                executor,
+                                queries,
+                                8)) {
+            server.start(new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                                               0));
+
+            try (final QueryClient client =
+                    new QueryClient(server.getLocalAddress())) {
+                for (int i = 0; i < queries; ++i) {
+                    client.submit(0, n - 1);
+                }
+
+                // Send everything without reading the responses.
+                client.flush();
+
+                while (server.getQueuedBytes() == 0L) {
+                    Thread.sleep(10L);
+                }
+
+                Thread.sleep(500L);
+                assertTrue(server.getQueuedBytes() <=
+                           2 * QueryServer.MAX_QUEUED_BYTES);
+
+                for (int i = 0; i < queries; ++i) {
+                    final QueryClient.Result result = client.receive();
+
+                    assertEquals(n, result.getPath().size());
+                    assertEquals(n - 1, result.getCost(), 0.0);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(timeout = 10_000L)
+    public void testKeepsServingAfterFailedAccept() throws Exception {
+        final Digraph digraph = new Digraph();
+        digraph.addEdge(0, 1, 2.0);
+
+        final AtomicInteger accepts = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(1);
+
+        try (final QueryServer server =
+                new QueryServer(digraph,
+                                ZERO,
+                                new AStarPathFinder(),
+                                executor,
+                                16,
+                                QueryServer.DEFAULT_MAX_BATCH_SIZE) {
+                    @Override
+                    SocketChannel acceptChannel() throws IOException {
+                        if (accepts.incrementAndGet() == 1) {
+                            throw new IOException("Too many open files");
+                        }
+
+                        return super.acceptChannel();
+                    }
+                }) {
+            server.start(new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                                               0));
+
+            for (int i = 0; i < 2; ++i) {
+                try (final QueryClient client =
+                        new QueryClient(server.getLocalAddress())) {
+                    assertEquals(2.0, client.search(0, 1).getCost(), 0.0);
+                }
+            }
+
+            assertTrue(accepts.get() > 2);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(timeout = 10_000L)
+    public void testAnswersBatchesThrowingErrors() throws Exception {
+        final Digraph digraph = new Digraph();
+        digraph.addEdge(0, 1, 2.0);
+        digraph.addEdge(0, 2, 3.0);
+
+        final HeuristicPathFinder finder = new AStarPathFinder() {
+            @Override
+            public List<Integer> search(final Digraph digraph,
+                                        final HeuristicFunction hf,
+                                        final int source,
+                                        final int target) {
+                if (target == 2) {
+                    throw new AssertionError("A broken finder.");
+                }
+
+                return super.search(digraph, hf, source, target);
+            }
+        };
+
+        // Submitting keeps the errors away from the uncaught handler.
+        final ExecutorService pool = Executors.newFixedThreadPool(2);
+        final Executor executor = (final Runnable task) -> pool.submit(task);
+
+        try (final QueryServer server =
+                new QueryServer(digraph, ZERO, finder, executor, 64, 1)) {
+            server.start(new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                                               0));
+
+            try (final QueryClient client =
+                    new QueryClient(server.getLocalAddress())) {
+                // More failing batches than may run on a connection at once.
+                for (int i = 0; i < 20; ++i) {
+                    assertTrue(client.search(0, 2).isFailed());
+                }
+
+                assertEquals(2.0, client.search(0, 1).getCost(), 0.0);
+            }
+
+            assertEquals(64, server.getAvailablePermits());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static double cost(final Digraph digraph,
+                               final List<Integer> path) {
+        double cost = path.isEmpty() ? Double.POSITIVE_INFINITY : 0.0;
+
+        for (int i = 0; i < path.size() - 1; ++i) {
+            cost += digraph.getEdgeWeight(path.get(i), path.get(i + 1));
+        }
+
+        return cost;
+    }
+}
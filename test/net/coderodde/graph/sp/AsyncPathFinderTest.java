@@ -0,0 +1,243 @@
+package net.coderodde.graph.sp;
+
+import java.awt.geom.Point2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.sp.support.AStarPathFinder;
+import net.coderodde.graph.util.HeuristicFunction;
+import net.coderodde.graph.util.support.PointHeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class AsyncPathFinderTest {
+
+    private static final HeuristicFunction ZERO = (u, v) -> 0.0;
+
+    /**
+     * This path finder blocks each search until released, or spins until
+     * interrupted if {@code spin} is set.
+     */
+    private static final class BlockingPathFinder extends AStarPathFinder {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger searches = new AtomicInteger();
+        volatile boolean spin;
+
+        @Override
+        public List<Integer> search(final Digraph digraph,
+                                    final HeuristicFunction heuristicFunction,
+                                    final int source,
+                                    final int target) {
+            searches.incrementAndGet();
+            started.countDown();
+
+            while (spin) {
+                checkInterrupted();
+                Thread.yield();
+            }
+
+            try {
+                release.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+
+            return super.search(digraph, heuristicFunction, source, target);
+        }
+    }
+
+    @Test
+    public void testAsyncResultsMatchSyncResults() throws Exception {
+        final Random random = new Random(61L);
+        final Digraph digraph = new Digraph();
+        final PointHeuristicFunction hf = new PointHeuristicFunction();
+
+        for (int i = 0; i < 500; ++i) {
+            digraph.addNode(i);
+            hf.map(i, new Point2D.Double(random.nextDouble() * 100.0,
+                                         random.nextDouble() * 100.0));
+        }
+
+        for (int i = 0; i < 1500; ++i) {
+            final int tail = random.nextInt(500);
+            final int head = random.nextInt(500);
+            digraph.addEdge(tail, head, 1.2 * hf.estimate(tail, head));
+        }
+
+        final HeuristicPathFinder finder = new AStarPathFinder();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try (final AsyncPathFinder asyncFinder =
+                new AsyncPathFinder(finder, executor, 200)) {
+            final List<Integer> sources = new ArrayList<>();
+            final List<Integer> targets = new ArrayList<>();
+            final List<CompletableFuture<List<Integer>>> futures =
+                    new ArrayList<>();
+
+            for (int i = 0; i < 200; ++i) {
+                sources.add(random.nextInt(500));
+                targets.add(random.nextInt(500));
+                futures.add(asyncFinder.searchAsync(digraph,
+                                                    hf,
+                                                    sources.get(i),
+                                                    targets.get(i)));
+            }
+
+            for (int i = 0; i < futures.size(); ++i) {
+                assertEquals(finder.search(digraph,
+                                           hf,
+                                           sources.get(i),
+                                           targets.get(i)),
+                             futures.get(i).get(10L, TimeUnit.SECONDS));
+            }
+
+            awaitPermits(asyncFinder, 200);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testRejectsQueriesBeyondTheLimit() throws Exception {
+        final Digraph digraph = createChain();
+        final BlockingPathFinder finder = new BlockingPathFinder();
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try (final AsyncPathFinder asyncFinder =
+                new AsyncPathFinder(finder, executor, 3)) {
+            final List<CompletableFuture<List<Integer>>> futures =
+                    new ArrayList<>();
+
+            for (int i = 0; i < 3; ++i) {
+                futures.add(asyncFinder.searchAsync(digraph, ZERO, 0, 2));
+            }
+
+            assertEquals(0, asyncFinder.getAvailablePermits());
+            assertRejected(asyncFinder.searchAsync(digraph, ZERO, 0, 2));
+
+            finder.release.countDown();
+
+            for (final CompletableFuture<List<Integer>> future : futures) {
+                assertEquals(3, future.get(10L, TimeUnit.SECONDS).size());
+            }
+
+            // The permits return, so the queries are admitted again.
+            awaitPermits(asyncFinder, 3);
+            assertEquals(3, asyncFinder.searchAsync(digraph, ZERO, 0, 2)
+                                       .get(10L, TimeUnit.SECONDS)
+                                       .size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testReleasesPermitWhenTheExecutorRejects() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+
+        try (final AsyncPathFinder asyncFinder =
+                new AsyncPathFinder(new AStarPathFinder(), executor, 2)) {
+            assertRejected(asyncFinder.searchAsync(createChain(), ZERO, 0, 2));
+            assertEquals(2, asyncFinder.getAvailablePermits());
+        }
+    }
+
+    @Test
+    public void testCancellationInterruptsTheSearch() throws Exception {
+        final Digraph digraph = createChain();
+        final BlockingPathFinder finder = new BlockingPathFinder();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        finder.spin = true;
+        finder.release.countDown();
+
+        try (final AsyncPathFinder asyncFinder =
+                new AsyncPathFinder(finder, executor, 2)) {
+            final CompletableFuture<List<Integer>> future =
+                    asyncFinder.searchAsync(digraph, ZERO, 0, 2);
+
+            assertTrue(finder.started.await(10L, TimeUnit.SECONDS));
+            assertTrue(future.cancel(true));
+            assertTrue(future.isCancelled());
+
+            // The spinning search must abort and free its thread and permit.
+            awaitPermits(asyncFinder, 2);
+            finder.spin = false;
+
+            // The interrupt must not leak into the next query on the thread.
+            assertEquals(3, asyncFinder.searchAsync(digraph, ZERO, 0, 2)
+                                       .get(10L, TimeUnit.SECONDS)
+                                       .size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testQueuedQueryCancelledBeforeStarting() throws Exception {
+        final Digraph digraph = createChain();
+        final BlockingPathFinder finder = new BlockingPathFinder();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try (final AsyncPathFinder asyncFinder =
+                new AsyncPathFinder(finder, executor, 2)) {
+            final CompletableFuture<List<Integer>> running =
+                    asyncFinder.searchAsync(digraph, ZERO, 0, 2);
+
+            assertTrue(finder.started.await(10L, TimeUnit.SECONDS));
+
+            final CompletableFuture<List<Integer>> queued =
+                    asyncFinder.searchAsync(digraph, ZERO, 0, 2);
+
+            assertTrue(queued.cancel(true));
+            finder.release.countDown();
+            assertEquals(3, running.get(10L, TimeUnit.SECONDS).size());
+
+            awaitPermits(asyncFinder, 2);
+            assertEquals(1, finder.searches.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Digraph createChain() {
+        final Digraph digraph = new Digraph();
+        digraph.addEdge(0, 1, 1.0);
+        digraph.addEdge(1, 2, 1.0);
+        return digraph;
+    }
+
+    private static void assertRejected(
+            final CompletableFuture<List<Integer>> future) throws Exception {
+        try {
+            future.get(10L, TimeUnit.SECONDS);
+            fail("The query was not rejected.");
+        } catch (final ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof RejectedExecutionException);
+        }
+    }
+
+    private static void awaitPermits(final AsyncPathFinder finder,
+                                     final int permits)
+            throws InterruptedException {
+        final long deadline = System.nanoTime() +
+                              TimeUnit.SECONDS.toNanos(10L);
+
+        while (finder.getAvailablePermits() != permits) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(1L);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package net.coderodde.graph.sp;
+
+import java.util.Arrays;
+import java.util.List;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.sp.support.AStarPathFinder;
+import net.coderodde.graph.util.BoxedHeuristicFunction;
+import net.coderodde.graph.util.HeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class HeuristicPathFinderTest {
+
+    /**
+     * A finder written against the boxed API, delegating to A*.
+     */
+    private static final class BoxedPathFinder extends HeuristicPathFinder {
+
+        private final AStarPathFinder finder = new AStarPathFinder();
+
+        @Override
+        public List<Integer> search(final Digraph digraph,
+                                    final HeuristicFunction heuristicFunction,
+                                    final Integer source,
+                                    final Integer target) {
+            return finder.search(digraph,
+                                 heuristicFunction,
+                                 source.intValue(),
+                                 target.intValue());
+        }
+    }
+
+    /**
+     * A heuristic function written against the boxed API.
+     */
+    private static final class BoxedZeroHeuristicFunction
+    implements BoxedHeuristicFunction {
+
+        @Override
+        public double estimate(final Integer from, final Integer to) {
+            return 0.0;
+        }
+    }
+
+    private final Digraph digraph = new Digraph();
+
+    public HeuristicPathFinderTest() {
+        digraph.addEdge(0, 1, 1.0);
+        digraph.addEdge(1, 2, 1.0);
+        digraph.addEdge(0, 2, 3.0);
+    }
+
+    @Test
+    public void testBoxedFinderServesPrimitiveSearches() {
+        final HeuristicPathFinder finder = new BoxedPathFinder();
+        final HeuristicFunction hf = (u, v) -> 0.0;
+
+        assertEquals(Arrays.asList(0, 1, 2), finder.search(digraph, hf, 0, 2));
+        assertEquals(Arrays.asList(0, 1, 2),
+                     finder.search(digraph,
+                                   hf,
+                                   Integer.valueOf(0),
+                                   Integer.valueOf(2)));
+    }
+
+    @Test
+    public void testBoxedHeuristicFunctionServesPrimitiveEstimates() {
+        final HeuristicFunction hf = new BoxedZeroHeuristicFunction();
+
+        assertEquals(0.0, hf.estimate(0, 2), 0.0);
+        assertEquals(Arrays.asList(0, 1, 2),
+                     new AStarPathFinder().search(digraph, hf, 0, 2));
+    }
+}
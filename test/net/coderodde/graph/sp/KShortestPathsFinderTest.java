@@ -0,0 +1,106 @@
+package net.coderodde.graph.sp;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.sp.support.AStarPathFinder;
+import net.coderodde.graph.sp.support.NewBidirectionalAStarPathFinder;
+import net.coderodde.graph.util.HeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class KShortestPathsFinderTest {
+
+    private static final HeuristicFunction ZERO = (u, v) -> 0.0;
+
+    /**
+     * The graph of the Wikipedia article on Yen's algorithm, with the nodes
+     * C, D, E, F, G and H numbered 1 to 6. There are seven simple paths from
+     * C to H, of costs 5, 7, 8, 8, 8, 11 and 11.
+     */
+    private static Digraph createGraph() {
+        final Digraph digraph = new Digraph();
+        digraph.addEdge(1, 2, 3.0);
+        digraph.addEdge(1, 3, 2.0);
+        digraph.addEdge(2, 4, 4.0);
+        digraph.addEdge(3, 2, 1.0);
+        digraph.addEdge(3, 4, 2.0);
+        digraph.addEdge(3, 5, 3.0);
+        digraph.addEdge(4, 5, 2.0);
+        digraph.addEdge(4, 6, 1.0);
+        digraph.addEdge(5, 6, 2.0);
+        return digraph;
+    }
+
+    @Test
+    public void testFindsTheThreeShortestPaths() {
+        final Digraph digraph = createGraph();
+        final List<List<Integer>> paths =
+                new KShortestPathsFinder(new AStarPathFinder())
+                .search(digraph, ZERO, 1, 6, 3);
+
+        assertPaths(digraph, paths, 5.0, 7.0, 8.0);
+        assertEquals(Arrays.asList(1, 3, 4, 6), paths.get(0));
+        assertEquals(Arrays.asList(1, 3, 5, 6), paths.get(1));
+    }
+
+    @Test
+    public void testReturnsAllSimplePathsWhenKIsLarger() {
+        final Digraph digraph = createGraph();
+        final ForkJoinPool pool = new ForkJoinPool(3);
+
+        try {
+            final KShortestPathsFinder[] finders = {
+                new KShortestPathsFinder(new AStarPathFinder()),
+                new KShortestPathsFinder(new NewBidirectionalAStarPathFinder(),
+                                         pool)
+            };
+
+            for (final KShortestPathsFinder finder : finders) {
+                assertPaths(digraph,
+                            finder.search(digraph, ZERO, 1, 6, 10),
+                            5.0, 7.0, 8.0, 8.0, 8.0, 11.0, 11.0);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testUnreachableTarget() {
+        assertTrue(new KShortestPathsFinder(new AStarPathFinder())
+                   .search(createGraph(), ZERO, 6, 1, 3)
+                   .isEmpty());
+    }
+
+    /**
+     * Asserts that {@code paths} are distinct loopless paths of the given
+     * costs, in that order.
+     */
+    private static void assertPaths(final Digraph digraph,
+                                    final List<List<Integer>> paths,
+                                    final double... costs) {
+        assertEquals(costs.length, paths.size());
+        assertEquals(paths.size(), new HashSet<>(paths).size());
+
+        for (int i = 0; i < paths.size(); ++i) {
+            final List<Integer> path = paths.get(i);
+            final Set<Integer> visited = new HashSet<>(path);
+            double cost = 0.0;
+
+            assertEquals(path.size(), visited.size());
+            assertEquals(1, (int) path.get(0));
+            assertEquals(6, (int) path.get(path.size() - 1));
+
+            for (int j = 0; j < path.size() - 1; ++j) {
+                assertTrue(digraph.hasEdge(path.get(j), path.get(j + 1)));
+                cost += digraph.getEdgeWeight(path.get(j), path.get(j + 1));
+            }
+
+            assertEquals(costs[i], cost, 1e-9);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package net.coderodde.graph.sp.support;
+
+import java.awt.geom.Point2D;
+import java.util.List;
+import java.util.Random;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.util.support.PointHeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class AStarSessionTest {
+
+    private static final int NODES = 400;
+
+    private final Digraph digraph = new Digraph();
+    private final PointHeuristicFunction hf = new PointHeuristicFunction();
+    private final AStarPathFinder finder = new AStarPathFinder();
+
+    public AStarSessionTest() {
+        final Random random = new Random(37L);
+
+        for (int i = 0; i < NODES; ++i) {
+            digraph.addNode(i);
+            hf.map(i, new Point2D.Double(random.nextDouble() * 100.0,
+                                         random.nextDouble() * 100.0));
+        }
+
+        for (int i = 0; i < 4 * NODES; ++i) {
+            final int tail = random.nextInt(NODES);
+            final int head = random.nextInt(NODES);
+            digraph.addEdge(tail, head, 1.2 * hf.estimate(tail, head));
+        }
+    }
+
+    @Test
+    public void testResumedSearchesMatchAStar() {
+        final AStarPathFinder.Session session =
+                finder.newSession(digraph, hf, 0);
+        final Random random = new Random(41L);
+
+        for (int i = 0; i < 200; ++i) {
+            assertSessionMatchesAStar(session, random.nextInt(NODES));
+        }
+    }
+
+    @Test
+    public void testSettledTargetsMatchAStar() {
+        final AStarPathFinder.Session session =
+                finder.newSession(digraph, hf, 0);
+
+        // Searching the farthest targets first settles the nearer ones.
+        for (int target = NODES - 1; target >= 0; --target) {
+            assertSessionMatchesAStar(session, target);
+        }
+
+        for (int target = 0; target < NODES; ++target) {
+            assertSessionMatchesAStar(session, target);
+        }
+    }
+
+    @Test
+    public void testSessionRestartsAfterGraphChanges() {
+        final AStarPathFinder.Session session =
+                finder.newSession(digraph, hf, 0);
+        final Random random = new Random(43L);
+
+        for (int target = 0; target < NODES; ++target) {
+            session.search(target);
+        }
+
+        for (int i = 0; i < 50; ++i) {
+            final List<Integer> path =
+                    session.search(1 + random.nextInt(NODES - 1));
+
+            if (path.size() > 1) {
+                final int tail = path.get(path.size() / 2 - 1);
+                final int head = path.get(path.size() / 2);
+
+                // Alternate weight increases, removals and shortcuts.
+                switch (i % 3) {
+                    case 0:
+                        digraph.addEdge(tail,
+                                        head,
+                                        3.0 * digraph.getEdgeWeight(tail,
+                                                                    head));
+                        break;
+
+                    case 1:
+                        digraph.removeEdge(tail, head);
+                        break;
+
+                    default:
+                        digraph.addEdge(0,
+                                        head,
+                                        hf.estimate(0, head));
+                }
+            }
+
+            for (int target = 0; target < NODES; target += 7) {
+                assertSessionMatchesAStar(session, target);
+            }
+        }
+    }
+
+    private void assertSessionMatchesAStar(
+            final AStarPathFinder.Session session,
+            final int target) {
+        final List<Integer> expected = finder.search(digraph, hf, 0, target);
+        final List<Integer> path = session.search(target);
+
+        if (expected.isEmpty()) {
+            assertTrue(path.isEmpty());
+            return;
+        }
+
+        assertEquals(0, (int) path.get(0));
+        assertEquals(target, (int) path.get(path.size() - 1));
+        assertEquals(cost(expected), cost(path), 1e-9);
+    }
+
+    private double cost(final List<Integer> path) {
+        double cost = 0.0;
+
+        for (int i = 0; i < path.size() - 1; ++i) {
+            assertTrue(digraph.hasEdge(path.get(i), path.get(i + 1)));
+            cost += digraph.getEdgeWeight(path.get(i), path.get(i + 1));
+        }
+
+        return cost;
+    }
+}
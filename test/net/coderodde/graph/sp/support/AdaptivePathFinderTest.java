@@ -0,0 +1,263 @@
+package net.coderodde.graph.sp.support;
+
+import java.awt.geom.Point2D;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import net.coderodde.graph.CompressedDigraph;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.sp.HeuristicPathFinder;
+import net.coderodde.graph.util.ArcFlags;
+import net.coderodde.graph.util.HeuristicFunction;
+import net.coderodde.graph.util.ReachabilityIndex;
+import net.coderodde.graph.util.support.GridNodePartition;
+import net.coderodde.graph.util.support.PointHeuristicFunction;
+import net.coderodde.util.MinimumPriorityQueueFactory;
+import net.coderodde.util.support.QuaternaryHeap;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class AdaptivePathFinderTest {
+
+    private static final HeuristicFunction ZERO = (u, v) -> 0.0;
+
+    /**
+     * A finder advancing a fake clock by a fixed latency on each query.
+     */
+    private static final class TimedPathFinder extends AStarPathFinder {
+
+        private final AtomicLong clock;
+        private final long latency;
+
+        TimedPathFinder(final AtomicLong clock, final long latency) {
+            this.clock = clock;
+            this.latency = latency;
+        }
+
+        @Override
+        public List<Integer> search(final Digraph digraph,
+                                    final HeuristicFunction heuristicFunction,
+                                    final int source,
+                                    final int target) {
+            clock.addAndGet(latency);
+            return super.search(digraph, heuristicFunction, source, target);
+        }
+    }
+
+    /**
+     * A finder throwing on each query.
+     */
+    private static final class FailingPathFinder extends AStarPathFinder {
+
+        @Override
+        public List<Integer> search(final Digraph digraph,
+                                    final HeuristicFunction heuristicFunction,
+                                    final int source,
+                                    final int target) {
+            throw new IllegalStateException("A failing finder.");
+        }
+    }
+
+    /**
+     * A finder blocking each query until released.
+     */
+    private static final class BlockingPathFinder extends AStarPathFinder {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public List<Integer> search(final Digraph digraph,
+                                    final HeuristicFunction heuristicFunction,
+                                    final int source,
+                                    final int target) {
+            started.countDown();
+
+            try {
+                release.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+
+            return super.search(digraph, heuristicFunction, source, target);
+        }
+    }
+
+    @Test
+    public void testPathsAreOptimal() {
+        final Random random = new Random(23L);
+        final Digraph digraph = new Digraph();
+        final PointHeuristicFunction hf = new PointHeuristicFunction();
+
+        for (int i = 0; i < 400; ++i) {
+            digraph.addNode(i);
+            hf.map(i, new Point2D.Double(random.nextDouble() * 100.0,
+                                         random.nextDouble() * 100.0));
+        }
+
+        for (int i = 0; i < 2000; ++i) {
+            final int tail = random.nextInt(400);
+            final int head = random.nextInt(400);
+            digraph.addEdge(tail, head, 1.2 * hf.estimate(tail, head));
+        }
+
+        final HeuristicPathFinder reference = new AStarPathFinder();
+        final AdaptivePathFinder finder =
+                new AdaptivePathFinder(0.1,
+                                       random,
+                                       new AStarPathFinder(),
+                                       new BHPAPathFinder(),
+                                       new NewBidirectionalAStarPathFinder());
+
+        for (int i = 0; i < 200; ++i) {
+            final int source = random.nextInt(400);
+            final int target = random.nextInt(400);
+
+            assertEquals(cost(digraph,
+                              reference.search(digraph, hf, source, target)),
+                         cost(digraph,
+                              finder.search(digraph, hf, source, target)),
+                         1e-9);
+        }
+    }
+
+    @Test
+    public void testPrefersTheFastestFinder() {
+        final Digraph digraph = new Digraph();
+        digraph.addEdge(0, 1, 1.0);
+        digraph.addEdge(1, 2, 1.0);
+
+        final AtomicLong clock = new AtomicLong();
+        final AdaptivePathFinder finder =
+                new AdaptivePathFinder(0.05,
+                                       new Random(3L),
+                                       clock::get,
+                                       new TimedPathFinder(clock, 1_000_000L),
+                                       new TimedPathFinder(clock, 1_000L));
+
+        for (int i = 0; i < 200; ++i) {
+            finder.search(digraph, (u, v) -> 0.0, 0, 2);
+        }
+
+        assertTrue(finder.getDispatchCount(0) < 30);
+        assertEquals(200, finder.getDispatchCount(0) +
+                          finder.getDispatchCount(1));
+    }
+
+    @Test
+    public void testSkipsFindersNeedingMissingDirections() {
+        final Digraph digraph = new Digraph();
+        digraph.addEdge(0, 1, 1.0);
+        digraph.addEdge(1, 2, 1.0);
+
+        final CompressedDigraph graph =
+                CompressedDigraph.withFloatWeights(digraph, Digraph.FORWARD);
+        final AdaptivePathFinder finder =
+                new AdaptivePathFinder(1.0,
+                                       new Random(5L),
+                                       new BHPAPathFinder(),
+                                       new AStarPathFinder());
+
+        for (int i = 0; i < 20; ++i) {
+            assertEquals(3, finder.search(graph, (u, v) -> 0.0, 0, 2).size());
+        }
+
+        assertEquals(0, finder.getDispatchCount(0));
+    }
+
+    @Test
+    public void testAvoidsAFailingFinder() {
+        final Digraph digraph = new Digraph();
+        digraph.addEdge(0, 1, 1.0);
+
+        final AdaptivePathFinder finder =
+                new AdaptivePathFinder(0.0,
+                                       new Random(7L),
+                                       new FailingPathFinder(),
+                                       new AStarPathFinder());
+
+        for (int i = 0; i < 50; ++i) {
+            try {
+                assertEquals(2, finder.search(digraph, ZERO, 0, 1).size());
+            } catch (final IllegalStateException ex) {
+                assertEquals(0, i);
+            }
+        }
+
+        assertEquals(1, finder.getDispatchCount(0));
+        assertEquals(49, finder.getDispatchCount(1));
+    }
+
+    @Test(timeout = 10_000L)
+    public void testConcurrentFirstQueriesTryDifferentFinders()
+            throws InterruptedException {
+        final Digraph digraph = new Digraph();
+        digraph.addEdge(0, 1, 1.0);
+
+        final BlockingPathFinder blockingFinder = new BlockingPathFinder();
+        final AdaptivePathFinder finder =
+                new AdaptivePathFinder(0.0,
+                                       new Random(11L),
+                                       blockingFinder,
+                                       new AStarPathFinder());
+
+        final Thread thread =
+                new Thread(() -> finder.search(digraph, ZERO, 0, 1));
+        thread.start();
+        blockingFinder.started.await();
+
+        // The first finder is busy with its first query.
+        assertEquals(2, finder.search(digraph, ZERO, 0, 1).size());
+        blockingFinder.release.countDown();
+        thread.join();
+
+        assertEquals(1, finder.getDispatchCount(0));
+        assertEquals(1, finder.getDispatchCount(1));
+    }
+
+    @Test
+    public void testPassesSettingsToTheFinders() {
+        final Digraph digraph = new Digraph();
+        digraph.addEdge(0, 1, 1.0);
+
+        final PointHeuristicFunction hf = new PointHeuristicFunction();
+        hf.map(0, new Point2D.Double(0.0, 0.0));
+        hf.map(1, new Point2D.Double(1.0, 0.0));
+
+        final ArcFlags arcFlags =
+                new ArcFlags(digraph, new GridNodePartition(digraph, hf, 1, 2));
+        final ReachabilityIndex reachabilityIndex =
+                new ReachabilityIndex(digraph);
+        final MinimumPriorityQueueFactory<Integer> queueFactory =
+                QuaternaryHeap::new;
+        final HeuristicPathFinder[] finders = {
+            new AStarPathFinder(),
+            new BHPAPathFinder()
+        };
+        final AdaptivePathFinder finder = new AdaptivePathFinder(finders);
+
+        finder.setArcFlags(arcFlags);
+        finder.setReachabilityIndex(reachabilityIndex);
+        finder.setQueueFactory(queueFactory);
+
+        for (final HeuristicPathFinder candidate : finders) {
+            assertTrue(candidate.getArcFlags() == arcFlags);
+            assertTrue(candidate.getReachabilityIndex() == reachabilityIndex);
+            assertTrue(candidate.getQueueFactory() == queueFactory);
+        }
+
+        assertEquals(2, finder.search(digraph, hf, 0, 1).size());
+    }
+
+    private static double cost(final Digraph digraph,
+                               final List<Integer> path) {
+        double cost = path.isEmpty() ? Double.POSITIVE_INFINITY : 0.0;
+
+        for (int i = 0; i < path.size() - 1; ++i) {
+            cost += digraph.getEdgeWeight(path.get(i), path.get(i + 1));
+        }
+
+        return cost;
+    }
+}
@@ -0,0 +1,120 @@
+package net.coderodde.graph.sp.support;
+
+import java.awt.geom.Point2D;
+import java.util.List;
+import java.util.Random;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.sp.HeuristicPathFinder;
+import net.coderodde.graph.util.support.PointHeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class MemoryBoundedPathFinderTest {
+
+    @Test
+    public void testFrontierSearchIsOptimal() {
+        final Random random = new Random(17L);
+        final Digraph digraph = new Digraph();
+        final PointHeuristicFunction hf = new PointHeuristicFunction();
+
+        for (int i = 0; i < 500; ++i) {
+            digraph.addNode(i);
+            hf.map(i, new Point2D.Double(random.nextDouble() * 100.0,
+                                         random.nextDouble() * 100.0));
+        }
+
+        // Sparse enough for some targets to be unreachable.
+        for (int i = 0; i < 1200; ++i) {
+            final int tail = random.nextInt(500);
+            final int head = random.nextInt(500);
+            digraph.addEdge(tail, head, 1.2 * hf.estimate(tail, head));
+        }
+
+        assertSameCosts(digraph, hf, new FrontierAStarPathFinder(), random);
+    }
+
+    @Test
+    public void testSMAStarIsOptimalWithinMemoryLimit() {
+        final Random random = new Random(19L);
+        final Digraph digraph = new Digraph();
+        final PointHeuristicFunction hf = new PointHeuristicFunction();
+        final int width = 12;
+
+        for (int y = 0; y < width; ++y) {
+            for (int x = 0; x < width; ++x) {
+                hf.map(y * width + x, new Point2D.Double(x, y));
+            }
+        }
+
+        for (int y = 0; y < width; ++y) {
+            for (int x = 0; x < width; ++x) {
+                final int node = y * width + x;
+
+                if (x + 1 < width) {
+                    addEdges(digraph, node, node + 1, random);
+                }
+
+                if (y + 1 < width) {
+                    addEdges(digraph, node, node + width, random);
+                }
+            }
+        }
+
+        final SMAStarPathFinder finder = new SMAStarPathFinder();
+        finder.setMemoryLimit(60);
+        assertSameCosts(digraph, hf, finder, random);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsTooSmallMemoryLimit() {
+        new SMAStarPathFinder().setMemoryLimit(1);
+    }
+
+    private static void addEdges(final Digraph digraph,
+                                 final int node1,
+                                 final int node2,
+                                 final Random random) {
+        digraph.addEdge(node1, node2, 1.0 + random.nextDouble());
+        digraph.addEdge(node2, node1, 1.0 + random.nextDouble());
+    }
+
+    private static void assertSameCosts(final Digraph digraph,
+                                        final PointHeuristicFunction hf,
+                                        final HeuristicPathFinder finder,
+                                        final Random random) {
+        final HeuristicPathFinder reference = new AStarPathFinder();
+        final int nodes = digraph.size();
+
+        for (int i = 0; i < 100; ++i) {
+            final int source = random.nextInt(nodes);
+            final int target = random.nextInt(nodes);
+            final List<Integer> path =
+                    finder.search(digraph, hf, source, target);
+
+            assertEquals(
+                    cost(digraph, reference.search(digraph, hf, source, target)),
+                    cost(digraph, path),
+                    1e-9);
+
+            if (!path.isEmpty()) {
+                assertEquals(source, (int) path.get(0));
+                assertEquals(target, (int) path.get(path.size() - 1));
+            }
+        }
+    }
+
+    private static double cost(final Digraph digraph, final List<Integer> path) {
+        if (path.isEmpty()) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        double cost = 0.0;
+
+        for (int i = 0; i < path.size() - 1; ++i) {
+            assertTrue(digraph.hasEdge(path.get(i), path.get(i + 1)));
+            cost += digraph.getEdgeWeight(path.get(i), path.get(i + 1));
+        }
+
+        return cost;
+    }
+}
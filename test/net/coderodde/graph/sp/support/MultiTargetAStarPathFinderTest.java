@@ -0,0 +1,154 @@
+package net.coderodde.graph.sp.support;
+
+import java.awt.geom.Point2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.util.support.NearestPointHeuristicFunction;
+import net.coderodde.graph.util.support.PointHeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class MultiTargetAStarPathFinderTest {
+
+    private static final int NODES = 500;
+
+    /**
+     * The nodes {@code NODES, ..., NODES + ISOLATED - 1} have no arcs.
+     */
+    private static final int ISOLATED = 5;
+
+    private final Digraph digraph = new Digraph();
+    private final PointHeuristicFunction hf = new PointHeuristicFunction();
+    private final MultiTargetAStarPathFinder finder =
+            new MultiTargetAStarPathFinder();
+    private final AStarPathFinder reference = new AStarPathFinder();
+
+    public MultiTargetAStarPathFinderTest() {
+        final Random random = new Random(47L);
+
+        for (int i = 0; i < NODES + ISOLATED; ++i) {
+            digraph.addNode(i);
+            hf.map(i, new Point2D.Double(random.nextDouble() * 100.0,
+                                         random.nextDouble() * 100.0));
+        }
+
+        for (int i = 0; i < 3 * NODES; ++i) {
+            final int tail = random.nextInt(NODES);
+            final int head = random.nextInt(NODES);
+            digraph.addEdge(tail, head, 1.1 * hf.estimate(tail, head));
+        }
+    }
+
+    @Test
+    public void testReturnsTheClosestTargets() {
+        final Random random = new Random(53L);
+
+        for (int i = 0; i < 50; ++i) {
+            final int source = random.nextInt(NODES);
+            final List<Integer> targets = new ArrayList<>();
+
+            for (int j = 0; j < 1 + random.nextInt(20); ++j) {
+                targets.add(random.nextInt(NODES));
+            }
+
+            // Some targets are never reachable.
+            targets.add(NODES + random.nextInt(ISOLATED));
+
+            final List<Double> costs = new ArrayList<>();
+
+            for (final int target : new HashSet<>(targets)) {
+                final List<Integer> path =
+                        reference.search(digraph, hf, source, target);
+
+                if (!path.isEmpty()) {
+                    costs.add(cost(path));
+                }
+            }
+
+            Collections.sort(costs);
+
+            final NearestPointHeuristicFunction nearest =
+                    new NearestPointHeuristicFunction(hf, targets);
+
+            for (final int k : new int[]{ 1, 3, 50 }) {
+                final List<List<Integer>> paths =
+                        finder.search(digraph, nearest, source, targets, k);
+
+                assertEquals(Math.min(k, costs.size()), paths.size());
+
+                for (int j = 0; j < paths.size(); ++j) {
+                    final List<Integer> path = paths.get(j);
+
+                    assertEquals(source, (int) path.get(0));
+                    assertTrue(targets.contains(path.get(path.size() - 1)));
+                    assertEquals(costs.get(j), cost(path), 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAllTargetsUnreachable() {
+        final List<Integer> targets = Arrays.asList(NODES, NODES + 1);
+
+        assertTrue(finder.search(digraph,
+                                 new NearestPointHeuristicFunction(hf,
+                                                                   targets),
+                                 0,
+                                 targets,
+                                 2).isEmpty());
+    }
+
+    @Test
+    public void testSourceIsTarget() {
+        final List<Integer> targets = Arrays.asList(3, NODES);
+        final List<List<Integer>> paths =
+                finder.search(digraph,
+                              new NearestPointHeuristicFunction(hf, targets),
+                              3,
+                              targets,
+                              1);
+
+        assertEquals(1, paths.size());
+        assertEquals(Arrays.asList(3), paths.get(0));
+    }
+
+    @Test
+    public void testHeuristicIsTheNearestTargetDistance() {
+        final Random random = new Random(59L);
+        final List<Integer> targets = new ArrayList<>();
+
+        for (int i = 0; i < 100; ++i) {
+            targets.add(random.nextInt(NODES));
+        }
+
+        final NearestPointHeuristicFunction nearest =
+                new NearestPointHeuristicFunction(hf, targets);
+
+        for (int node = 0; node < NODES; ++node) {
+            double minimum = Double.POSITIVE_INFINITY;
+
+            for (final int target : targets) {
+                minimum = Math.min(minimum, hf.estimate(node, target));
+            }
+
+            assertEquals(minimum, nearest.estimate(node), 1e-9);
+        }
+    }
+
+    private double cost(final List<Integer> path) {
+        double cost = 0.0;
+
+        for (int i = 0; i < path.size() - 1; ++i) {
+            assertTrue(digraph.hasEdge(path.get(i), path.get(i + 1)));
+            cost += digraph.getEdgeWeight(path.get(i), path.get(i + 1));
+        }
+
+        return cost;
+    }
+}
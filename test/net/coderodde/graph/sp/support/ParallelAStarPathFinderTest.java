@@ -0,0 +1,130 @@
+package net.coderodde.graph.sp.support;
+
+import java.awt.geom.Point2D;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.sp.HeuristicPathFinder;
+import net.coderodde.graph.util.support.PointHeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ParallelAStarPathFinderTest {
+
+    private final Digraph digraph = new Digraph();
+    private final PointHeuristicFunction hf = new PointHeuristicFunction();
+
+    public ParallelAStarPathFinderTest() {
+        final Random random = new Random(29L);
+
+        for (int i = 0; i < 600; ++i) {
+            digraph.addNode(i);
+            hf.map(i, new Point2D.Double(random.nextDouble() * 100.0,
+                                         random.nextDouble() * 100.0));
+        }
+
+        // Sparse enough for some targets to be unreachable.
+        for (int i = 0; i < 1500; ++i) {
+            final int tail = random.nextInt(600);
+            final int head = random.nextInt(600);
+            digraph.addEdge(tail, head, 1.2 * hf.estimate(tail, head));
+        }
+    }
+
+    @Test
+    public void testCostsMatchAStarForSeveralThreadCounts() {
+        final HeuristicPathFinder reference = new AStarPathFinder();
+
+        for (final int threads : new int[]{ 1, 2, 4, 8 }) {
+            final ForkJoinPool pool = new ForkJoinPool(threads);
+
+            try {
+                final HeuristicPathFinder finder =
+                        new ParallelAStarPathFinder(pool);
+                final Random random = new Random(threads);
+                int unreachable = 0;
+
+                for (int i = 0; i < 100; ++i) {
+                    final int source = random.nextInt(600);
+                    final int target = random.nextInt(600);
+                    final List<Integer> expected =
+                            reference.search(digraph, hf, source, target);
+                    final List<Integer> path =
+                            finder.search(digraph, hf, source, target);
+
+                    if (expected.isEmpty()) {
+                        ++unreachable;
+                        assertTrue(path.isEmpty());
+                        continue;
+                    }
+
+                    assertEquals(source, (int) path.get(0));
+                    assertEquals(target, (int) path.get(path.size() - 1));
+                    assertEquals(cost(expected), cost(path), 1e-9);
+                }
+
+                assertTrue(unreachable > 0);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    public void testUnreachableTarget() {
+        final Digraph graph = new Digraph();
+        graph.addEdge(0, 1, 1.0);
+        graph.addEdge(2, 1, 1.0);
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            assertTrue(new ParallelAStarPathFinder(pool)
+                       .search(graph, (u, v) -> 0.0, 0, 2)
+                       .isEmpty());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testSourceIsTarget() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            assertEquals(Arrays.asList(7),
+                         new ParallelAStarPathFinder(pool)
+                         .search(digraph, hf, 7, 7));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testCallerInterruptCancelsSearch() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            Thread.currentThread().interrupt();
+            new ParallelAStarPathFinder(pool).search(digraph, hf, 0, 599);
+            fail("The interrupted search was not cancelled.");
+        } catch (final CancellationException ex) {
+        } finally {
+            Thread.interrupted();
+            pool.shutdown();
+        }
+    }
+
+    private double cost(final List<Integer> path) {
+        double cost = 0.0;
+
+        for (int i = 0; i < path.size() - 1; ++i) {
+            cost += digraph.getEdgeWeight(path.get(i), path.get(i + 1));
+        }
+
+        return cost;
+    }
+}
@@ -0,0 +1,131 @@
+package net.coderodde.graph.sp.support;
+
+import java.awt.geom.Point2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.sp.BidirectionalSearchStateFactory;
+import net.coderodde.graph.util.NodeReordering;
+import net.coderodde.graph.util.support.PointHeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class SearchStateEquivalenceTest {
+
+    private static final int NODES = 500;
+
+    @Test
+    public void testArrayStateMatchesHashState() {
+        assertBackendMatchesHashState(ArrayBidirectionalSearchState.factory());
+    }
+
+    @Test
+    public void testDirectStateMatchesHashState() {
+        // Retaining few free pages makes the queries drop and reallocate.
+        try (final DirectSearchStatePool pool = new DirectSearchStatePool(2)) {
+            assertBackendMatchesHashState(pool);
+        }
+    }
+
+    /**
+     * Searches a graph with sparse node identifiers with the default hash
+     * state, and its densely renumbered copy with {@code factory}, and
+     * compares the path costs of BHPA and NBA*.
+     */
+    private static void assertBackendMatchesHashState(
+            final BidirectionalSearchStateFactory factory) {
+        final Random random = new Random(31L);
+        final Digraph digraph = new Digraph();
+        final PointHeuristicFunction hf = new PointHeuristicFunction();
+        final List<Integer> nodes = new ArrayList<>();
+
+        for (int i = 0; i < NODES; ++i) {
+            // Sparse and out of order.
+            final int node = 7 * ((i * 37) % NODES) + 1000;
+            nodes.add(node);
+            digraph.addNode(node);
+            hf.map(node, new Point2D.Double(random.nextDouble() * 100.0,
+                                            random.nextDouble() * 100.0));
+        }
+
+        for (int i = 0; i < 3 * NODES; ++i) {
+            final int tail = nodes.get(random.nextInt(NODES));
+            final int head = nodes.get(random.nextInt(NODES));
+            digraph.addEdge(tail, head, 1.3 * hf.estimate(tail, head));
+        }
+
+        final NodeReordering reordering =
+                NodeReordering.byReverseCuthillMcKee(digraph);
+        final Digraph denseDigraph = reordering.reorder(digraph);
+        final PointHeuristicFunction denseHf = reordering.reorder(hf);
+
+        final BHPAPathFinder hashBHPA = new BHPAPathFinder();
+        final NewBidirectionalAStarPathFinder hashNBA =
+                new NewBidirectionalAStarPathFinder();
+        final BHPAPathFinder backendBHPA = new BHPAPathFinder();
+        final NewBidirectionalAStarPathFinder backendNBA =
+                new NewBidirectionalAStarPathFinder();
+
+        backendBHPA.setStateFactory(factory);
+        backendNBA.setStateFactory(factory);
+
+        for (int i = 0; i < 150; ++i) {
+            final int source = nodes.get(random.nextInt(NODES));
+            final int target = i % 10 == 0 ?
+                               source :
+                               nodes.get(random.nextInt(NODES));
+            final int denseSource = reordering.toNewNode(source);
+            final int denseTarget = reordering.toNewNode(target);
+
+            final List<Integer> bhpaPath =
+                    reordering.toOldPath(backendBHPA.search(denseDigraph,
+                                                            denseHf,
+                                                            denseSource,
+                                                            denseTarget));
+            final List<Integer> nbaPath =
+                    reordering.toOldPath(backendNBA.search(denseDigraph,
+                                                           denseHf,
+                                                           denseSource,
+                                                           denseTarget));
+
+            assertPath(digraph, source, target, bhpaPath);
+            assertPath(digraph, source, target, nbaPath);
+            assertEquals(cost(digraph,
+                              hashBHPA.search(digraph, hf, source, target)),
+                         cost(digraph, bhpaPath),
+                         1e-9);
+            assertEquals(cost(digraph,
+                              hashNBA.search(digraph, hf, source, target)),
+                         cost(digraph, nbaPath),
+                         1e-9);
+        }
+    }
+
+    private static void assertPath(final Digraph digraph,
+                                   final int source,
+                                   final int target,
+                                   final List<Integer> path) {
+        if (path.isEmpty()) {
+            return;
+        }
+
+        assertEquals(source, (int) path.get(0));
+        assertEquals(target, (int) path.get(path.size() - 1));
+
+        for (int i = 0; i < path.size() - 1; ++i) {
+            assertTrue(digraph.hasEdge(path.get(i), path.get(i + 1)));
+        }
+    }
+
+    private static double cost(final Digraph digraph,
+                               final List<Integer> path) {
+        double cost = path.isEmpty() ? Double.POSITIVE_INFINITY : 0.0;
+
+        for (int i = 0; i < path.size() - 1; ++i) {
+            cost += digraph.getEdgeWeight(path.get(i), path.get(i + 1));
+        }
+
+        return cost;
+    }
+}
@@ -0,0 +1,50 @@
+package net.coderodde.graph.sp.support;
+
+import java.util.Arrays;
+import java.util.List;
+import net.coderodde.graph.TimeDependentDigraph;
+import net.coderodde.graph.TravelTimeFunctions;
+import net.coderodde.graph.util.HeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class TimeDependentAStarPathFinderTest {
+
+    private static final HeuristicFunction ZERO = (from, to) -> 0.0;
+
+    @Test
+    public void testPathDependsOnDepartureTime() {
+        final TimeDependentDigraph digraph = new TimeDependentDigraph();
+        final TravelTimeFunctions functions = digraph.getFunctions();
+
+        // The direct arc is congested between the times 10 and 30.
+        final int rushHour = functions.add(
+                new double[]{ 0.0, 10.0, 20.0, 30.0 },
+                new double[]{ 5.0,  5.0, 15.0,  5.0 });
+
+        digraph.addTimeDependentEdge(0, 1, rushHour);
+        digraph.addEdge(0, 2, 4.0);
+        digraph.addEdge(2, 1, 4.0);
+
+        final TimeDependentAStarPathFinder finder =
+                new TimeDependentAStarPathFinder();
+
+        assertEquals(Arrays.asList(0, 1),
+                     finder.search(digraph, ZERO, 0, 1, 0.0));
+        assertEquals(Arrays.asList(0, 2, 1),
+                     finder.search(digraph, ZERO, 0, 1, 20.0));
+        assertEquals(10.0, digraph.getTravelTime(0, 1, 15.0), 1e-12);
+        assertEquals(5.0, digraph.getEdgeWeight(0, 1), 1e-12);
+
+        digraph.removeEdge(0, 2);
+        final List<Integer> path = finder.search(digraph, ZERO, 0, 1, 20.0);
+        assertEquals(Arrays.asList(0, 1), path);
+        assertEquals(-1, digraph.getEdgeFunction(0, 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNonFifoFunctions() {
+        new TravelTimeFunctions().add(new double[]{ 0.0, 1.0 },
+                                      new double[]{ 10.0, 5.0 });
+    }
+}
@@ -0,0 +1,79 @@
+package net.coderodde.graph.util;
+
+import java.awt.geom.Point2D;
+import java.util.List;
+import java.util.Random;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.sp.HeuristicPathFinder;
+import net.coderodde.graph.sp.support.AStarPathFinder;
+import net.coderodde.graph.sp.support.BHPAPathFinder;
+import net.coderodde.graph.sp.support.NewBidirectionalAStarPathFinder;
+import net.coderodde.graph.util.support.GridNodePartition;
+import net.coderodde.graph.util.support.PointHeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ArcFlagsTest {
+
+    @Test
+    public void testPrunedSearchesAreOptimal() {
+        final Random random = new Random(13L);
+        final Digraph digraph = new Digraph();
+        final PointHeuristicFunction hf = new PointHeuristicFunction();
+
+        for (int i = 0; i < 500; ++i) {
+            digraph.addNode(i);
+            hf.map(i, new Point2D.Double(random.nextDouble() * 100.0,
+                                         random.nextDouble() * 100.0));
+        }
+
+        for (int i = 0; i < 3000; ++i) {
+            final int tail = random.nextInt(500);
+            final int head = random.nextInt(500);
+            digraph.addEdge(tail, head, 1.2 * hf.estimate(tail, head));
+        }
+
+        final ArcFlags arcFlags = 
+                new ArcFlags(digraph, new GridNodePartition(digraph, hf, 3, 3));
+
+        final HeuristicPathFinder[] finders = {
+            new AStarPathFinder(),
+            new BHPAPathFinder(),
+            new NewBidirectionalAStarPathFinder()
+        };
+
+        for (final HeuristicPathFinder finder : finders) {
+            finder.setArcFlags(arcFlags);
+        }
+
+        final HeuristicPathFinder reference = new AStarPathFinder();
+
+        for (int i = 0; i < 100; ++i) {
+            final int source = random.nextInt(500);
+            final int target = random.nextInt(500);
+            final double expected = 
+                    cost(digraph, reference.search(digraph, hf, source, target));
+
+            for (final HeuristicPathFinder finder : finders) {
+                assertEquals(expected, 
+                             cost(digraph, 
+                                  finder.search(digraph, hf, source, target)),
+                             1e-9);
+            }
+        }
+    }
+
+    private static double cost(final Digraph digraph, final List<Integer> path) {
+        if (path.isEmpty()) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        double cost = 0.0;
+
+        for (int i = 0; i < path.size() - 1; ++i) {
+            cost += digraph.getEdgeWeight(path.get(i), path.get(i + 1));
+        }
+
+        return cost;
+    }
+}
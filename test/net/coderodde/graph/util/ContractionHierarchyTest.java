@@ -0,0 +1,100 @@
+package net.coderodde.graph.util;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.generator.GeneratedGraph;
+import net.coderodde.graph.generator.support.RoadLikeGraphGenerator;
+import net.coderodde.graph.sp.HeuristicPathFinder;
+import net.coderodde.graph.sp.support.AStarPathFinder;
+import net.coderodde.graph.sp.support.CCHPathFinder;
+import net.coderodde.graph.util.support.PointHeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ContractionHierarchyTest {
+
+    @Test
+    public void testQueriesAreOptimalAfterCustomization() {
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        final GeneratedGraph graph =
+                new RoadLikeGraphGenerator(2000, 100.0, 100.0)
+                        .generate(29L, pool);
+        final Digraph digraph = graph.toDigraph();
+        final PointHeuristicFunction hf = graph.toHeuristicFunction();
+        final ContractionHierarchy hierarchy =
+                new ContractionHierarchy(digraph);
+        final CCHPathFinder finder =
+                new CCHPathFinder(hierarchy.customize(digraph, pool));
+        final Random random = new Random(31L);
+
+        assertSameCosts(digraph, hf, finder, random);
+
+        // Slow down the traffic and close some arcs.
+        final double[] weights = new double[hierarchy.getNumberOfInputArcs()];
+
+        for (int i = 0; i < weights.length; ++i) {
+            final int tail = hierarchy.getInputTail(i);
+            final int head = hierarchy.getInputHead(i);
+
+            if (random.nextInt(50) == 0) {
+                weights[i] = Double.POSITIVE_INFINITY;
+                digraph.removeEdge(tail, head);
+            } else {
+                weights[i] = digraph.getEdgeWeight(tail, head) *
+                             (1.0 + random.nextDouble());
+                digraph.addEdge(tail, head, weights[i]);
+            }
+        }
+
+        finder.setMetric(hierarchy.customize(weights, pool));
+        assertSameCosts(digraph, hf, finder, random);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNegativeWeights() {
+        final Digraph digraph = new Digraph();
+        digraph.addEdge(0, 1, 1.0);
+        new ContractionHierarchy(digraph).customize(
+                new double[]{ -1.0 },
+                ForkJoinPool.commonPool());
+    }
+
+    private static void assertSameCosts(final Digraph digraph,
+                                        final HeuristicFunction hf,
+                                        final HeuristicPathFinder finder,
+                                        final Random random) {
+        final HeuristicPathFinder reference = new AStarPathFinder();
+
+        for (int i = 0; i < 100; ++i) {
+            final int source = random.nextInt(digraph.size());
+            final int target = random.nextInt(digraph.size());
+            final List<Integer> expected =
+                    reference.search(digraph, hf, source, target);
+            final List<Integer> path =
+                    finder.search(digraph, hf, source, target);
+
+            assertEquals(expected.isEmpty(), path.isEmpty());
+
+            if (!path.isEmpty()) {
+                assertEquals(source, (int) path.get(0));
+                assertEquals(target, (int) path.get(path.size() - 1));
+                assertEquals(cost(digraph, expected),
+                             cost(digraph, path),
+                             1e-9 * cost(digraph, expected));
+            }
+        }
+    }
+
+    private static double cost(final Digraph digraph,
+                               final List<Integer> path) {
+        double cost = 0.0;
+
+        for (int i = 0; i < path.size() - 1; ++i) {
+            cost += digraph.getEdgeWeight(path.get(i), path.get(i + 1));
+        }
+
+        return cost;
+    }
+}
@@ -0,0 +1,142 @@
+package net.coderodde.graph.util;
+
+import java.awt.geom.Point2D;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import net.coderodde.graph.Digraph;
+import net.coderodde.graph.sp.HeuristicPathFinder;
+import net.coderodde.graph.sp.support.AStarPathFinder;
+import net.coderodde.graph.util.support.PointHeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class NodeReorderingTest {
+
+    private static final int NODES = 400;
+
+    private final Digraph digraph = new Digraph();
+    private final PointHeuristicFunction hf = new PointHeuristicFunction();
+    private final List<Integer> nodes = new ArrayList<>();
+
+    public NodeReorderingTest() {
+        final Random random = new Random(67L);
+
+        for (int i = 0; i < NODES; ++i) {
+            // Sparse and out of order.
+            final int node = 11 * ((i * 53) % NODES) - 2000;
+            nodes.add(node);
+            digraph.addNode(node);
+            hf.map(node, new Point2D.Double(random.nextDouble() * 100.0,
+                                            random.nextDouble() * 100.0));
+        }
+
+        // The last nodes stay isolated, so there are several components.
+        for (int i = 0; i < 3 * NODES; ++i) {
+            final int tail = nodes.get(random.nextInt(NODES - 10));
+            final int head = nodes.get(random.nextInt(NODES - 10));
+            digraph.addEdge(tail, head, 1.2 * hf.estimate(tail, head));
+        }
+    }
+
+    @Test
+    public void testHilbertCurve() {
+        assertReordering(NodeReordering.byHilbertCurve(digraph, hf));
+    }
+
+    @Test
+    public void testReverseCuthillMcKee() {
+        assertReordering(NodeReordering.byReverseCuthillMcKee(digraph));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testHilbertCurveNeedsCoordinates() {
+        digraph.addNode(100000);
+        NodeReordering.byHilbertCurve(digraph, hf);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownNode() {
+        NodeReordering.byReverseCuthillMcKee(digraph).toNewNode(100000);
+    }
+
+    private void assertReordering(final NodeReordering reordering) {
+        assertPermutation(reordering);
+
+        final Digraph reordered = reordering.reorder(digraph);
+        final PointHeuristicFunction reorderedHf = reordering.reorder(hf);
+
+        assertIsomorphic(reordering, reordered);
+
+        final HeuristicPathFinder finder = new AStarPathFinder();
+        final Random random = new Random(71L);
+
+        for (int i = 0; i < 100; ++i) {
+            final int source = nodes.get(random.nextInt(NODES));
+            final int target = nodes.get(random.nextInt(NODES));
+            final List<Integer> expected =
+                    finder.search(digraph, hf, source, target);
+            final List<Integer> path =
+                    reordering.toOldPath(
+                            finder.search(reordered,
+                                          reorderedHf,
+                                          reordering.toNewNode(source),
+                                          reordering.toNewNode(target)));
+
+            if (expected.isEmpty()) {
+                assertTrue(path.isEmpty());
+                continue;
+            }
+
+            assertEquals(source, (int) path.get(0));
+            assertEquals(target, (int) path.get(path.size() - 1));
+            assertEquals(cost(expected), cost(path), 1e-9);
+        }
+    }
+
+    private void assertPermutation(final NodeReordering reordering) {
+        assertEquals(NODES, reordering.size());
+
+        final Set<Integer> oldNodes = new HashSet<>();
+
+        for (int newNode = 0; newNode < NODES; ++newNode) {
+            final int oldNode = reordering.toOldNode(newNode);
+
+            assertTrue(digraph.hasNode(oldNode));
+            assertTrue(oldNodes.add(oldNode));
+            assertEquals(newNode, reordering.toNewNode(oldNode));
+        }
+    }
+
+    private void assertIsomorphic(final NodeReordering reordering,
+                                  final Digraph reordered) {
+        assertEquals(digraph.size(), reordered.size());
+        assertEquals(digraph.getNumberOfEdges(),
+                     reordered.getNumberOfEdges());
+
+        for (final Integer tail : digraph.getAllNodes()) {
+            for (final Integer head : digraph.getChildrenOf(tail)) {
+                final int newTail = reordering.toNewNode(tail);
+                final int newHead = reordering.toNewNode(head);
+
+                assertTrue(reordered.hasEdge(newTail, newHead));
+                assertEquals(digraph.getEdgeWeight(tail, head),
+                             reordered.getEdgeWeight(newTail, newHead),
+                             0.0);
+            }
+        }
+    }
+
+    private double cost(final List<Integer> path) {
+        double cost = 0.0;
+
+        for (int i = 0; i < path.size() - 1; ++i) {
+            assertTrue(digraph.hasEdge(path.get(i), path.get(i + 1)));
+            cost += digraph.getEdgeWeight(path.get(i), path.get(i + 1));
+        }
+
+        return cost;
+    }
+}
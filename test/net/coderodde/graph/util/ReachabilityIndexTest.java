@@ -0,0 +1,101 @@
+package net.coderodde.graph.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import net.coderodde.graph.Digraph;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ReachabilityIndexTest {
+
+    @Test
+    public void testRejectsOnlyUnreachableTargets() {
+        final Random random = new Random(23L);
+        final Digraph digraph = new Digraph();
+
+        for (int i = 0; i < 300; ++i) {
+            digraph.addNode(i);
+        }
+
+        // Sparse enough for many small components.
+        for (int i = 0; i < 350; ++i) {
+            digraph.addEdge(random.nextInt(300), random.nextInt(300), 1.0);
+        }
+
+        final ReachabilityIndex index = new ReachabilityIndex(digraph);
+        int unreachable = 0;
+        int rejected = 0;
+
+        for (int source = 0; source < 300; ++source) {
+            final Set<Integer> reachable = getReachable(digraph, source);
+
+            for (int target = 0; target < 300; ++target) {
+                final boolean mayReach = index.mayReach(source, target);
+
+                if (reachable.contains(target)) {
+                    assertTrue(mayReach);
+                } else {
+                    ++unreachable;
+
+                    if (!mayReach) {
+                        ++rejected;
+                    }
+                }
+            }
+        }
+
+        assertTrue(rejected > unreachable / 2);
+    }
+
+    @Test
+    public void testInvalidation() {
+        final Digraph digraph = new Digraph();
+
+        for (int i = 0; i < 10; ++i) {
+            digraph.addEdge(i, i + 1, 1.0);
+        }
+
+        final ReachabilityIndex index = new ReachabilityIndex(digraph);
+        assertEquals(11, index.getNumberOfComponents());
+        assertFalse(index.mayReach(7, 3));
+
+        digraph.removeEdge(4, 5);
+        digraph.addEdge(4, 5, 2.0);
+        assertFalse(index.isValid());
+        index.rebuild();
+
+        digraph.addEdge(10, 0, 1.0);
+        assertFalse(index.isValid());
+        assertTrue(index.mayReach(7, 3));
+
+        index.rebuild();
+        assertEquals(1, index.getNumberOfComponents());
+
+        // An arc within a component keeps the index valid.
+        digraph.addEdge(7, 3, 1.0);
+        digraph.removeEdge(2, 3);
+        assertTrue(index.isValid());
+        index.detach();
+    }
+
+    private static Set<Integer> getReachable(final Digraph digraph,
+                                             final int source) {
+        final Set<Integer> reachable = new HashSet<>();
+        final Deque<Integer> queue = new ArrayDeque<>();
+        reachable.add(source);
+        queue.add(source);
+
+        while (!queue.isEmpty()) {
+            for (final Integer child : digraph.getChildrenOf(queue.remove())) {
+                if (reachable.add(child)) {
+                    queue.add(child);
+                }
+            }
+        }
+
+        return reachable;
+    }
+}
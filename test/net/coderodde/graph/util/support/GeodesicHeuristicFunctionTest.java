@@ -0,0 +1,110 @@
+package net.coderodde.graph.util.support;
+
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class GeodesicHeuristicFunctionTest {
+
+    private static final int NODES = 200;
+
+    @Test
+    public void testNeverOverestimatesTheGreatCircleDistance() {
+        final Random random = new Random(61L);
+        final GeodesicHeuristicFunction hf = new GeodesicHeuristicFunction();
+        final double[] latitudes = new double[NODES];
+        final double[] longitudes = new double[NODES];
+
+        for (int node = 0; node < NODES; ++node) {
+            latitudes[node] = random.nextDouble() * 180.0 - 90.0;
+            longitudes[node] = random.nextDouble() * 360.0 - 180.0;
+
+            // Nodes close to their predecessor test the short distances.
+            if (node % 2 == 1) {
+                latitudes[node] = latitudes[node - 1] * 0.99999;
+                longitudes[node] = longitudes[node - 1] + 1e-4;
+            }
+
+            hf.map(node, latitudes[node], longitudes[node]);
+        }
+
+        for (int from = 0; from < NODES; ++from) {
+            for (int to = 0; to < NODES; ++to) {
+                final double distance =
+                        greatCircleDistance(latitudes[from],
+                                            longitudes[from],
+                                            latitudes[to],
+                                            longitudes[to]);
+                final double estimate = hf.estimate(from, to);
+
+                assertTrue(estimate <= distance * (1.0 + 1e-9) + 1e-6);
+
+                // The chord is at least 2 / pi of the arc it spans.
+                assertTrue(estimate >= distance * 2.0 / Math.PI - 1e-6);
+            }
+        }
+    }
+
+    @Test
+    public void testEstimatesZeroForTheSamePoint() {
+        final GeodesicHeuristicFunction hf = new GeodesicHeuristicFunction();
+        hf.map(0, 60.1699, 24.9384);
+        hf.map(1, 60.1699, 24.9384);
+        hf.map(2, 90.0, 0.0);
+        hf.map(3, 90.0, 123.0);
+
+        assertEquals(0.0, hf.estimate(0, 0), 0.0);
+        assertEquals(0.0, hf.estimate(0, 1), 0.0);
+        assertEquals(0.0, hf.estimate(2, 2), 0.0);
+        assertEquals(0.0, hf.estimate(2, 3), 1e-6);
+    }
+
+    @Test
+    public void testBatchedEstimatesMatchEstimate() {
+        final Random random = new Random(67L);
+        final GeodesicHeuristicFunction hf = new GeodesicHeuristicFunction();
+        final int[] nodes = new int[NODES];
+        final double[] out = new double[NODES];
+
+        for (int node = 0; node < NODES; ++node) {
+            nodes[node] = node;
+            hf.map(node,
+                   random.nextDouble() * 180.0 - 90.0,
+                   random.nextDouble() * 360.0 - 180.0);
+        }
+
+        for (int node = 0; node < NODES; ++node) {
+            hf.estimateAll(nodes, NODES, node, out);
+
+            for (int i = 0; i < NODES; ++i) {
+                assertEquals(hf.estimate(i, node), out[i], 1e-9);
+            }
+
+            hf.estimateAllFrom(node, nodes, NODES, out);
+
+            for (int i = 0; i < NODES; ++i) {
+                assertEquals(hf.estimate(node, i), out[i], 1e-9);
+            }
+        }
+    }
+
+    /**
+     * Returns the haversine distance in meters on the Earth.
+     */
+    private static double greatCircleDistance(final double latitude1,
+                                              final double longitude1,
+                                              final double latitude2,
+                                              final double longitude2) {
+        final double phi1 = Math.toRadians(latitude1);
+        final double phi2 = Math.toRadians(latitude2);
+        final double sinDeltaPhi = Math.sin((phi2 - phi1) / 2.0);
+        final double sinDeltaLambda =
+                Math.sin(Math.toRadians(longitude2 - longitude1) / 2.0);
+        final double a = sinDeltaPhi * sinDeltaPhi +
+                         Math.cos(phi1) * Math.cos(phi2) *
+                         sinDeltaLambda * sinDeltaLambda;
+
+        return 2.0 * GeodesicHeuristicFunction.EARTH_RADIUS *
+               Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
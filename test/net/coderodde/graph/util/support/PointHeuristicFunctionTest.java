@@ -0,0 +1,93 @@
+package net.coderodde.graph.util.support;
+
+import java.awt.geom.Point2D;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class PointHeuristicFunctionTest {
+
+    private static final int NODES = 100;
+
+    @Test
+    public void testEstimatesMatchTheDistances() {
+        final Random random = new Random(53L);
+        final PointHeuristicFunction hf = new PointHeuristicFunction();
+        final int[] nodes = newNodes(hf, random);
+
+        for (final int from : nodes) {
+            for (final int to : nodes) {
+                assertEquals(hf.getPoint(from).distance(hf.getPoint(to)),
+                             hf.estimate(from, to),
+                             0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testBatchedEstimatesMatchEstimate() {
+        final Random random = new Random(59L);
+        final PointHeuristicFunction hf = new PointHeuristicFunction();
+        final int[] nodes = newNodes(hf, random);
+        final double[] out = new double[nodes.length];
+
+        for (final int node : nodes) {
+            final int count = random.nextInt(nodes.length + 1);
+
+            hf.estimateAll(nodes, count, node, out);
+
+            for (int i = 0; i < count; ++i) {
+                assertEquals(hf.estimate(nodes[i], node), out[i], 0.0);
+            }
+
+            hf.estimateAllFrom(node, nodes, count, out);
+
+            for (int i = 0; i < count; ++i) {
+                assertEquals(hf.estimate(node, nodes[i]), out[i], 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testRemappedNodesUseTheLatestPoint() {
+        final PointHeuristicFunction hf = new PointHeuristicFunction();
+        hf.map(0, new Point2D.Double(0.0, 0.0));
+        hf.map(1, new Point2D.Double(3.0, 4.0));
+        assertEquals(5.0, hf.estimate(0, 1), 0.0);
+
+        hf.map(1, new Point2D.Double(6.0, 8.0));
+        assertEquals(10.0, hf.estimate(0, 1), 0.0);
+
+        final double[] out = new double[1];
+        hf.estimateAll(new int[]{ 1 }, 1, 0, out);
+        assertEquals(10.0, out[0], 0.0);
+    }
+
+    /**
+     * Maps dense, negative and far apart nodes to random points.
+     */
+    private static int[] newNodes(final PointHeuristicFunction hf,
+                                  final Random random) {
+        final int[] nodes = new int[NODES];
+
+        for (int i = 0; i < NODES; ++i) {
+            switch (i % 3) {
+                case 0:
+                    nodes[i] = i;
+                    break;
+
+                case 1:
+                    nodes[i] = -i;
+                    break;
+
+                default:
+                    nodes[i] = 1000 * i;
+            }
+
+            hf.map(nodes[i], new Point2D.Double(random.nextDouble() * 100.0,
+                                                random.nextDouble() * 100.0));
+        }
+
+        return nodes;
+    }
+}
@@ -0,0 +1,80 @@
+package net.coderodde.util.support;
+
+import java.util.Arrays;
+import java.util.Random;
+import net.coderodde.util.MinimumPriorityQueue;
+import net.coderodde.util.MinimumPriorityQueueFactory;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class MinimumPriorityQueueTest {
+
+    private static final int ELEMENTS = 2000;
+
+    private final MinimumPriorityQueueFactory<Integer>[] factories = 
+            new MinimumPriorityQueueFactory[] {
+                () -> new DaryHeap<>(),
+                () -> new QuaternaryHeap<>(),
+                () -> new PairingHeap<>(),
+                () -> new LazyBinaryHeap<>()
+            };
+
+    @Test
+    public void testExtractsInPriorityOrder() {
+        for (final MinimumPriorityQueueFactory<Integer> factory : factories) {
+            final Random random = new Random(7L);
+            final MinimumPriorityQueue<Integer> queue = factory.newQueue();
+            final double[] priorities = new double[ELEMENTS];
+
+            for (int i = 0; i < ELEMENTS; ++i) {
+                priorities[i] = random.nextDouble();
+                queue.add(i, priorities[i]);
+            }
+
+            for (int i = 0; i < 3 * ELEMENTS; ++i) {
+                final int element = random.nextInt(ELEMENTS);
+                final double priority = random.nextDouble();
+                queue.decreasePriority(element, priority);
+                priorities[element] = Math.min(priorities[element], priority);
+            }
+
+            final double[] expected = priorities.clone();
+            Arrays.sort(expected);
+
+            for (int i = 1; i < ELEMENTS; ++i) {
+                assertTrue(expected[i - 1] < expected[i]);
+            }
+
+            assertEquals(ELEMENTS, queue.size());
+
+            for (int i = 0; i < ELEMENTS; ++i) {
+                // The priorities are distinct, so the minimum is unique.
+                final Integer min = queue.min();
+                assertEquals(expected[i], priorities[min], 0.0);
+                assertEquals(ELEMENTS - i, queue.size());
+                assertEquals(min, queue.extractMinimum());
+            }
+
+            assertTrue(queue.isEmpty());
+        }
+    }
+
+    @Test
+    public void testClear() {
+        for (final MinimumPriorityQueueFactory<Integer> factory : factories) {
+            final MinimumPriorityQueue<Integer> queue = factory.newQueue();
+            queue.add(1, 1.0);
+            queue.add(2, 2.0);
+            queue.decreasePriority(2, 0.5);
+            queue.clear();
+            assertTrue(queue.isEmpty());
+            assertEquals(0, queue.size());
+
+            queue.add(2, 3.0);
+            queue.add(1, 4.0);
+            assertEquals(Integer.valueOf(2), queue.extractMinimum());
+            assertEquals(Integer.valueOf(1), queue.extractMinimum());
+            assertTrue(queue.isEmpty());
+        }
+    }
+}
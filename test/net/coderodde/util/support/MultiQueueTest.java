@@ -0,0 +1,103 @@
+package net.coderodde.util.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class MultiQueueTest {
+
+    private static final int THREADS = 4;
+    private static final int ELEMENTS_PER_THREAD = 20_000;
+
+    @Test
+    public void testExtractsEachElementOnce() throws InterruptedException {
+        final MultiQueue<Integer> queue = new MultiQueue<>(2 * THREADS);
+        final AtomicIntegerArray extracted =
+                new AtomicIntegerArray(THREADS * ELEMENTS_PER_THREAD);
+        final List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; ++t) {
+            final int first = t * ELEMENTS_PER_THREAD;
+
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < ELEMENTS_PER_THREAD; ++i) {
+                    queue.add(first + i, (first + i) % 1000);
+
+                    if (i % 2 == 1) {
+                        extracted.incrementAndGet(queue.extractMinimum());
+                    }
+                }
+            }));
+        }
+
+        for (final Thread thread : threads) {
+            thread.start();
+        }
+
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(THREADS * ELEMENTS_PER_THREAD / 2, queue.size());
+
+        for (Integer element; (element = queue.extractMinimum()) != null;) {
+            extracted.incrementAndGet(element);
+        }
+
+        assertTrue(queue.isEmpty());
+
+        for (int i = 0; i < extracted.length(); ++i) {
+            assertEquals(1, extracted.get(i));
+        }
+    }
+
+    @Test
+    public void testSingleHeapIsExact() {
+        final MultiQueue<Integer> queue = new MultiQueue<>(1);
+
+        for (int i = 0; i < 100; ++i) {
+            queue.add(i, (i * 37) % 100);
+        }
+
+        for (int i = 0; i < 100; ++i) {
+            assertEquals(i, (queue.extractMinimum() * 37) % 100);
+        }
+
+        assertNull(queue.extractMinimum());
+    }
+
+    @Test
+    public void testExtractsInfinitePriorities() throws InterruptedException {
+        final MultiQueue<Integer> queue = new MultiQueue<>(4);
+        final List<Integer> extracted = new ArrayList<>();
+
+        // An extraction spinning forever must fail the test, not hang it.
+        final Thread thread = new Thread(() -> {
+            queue.add(1, Double.POSITIVE_INFINITY);
+            extracted.add(queue.extractMinimum());
+
+            queue.add(2, Double.POSITIVE_INFINITY);
+            queue.add(3, 5.0);
+            extracted.add(queue.extractMinimum());
+            extracted.add(queue.extractMinimum());
+            extracted.add(queue.extractMinimum());
+        });
+
+        thread.setDaemon(true);
+        thread.start();
+        thread.join(10_000L);
+
+        assertFalse(thread.isAlive());
+        assertEquals(4, extracted.size());
+        assertEquals(1, (int) extracted.get(0));
+        // The queue is relaxed, so the two may come in either order.
+        assertEquals(new HashSet<>(Arrays.asList(2, 3)),
+                     new HashSet<>(extracted.subList(1, 3)));
+        assertNull(extracted.get(3));
+        assertTrue(queue.isEmpty());
+    }
+}